@@ -4,9 +4,11 @@ import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.exception.TimeoutException;
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.StreamingHttpResponse;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.http.client.sse.Utf8ServerSentEventParser;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -16,11 +18,21 @@ import java.net.URI;
 import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.net.http.HttpResponse.ResponseInfo;
 import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
 
 import static dev.langchain4j.http.client.sse.ServerSentEventListenerUtils.ignoringExceptions;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.joining;
 
 public class JdkHttpClient implements HttpClient {
@@ -61,8 +73,65 @@ public class JdkHttpClient implements HttpClient {
         }
     }
 
+    @Override
+    public CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+        CompletableFuture<SuccessfulHttpResponse> future = new CompletableFuture<>();
+
+        delegate.sendAsync(toJdkRequest(request), BodyHandlers.ofString())
+                .whenComplete((jdkResponse, throwable) -> {
+                    if (throwable != null) {
+                        future.completeExceptionally(toException(throwable));
+                    } else if (!isSuccessful(jdkResponse)) {
+                        future.completeExceptionally(new HttpException(jdkResponse.statusCode(), jdkResponse.body()));
+                    } else {
+                        future.complete(fromJdkResponse(jdkResponse, jdkResponse.body()));
+                    }
+                });
+
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<StreamingHttpResponse> executeStreamingAsync(HttpRequest request) {
+        CompletableFuture<StreamingHttpResponse> future = new CompletableFuture<>();
+
+        delegate.sendAsync(toJdkRequest(request), JdkHttpClient::publisherOrHttpException)
+                .whenComplete((jdkResponse, throwable) -> {
+                    if (throwable != null) {
+                        future.completeExceptionally(toException(throwable));
+                    } else {
+                        future.complete(StreamingHttpResponse.builder()
+                                .statusCode(jdkResponse.statusCode())
+                                .headers(jdkResponse.headers().map())
+                                .body(jdkResponse.body())
+                                .build());
+                    }
+                });
+
+        return future;
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
+        if (parser instanceof Utf8ServerSentEventParser utf8Parser) {
+            // the body is parsed as it is received, without blocking a thread for the whole stream
+            executeStreamingAsync(request).whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    ignoringExceptions(() -> listener.onError(throwable));
+                    return;
+                }
+
+                SuccessfulHttpResponse successfulResponse = SuccessfulHttpResponse.builder()
+                        .statusCode(response.statusCode())
+                        .headers(response.headers())
+                        .build();
+                ignoringExceptions(() -> listener.onOpen(successfulResponse));
+
+                response.body().subscribe(utf8Parser.subscriber(listener));
+            });
+            return;
+        }
+
         java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
 
         delegate.sendAsync(jdkRequest, BodyHandlers.ofInputStream())
@@ -128,10 +197,36 @@ public class JdkHttpClient implements HttpClient {
     }
 
     private static boolean isSuccessful(java.net.http.HttpResponse<?> response) {
-        int statusCode = response.statusCode();
+        return isSuccessful(response.statusCode());
+    }
+
+    private static boolean isSuccessful(int statusCode) {
         return statusCode >= 200 && statusCode < 300;
     }
 
+    private static BodySubscriber<Flow.Publisher<List<ByteBuffer>>> publisherOrHttpException(ResponseInfo responseInfo) {
+        if (isSuccessful(responseInfo.statusCode())) {
+            return BodySubscribers.ofPublisher();
+        }
+        return BodySubscribers.mapping(BodySubscribers.ofString(UTF_8), body -> {
+            throw new HttpException(responseInfo.statusCode(), body);
+        });
+    }
+
+    private static Throwable toException(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof HttpTimeoutException) {
+            return new TimeoutException(cause);
+        } else if (cause instanceof IOException) {
+            return new RuntimeException(cause);
+        }
+        return cause;
+    }
+
     private static String readBody(java.net.http.HttpResponse<InputStream> response) {
         try (InputStream inputStream = response.body();
              BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
@@ -1,6 +1,7 @@
 package dev.langchain4j.model.anthropic;
 
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptionsAsync;
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.ModelProvider.ANTHROPIC;
@@ -35,6 +36,7 @@ import dev.langchain4j.model.chat.response.ChatResponseMetadata;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents an Anthropic language model with a Messages (chat) API.
@@ -268,11 +270,7 @@ public class AnthropicChatModel implements ChatModel {
     public ChatResponse doChat(ChatRequest chatRequest) {
         validate(chatRequest.parameters());
 
-        AnthropicCreateMessageRequest anthropicRequest = createAnthropicRequest(chatRequest,
-                toThinking(thinkingType, thinkingBudgetTokens),
-                cacheSystemMessages ? EPHEMERAL : NO_CACHE,
-                cacheTools ? EPHEMERAL : NO_CACHE,
-                false);
+        AnthropicCreateMessageRequest anthropicRequest = toAnthropicRequest(chatRequest);
 
         AnthropicCreateMessageResponse response =
                 withRetryMappingExceptions(() -> client.createMessage(anthropicRequest), maxRetries);
@@ -280,6 +278,24 @@ public class AnthropicChatModel implements ChatModel {
         return createChatResponse(response);
     }
 
+    @Override
+    public CompletableFuture<ChatResponse> doChatAsync(ChatRequest chatRequest) {
+        validate(chatRequest.parameters());
+
+        AnthropicCreateMessageRequest anthropicRequest = toAnthropicRequest(chatRequest);
+
+        return withRetryMappingExceptionsAsync(() -> client.createMessageAsync(anthropicRequest), maxRetries)
+                .thenApply(AnthropicChatModel::createChatResponse);
+    }
+
+    private AnthropicCreateMessageRequest toAnthropicRequest(ChatRequest chatRequest) {
+        return createAnthropicRequest(chatRequest,
+                toThinking(thinkingType, thinkingBudgetTokens),
+                cacheSystemMessages ? EPHEMERAL : NO_CACHE,
+                cacheTools ? EPHEMERAL : NO_CACHE,
+                false);
+    }
+
     private static ChatResponse createChatResponse(AnthropicCreateMessageResponse response) {
         ChatResponseMetadata responseMetadata = ChatResponseMetadata.builder()
                 .id(response.id)
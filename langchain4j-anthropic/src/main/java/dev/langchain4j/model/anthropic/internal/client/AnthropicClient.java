@@ -8,6 +8,7 @@ import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import dev.langchain4j.spi.ServiceHelper;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 @Internal
 public abstract class AnthropicClient {
@@ -16,6 +17,18 @@ public abstract class AnthropicClient {
 
     public abstract void createMessage(AnthropicCreateMessageRequest request, StreamingChatResponseHandler handler);
 
+    /**
+     * Creates a message without blocking the calling thread.
+     * By default, creates it synchronously on the calling thread.
+     */
+    public CompletableFuture<AnthropicCreateMessageResponse> createMessageAsync(AnthropicCreateMessageRequest request) {
+        try {
+            return CompletableFuture.completedFuture(createMessage(request));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     @SuppressWarnings("rawtypes")
     public static AnthropicClient.Builder builder() {
         for (AnthropicClientBuilderFactory factory : ServiceHelper.loadFactories(AnthropicClientBuilderFactory.class)) {
@@ -29,6 +29,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -101,6 +102,14 @@ public class DefaultAnthropicClient extends AnthropicClient {
         return fromJson(successfulHttpResponse.body(), AnthropicCreateMessageResponse.class);
     }
 
+    @Override
+    public CompletableFuture<AnthropicCreateMessageResponse> createMessageAsync(AnthropicCreateMessageRequest request) {
+        HttpRequest httpRequest = toHttpRequest(request);
+        return httpClient.executeAsync(httpRequest)
+                .thenApply(successfulHttpResponse ->
+                        fromJson(successfulHttpResponse.body(), AnthropicCreateMessageResponse.class));
+    }
+
     @Override
     public void createMessage(AnthropicCreateMessageRequest request, StreamingChatResponseHandler handler) {
 
@@ -4,6 +4,7 @@ import static dev.langchain4j.model.anthropic.AnthropicChatModelName.CLAUDE_3_5_
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.exception.AuthenticationException;
 import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.exception.InternalServerException;
@@ -12,9 +13,11 @@ import dev.langchain4j.exception.LangChain4jException;
 import dev.langchain4j.exception.ModelNotFoundException;
 import dev.langchain4j.exception.RateLimitException;
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
 import io.ktor.http.HttpStatusCode;
 import java.time.Duration;
 import java.util.Random;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Stream;
 
 import me.kpavlov.aimocks.anthropic.MockAnthropic;
@@ -95,6 +98,44 @@ class AnthropicChatModelErrorsTest {
                         .isEqualTo(httpStatusCode));
     }
 
+    @ParameterizedTest
+    @MethodSource("errors")
+    void should_handle_error_responses_asynchronously(int httpStatusCode, Class<LangChain4jException> exception) {
+
+        final var question = "What is the async number: " + seed;
+        final var message = "Error with seed: " + seed;
+
+        // language=json
+        final var responseBody =
+                """
+                        {
+                          "type": "error",
+                          "error": {
+                            "type": "does not matter",
+                            "message": "%s"
+                          }
+                        }
+                        """
+                        .formatted(message);
+
+        MOCK.messages(req -> req.userMessageContains(question)).respondsError(res -> {
+            res.setBody(responseBody);
+            res.setHttpStatus(HttpStatusCode.Companion.fromValue(httpStatusCode));
+        });
+
+        ChatRequest chatRequest =
+                ChatRequest.builder().messages(UserMessage.from(question)).build();
+
+        // when-then
+        assertThatThrownBy(() -> model.chatAsync(chatRequest).join())
+                .isExactlyInstanceOf(CompletionException.class)
+                .cause()
+                .isExactlyInstanceOf(exception)
+                .satisfies(ex -> assertThat(((HttpException) ex.getCause()).statusCode())
+                        .as("statusCode")
+                        .isEqualTo(httpStatusCode));
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 10, 100})
     void should_handle_timeout(int millis) {
@@ -0,0 +1,81 @@
+package dev.langchain4j.benchmarks;
+
+import static dev.langchain4j.benchmarks.Datasets.randomText;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization and deserialization of conversations by the default (Jackson) chat message JSON codec,
+ * as done by persistent {@code ChatMemoryStore}s on each message.
+ * A conversation holds a system message, then user and AI messages of about 300 characters,
+ * every fourth AI message being a tool execution request followed by its result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatMessageJsonCodecBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int messages;
+
+    List<ChatMessage> conversation;
+    String json;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(Datasets.SEED);
+        conversation = new ArrayList<>(messages);
+        conversation.add(SystemMessage.from(randomText(random, 500)));
+        for (int i = 1; conversation.size() < messages; i++) {
+            if (i % 2 == 1) {
+                conversation.add(UserMessage.from(randomText(random, 300)));
+            } else if (i % 8 == 0) {
+                ToolExecutionRequest request = ToolExecutionRequest.builder()
+                        .id("call_" + i)
+                        .name("search")
+                        .arguments("{\"query\":\"" + randomText(random, 50).trim() + "\",\"maxResults\":10}")
+                        .build();
+                conversation.add(AiMessage.from(request));
+                conversation.add(ToolExecutionResultMessage.from(request, randomText(random, 300)));
+            } else {
+                conversation.add(AiMessage.from(randomText(random, 300)));
+            }
+        }
+        json = ChatMessageSerializer.messagesToJson(conversation);
+    }
+
+    @Benchmark
+    public String messagesToJson() {
+        return ChatMessageSerializer.messagesToJson(conversation);
+    }
+
+    @Benchmark
+    public List<ChatMessage> messagesFromJson() {
+        return ChatMessageDeserializer.messagesFromJson(json);
+    }
+}
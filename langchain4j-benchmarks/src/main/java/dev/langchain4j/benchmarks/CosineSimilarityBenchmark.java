@@ -0,0 +1,49 @@
+package dev.langchain4j.benchmarks;
+
+import static dev.langchain4j.benchmarks.Datasets.randomEmbedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link CosineSimilarity#between(Embedding, Embedding)} for the dimensions of common embedding models.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CosineSimilarityBenchmark {
+
+    @Param({"384", "768", "1536", "3072"})
+    int dimension;
+
+    Embedding first;
+    Embedding second;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(Datasets.SEED);
+        first = randomEmbedding(random, dimension);
+        second = randomEmbedding(random, dimension);
+    }
+
+    @Benchmark
+    public double between() {
+        return CosineSimilarity.between(first, second);
+    }
+}
@@ -0,0 +1,55 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.util.Random;
+
+/**
+ * Reproducible synthetic datasets shared by the benchmarks.
+ */
+final class Datasets {
+
+    static final long SEED = 42;
+
+    private static final String[] WORDS = {
+        "the", "model", "embedding", "store", "retrieval", "augmented", "generation", "document", "segment",
+        "query", "memory", "token", "prompt", "template", "vector", "similarity", "search", "index", "chat",
+        "message", "assistant", "user", "system", "tool", "request", "response", "stream", "event", "latency",
+        "throughput", "language", "context", "window", "metadata", "filter", "score", "batch", "cache"
+    };
+
+    private Datasets() {}
+
+    static Embedding randomEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        Embedding embedding = Embedding.from(vector);
+        embedding.normalize();
+        return embedding;
+    }
+
+    /**
+     * Returns prose-like text of approximately the specified length,
+     * made of sentences of 5 to 24 words and paragraphs of 3 to 8 sentences.
+     */
+    static String randomText(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length + 200);
+        while (sb.length() < length) {
+            int sentences = 3 + random.nextInt(6);
+            for (int s = 0; s < sentences; s++) {
+                int words = 5 + random.nextInt(20);
+                for (int w = 0; w < words; w++) {
+                    String word = WORDS[random.nextInt(WORDS.length)];
+                    if (w == 0) {
+                        sb.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+                    } else {
+                        sb.append(' ').append(word);
+                    }
+                }
+                sb.append(s == sentences - 1 ? ".\n\n" : ". ");
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,60 @@
+package dev.langchain4j.benchmarks;
+
+import static dev.langchain4j.benchmarks.Datasets.randomText;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.document.splitter.HierarchicalDocumentSplitter;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.openai.OpenAiTokenCountEstimator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link HierarchicalDocumentSplitter#split(Document)} of the recursive splitter
+ * (paragraphs, then lines, sentences, words and characters) on prose-like documents of the specified length,
+ * with segment sizes counted in characters or in tokens.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentSplitterBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int documentLength;
+
+    @Param({"chars", "tokens"})
+    String unit;
+
+    Document document;
+    DocumentSplitter splitter;
+
+    @Setup
+    public void setUp() {
+        document = Document.from(randomText(new Random(Datasets.SEED), documentLength));
+        splitter = unit.equals("chars")
+                ? DocumentSplitters.recursive(1000, 100)
+                : DocumentSplitters.recursive(300, 30, new OpenAiTokenCountEstimator("gpt-4o-mini"));
+    }
+
+    @Benchmark
+    public List<TextSegment> split() {
+        return splitter.split(document);
+    }
+}
@@ -0,0 +1,83 @@
+package dev.langchain4j.benchmarks;
+
+import static dev.langchain4j.store.embedding.filter.Filter.not;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link Filter#test(Object)} of typical metadata filters against 1,024 {@link Metadata} objects
+ * holding string, number and UUID entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark {
+
+    private static final int METADATA_COUNT = 1024;
+
+    @Param({"isEqualTo", "isIn", "isGreaterThan", "containsString", "and", "or", "not"})
+    String filterType;
+
+    Filter filter;
+    List<Metadata> metadata;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(Datasets.SEED);
+        metadata = new ArrayList<>(METADATA_COUNT);
+        for (int i = 0; i < METADATA_COUNT; i++) {
+            metadata.add(new Metadata()
+                    .put("tenant", "tenant-" + random.nextInt(20))
+                    .put("author", "author-" + random.nextInt(1_000))
+                    .put("title", "Document title " + random.nextInt(100_000))
+                    .put("rank", random.nextInt(100))
+                    .put("score", random.nextDouble())
+                    .put("timestamp", 1_700_000_000_000L + random.nextInt(1_000_000))
+                    .put("owner", new UUID(0, random.nextInt(10))));
+        }
+
+        filter = switch (filterType) {
+            case "isEqualTo" -> metadataKey("tenant").isEqualTo("tenant-3");
+            case "isIn" -> metadataKey("author").isIn("author-1", "author-2", "author-3", "author-4", "author-5");
+            case "isGreaterThan" -> metadataKey("score").isGreaterThan(0.5);
+            case "containsString" -> metadataKey("title").containsString("42");
+            case "and" -> metadataKey("tenant").isEqualTo("tenant-3")
+                    .and(metadataKey("rank").isLessThan(50))
+                    .and(metadataKey("owner").isEqualTo(new UUID(0, 1)));
+            case "or" -> metadataKey("tenant").isEqualTo("tenant-3")
+                    .or(metadataKey("rank").isGreaterThanOrEqualTo(90))
+                    .or(metadataKey("timestamp").isLessThan(1_700_000_100_000L));
+            case "not" -> not(metadataKey("tenant").isIn("tenant-1", "tenant-2", "tenant-3"));
+            default -> throw new IllegalArgumentException(filterType);
+        };
+    }
+
+    @Benchmark
+    public void test(Blackhole blackhole) {
+        for (Metadata m : metadata) {
+            blackhole.consume(filter.test(m));
+        }
+    }
+}
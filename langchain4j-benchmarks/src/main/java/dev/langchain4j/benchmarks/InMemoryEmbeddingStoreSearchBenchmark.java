@@ -0,0 +1,98 @@
+package dev.langchain4j.benchmarks;
+
+import static dev.langchain4j.benchmarks.Datasets.randomEmbedding;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import dev.langchain4j.store.embedding.inmemory.VectorStorage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link InMemoryEmbeddingStore#search(EmbeddingSearchRequest)} (top 10, with and without a metadata filter)
+ * over corpora of random normalized embeddings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class InMemoryEmbeddingStoreSearchBenchmark {
+
+    private static final int QUERIES = 64;
+
+    @Param({"384", "1536"})
+    int dimension;
+
+    @Param({"10000", "100000"})
+    int corpusSize;
+
+    @Param({"PER_ENTRY", "HEAP_MATRIX"})
+    VectorStorage vectorStorage;
+
+    InMemoryEmbeddingStore<TextSegment> store;
+    List<EmbeddingSearchRequest> requests;
+    List<EmbeddingSearchRequest> filteredRequests;
+    int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(Datasets.SEED);
+        store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .vectorStorage(vectorStorage)
+                .build();
+
+        List<Embedding> embeddings = new ArrayList<>(corpusSize);
+        List<TextSegment> segments = new ArrayList<>(corpusSize);
+        for (int i = 0; i < corpusSize; i++) {
+            embeddings.add(randomEmbedding(random, dimension));
+            segments.add(TextSegment.from(
+                    "segment " + i, new Metadata().put("tenant", "tenant-" + i % 10).put("rank", i % 100)));
+        }
+        store.addAll(embeddings, segments);
+
+        requests = new ArrayList<>(QUERIES);
+        filteredRequests = new ArrayList<>(QUERIES);
+        for (int i = 0; i < QUERIES; i++) {
+            Embedding query = randomEmbedding(random, dimension);
+            requests.add(EmbeddingSearchRequest.builder()
+                    .queryEmbedding(query)
+                    .maxResults(10)
+                    .build());
+            filteredRequests.add(EmbeddingSearchRequest.builder()
+                    .queryEmbedding(query)
+                    .maxResults(10)
+                    .filter(metadataKey("tenant").isEqualTo("tenant-3").and(metadataKey("rank").isLessThan(50)))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> search() {
+        return store.search(requests.get(next++ % QUERIES));
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> searchWithFilter() {
+        return store.search(filteredRequests.get(next++ % QUERIES));
+    }
+}
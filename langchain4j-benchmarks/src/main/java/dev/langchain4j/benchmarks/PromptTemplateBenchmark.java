@@ -0,0 +1,71 @@
+package dev.langchain4j.benchmarks;
+
+import static dev.langchain4j.benchmarks.Datasets.randomText;
+
+import dev.langchain4j.model.input.Prompt;
+import dev.langchain4j.model.input.PromptTemplate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rendering of a {@link PromptTemplate} (with the default {@code DefaultPromptTemplateFactory})
+ * holding the specified number of variables, spread over static text of the specified length,
+ * and substituted with values of about 200 characters.
+ * <br>
+ * {@link #createAndApply()} also includes parsing the template, as done by AI services for each call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptTemplateBenchmark {
+
+    @Param({"1", "10", "50"})
+    int variables;
+
+    @Param({"1000", "10000"})
+    int templateLength;
+
+    String template;
+    PromptTemplate promptTemplate;
+    Map<String, Object> values;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(Datasets.SEED);
+        int chunkLength = templateLength / variables;
+        StringBuilder sb = new StringBuilder();
+        values = new HashMap<>();
+        for (int i = 0; i < variables; i++) {
+            sb.append(randomText(random, chunkLength), 0, chunkLength).append("{{variable").append(i).append("}}");
+            values.put("variable" + i, randomText(random, 200).substring(0, 200));
+        }
+        template = sb.toString();
+        promptTemplate = PromptTemplate.from(template);
+    }
+
+    @Benchmark
+    public Prompt apply() {
+        return promptTemplate.apply(values);
+    }
+
+    @Benchmark
+    public Prompt createAndApply() {
+        return PromptTemplate.from(template).apply(values);
+    }
+}
@@ -0,0 +1,80 @@
+package dev.langchain4j.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
+import dev.langchain4j.http.client.sse.ServerSentEvent;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.http.client.sse.Utf8ServerSentEventParser;
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link DefaultServerSentEventParser#parse} and {@link Utf8ServerSentEventParser#parse} of a streamed chat
+ * completion made of the specified number of OpenAI-like chunks (one token each), followed by {@code [DONE]}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerSentEventParserBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int events;
+
+    @Param({"default", "utf8"})
+    String parserType;
+
+    ServerSentEventParser parser;
+    byte[] body;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(Datasets.SEED);
+        String[] tokens = Datasets.randomText(random, 1000).split(" ");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < events; i++) {
+            sb.append("data: {\"id\":\"chatcmpl-B9MBs8CjcvOU2jLn4n570S5qMJKcT\",\"object\":\"chat.completion.chunk\",")
+                    .append("\"created\":1741570283,\"model\":\"gpt-4o-mini-2024-07-18\",")
+                    .append("\"system_fingerprint\":\"fp_06737a9306\",\"choices\":[{\"index\":0,")
+                    .append("\"delta\":{\"content\":\" ")
+                    .append(tokens[i % tokens.length])
+                    .append("\"},\"logprobs\":null,\"finish_reason\":null}]}\n\n");
+        }
+        sb.append("data: [DONE]\n\n");
+        body = sb.toString().getBytes(UTF_8);
+        parser = "utf8".equals(parserType) ? new Utf8ServerSentEventParser() : new DefaultServerSentEventParser();
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        parser.parse(new ByteArrayInputStream(body), new ServerSentEventListener() {
+
+            @Override
+            public void onEvent(ServerSentEvent event) {
+                blackhole.consume(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        });
+    }
+}
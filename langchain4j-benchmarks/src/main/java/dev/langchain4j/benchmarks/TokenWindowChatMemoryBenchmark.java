@@ -0,0 +1,92 @@
+package dev.langchain4j.benchmarks;
+
+import static dev.langchain4j.benchmarks.Datasets.randomText;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.chat.TokenWindowChatMemory;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.openai.OpenAiTokenCountEstimator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link TokenWindowChatMemory#add(ChatMessage)} on a memory already holding the specified number of messages
+ * (a system message, then alternating user and AI messages of about 300 characters),
+ * whose window is full, so that each added message evicts the oldest ones.
+ * Tokens are counted with the {@link OpenAiTokenCountEstimator}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenWindowChatMemoryBenchmark {
+
+    private static final int MESSAGES_TO_ADD = 256;
+
+    @Param({"10", "100", "1000"})
+    int messages;
+
+    TokenCountEstimator tokenCountEstimator;
+    List<ChatMessage> history;
+    List<ChatMessage> messagesToAdd;
+    int maxTokens;
+
+    TokenWindowChatMemory memory;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Random random = new Random(Datasets.SEED);
+        tokenCountEstimator = new OpenAiTokenCountEstimator("gpt-4o-mini");
+        history = new ArrayList<>();
+        history.add(SystemMessage.from(randomText(random, 500)));
+        for (int i = 1; i < messages; i++) {
+            history.add(message(random, i));
+        }
+        maxTokens = tokenCountEstimator.estimateTokenCountInMessages(history);
+
+        messagesToAdd = new ArrayList<>(MESSAGES_TO_ADD);
+        for (int i = 0; i < MESSAGES_TO_ADD; i++) {
+            messagesToAdd.add(message(random, messages + i));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        memory = TokenWindowChatMemory.builder()
+                .maxTokens(maxTokens, tokenCountEstimator)
+                .build();
+        history.forEach(memory::add);
+        next = 0;
+    }
+
+    @Benchmark
+    public TokenWindowChatMemory add() {
+        memory.add(messagesToAdd.get(next++ % MESSAGES_TO_ADD));
+        return memory;
+    }
+
+    private static ChatMessage message(Random random, int index) {
+        String text = randomText(random, 300);
+        return index % 2 == 1 ? UserMessage.from(text) : AiMessage.from(text);
+    }
+}
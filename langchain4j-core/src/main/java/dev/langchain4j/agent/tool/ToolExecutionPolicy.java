@@ -0,0 +1,49 @@
+package dev.langchain4j.agent.tool;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Configures how a {@link Tool} method is executed when AI Services execute tools concurrently,
+ * that is, when the LLM requests several tools at once and concurrent tool execution is enabled.
+ * <p>
+ * The {@link #timeoutMillis()} and {@link #maxConcurrency()} only apply to tools executed concurrently:
+ * they are ignored when concurrent tool execution is not enabled, and for tools that are not {@link #concurrent()},
+ * which are executed on the calling thread.
+ */
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface ToolExecutionPolicy {
+
+    /**
+     * Whether this tool can be executed concurrently with other tools.
+     * Tools that are not concurrent are executed one after another, in the order requested by the LLM,
+     * while concurrent tools are running.
+     *
+     * @return whether this tool can be executed concurrently with other tools.
+     */
+    boolean concurrent() default true;
+
+    /**
+     * The maximum time, in milliseconds, to wait for the result of this tool.
+     * If exceeded, the execution is cancelled and the LLM is told that the tool timed out.
+     * If zero or negative, the default timeout configured on the AI Service (if any) applies.
+     * Only applies when this tool is executed concurrently (see {@link ToolExecutionPolicy}).
+     *
+     * @return the timeout of this tool, in milliseconds.
+     */
+    long timeoutMillis() default 0;
+
+    /**
+     * The maximum number of concurrent executions of this tool, across all invocations of the AI Service.
+     * Executions exceeding the limit wait until earlier ones complete; the wait counts towards the timeout.
+     * If zero or negative, the number of concurrent executions is not limited.
+     * Only applies when this tool is executed concurrently (see {@link ToolExecutionPolicy}).
+     *
+     * @return the maximum number of concurrent executions of this tool.
+     */
+    int maxConcurrency() default 0;
+}
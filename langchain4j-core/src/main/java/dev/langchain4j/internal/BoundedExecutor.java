@@ -0,0 +1,61 @@
+package dev.langchain4j.internal;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.Internal;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * An {@link Executor} that limits the number of its tasks running concurrently on a delegate {@link Executor}.
+ * It is typically created per downstream service (e.g., a content retriever or a tool),
+ * so that a load spike cannot flood that service with requests, while still sharing the delegate executor.
+ * <p>
+ * Tasks exceeding the limit are queued (without blocking any thread)
+ * and submitted to the delegate executor, in order, as soon as running tasks complete.
+ */
+@Internal
+public class BoundedExecutor implements Executor {
+
+    private final Executor delegate;
+    private final Semaphore permits;
+    private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+
+    public BoundedExecutor(Executor delegate, int maxConcurrency) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        this.permits = new Semaphore(ensureGreaterThanZero(maxConcurrency, "maxConcurrency"));
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        pendingTasks.add(ensureNotNull(task, "task"));
+        submitPendingTasks();
+    }
+
+    private void submitPendingTasks() {
+        while (!pendingTasks.isEmpty() && permits.tryAcquire()) {
+            Runnable task = pendingTasks.poll();
+            if (task == null) {
+                permits.release();
+                continue;
+            }
+            try {
+                delegate.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                        submitPendingTasks();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package dev.langchain4j.internal;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.VirtualThreadUtils.createVirtualThreadExecutor;
+import static dev.langchain4j.internal.VirtualThreadUtils.isVirtualThreadsSupported;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import dev.langchain4j.Internal;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the {@link ExecutorService} shared by all internal fan-out
+ * (moderation, query routing, content retrieval, tool execution, embedding batches, MCP health checks, etc.)
+ * of components that were not given an executor explicitly.
+ * <p>
+ * The {@link ExecutionStrategy} is configured globally with the {@value #EXECUTION_STRATEGY_PROPERTY}
+ * system property, which must be set before the executor is first used.
+ * By default, {@link ExecutionStrategy#VIRTUAL_THREADS} is used.
+ */
+@Internal
+public class DefaultExecutorProvider {
+
+    /**
+     * The name of the system property configuring the {@link ExecutionStrategy}.
+     */
+    public static final String EXECUTION_STRATEGY_PROPERTY = "langchain4j.execution-strategy";
+
+    /**
+     * How the tasks submitted to the default executor are executed.
+     */
+    public enum ExecutionStrategy {
+
+        /**
+         * Each task is executed on a new virtual thread.
+         * Falls back to {@link #PLATFORM_THREADS} on Java versions that do not support virtual threads (before 21).
+         */
+        VIRTUAL_THREADS,
+
+        /**
+         * Tasks are executed on a cached pool of daemon platform threads,
+         * which are released after 1 second of idleness.
+         */
+        PLATFORM_THREADS
+    }
+
+    private DefaultExecutorProvider() {}
+
+    /**
+     * Returns the shared executor.
+     * It must not be shut down.
+     *
+     * @return the shared executor.
+     */
+    public static ExecutorService getDefaultExecutorService() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the configured execution strategy.
+     *
+     * @return the execution strategy configured with the {@value #EXECUTION_STRATEGY_PROPERTY} system property,
+     * or {@link ExecutionStrategy#VIRTUAL_THREADS} if it is not set.
+     */
+    public static ExecutionStrategy executionStrategy() {
+        String executionStrategy = System.getProperty(EXECUTION_STRATEGY_PROPERTY);
+        if (isNullOrBlank(executionStrategy)) {
+            return ExecutionStrategy.VIRTUAL_THREADS;
+        }
+        try {
+            return ExecutionStrategy.valueOf(
+                    executionStrategy.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw illegalArgument(
+                    "Unknown value '%s' of the '%s' system property, "
+                            + "supported values: virtual-threads, platform-threads",
+                    executionStrategy,
+                    EXECUTION_STRATEGY_PROPERTY);
+        }
+    }
+
+    static ExecutorService createExecutorService(ExecutionStrategy executionStrategy) {
+        if (executionStrategy == ExecutionStrategy.VIRTUAL_THREADS && isVirtualThreadsSupported()) {
+            return createVirtualThreadExecutor();
+        }
+        return new ThreadPoolExecutor(
+                0, Integer.MAX_VALUE, 1, SECONDS, new SynchronousQueue<>(), new DaemonThreadFactory());
+    }
+
+    private static class Holder {
+
+        private static final ExecutorService INSTANCE = createExecutorService(executionStrategy());
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "langchain4j-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -13,6 +13,10 @@ import dev.langchain4j.exception.UnresolvedModelServerException;
 
 import java.nio.channels.UnresolvedAddressException;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.Exceptions.unwrapCompletionException;
 
 @Internal
 @FunctionalInterface
@@ -32,6 +36,28 @@ public interface ExceptionMapper {
         }
     }
 
+    /**
+     * Same as {@link #withExceptionMapper(Callable)}, for an action completing asynchronously:
+     * the returned future is completed exceptionally with the mapped exception.
+     */
+    default <T> CompletableFuture<T> withExceptionMapperAsync(Supplier<CompletableFuture<T>> action) {
+        CompletableFuture<T> future;
+        try {
+            future = action.get();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(mapException(e));
+        }
+        CompletableFuture<T> mapped = new CompletableFuture<>();
+        future.whenComplete((result, error) -> {
+            if (error == null) {
+                mapped.complete(result);
+            } else {
+                mapped.completeExceptionally(mapException(unwrapCompletionException(error)));
+            }
+        });
+        return mapped;
+    }
+
     RuntimeException mapException(Throwable t);
 
     class DefaultExceptionMapper implements ExceptionMapper {
@@ -1,6 +1,8 @@
 package dev.langchain4j.internal;
 
 import dev.langchain4j.Internal;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Utility methods for creating common exceptions.
@@ -35,4 +37,20 @@ public class Exceptions {
     public static RuntimeException runtime(String format, Object... args) {
         return new RuntimeException(format.formatted(args));
     }
+
+    /**
+     * Returns the cause of the given {@link CompletionException} or {@link ExecutionException},
+     * as thrown or passed to callbacks by {@link java.util.concurrent.CompletableFuture},
+     * or the given exception itself if it is not one of them.
+     *
+     * @param error the exception
+     * @return the unwrapped exception.
+     */
+    public static Throwable unwrapCompletionException(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException)
+                && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
 }
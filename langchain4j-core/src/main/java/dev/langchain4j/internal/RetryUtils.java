@@ -1,10 +1,15 @@
 package dev.langchain4j.internal;
 
+import static dev.langchain4j.internal.Exceptions.unwrapCompletionException;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 import dev.langchain4j.Internal;
 import dev.langchain4j.exception.LangChain4jException;
 import dev.langchain4j.exception.NonRetriableException;
 import java.util.Random;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -219,6 +224,53 @@ public final class RetryUtils {
                 retry++;
             }
         }
+
+        /**
+         * This method attempts to execute a given asynchronous action up to a specified number of times
+         * with an exponential backoff, without blocking any thread between attempts.
+         * If the action fails on all attempts, the returned future is completed exceptionally
+         * with the exception of the last attempt.
+         *
+         * @param action     The action to be executed.
+         * @param maxRetries The maximum number of retries.
+         *                   The action can be executed up to {@code maxRetries + 1} times.
+         * @param <T>        The type of the result of the action.
+         * @return A future completed with the result of the action if it is successful.
+         */
+        public <T> CompletableFuture<T> withRetryAsync(Supplier<CompletableFuture<T>> action, int maxRetries) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            attemptAsync(action, maxRetries, 0, result);
+            return result;
+        }
+
+        private <T> void attemptAsync(
+                Supplier<CompletableFuture<T>> action, int maxRetries, int retry, CompletableFuture<T> result) {
+            CompletableFuture<T> attempt;
+            try {
+                attempt = action.get();
+            } catch (Exception e) {
+                attempt = CompletableFuture.failedFuture(e);
+            }
+            attempt.whenComplete((value, error) -> {
+                if (error == null) {
+                    result.complete(value);
+                    return;
+                }
+                Throwable cause = unwrapCompletionException(error);
+                if (cause instanceof NonRetriableException || retry >= maxRetries) {
+                    result.completeExceptionally(cause);
+                    return;
+                }
+
+                log.warn(
+                        "A retriable exception occurred. Remaining retries: %s of %s"
+                                .formatted(maxRetries - retry, maxRetries),
+                        cause);
+
+                CompletableFuture.delayedExecutor(jitterDelayMillis(retry), MILLISECONDS)
+                        .execute(() -> attemptAsync(action, maxRetries, retry + 1, result));
+            });
+        }
     }
 
     /**
@@ -321,4 +373,20 @@ public final class RetryUtils {
             Callable<T> action, int maxRetries, ExceptionMapper exceptionMapper) {
         return withRetry(() -> exceptionMapper.withExceptionMapper(action), maxRetries);
     }
+
+    /**
+     * Same as {@link #withRetryMappingExceptions(Callable, int)}, for an action completing asynchronously.
+     * No thread is blocked between attempts.
+     *
+     * @param action     The action to be executed.
+     * @param maxRetries The maximum number of retries.
+     *                   The action can be executed up to {@code maxRetries + 1} times.
+     * @param <T>        The type of the result of the action.
+     * @return A future completed with the result of the action if it is successful.
+     */
+    public static <T> CompletableFuture<T> withRetryMappingExceptionsAsync(
+            Supplier<CompletableFuture<T>> action, int maxRetries) {
+        return DEFAULT_RETRY_POLICY.withRetryAsync(
+                () -> ExceptionMapper.DEFAULT.withExceptionMapperAsync(action), maxRetries);
+    }
 }
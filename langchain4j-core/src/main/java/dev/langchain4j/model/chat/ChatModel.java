@@ -1,5 +1,6 @@
 package dev.langchain4j.model.chat;
 
+import static dev.langchain4j.internal.Exceptions.unwrapCompletionException;
 import static dev.langchain4j.model.ModelProvider.OTHER;
 import static dev.langchain4j.model.chat.ChatModelListenerUtils.onError;
 import static dev.langchain4j.model.chat.ChatModelListenerUtils.onRequest;
@@ -16,6 +17,7 @@ import dev.langchain4j.model.chat.response.ChatResponse;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -56,6 +58,72 @@ public interface ChatModel {
         throw new RuntimeException("Not implemented");
     }
 
+    /**
+     * The asynchronous variant of {@link #chat(ChatRequest)}.
+     * <p>
+     * Models supporting it (see {@link #doChatAsync(ChatRequest)}) do not block any thread
+     * while waiting for the LLM, otherwise the returned future is completed on the calling thread.
+     * Listeners are notified on the thread completing the future.
+     * <p>
+     * Models overriding {@link #chat(ChatRequest)} instead of {@link #doChat(ChatRequest)}
+     * (and not overriding {@link #doChatAsync(ChatRequest)}) are called with {@link #chat(ChatRequest)}
+     * on the calling thread, so that their listeners are notified only once.
+     *
+     * @param chatRequest a {@link ChatRequest}, containing all the inputs to the LLM
+     * @return a future completed with a {@link ChatResponse}, containing all the outputs from the LLM
+     */
+    default CompletableFuture<ChatResponse> chatAsync(ChatRequest chatRequest) {
+
+        if (!ChatModelImplementations.implementsDoChat(this)) {
+            try {
+                return CompletableFuture.completedFuture(chat(chatRequest));
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        ChatRequest finalChatRequest = ChatRequest.builder()
+                .messages(chatRequest.messages())
+                .parameters(defaultRequestParameters().overrideWith(chatRequest.parameters()))
+                .build();
+
+        List<ChatModelListener> listeners = listeners();
+        Map<Object, Object> attributes = new ConcurrentHashMap<>();
+
+        onRequest(finalChatRequest, provider(), attributes, listeners);
+
+        CompletableFuture<ChatResponse> futureResponse;
+        try {
+            futureResponse = doChatAsync(finalChatRequest);
+        } catch (Exception error) {
+            futureResponse = CompletableFuture.failedFuture(error);
+        }
+
+        CompletableFuture<ChatResponse> result = new CompletableFuture<>();
+        futureResponse.whenComplete((chatResponse, error) -> {
+            if (error == null) {
+                onResponse(chatResponse, finalChatRequest, provider(), attributes, listeners);
+                result.complete(chatResponse);
+            } else {
+                Throwable cause = unwrapCompletionException(error);
+                onError(cause, finalChatRequest, provider(), attributes, listeners);
+                result.completeExceptionally(cause);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Sends the request to the LLM without blocking the calling thread.
+     * By default, delegates to {@link #doChat(ChatRequest)} on the calling thread.
+     *
+     * @param chatRequest the final {@link ChatRequest}, with the default request parameters applied
+     * @return a future completed with the {@link ChatResponse}
+     */
+    default CompletableFuture<ChatResponse> doChatAsync(ChatRequest chatRequest) {
+        return CompletableFuture.completedFuture(doChat(chatRequest));
+    }
+
     default ChatRequestParameters defaultRequestParameters() {
         return DefaultChatRequestParameters.EMPTY;
     }
@@ -0,0 +1,35 @@
+package dev.langchain4j.model.chat;
+
+import dev.langchain4j.Internal;
+import dev.langchain4j.model.chat.request.ChatRequest;
+
+/**
+ * Tells which {@link ChatModel}s implement {@link ChatModel#chat(ChatRequest)} directly,
+ * rather than {@link ChatModel#doChat(ChatRequest)} or {@link ChatModel#doChatAsync(ChatRequest)}.
+ */
+@Internal
+class ChatModelImplementations {
+
+    private static final ClassValue<Boolean> IMPLEMENTS_DO_CHAT = new ClassValue<>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return overrides(type, "doChat") || overrides(type, "doChatAsync");
+        }
+    };
+
+    private ChatModelImplementations() {
+    }
+
+    static boolean implementsDoChat(ChatModel chatModel) {
+        return IMPLEMENTS_DO_CHAT.get(chatModel.getClass());
+    }
+
+    private static boolean overrides(Class<?> type, String methodName) {
+        try {
+            return type.getMethod(methodName, ChatRequest.class).getDeclaringClass() != ChatModel.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import dev.langchain4j.internal.ValidationUtils;
 import dev.langchain4j.model.output.Response;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static java.util.Collections.singletonList;
 
@@ -45,6 +46,22 @@ public interface EmbeddingModel {
      */
     Response<List<Embedding>> embedAll(List<TextSegment> textSegments);
 
+    /**
+     * The asynchronous variant of {@link #embedAll(List)}.
+     * Models supporting it do not block any thread while waiting for the embeddings,
+     * otherwise (by default) the returned future is completed on the calling thread.
+     *
+     * @param textSegments the text segments to embed.
+     * @return a future completed with the embeddings.
+     */
+    default CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+        try {
+            return CompletableFuture.completedFuture(embedAll(textSegments));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Returns the dimension of the {@link Embedding} produced by this embedding model.
      *
@@ -0,0 +1,265 @@
+package dev.langchain4j.model.embedding.cache;
+
+import static dev.langchain4j.internal.Utils.generateUUIDFrom;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureEq;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.text.Normalizer.Form.NFC;
+import static java.util.Arrays.asList;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * An {@link EmbeddingModel} that caches the embeddings produced by another {@code EmbeddingModel}.
+ * <br>
+ * Embeddings are cached under a key derived from the {@link Builder#modelName(String)}
+ * and a hash of the normalized text (see {@link Builder#textNormalizer(Function)}).
+ * They are looked up in each {@link EmbeddingCache} tier in turn (see {@link Builder#caches(List)}),
+ * e.g. an {@link InMemoryEmbeddingCache} backed by a {@link FileEmbeddingCache}.
+ * An embedding found in a tier is copied to the previous ones,
+ * and a newly computed embedding is put into all of them.
+ * <br>
+ * Within a single {@link #embedAll(List)} or {@link #embedAllAsync(List)} call,
+ * identical texts are only embedded once.
+ * If all texts are found in the cache, the underlying model is not called, and the response has no token usage.
+ * <br>
+ * Hits and misses are counted, see {@link #statistics()}.
+ */
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final String modelName;
+    private final List<EmbeddingCache> caches;
+    private final Function<String, String> textNormalizer;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+
+    private CachingEmbeddingModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.modelName = ensureNotBlank(builder.modelName, "modelName");
+        this.caches = List.copyOf(ensureNotEmpty(
+                getOrDefault(builder.caches, () -> List.of(new InMemoryEmbeddingCache())), "caches"));
+        this.textNormalizer = getOrDefault(builder.textNormalizer, CachingEmbeddingModel::normalize);
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text.strip(), NFC);
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        Lookup lookup = lookup(textSegments);
+        if (lookup.missingSegments.isEmpty()) {
+            return Response.from(asList(lookup.embeddings));
+        }
+        return complete(lookup, delegate.embedAll(lookup.missingSegments));
+    }
+
+    /**
+     * Serves the cached embeddings immediately and embeds the others with
+     * {@link EmbeddingModel#embedAllAsync(List)} of the underlying model,
+     * caching them once they are computed.
+     */
+    @Override
+    public CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+        Lookup lookup;
+        try {
+            lookup = lookup(textSegments);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (lookup.missingSegments.isEmpty()) {
+            return CompletableFuture.completedFuture(Response.from(asList(lookup.embeddings)));
+        }
+        return delegate.embedAllAsync(lookup.missingSegments).thenApply(response -> complete(lookup, response));
+    }
+
+    private Lookup lookup(List<TextSegment> textSegments) {
+        Lookup lookup = new Lookup(textSegments.size());
+        for (int i = 0; i < textSegments.size(); i++) {
+            TextSegment textSegment = textSegments.get(i);
+            String key = key(textSegment.text());
+            List<Integer> indexes = lookup.missingIndexes.get(key);
+            if (indexes != null) {
+                indexes.add(i);
+                duplicates.increment();
+                continue;
+            }
+            Embedding embedding = lookup(key);
+            if (embedding != null) {
+                lookup.embeddings[i] = embedding;
+                hits.increment();
+            } else {
+                lookup.missingIndexes.put(key, new ArrayList<>(List.of(i)));
+                lookup.missingSegments.add(textSegment);
+            }
+        }
+        return lookup;
+    }
+
+    private Response<List<Embedding>> complete(Lookup lookup, Response<List<Embedding>> response) {
+        List<Embedding> computed = response.content();
+        ensureEq(computed.size(), lookup.missingSegments.size(),
+                "Expected %d embeddings, but got %d", lookup.missingSegments.size(), computed.size());
+        misses.add(lookup.missingSegments.size());
+
+        int i = 0;
+        for (Map.Entry<String, List<Integer>> entry : lookup.missingIndexes.entrySet()) {
+            Embedding embedding = computed.get(i++);
+            for (EmbeddingCache cache : caches) {
+                cache.put(entry.getKey(), embedding);
+            }
+            for (int index : entry.getValue()) {
+                lookup.embeddings[index] = embedding;
+            }
+        }
+        return Response.from(asList(lookup.embeddings), response.tokenUsage(), response.finishReason());
+    }
+
+    private Embedding lookup(String key) {
+        for (int tier = 0; tier < caches.size(); tier++) {
+            Embedding embedding = caches.get(tier).get(key);
+            if (embedding != null) {
+                for (int previousTier = 0; previousTier < tier; previousTier++) {
+                    caches.get(previousTier).put(key, embedding);
+                }
+                return embedding;
+            }
+        }
+        return null;
+    }
+
+    private String key(String text) {
+        return generateUUIDFrom(modelName + '\n' + textNormalizer.apply(text));
+    }
+
+    @Override
+    public int dimension() {
+        return delegate.dimension();
+    }
+
+    /**
+     * @return the hit and miss counts since this model was created.
+     */
+    public EmbeddingCacheStatistics statistics() {
+        return new EmbeddingCacheStatistics(hits.sum(), misses.sum(), duplicates.sum());
+    }
+
+    /**
+     * The result of looking up texts in the cache: the embeddings found, and the texts still to be embedded.
+     */
+    private static class Lookup {
+
+        private final Embedding[] embeddings;
+        private final Map<String, List<Integer>> missingIndexes = new LinkedHashMap<>();
+        private final List<TextSegment> missingSegments = new ArrayList<>();
+
+        private Lookup(int size) {
+            this.embeddings = new Embedding[size];
+        }
+    }
+
+    /**
+     * Creates a new CachingEmbeddingModel builder.
+     *
+     * @return the builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * CachingEmbeddingModel builder.
+     */
+    public static class Builder {
+
+        private EmbeddingModel delegate;
+        private String modelName;
+        private List<EmbeddingCache> caches;
+        private Function<String, String> textNormalizer;
+
+        /**
+         * Sets the embedding model whose embeddings are cached. Mandatory.
+         *
+         * @param delegate the embedding model.
+         * @return {@code this}
+         */
+        public Builder delegate(EmbeddingModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * Sets the name of the embedding model. Mandatory.
+         * It is part of the cache keys, so that persistent cache tiers can be shared by different models,
+         * and must therefore change whenever the embeddings would (e.g. when the model or its dimension changes).
+         *
+         * @param modelName the name of the embedding model.
+         * @return {@code this}
+         */
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        /**
+         * Sets the cache tiers, looked up in order. Optional.
+         * Default: a single {@link InMemoryEmbeddingCache} with default settings.
+         *
+         * @param caches the cache tiers.
+         * @return {@code this}
+         */
+        public Builder caches(List<EmbeddingCache> caches) {
+            this.caches = caches;
+            return this;
+        }
+
+        /**
+         * Sets the cache tiers, looked up in order. Optional.
+         * Default: a single {@link InMemoryEmbeddingCache} with default settings.
+         *
+         * @param caches the cache tiers.
+         * @return {@code this}
+         */
+        public Builder caches(EmbeddingCache... caches) {
+            return caches(asList(caches));
+        }
+
+        /**
+         * Sets the function normalizing texts before they are hashed into cache keys. Optional.
+         * Texts that are equal once normalized share the same embedding (the one of the first text embedded).
+         * Default: leading and trailing whitespace is removed and the text is normalized to Unicode NFC.
+         *
+         * @param textNormalizer the function normalizing texts.
+         * @return {@code this}
+         */
+        public Builder textNormalizer(Function<String, String> textNormalizer) {
+            this.textNormalizer = textNormalizer;
+            return this;
+        }
+
+        /**
+         * Builds the CachingEmbeddingModel.
+         *
+         * @return the CachingEmbeddingModel.
+         */
+        public CachingEmbeddingModel build() {
+            return new CachingEmbeddingModel(this);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package dev.langchain4j.model.embedding.cache;
+
+import dev.langchain4j.data.embedding.Embedding;
+
+/**
+ * A tier of a {@link CachingEmbeddingModel}, holding embeddings by key.
+ * <br>
+ * Keys are derived from the model name and the (normalized) text, see {@link CachingEmbeddingModel}.
+ * Implementations must be thread-safe.
+ *
+ * @see InMemoryEmbeddingCache
+ * @see FileEmbeddingCache
+ */
+public interface EmbeddingCache {
+
+    /**
+     * Returns the embedding cached under the specified key.
+     *
+     * @param key the key.
+     * @return the embedding, or {@code null} if there is none (or it has been evicted).
+     */
+    Embedding get(String key);
+
+    /**
+     * Caches an embedding under the specified key.
+     *
+     * @param key       the key.
+     * @param embedding the embedding.
+     */
+    void put(String key, Embedding embedding);
+}
@@ -0,0 +1,79 @@
+package dev.langchain4j.model.embedding.cache;
+
+import java.util.Objects;
+
+/**
+ * Hit and miss counts of a {@link CachingEmbeddingModel}, see {@link CachingEmbeddingModel#statistics()}.
+ */
+public class EmbeddingCacheStatistics {
+
+    private final long hits;
+    private final long misses;
+    private final long duplicates;
+
+    /**
+     * Creates embedding cache statistics.
+     *
+     * @param hits       the number of texts whose embedding was found in a cache tier.
+     * @param misses     the number of texts that were embedded by the underlying embedding model.
+     * @param duplicates the number of texts that were not embedded because the same text
+     *                   occurred earlier in the same call.
+     */
+    public EmbeddingCacheStatistics(long hits, long misses, long duplicates) {
+        this.hits = hits;
+        this.misses = misses;
+        this.duplicates = duplicates;
+    }
+
+    /**
+     * @return the number of texts whose embedding was found in a cache tier.
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of texts that were embedded by the underlying embedding model.
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * @return the number of texts that were not embedded because the same text occurred earlier in the same call.
+     */
+    public long duplicates() {
+        return duplicates;
+    }
+
+    /**
+     * @return the share of texts that were not embedded by the underlying embedding model,
+     * between 0 and 1 (0 if no text was requested).
+     */
+    public double hitRate() {
+        long requests = hits + misses + duplicates;
+        return requests == 0 ? 0 : (double) (hits + duplicates) / requests;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmbeddingCacheStatistics that = (EmbeddingCacheStatistics) o;
+        return this.hits == that.hits && this.misses == that.misses && this.duplicates == that.duplicates;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hits, misses, duplicates);
+    }
+
+    @Override
+    public String toString() {
+        return "EmbeddingCacheStatistics {" +
+                " hits = " + hits +
+                ", misses = " + misses +
+                ", duplicates = " + duplicates +
+                " }";
+    }
+}
@@ -0,0 +1,172 @@
+package dev.langchain4j.model.embedding.cache;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A persistent {@link EmbeddingCache} backed by a single append-only file.
+ * <br>
+ * Each embedding is appended to the file as a record holding its key and vector.
+ * Only the keys and the positions of the records are kept in memory: vectors are read from the file on each hit,
+ * so this cache is meant to be used behind an {@link InMemoryEmbeddingCache}, see {@link CachingEmbeddingModel}.
+ * <br>
+ * The file is read when the cache is created. A record that was only partially written
+ * (e.g. because the process was killed) is discarded.
+ * Embeddings are never evicted. Records are not forced to the storage device until {@link #close()} is called.
+ */
+public class FileEmbeddingCache implements EmbeddingCache, AutoCloseable {
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Map<String, Long> positions = new HashMap<>();
+    private long size;
+
+    /**
+     * Creates a cache persisted in the specified file, loading the keys it already holds if it exists.
+     *
+     * @param file the file.
+     */
+    public FileEmbeddingCache(Path file) {
+        this.file = ensureNotNull(file, "file");
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            this.channel = FileChannel.open(file, CREATE, READ, WRITE);
+            load();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return the file in which this cache is persisted.
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Record layout: key length (int), key (UTF-8), dimension (int), vector (floats).
+     */
+    private void load() throws IOException {
+        long fileSize = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        while (true) {
+            if (!readFully(header.clear(), position)) {
+                break;
+            }
+            int keyLength = header.flip().getInt();
+            if (keyLength < 0 || keyLength > fileSize - position) {
+                break;
+            }
+            ByteBuffer key = ByteBuffer.allocate(keyLength);
+            if (!readFully(key, position + Integer.BYTES)) {
+                break;
+            }
+            long vectorPosition = position + Integer.BYTES + keyLength;
+            if (!readFully(header.clear(), vectorPosition)) {
+                break;
+            }
+            int dimension = header.flip().getInt();
+            long end = vectorPosition + Integer.BYTES + (long) dimension * Float.BYTES;
+            if (dimension < 0 || end > fileSize) {
+                break;
+            }
+            positions.put(new String(key.array(), UTF_8), vectorPosition);
+            position = end;
+        }
+        if (position < fileSize) {
+            channel.truncate(position);
+        }
+        size = position;
+    }
+
+    private boolean readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized Embedding get(String key) {
+        Long position = positions.get(key);
+        if (position == null) {
+            return null;
+        }
+        try {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            readFully(header, position);
+            ByteBuffer vector = ByteBuffer.allocate(header.flip().getInt() * Float.BYTES);
+            readFully(vector, position + Integer.BYTES);
+            float[] floats = new float[vector.capacity() / Float.BYTES];
+            vector.flip().asFloatBuffer().get(floats);
+            return Embedding.from(floats);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public synchronized void put(String key, Embedding embedding) {
+        ensureNotNull(key, "key");
+        ensureNotNull(embedding, "embedding");
+        if (positions.containsKey(key)) {
+            return;
+        }
+        byte[] keyBytes = key.getBytes(UTF_8);
+        float[] vector = embedding.vector();
+        ByteBuffer record = ByteBuffer.allocate(2 * Integer.BYTES + keyBytes.length + vector.length * Float.BYTES);
+        record.putInt(keyBytes.length).put(keyBytes).putInt(vector.length);
+        record.asFloatBuffer().put(vector);
+        record.clear();
+        try {
+            long position = size;
+            while (record.hasRemaining()) {
+                channel.write(record, position + record.position());
+            }
+            positions.put(key, position + Integer.BYTES + keyBytes.length);
+            size = position + record.capacity();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return the number of cached embeddings.
+     */
+    public synchronized int size() {
+        return positions.size();
+    }
+
+    /**
+     * Forces all records to the storage device and closes the file.
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            if (channel.isOpen()) {
+                channel.force(false);
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
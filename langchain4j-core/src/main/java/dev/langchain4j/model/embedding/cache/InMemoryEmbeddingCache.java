@@ -0,0 +1,137 @@
+package dev.langchain4j.model.embedding.cache;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An {@link EmbeddingCache} that keeps up to {@link Builder#maxSize(Integer)} embeddings in memory,
+ * evicting the least recently used ones first.
+ * Optionally, embeddings expire after {@link Builder#timeToLive(Duration)}.
+ */
+public class InMemoryEmbeddingCache implements EmbeddingCache {
+
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final int maxSize;
+    private final Long timeToLiveNanos;
+    private final LinkedHashMap<String, Entry> entries;
+
+    /**
+     * Creates an in-memory embedding cache holding up to 10,000 embeddings, without expiration.
+     */
+    public InMemoryEmbeddingCache() {
+        this(builder());
+    }
+
+    private InMemoryEmbeddingCache(Builder builder) {
+        this.maxSize = ensureGreaterThanZero(getOrDefault(builder.maxSize, DEFAULT_MAX_SIZE), "maxSize");
+        if (builder.timeToLive != null) {
+            ensureTrue(!builder.timeToLive.isNegative() && !builder.timeToLive.isZero(), "timeToLive must be positive");
+            this.timeToLiveNanos = builder.timeToLive.toNanos();
+        } else {
+            this.timeToLiveNanos = null;
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Embedding get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (timeToLiveNanos != null && System.nanoTime() - entry.createdAtNanos > timeToLiveNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.embedding;
+    }
+
+    @Override
+    public synchronized void put(String key, Embedding embedding) {
+        entries.put(ensureNotNull(key, "key"), new Entry(ensureNotNull(embedding, "embedding"), System.nanoTime()));
+    }
+
+    /**
+     * @return the number of cached embeddings, including expired ones that have not been evicted yet.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry {
+
+        private final Embedding embedding;
+        private final long createdAtNanos;
+
+        private Entry(Embedding embedding, long createdAtNanos) {
+            this.embedding = embedding;
+            this.createdAtNanos = createdAtNanos;
+        }
+    }
+
+    /**
+     * Creates a new InMemoryEmbeddingCache builder.
+     *
+     * @return the builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * InMemoryEmbeddingCache builder.
+     */
+    public static class Builder {
+
+        private Integer maxSize;
+        private Duration timeToLive;
+
+        /**
+         * Sets the maximum number of cached embeddings.
+         * Once reached, the least recently used embedding is evicted.
+         * Default: 10,000.
+         *
+         * @param maxSize the maximum number of cached embeddings.
+         * @return {@code this}
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Sets the duration after which a cached embedding expires. Optional.
+         * By default, embeddings do not expire.
+         *
+         * @param timeToLive the time to live of cached embeddings.
+         * @return {@code this}
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Builds the InMemoryEmbeddingCache.
+         *
+         * @return the InMemoryEmbeddingCache.
+         */
+        public InMemoryEmbeddingCache build() {
+            return new InMemoryEmbeddingCache(this);
+        }
+    }
+}
@@ -5,9 +5,10 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 
 import dev.langchain4j.Internal;
 import dev.langchain4j.spi.prompt.PromptTemplateFactory;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -33,50 +34,77 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
         private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{\\s*(.+?)\\s*\\}\\}");
 
         private final String template;
-        private final Set<String> allVariables;
+
+        /**
+         * The template compiled into static text parts and variable references:
+         * {@code literals[i]} is followed by the value of {@code variableNames[variableIndexes[i]]},
+         * and the last literal closes the template.
+         */
+        private final String[] literals;
+
+        private final int[] variableIndexes;
+        private final String[] variableNames;
+        private final int literalsLength;
 
         public DefaultTemplate(String template) {
             this.template = ensureNotBlank(template, "template");
-            this.allVariables = extractVariables(template);
-        }
 
-        private static Set<String> extractVariables(String template) {
-            Set<String> variables = new HashSet<>();
+            List<String> literals = new ArrayList<>();
+            List<Integer> variableIndexes = new ArrayList<>();
+            Map<String, Integer> variableNames = new LinkedHashMap<>();
             Matcher matcher = VARIABLE_PATTERN.matcher(template);
+            int end = 0;
             while (matcher.find()) {
-                variables.add(matcher.group(1));
+                literals.add(template.substring(end, matcher.start()));
+                variableIndexes.add(variableNames.computeIfAbsent(matcher.group(1), name -> variableNames.size()));
+                end = matcher.end();
             }
-            return variables;
+            literals.add(template.substring(end));
+
+            this.literals = literals.toArray(new String[0]);
+            this.variableIndexes = variableIndexes.stream().mapToInt(Integer::intValue).toArray();
+            this.variableNames = variableNames.keySet().toArray(new String[0]);
+            this.literalsLength = literals.stream().mapToInt(String::length).sum();
         }
 
         public String render(Map<String, Object> variables) {
             ensureAllVariablesProvided(variables);
 
-            String result = template;
-            for (Map.Entry<String, Object> entry : variables.entrySet()) {
-                result = replaceAll(result, entry.getKey(), entry.getValue());
+            if (variableNames.length == 0) {
+                return template;
             }
 
-            return result;
+            String[] values = new String[variableNames.length];
+            for (int i = 0; i < variableNames.length; i++) {
+                values[i] = valueOf(variableNames[i], variables.get(variableNames[i]));
+            }
+
+            int length = literalsLength;
+            for (int variableIndex : variableIndexes) {
+                length += values[variableIndex].length();
+            }
+
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < variableIndexes.length; i++) {
+                sb.append(literals[i]).append(values[variableIndexes[i]]);
+            }
+            return sb.append(literals[literals.length - 1]).toString();
         }
 
         private void ensureAllVariablesProvided(Map<String, Object> providedVariables) {
-            for (String variable : allVariables) {
+            for (String variable : variableNames) {
                 if (!providedVariables.containsKey(variable)) {
                     throw illegalArgument("Value for the variable '%s' is missing", variable);
                 }
             }
         }
 
-        private static String replaceAll(String template, String variable, Object value) {
-            if (value == null || value.toString() == null) {
+        private static String valueOf(String variable, Object value) {
+            String string = value == null ? null : value.toString();
+            if (string == null) {
                 throw illegalArgument("Value for the variable '%s' is null", variable);
             }
-            return template.replace(inDoubleCurlyBrackets(variable), value.toString());
-        }
-
-        private static String inDoubleCurlyBrackets(String variable) {
-            return "{{" + variable + "}}";
+            return string;
         }
     }
 }
@@ -38,6 +38,7 @@ public class PromptTemplate {
     private final String templateString;
     private final PromptTemplateFactory.Template template;
     private final Clock clock;
+    private final boolean hasDateTimeVariables;
 
     /**
      * Create a new PromptTemplate.
@@ -60,6 +61,8 @@ public class PromptTemplate {
         this.templateString = ensureNotBlank(template, "template");
         this.template = FACTORY.create(() -> template);
         this.clock = ensureNotNull(clock, "clock");
+        // CURRENT_DATE is also a prefix of CURRENT_DATE_TIME
+        this.hasDateTimeVariables = template.contains(CURRENT_DATE) || template.contains(CURRENT_TIME);
     }
 
     /**
@@ -91,12 +94,16 @@ public class PromptTemplate {
     }
 
     /**
-     * Injects the special variables {{current_date}}, {{current_time}}, and {{current_date_time}} into the given map.
+     * Injects the special variables {{current_date}}, {{current_time}}, and {{current_date_time}} into the given map,
+     * unless the template does not reference any of them.
      *
      * @param variables the map to inject the variables into.
-     * @return a copy of the map with the variables injected.
+     * @return a copy of the map with the variables injected, or the given map.
      */
     private Map<String, Object> injectDateTimeVariables(Map<String, Object> variables) {
+        if (!hasDateTimeVariables) {
+            return variables;
+        }
         Map<String, Object> variablesCopy = new HashMap<>(variables);
         variablesCopy.put(CURRENT_DATE, LocalDate.now(clock));
         variablesCopy.put(CURRENT_TIME, LocalTime.now(clock));
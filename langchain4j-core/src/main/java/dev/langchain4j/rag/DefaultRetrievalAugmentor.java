@@ -1,6 +1,8 @@
 package dev.langchain4j.rag;
 
 import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.internal.BoundedExecutor;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.aggregator.ContentAggregator;
@@ -20,20 +22,16 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.SynchronousQueue;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
-import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
 
@@ -97,8 +95,12 @@ import static java.util.stream.Collectors.toMap;
  * When there is only a single {@link Query} and a single {@link ContentRetriever},
  * query routing and content retrieval are performed in the same thread.
  * Otherwise, an {@link Executor} is used to parallelize the processing.
- * By default, a modified (keepAliveTime is 1 second instead of 60 seconds) {@link Executors#newCachedThreadPool()}
- * is used, but you can provide a custom {@link Executor} instance.
+ * By default, the executor shared by all LangChain4j components is used (see {@link DefaultExecutorProvider}),
+ * which runs tasks on virtual threads when they are available,
+ * but you can provide a custom {@link Executor} instance.
+ * <br>
+ * Optionally, {@code maxConcurrency} limits the number of parallel calls to the {@link QueryRouter}
+ * and to each {@link ContentRetriever}, so that a load spike does not flood them with requests.
  *
  * @see DefaultQueryTransformer
  * @see DefaultQueryRouter
@@ -112,25 +114,29 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
     private final ContentAggregator contentAggregator;
     private final ContentInjector contentInjector;
     private final Executor executor;
+    private final Integer maxConcurrency;
+    private final Map<Object, Executor> downstreamExecutors = new ConcurrentHashMap<>();
 
     public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
                                      QueryRouter queryRouter,
                                      ContentAggregator contentAggregator,
                                      ContentInjector contentInjector,
                                      Executor executor) {
+        this(queryTransformer, queryRouter, contentAggregator, contentInjector, executor, null);
+    }
+
+    public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
+                                     QueryRouter queryRouter,
+                                     ContentAggregator contentAggregator,
+                                     ContentInjector contentInjector,
+                                     Executor executor,
+                                     Integer maxConcurrency) {
         this.queryTransformer = getOrDefault(queryTransformer, DefaultQueryTransformer::new);
         this.queryRouter = ensureNotNull(queryRouter, "queryRouter");
         this.contentAggregator = getOrDefault(contentAggregator, DefaultContentAggregator::new);
         this.contentInjector = getOrDefault(contentInjector, DefaultContentInjector::new);
-        this.executor = getOrDefault(executor, DefaultRetrievalAugmentor::createDefaultExecutor);
-    }
-
-    private static ExecutorService createDefaultExecutor() {
-        return new ThreadPoolExecutor(
-            0, Integer.MAX_VALUE,
-            1, SECONDS,
-            new SynchronousQueue<>()
-        );
+        this.executor = getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService);
+        this.maxConcurrency = maxConcurrency == null ? null : ensureGreaterThanZero(maxConcurrency, "maxConcurrency");
     }
 
     @Override
@@ -177,7 +183,7 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
             Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents = new ConcurrentHashMap<>();
             queries.forEach(query -> {
                 CompletableFuture<Collection<List<Content>>> futureContents =
-                        supplyAsync(() -> queryRouter.route(query), executor)
+                        supplyAsync(() -> queryRouter.route(query), executorFor(queryRouter))
                                 .thenCompose(retrievers -> retrieveFromAll(retrievers, query));
                 queryToFutureContents.put(query, futureContents);
             });
@@ -190,7 +196,7 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
     private CompletableFuture<Collection<List<Content>>> retrieveFromAll(Collection<ContentRetriever> retrievers,
                                                                          Query query) {
         List<CompletableFuture<List<Content>>> futureContents = retrievers.stream()
-            .map(retriever -> supplyAsync(() -> retriever.retrieve(query), executor))
+            .map(retriever -> supplyAsync(() -> retriever.retrieve(query), executorFor(retriever)))
             .collect(Collectors.toList());
 
         return allOf(futureContents.toArray(new CompletableFuture[0]))
@@ -200,6 +206,14 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
                     .collect(Collectors.toList()));
     }
 
+    private Executor executorFor(Object downstream) {
+        if (maxConcurrency == null) {
+            return executor;
+        }
+        return downstreamExecutors.computeIfAbsent(downstream,
+            ignored -> new BoundedExecutor(executor, maxConcurrency));
+    }
+
     private static Map<Query, Collection<List<Content>>> join(
         Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents) {
         return allOf(queryToFutureContents.values().toArray(new CompletableFuture[0]))
@@ -223,6 +237,7 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
         private ContentAggregator contentAggregator;
         private ContentInjector contentInjector;
         private Executor executor;
+        private Integer maxConcurrency;
 
         DefaultRetrievalAugmentorBuilder() {
         }
@@ -257,8 +272,23 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
             return this;
         }
 
+        /**
+         * Limits the number of parallel calls to the {@link QueryRouter} and to each {@link ContentRetriever}.
+         * Calls exceeding the limit wait, without blocking a thread, until earlier calls complete.
+         * Calls performed in the caller's thread (a single query routed to a single retriever) are not limited.
+         * By default, the number of parallel calls is not limited.
+         *
+         * @param maxConcurrency the maximum number of parallel calls to each downstream component.
+         * @return builder
+         */
+        public DefaultRetrievalAugmentorBuilder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
         public DefaultRetrievalAugmentor build() {
-            return new DefaultRetrievalAugmentor(this.queryTransformer, this.queryRouter, this.contentAggregator, this.contentInjector, this.executor);
+            return new DefaultRetrievalAugmentor(this.queryTransformer, this.queryRouter, this.contentAggregator,
+                this.contentInjector, this.executor, this.maxConcurrency);
         }
     }
 }
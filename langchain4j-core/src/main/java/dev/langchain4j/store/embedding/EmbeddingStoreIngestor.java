@@ -1,24 +1,51 @@
 package dev.langchain4j.store.embedding;
 
+import static dev.langchain4j.internal.Utils.generateUUIDFrom;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.DocumentTransformer;
+import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.data.segment.TextSegmentTransformer;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.spi.data.document.splitter.DocumentSplitterFactory;
 import dev.langchain4j.spi.model.embedding.EmbeddingModelFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,16 +74,52 @@ import org.slf4j.LoggerFactory;
  * <br>
  * Including a document title or a short summary in each {@code TextSegment} is a common technique
  * to improve the quality of similarity searches.
+ * <br>
+ * <br>
+ * By default, all documents are transformed and split first, then all segments are embedded in a single call
+ * and finally added to the {@code EmbeddingStore} in a single call.
+ * Optionally, ingestion can be pipelined (see {@link Builder#embeddingBatchSize(Integer)}):
+ * documents are then prepared one by one, their segments are embedded in batches
+ * (several batches concurrently, see {@link Builder#embeddingConcurrency(Integer)}),
+ * and each embedded batch is added to the {@code EmbeddingStore} while the next batches are being embedded.
+ * At most {@link Builder#maxPendingBatches(Integer)} batches are held in memory at any time,
+ * regardless of the number of documents.
+ * <br>
+ * <br>
+ * Documents can also be streamed from an {@link Iterator} or a {@link Stream}
+ * (e.g. {@code FileSystemDocumentLoader.streamDocumentsRecursively(...)}), see {@link #ingest(Iterator)}.
+ * They are then pulled one by one, only as fast as their segments are embedded and stored,
+ * and the progress can be reported via {@link Builder#checkpointListener(Consumer)}.
+ * <br>
+ * <br>
+ * Optionally, ingestion can be incremental (see {@link Builder#manifest(IngestionManifest)}):
+ * the hashes of ingested documents and text segments are recorded in an {@link IngestionManifest},
+ * so that when the same documents are ingested again, unchanged documents are skipped,
+ * only new or changed text segments are embedded and stored,
+ * and the embeddings of text segments that no longer exist are removed from the {@code EmbeddingStore}.
  */
 public class EmbeddingStoreIngestor {
 
     private static final Logger log = LoggerFactory.getLogger(EmbeddingStoreIngestor.class);
 
+    private static final int DEFAULT_EMBEDDING_BATCH_SIZE = 128;
+    private static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+
     private final DocumentTransformer documentTransformer;
     private final DocumentSplitter documentSplitter;
     private final TextSegmentTransformer textSegmentTransformer;
     private final EmbeddingModel embeddingModel;
     private final EmbeddingStore<TextSegment> embeddingStore;
+    private final Integer embeddingBatchSize;
+    private final int embeddingConcurrency;
+    private final int maxPendingBatches;
+    private final Executor executor;
+    private final int checkpointInterval;
+    private final Consumer<IngestionCheckpoint> checkpointListener;
+    private final IngestionManifest manifest;
+    private final String fingerprint;
+    private final Function<Document, String> documentKeyProvider;
+    private final boolean removeMissingDocuments;
 
     /**
      * Creates an instance of an {@code EmbeddingStoreIngestor}.
@@ -81,6 +144,76 @@ public class EmbeddingStoreIngestor {
         this.embeddingModel = ensureNotNull(
                 getOrDefault(embeddingModel, EmbeddingStoreIngestor::loadEmbeddingModel), "embeddingModel");
         this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        this.embeddingBatchSize = null;
+        this.embeddingConcurrency = 1;
+        this.maxPendingBatches = 1;
+        this.executor = null;
+        this.checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+        this.checkpointListener = null;
+        this.manifest = null;
+        this.fingerprint = null;
+        this.documentKeyProvider = null;
+        this.removeMissingDocuments = false;
+    }
+
+    private EmbeddingStoreIngestor(Builder builder) {
+        this.documentTransformer = builder.documentTransformer;
+        this.documentSplitter = getOrDefault(builder.documentSplitter, EmbeddingStoreIngestor::loadDocumentSplitter);
+        this.textSegmentTransformer = builder.textSegmentTransformer;
+        this.embeddingModel = ensureNotNull(
+                getOrDefault(builder.embeddingModel, EmbeddingStoreIngestor::loadEmbeddingModel), "embeddingModel");
+        this.embeddingStore = ensureNotNull(builder.embeddingStore, "embeddingStore");
+        boolean pipelined = builder.embeddingBatchSize != null
+                || builder.embeddingConcurrency != null
+                || builder.maxPendingBatches != null
+                || builder.executor != null;
+        this.embeddingBatchSize = pipelined
+                ? ensureGreaterThanZero(getOrDefault(builder.embeddingBatchSize, DEFAULT_EMBEDDING_BATCH_SIZE), "embeddingBatchSize")
+                : null;
+        this.embeddingConcurrency =
+                ensureGreaterThanZero(getOrDefault(builder.embeddingConcurrency, 1), "embeddingConcurrency");
+        this.maxPendingBatches = ensureGreaterThanZero(
+                getOrDefault(builder.maxPendingBatches, 2 * embeddingConcurrency), "maxPendingBatches");
+        this.executor =
+                pipelined ? getOrDefault(builder.executor, DefaultExecutorProvider::getDefaultExecutorService) : null;
+        this.checkpointInterval = ensureGreaterThanZero(
+                getOrDefault(builder.checkpointInterval, DEFAULT_CHECKPOINT_INTERVAL), "checkpointInterval");
+        this.checkpointListener = builder.checkpointListener;
+        this.manifest = builder.manifest;
+        this.fingerprint = fingerprint(builder.fingerprint);
+        this.documentKeyProvider =
+                getOrDefault(builder.documentKeyProvider, EmbeddingStoreIngestor::defaultDocumentKey);
+        this.removeMissingDocuments = getOrDefault(builder.removeMissingDocuments, false);
+    }
+
+    /**
+     * Text segments embedded with different components (or differently configured ones) must not be reused,
+     * so the class names of the components are part of the hashes, along with the user-provided fingerprint.
+     * Classes without a stable name (e.g. lambdas) are skipped.
+     */
+    private String fingerprint(String fingerprint) {
+        StringBuilder sb = new StringBuilder(getOrDefault(fingerprint, ""));
+        for (Object component : asList(documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel)) {
+            sb.append('\n');
+            if (component != null && !component.getClass().isHidden() && !component.getClass().isSynthetic()) {
+                sb.append(component.getClass().getName());
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String defaultDocumentKey(Document document) {
+        Metadata metadata = document.metadata();
+        String url = metadata.getString(Document.URL);
+        if (url != null) {
+            return url;
+        }
+        String fileName = metadata.getString(Document.FILE_NAME);
+        if (fileName == null) {
+            return null;
+        }
+        String directory = metadata.getString(Document.ABSOLUTE_DIRECTORY_PATH);
+        return directory == null ? fileName : Path.of(directory, fileName).toString();
     }
 
     private static DocumentSplitter loadDocumentSplitter() {
@@ -176,8 +309,80 @@ public class EmbeddingStoreIngestor {
      */
     public IngestionResult ingest(List<Document> documents) {
 
+        if (embeddingBatchSize != null) {
+            log.debug("Starting to ingest {} documents in batches of {} text segments",
+                    documents.size(), embeddingBatchSize);
+            return new Pipeline(embeddingBatchSize, executor).ingest(documents.iterator());
+        }
+
+        if (manifest != null) {
+            log.debug("Starting to incrementally ingest {} documents", documents.size());
+            return new Pipeline(DEFAULT_EMBEDDING_BATCH_SIZE, Runnable::run).ingest(documents.iterator());
+        }
+
         log.debug("Starting to ingest {} documents", documents.size());
 
+        StageStatistics preparation = new StageStatistics();
+        long start = System.nanoTime();
+        List<TextSegment> segments = prepare(documents);
+        preparation.record(documents.size(), start);
+
+        StageStatistics embedding = new StageStatistics();
+        log.debug("Starting to embed {} text segments", segments.size());
+        start = System.nanoTime();
+        Response<List<Embedding>> embeddingsResponse = embeddingModel.embedAll(segments);
+        embedding.record(segments.size(), start);
+        log.debug("Finished embedding {} text segments", segments.size());
+
+        StageStatistics storing = new StageStatistics();
+        log.debug("Starting to store {} text segments into the embedding store", segments.size());
+        start = System.nanoTime();
+        embeddingStore.addAll(embeddingsResponse.content(), segments);
+        storing.record(segments.size(), start);
+        log.debug("Finished storing {} text segments into the embedding store", segments.size());
+
+        return new IngestionResult(embeddingsResponse.tokenUsage(),
+                preparation.toStatistics(), embedding.toStatistics(), storing.toStatistics());
+    }
+
+    /**
+     * Ingests documents, pulled one by one from the specified iterator, into an {@link EmbeddingStore}
+     * that was specified during the creation of this {@code EmbeddingStoreIngestor}.
+     * <br>
+     * The next document is only pulled once there is room for its text segments in the pipeline
+     * (see {@link Builder#maxPendingBatches(Integer)}), so memory usage depends on the batch size,
+     * not on the number of documents.
+     * Unless pipelined ingestion is configured, batches of text segments
+     * are embedded and stored on the calling thread, one after another.
+     * <br>
+     * Progress is reported to the {@link Builder#checkpointListener(Consumer)}, if configured.
+     *
+     * @param documents the documents to ingest.
+     * @return result including information related to ingestion process.
+     */
+    public IngestionResult ingest(Iterator<Document> documents) {
+        log.debug("Starting to ingest a stream of documents");
+        return new Pipeline(
+                        getOrDefault(embeddingBatchSize, DEFAULT_EMBEDDING_BATCH_SIZE),
+                        getOrDefault(executor, Runnable::run))
+                .ingest(documents);
+    }
+
+    /**
+     * Ingests documents, pulled one by one from the specified stream, into an {@link EmbeddingStore}
+     * that was specified during the creation of this {@code EmbeddingStoreIngestor}.
+     * See {@link #ingest(Iterator)} for details.
+     * <br>
+     * The stream is not closed by this method.
+     *
+     * @param documents the documents to ingest.
+     * @return result including information related to ingestion process.
+     */
+    public IngestionResult ingest(Stream<Document> documents) {
+        return ingest(documents.iterator());
+    }
+
+    private List<TextSegment> prepare(List<Document> documents) {
         if (documentTransformer != null) {
             documents = documentTransformer.transformAll(documents);
             log.debug("Documents were transformed into {} documents", documents.size());
@@ -193,16 +398,313 @@ public class EmbeddingStoreIngestor {
             segments = textSegmentTransformer.transformAll(segments);
             log.debug("{} documents were transformed into {} text segments", documents.size(), segments.size());
         }
+        return segments;
+    }
 
-        log.debug("Starting to embed {} text segments", segments.size());
-        Response<List<Embedding>> embeddingsResponse = embeddingModel.embedAll(segments);
-        log.debug("Finished embedding {} text segments", segments.size());
+    /**
+     * A single pipelined ingestion: the calling thread prepares documents and cuts their segments into batches,
+     * the {@link #executor} embeds up to {@link #embeddingConcurrency} batches at a time,
+     * and embedded batches are added to the embedding store one after another, in the order they were cut.
+     * The calling thread blocks while {@link #maxPendingBatches} batches are not yet stored.
+     * Once at least {@link #checkpointInterval} more documents have been completely stored,
+     * the {@link #checkpointListener} is notified (by the thread that stored the last batch).
+     * <br>
+     * In incremental mode, only new or changed text segments are batched, under IDs derived from their hashes.
+     * The {@link #manifest} entry of a document is only updated (and the embeddings of its stale text segments
+     * are only removed) once all its new text segments have been stored.
+     */
+    private class Pipeline {
+
+        private final int batchSize;
+        private final Executor executor;
+
+        private final StageStatistics preparation = new StageStatistics();
+        private final StageStatistics embedding = new StageStatistics();
+        private final StageStatistics storing = new StageStatistics();
+        private final Semaphore pendingBatches = new Semaphore(maxPendingBatches);
+        private final Semaphore embeddingSlots = new Semaphore(embeddingConcurrency);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private CompletableFuture<Void> stored = CompletableFuture.completedFuture(null);
+        private TokenUsage tokenUsage;
+
+        // written by the calling thread only
+        private long completedDocuments;
+        private Document lastCompletedDocument;
+        private List<Runnable> pendingCommits = new ArrayList<>();
+        private final Set<String> seenDocumentKeys = new HashSet<>();
+        private long unchangedDocuments;
+        private long reusedSegments;
+
+        // written by the thread storing the current batch only, batches are stored one after another
+        private long storedDocuments;
+        private long storedSegments;
+        private Document lastStoredDocument;
+        private long lastCheckpoint;
+
+        Pipeline(int batchSize, Executor executor) {
+            this.batchSize = batchSize;
+            this.executor = executor;
+        }
 
-        log.debug("Starting to store {} text segments into the embedding store", segments.size());
-        embeddingStore.addAll(embeddingsResponse.content(), segments);
-        log.debug("Finished storing {} text segments into the embedding store", segments.size());
+        IngestionResult ingest(Iterator<Document> documents) {
+            List<TextSegment> batch = new ArrayList<>(batchSize);
+            List<String> batchIds = manifest != null ? new ArrayList<>(batchSize) : null;
+            while (failure.get() == null && documents.hasNext()) {
+                Document document = documents.next();
+                long start = System.nanoTime();
+                List<String> ids = null;
+                Runnable commit = null;
+                List<TextSegment> segments;
+                if (manifest != null) {
+                    PreparedDocument prepared = prepareIncrementally(document);
+                    segments = prepared.segments();
+                    ids = prepared.ids();
+                    commit = prepared.commit();
+                } else {
+                    segments = prepare(singletonList(document));
+                }
+                preparation.record(1, start);
+                for (int i = 0; i < segments.size(); i++) {
+                    batch.add(segments.get(i));
+                    if (batchIds != null) {
+                        batchIds.add(ids.get(i));
+                    }
+                    if (batch.size() == batchSize) {
+                        submit(batch, batchIds);
+                        batch = new ArrayList<>(batchSize);
+                        batchIds = manifest != null ? new ArrayList<>(batchSize) : null;
+                    }
+                }
+                if (commit != null) {
+                    // committed with the batch holding the last text segment of the document (or a later one)
+                    pendingCommits.add(commit);
+                }
+                completedDocuments++;
+                lastCompletedDocument = document;
+            }
+            if (!batch.isEmpty() && failure.get() == null) {
+                submit(batch, batchIds);
+            }
+
+            join(stored);
+            log.debug("Finished storing {} text segments into the embedding store", storing.items.sum());
+
+            if (manifest != null) {
+                // documents without new text segments are only committed here
+                pendingCommits.forEach(Runnable::run);
+                if (removeMissingDocuments) {
+                    removeMissingDocuments();
+                }
+                manifest.flush();
+                log.debug("{} unchanged documents were skipped, {} unchanged text segments were reused",
+                        unchangedDocuments, reusedSegments);
+            }
+
+            if (checkpointListener != null && completedDocuments > lastCheckpoint) {
+                // documents without text segments are only completed here
+                checkpointListener.accept(
+                        new IngestionCheckpoint(completedDocuments, storedSegments, lastCompletedDocument));
+            }
+
+            synchronized (this) {
+                return new IngestionResult(
+                        tokenUsage, preparation.toStatistics(), embedding.toStatistics(), storing.toStatistics());
+            }
+        }
+
+        /**
+         * Prepares a changed document and returns its text segments that are not in the {@link #manifest} yet,
+         * together with their IDs and the commit updating the manifest once all of them are stored.
+         * Unchanged documents are not prepared at all.
+         * The IDs of new text segments are derived from the document key, the text segment hash
+         * and the number of its occurrences so far, so that ingesting again after a failure
+         * overwrites the embeddings that were already stored, in embedding stores supporting it.
+         */
+        private PreparedDocument prepareIncrementally(Document document) {
+            String documentHash = hash(document.text(), document.metadata());
+            String documentKey = getOrDefault(documentKeyProvider.apply(document), documentHash);
+            if (removeMissingDocuments) {
+                seenDocumentKeys.add(documentKey);
+            }
+
+            IngestedDocument previous = manifest.get(documentKey);
+            if (previous != null && previous.hash().equals(documentHash)) {
+                unchangedDocuments++;
+                return new PreparedDocument(emptyList(), emptyList(), null);
+            }
+
+            Map<String, Deque<String>> reusableIds = new HashMap<>();
+            if (previous != null) {
+                for (IngestedDocument.Segment segment : previous.segments()) {
+                    reusableIds.computeIfAbsent(segment.hash(), ignored -> new ArrayDeque<>())
+                            .add(segment.embeddingId());
+                }
+            }
+
+            List<TextSegment> newSegments = new ArrayList<>();
+            List<String> ids = new ArrayList<>();
+            List<IngestedDocument.Segment> ingestedSegments = new ArrayList<>();
+            Map<String, Integer> occurrences = new HashMap<>();
+            for (TextSegment segment : prepare(singletonList(document))) {
+                String segmentHash = hash(segment.text(), segment.metadata());
+                int occurrence = occurrences.merge(segmentHash, 1, Integer::sum);
+                Deque<String> reusable = reusableIds.get(segmentHash);
+                String id = reusable == null ? null : reusable.poll();
+                if (id == null) {
+                    id = generateUUIDFrom(documentKey + '\n' + segmentHash + '\n' + occurrence);
+                    newSegments.add(segment);
+                    ids.add(id);
+                } else {
+                    reusedSegments++;
+                }
+                ingestedSegments.add(new IngestedDocument.Segment(segmentHash, id));
+            }
+
+            List<String> staleIds = reusableIds.values().stream().flatMap(Deque::stream).collect(toList());
+            IngestedDocument ingestedDocument = new IngestedDocument(documentHash, ingestedSegments);
+            Runnable commit = () -> {
+                if (!staleIds.isEmpty()) {
+                    embeddingStore.removeAll(staleIds);
+                }
+                manifest.put(documentKey, ingestedDocument);
+            };
+            return new PreparedDocument(newSegments, ids, commit);
+        }
+
+        private record PreparedDocument(List<TextSegment> segments, List<String> ids, Runnable commit) {}
+
+        private String hash(String text, Metadata metadata) {
+            return generateUUIDFrom(fingerprint + '\n' + new TreeMap<>(metadata.toMap()) + '\n' + text);
+        }
+
+        private void removeMissingDocuments() {
+            for (String documentKey : manifest.documentKeys()) {
+                if (seenDocumentKeys.contains(documentKey)) {
+                    continue;
+                }
+                IngestedDocument missing = manifest.get(documentKey);
+                if (missing != null && !missing.segments().isEmpty()) {
+                    embeddingStore.removeAll(missing.segments().stream()
+                            .map(IngestedDocument.Segment::embeddingId)
+                            .collect(toList()));
+                }
+                manifest.remove(documentKey);
+            }
+        }
+
+        private void submit(List<TextSegment> segments, List<String> ids) {
+            acquire(pendingBatches);
+            acquire(embeddingSlots);
+
+            CompletableFuture<List<Embedding>> embedded;
+            try {
+                embedded = CompletableFuture.supplyAsync(() -> embed(segments), executor);
+            } catch (RejectedExecutionException e) {
+                embeddingSlots.release();
+                pendingBatches.release();
+                throw e;
+            }
+            embedded.whenComplete((embeddings, error) -> {
+                embeddingSlots.release();
+                if (error != null) {
+                    failure.compareAndSet(null, error);
+                }
+            });
+
+            // only the documents before the current one are completely in this or previous batches
+            long documents = completedDocuments;
+            Document lastDocument = lastCompletedDocument;
+            List<Runnable> commits = pendingCommits;
+            pendingCommits = new ArrayList<>();
+            CompletableFuture<Void> batchStored = stored.thenCombine(embedded, (ignored, embeddings) -> {
+                store(ids, embeddings, segments);
+                commits.forEach(Runnable::run);
+                checkpoint(documents, lastDocument, segments.size());
+                return null;
+            });
+            batchStored.whenComplete((ignored, error) -> {
+                pendingBatches.release();
+                if (error != null) {
+                    failure.compareAndSet(null, error);
+                }
+            });
+            stored = batchStored;
+        }
+
+        private List<Embedding> embed(List<TextSegment> segments) {
+            long start = System.nanoTime();
+            Response<List<Embedding>> response = embeddingModel.embedAll(segments);
+            embedding.record(segments.size(), start);
+            synchronized (this) {
+                tokenUsage = TokenUsage.sum(tokenUsage, response.tokenUsage());
+            }
+            return response.content();
+        }
+
+        private void store(List<String> ids, List<Embedding> embeddings, List<TextSegment> segments) {
+            long start = System.nanoTime();
+            if (ids != null) {
+                embeddingStore.addAll(ids, embeddings, segments);
+            } else {
+                embeddingStore.addAll(embeddings, segments);
+            }
+            storing.record(segments.size(), start);
+        }
+
+        private void checkpoint(long documents, Document lastDocument, int segments) {
+            storedSegments += segments;
+            if (documents > storedDocuments) {
+                storedDocuments = documents;
+                lastStoredDocument = lastDocument;
+            }
+            if (storedDocuments - lastCheckpoint >= checkpointInterval) {
+                if (manifest != null) {
+                    manifest.flush();
+                }
+                if (checkpointListener != null) {
+                    checkpointListener.accept(
+                            new IngestionCheckpoint(storedDocuments, storedSegments, lastStoredDocument));
+                }
+                lastCheckpoint = storedDocuments;
+            }
+        }
+
+        private void acquire(Semaphore semaphore) {
+            try {
+                semaphore.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
 
-        return new IngestionResult(embeddingsResponse.tokenUsage());
+        private void join(CompletableFuture<Void> future) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static class StageStatistics {
+
+        private final LongAdder items = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        void record(int items, long startNanos) {
+            this.nanos.add(System.nanoTime() - startNanos);
+            this.items.add(items);
+            this.batches.increment();
+        }
+
+        IngestionStageStatistics toStatistics() {
+            return new IngestionStageStatistics(items.sum(), batches.sum(), Duration.ofNanos(nanos.sum()));
+        }
     }
 
     /**
@@ -224,6 +726,16 @@ public class EmbeddingStoreIngestor {
         private TextSegmentTransformer textSegmentTransformer;
         private EmbeddingModel embeddingModel;
         private EmbeddingStore<TextSegment> embeddingStore;
+        private Integer embeddingBatchSize;
+        private Integer embeddingConcurrency;
+        private Integer maxPendingBatches;
+        private Executor executor;
+        private Integer checkpointInterval;
+        private Consumer<IngestionCheckpoint> checkpointListener;
+        private IngestionManifest manifest;
+        private String fingerprint;
+        private Function<Document, String> documentKeyProvider;
+        private Boolean removeMissingDocuments;
 
         /**
          * Creates a new EmbeddingStoreIngestor builder.
@@ -289,14 +801,164 @@ public class EmbeddingStoreIngestor {
             return this;
         }
 
+        /**
+         * Sets the number of text segments embedded per call to the embedding model. Optional.
+         * Setting this (or any other of the pipelining options) enables pipelined ingestion,
+         * where embedding calls overlap with each other, with preparing documents and with storing embeddings.
+         * Default: 128 (if pipelined).
+         *
+         * @param embeddingBatchSize the number of text segments per embedding call.
+         * @return {@code this}
+         */
+        public Builder embeddingBatchSize(Integer embeddingBatchSize) {
+            this.embeddingBatchSize = embeddingBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of concurrent calls to the embedding model. Optional.
+         * Enables pipelined ingestion (see {@link #embeddingBatchSize(Integer)}).
+         * Default: 1.
+         *
+         * @param embeddingConcurrency the maximum number of concurrent embedding calls.
+         * @return {@code this}
+         */
+        public Builder embeddingConcurrency(Integer embeddingConcurrency) {
+            this.embeddingConcurrency = embeddingConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches that are being embedded or are waiting to be stored. Optional.
+         * Once reached, preparing further documents waits until a batch has been stored.
+         * Enables pipelined ingestion (see {@link #embeddingBatchSize(Integer)}).
+         * Default: twice the {@link #embeddingConcurrency(Integer)}.
+         *
+         * @param maxPendingBatches the maximum number of pending batches.
+         * @return {@code this}
+         */
+        public Builder maxPendingBatches(Integer maxPendingBatches) {
+            this.maxPendingBatches = maxPendingBatches;
+            return this;
+        }
+
+        /**
+         * Sets the executor on which batches are embedded and stored. Optional.
+         * Enables pipelined ingestion (see {@link #embeddingBatchSize(Integer)}).
+         * By default, the executor shared by all LangChain4j components is used (see {@link DefaultExecutorProvider}).
+         *
+         * @param executor the executor.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the number of completely stored documents between two checkpoints. Optional.
+         * Default: 1000.
+         *
+         * @param checkpointInterval the number of documents between two checkpoints.
+         * @return {@code this}
+         * @see #checkpointListener(Consumer)
+         */
+        public Builder checkpointInterval(Integer checkpointInterval) {
+            this.checkpointInterval = checkpointInterval;
+            return this;
+        }
+
+        /**
+         * Sets the listener that is notified of the progress of pipelined and streaming ingestion. Optional.
+         * It is called every {@link #checkpointInterval(Integer)} completely stored documents,
+         * and once more at the end.
+         * It may be called from the thread that stored the last batch.
+         *
+         * @param checkpointListener the checkpoint listener.
+         * @return {@code this}
+         */
+        public Builder checkpointListener(Consumer<IngestionCheckpoint> checkpointListener) {
+            this.checkpointListener = checkpointListener;
+            return this;
+        }
+
+        /**
+         * Sets the manifest in which ingested documents are recorded. Optional.
+         * Setting it enables incremental ingestion: documents whose hash (of their text and metadata)
+         * is unchanged since they were last ingested are skipped,
+         * only the new or changed text segments of changed documents are embedded and stored,
+         * and the embeddings of their text segments that no longer exist are removed from the embedding store.
+         * The embedding store must support {@link EmbeddingStore#addAll(List, List, List)}
+         * and {@link EmbeddingStore#removeAll(Collection)}.
+         * <br>
+         * Use {@link FileIngestionManifest} to persist it between runs.
+         *
+         * @param manifest the manifest.
+         * @return {@code this}
+         * @see #fingerprint(String)
+         * @see #documentKeyProvider(Function)
+         */
+        public Builder manifest(IngestionManifest manifest) {
+            this.manifest = manifest;
+            return this;
+        }
+
+        /**
+         * Sets the fingerprint of the ingestion configuration, used in incremental mode. Optional.
+         * It is part of all document and text segment hashes, so changing it re-embeds all documents.
+         * The class names of the transformers, the splitter and the embedding model are always part of the hashes,
+         * but not their settings: the fingerprint should identify them,
+         * e.g. {@code "recursive(500, 50) text-embedding-3-small"}.
+         *
+         * @param fingerprint the fingerprint of the ingestion configuration.
+         * @return {@code this}
+         * @see #manifest(IngestionManifest)
+         */
+        public Builder fingerprint(String fingerprint) {
+            this.fingerprint = fingerprint;
+            return this;
+        }
+
+        /**
+         * Sets the function returning the key identifying a document across ingestions, used in incremental mode.
+         * Optional. Keys must be unique among the ingested documents.
+         * <br>
+         * By default, the {@link Document#URL} metadata entry is used or,
+         * if there is none, the {@link Document#ABSOLUTE_DIRECTORY_PATH} and {@link Document#FILE_NAME} ones.
+         * If the function returns {@code null}, the document hash is used as a key:
+         * a changed document is then ingested as a new one (see {@link #removeMissingDocuments(Boolean)}).
+         *
+         * @param documentKeyProvider the function returning the key of a document.
+         * @return {@code this}
+         * @see #manifest(IngestionManifest)
+         */
+        public Builder documentKeyProvider(Function<Document, String> documentKeyProvider) {
+            this.documentKeyProvider = documentKeyProvider;
+            return this;
+        }
+
+        /**
+         * Sets whether, in incremental mode, the embeddings of the documents that are in the manifest
+         * but were not part of an ingestion are removed from the embedding store at the end of it. Optional.
+         * Only enable it if each ingestion covers all documents (e.g. a full dump).
+         * Default: false.
+         *
+         * @param removeMissingDocuments whether to remove documents missing from an ingestion.
+         * @return {@code this}
+         * @see #manifest(IngestionManifest)
+         */
+        public Builder removeMissingDocuments(Boolean removeMissingDocuments) {
+            this.removeMissingDocuments = removeMissingDocuments;
+            return this;
+        }
+
         /**
          * Builds the EmbeddingStoreIngestor.
          *
          * @return the EmbeddingStoreIngestor.
          */
         public EmbeddingStoreIngestor build() {
-            return new EmbeddingStoreIngestor(
-                    documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel, embeddingStore);
+            return new EmbeddingStoreIngestor(this);
         }
     }
 }
@@ -0,0 +1,100 @@
+package dev.langchain4j.store.embedding;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An {@link IngestionManifest} that is kept in memory and persisted as a JSON file.
+ * <br>
+ * The file is read (if it exists) when the manifest is created,
+ * and rewritten on each {@link #flush()}, that is, at each checkpoint and at the end of each ingestion.
+ * The new content is first written to a temporary file next to it, which then replaces the file,
+ * so an interrupted write never leaves a corrupted manifest behind.
+ */
+public class FileIngestionManifest extends InMemoryIngestionManifest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    private final Path file;
+
+    /**
+     * Creates a manifest persisted in the specified file, loading its current content if it exists.
+     *
+     * @param file the file.
+     */
+    public FileIngestionManifest(Path file) {
+        this.file = ensureNotNull(file, "file");
+        if (Files.exists(file)) {
+            load();
+        }
+    }
+
+    /**
+     * @return the file in which this manifest is persisted.
+     */
+    public Path file() {
+        return file;
+    }
+
+    private void load() {
+        try {
+            JsonNode root = OBJECT_MAPPER.readTree(file.toFile());
+            for (Map.Entry<String, JsonNode> field : root.path("documents").properties()) {
+                List<IngestedDocument.Segment> segments = new ArrayList<>();
+                for (JsonNode segment : field.getValue().path("segments")) {
+                    segments.add(new IngestedDocument.Segment(
+                            segment.path("hash").asText(), segment.path("embeddingId").asText()));
+                }
+                documents.put(field.getKey(), new IngestedDocument(field.getValue().path("hash").asText(), segments));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        ObjectNode root = OBJECT_MAPPER.createObjectNode();
+        ObjectNode documentsNode = root.putObject("documents");
+        documents.forEach((documentKey, document) -> {
+            ObjectNode documentNode = documentsNode.putObject(documentKey);
+            documentNode.put("hash", document.hash());
+            ArrayNode segmentsNode = documentNode.putArray("segments");
+            for (IngestedDocument.Segment segment : document.segments()) {
+                segmentsNode.addObject().put("hash", segment.hash()).put("embeddingId", segment.embeddingId());
+            }
+        });
+
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                OBJECT_MAPPER.writeValue(temporaryFile.toFile(), root);
+                try {
+                    Files.move(temporaryFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporaryFile, file, REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
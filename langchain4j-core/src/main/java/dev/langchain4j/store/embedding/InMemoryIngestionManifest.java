@@ -0,0 +1,39 @@
+package dev.langchain4j.store.embedding;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An {@link IngestionManifest} that keeps ingested documents in memory.
+ * <br>
+ * It is useful when the {@link EmbeddingStore} lives in the same process (e.g. an in-memory embedding store),
+ * or as a base for persistent implementations (see {@link FileIngestionManifest}).
+ */
+public class InMemoryIngestionManifest implements IngestionManifest {
+
+    protected final Map<String, IngestedDocument> documents = new ConcurrentHashMap<>();
+
+    @Override
+    public IngestedDocument get(String documentKey) {
+        return documents.get(documentKey);
+    }
+
+    @Override
+    public void put(String documentKey, IngestedDocument ingestedDocument) {
+        documents.put(ensureNotNull(documentKey, "documentKey"), ensureNotNull(ingestedDocument, "ingestedDocument"));
+    }
+
+    @Override
+    public void remove(String documentKey) {
+        documents.remove(documentKey);
+    }
+
+    @Override
+    public Set<String> documentKeys() {
+        return new HashSet<>(documents.keySet());
+    }
+}
@@ -0,0 +1,121 @@
+package dev.langchain4j.store.embedding;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Describes a document previously ingested by an {@link EmbeddingStoreIngestor} in incremental mode:
+ * the hash of the document and, for each of its text segments, the hash of the segment
+ * and the ID under which its embedding was added to the {@link EmbeddingStore}.
+ *
+ * @see IngestionManifest
+ */
+public class IngestedDocument {
+
+    private final String hash;
+    private final List<Segment> segments;
+
+    /**
+     * Creates an ingested document.
+     *
+     * @param hash     the hash of the document.
+     * @param segments the text segments of the document, in order.
+     */
+    public IngestedDocument(String hash, List<Segment> segments) {
+        this.hash = ensureNotBlank(hash, "hash");
+        this.segments = List.copyOf(ensureNotNull(segments, "segments"));
+    }
+
+    /**
+     * @return the hash of the document.
+     */
+    public String hash() {
+        return hash;
+    }
+
+    /**
+     * @return the text segments of the document, in order.
+     */
+    public List<Segment> segments() {
+        return segments;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IngestedDocument that = (IngestedDocument) o;
+        return Objects.equals(this.hash, that.hash) && Objects.equals(this.segments, that.segments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hash, segments);
+    }
+
+    @Override
+    public String toString() {
+        return "IngestedDocument {" +
+                " hash = \"" + hash + "\"" +
+                ", segments = " + segments +
+                " }";
+    }
+
+    /**
+     * A text segment of an {@link IngestedDocument}.
+     */
+    public static class Segment {
+
+        private final String hash;
+        private final String embeddingId;
+
+        /**
+         * Creates an ingested text segment.
+         *
+         * @param hash        the hash of the text segment.
+         * @param embeddingId the ID of its embedding in the {@link EmbeddingStore}.
+         */
+        public Segment(String hash, String embeddingId) {
+            this.hash = ensureNotBlank(hash, "hash");
+            this.embeddingId = ensureNotBlank(embeddingId, "embeddingId");
+        }
+
+        /**
+         * @return the hash of the text segment.
+         */
+        public String hash() {
+            return hash;
+        }
+
+        /**
+         * @return the ID of its embedding in the {@link EmbeddingStore}.
+         */
+        public String embeddingId() {
+            return embeddingId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Segment that = (Segment) o;
+            return Objects.equals(this.hash, that.hash) && Objects.equals(this.embeddingId, that.embeddingId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(hash, embeddingId);
+        }
+
+        @Override
+        public String toString() {
+            return "Segment {" +
+                    " hash = \"" + hash + "\"" +
+                    ", embeddingId = \"" + embeddingId + "\"" +
+                    " }";
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.document.Document;
+
+/**
+ * Reports the progress of a pipelined or streaming {@link EmbeddingStoreIngestor} ingestion process.
+ * <br>
+ * All text segments of the first {@link #documents()} documents
+ * (up to and including {@link #lastDocument()}) have been added to the {@link EmbeddingStore}.
+ * A process that is interrupted can therefore be resumed after {@link #lastDocument()}.
+ *
+ * @see EmbeddingStoreIngestor.Builder#checkpointListener(java.util.function.Consumer)
+ */
+public class IngestionCheckpoint {
+
+    private final long documents;
+    private final long textSegments;
+    private final Document lastDocument;
+
+    /**
+     * Creates a checkpoint.
+     *
+     * @param documents    the number of documents whose text segments have all been stored.
+     * @param textSegments the number of text segments that have been stored.
+     * @param lastDocument the last document whose text segments have all been stored.
+     */
+    public IngestionCheckpoint(long documents, long textSegments, Document lastDocument) {
+        this.documents = documents;
+        this.textSegments = textSegments;
+        this.lastDocument = lastDocument;
+    }
+
+    /**
+     * @return the number of documents whose text segments have all been stored.
+     */
+    public long documents() {
+        return documents;
+    }
+
+    /**
+     * @return the number of text segments that have been stored.
+     */
+    public long textSegments() {
+        return textSegments;
+    }
+
+    /**
+     * @return the last document whose text segments have all been stored.
+     */
+    public Document lastDocument() {
+        return lastDocument;
+    }
+
+    @Override
+    public String toString() {
+        return "IngestionCheckpoint {" +
+                " documents = " + documents +
+                ", textSegments = " + textSegments +
+                " }";
+    }
+}
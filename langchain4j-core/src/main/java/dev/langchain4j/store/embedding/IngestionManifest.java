@@ -0,0 +1,54 @@
+package dev.langchain4j.store.embedding;
+
+import java.util.Set;
+
+/**
+ * Keeps track of the documents ingested by an {@link EmbeddingStoreIngestor} in incremental mode,
+ * so that a subsequent ingestion of the same documents only embeds new or changed text segments
+ * and removes the embeddings of text segments that no longer exist.
+ * <br>
+ * Documents are identified by a key (see {@link EmbeddingStoreIngestor.Builder#documentKeyProvider(java.util.function.Function)}).
+ * <br>
+ * Implementations must be thread-safe: entries may be read by the thread preparing documents
+ * while being updated by the thread storing embeddings.
+ *
+ * @see InMemoryIngestionManifest
+ * @see FileIngestionManifest
+ * @see EmbeddingStoreIngestor.Builder#manifest(IngestionManifest)
+ */
+public interface IngestionManifest {
+
+    /**
+     * Returns the previously ingested document with the specified key.
+     *
+     * @param documentKey the key of the document.
+     * @return the ingested document, or {@code null} if there is none.
+     */
+    IngestedDocument get(String documentKey);
+
+    /**
+     * Records that the document with the specified key has been ingested.
+     *
+     * @param documentKey      the key of the document.
+     * @param ingestedDocument the ingested document.
+     */
+    void put(String documentKey, IngestedDocument ingestedDocument);
+
+    /**
+     * Forgets the document with the specified key.
+     *
+     * @param documentKey the key of the document.
+     */
+    void remove(String documentKey);
+
+    /**
+     * @return the keys of all ingested documents.
+     */
+    Set<String> documentKeys();
+
+    /**
+     * Persists all changes made so far, if applicable.
+     * Called by the {@link EmbeddingStoreIngestor} at each checkpoint and at the end of each ingestion.
+     */
+    default void flush() {}
+}
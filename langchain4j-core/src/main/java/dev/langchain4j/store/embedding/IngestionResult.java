@@ -12,12 +12,53 @@ public class IngestionResult {
      */
     private final TokenUsage tokenUsage;
 
+    private final IngestionStageStatistics preparation;
+    private final IngestionStageStatistics embedding;
+    private final IngestionStageStatistics storing;
+
 
     public IngestionResult(TokenUsage tokenUsage) {
+        this(tokenUsage, null, null, null);
+    }
+
+    /**
+     * @param tokenUsage  the token usage information.
+     * @param preparation the statistics of transforming and splitting documents (items are documents).
+     * @param embedding   the statistics of embedding text segments (items are text segments).
+     * @param storing     the statistics of adding text segments to the embedding store (items are text segments).
+     */
+    public IngestionResult(TokenUsage tokenUsage,
+                           IngestionStageStatistics preparation,
+                           IngestionStageStatistics embedding,
+                           IngestionStageStatistics storing) {
         this.tokenUsage = tokenUsage;
+        this.preparation = preparation;
+        this.embedding = embedding;
+        this.storing = storing;
     }
 
     public TokenUsage tokenUsage() {
         return tokenUsage;
     }
+
+    /**
+     * @return the statistics of transforming and splitting documents (items are documents), if available.
+     */
+    public IngestionStageStatistics preparation() {
+        return preparation;
+    }
+
+    /**
+     * @return the statistics of embedding text segments (items are text segments), if available.
+     */
+    public IngestionStageStatistics embedding() {
+        return embedding;
+    }
+
+    /**
+     * @return the statistics of adding text segments to the embedding store (items are text segments), if available.
+     */
+    public IngestionStageStatistics storing() {
+        return storing;
+    }
 }
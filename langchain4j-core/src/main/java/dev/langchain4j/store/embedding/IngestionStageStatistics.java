@@ -0,0 +1,67 @@
+package dev.langchain4j.store.embedding;
+
+import java.time.Duration;
+
+/**
+ * Statistics of one stage of an {@link EmbeddingStoreIngestor} ingestion process.
+ *
+ * @see IngestionResult
+ */
+public class IngestionStageStatistics {
+
+    private final long items;
+    private final long batches;
+    private final Duration busyTime;
+
+    /**
+     * Creates stage statistics.
+     *
+     * @param items    the number of items (documents or text segments) processed by the stage.
+     * @param batches  the number of batches processed by the stage.
+     * @param busyTime the time spent in the stage, summed over all concurrent calls.
+     */
+    public IngestionStageStatistics(long items, long batches, Duration busyTime) {
+        this.items = items;
+        this.batches = batches;
+        this.busyTime = busyTime;
+    }
+
+    /**
+     * @return the number of items (documents or text segments) processed by the stage.
+     */
+    public long items() {
+        return items;
+    }
+
+    /**
+     * @return the number of batches processed by the stage.
+     */
+    public long batches() {
+        return batches;
+    }
+
+    /**
+     * @return the time spent in the stage, summed over all concurrent calls.
+     */
+    public Duration busyTime() {
+        return busyTime;
+    }
+
+    /**
+     * @return the number of items processed per second of {@link #busyTime()}, or 0 if no time was spent.
+     */
+    public double throughput() {
+        long nanos = busyTime.toNanos();
+        return nanos == 0 ? 0 : items * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "IngestionStageStatistics {" +
+                " items = " + items +
+                ", batches = " + batches +
+                ", busyTime = " + busyTime +
+                ", throughput = " + throughput() +
+                " }";
+    }
+}
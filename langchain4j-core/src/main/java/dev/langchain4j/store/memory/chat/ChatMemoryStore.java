@@ -38,6 +38,21 @@ public interface ChatMemoryStore {
      */
     void updateMessages(Object memoryId, List<ChatMessage> messages);
 
+    /**
+     * Updates messages for a specified chat memory, knowing how they changed since they were last read or written.
+     * Stores that persist messages one by one (e.g., as rows with a sequence number) can override this method
+     * to only remove and append the messages described by the {@code delta}, instead of rewriting the whole list.
+     * <p>
+     * The default implementation calls {@link #updateMessages(Object, List)}.
+     *
+     * @param memoryId The ID of the chat memory.
+     * @param messages List of messages for the specified chat memory, that represent the current state of the {@link ChatMemory}.
+     * @param delta    How {@code messages} differ from the messages last read from or written to this store.
+     */
+    default void updateMessages(Object memoryId, List<ChatMessage> messages, ChatMessagesDelta delta) {
+        updateMessages(memoryId, messages);
+    }
+
     /**
      * Deletes all messages for a specified chat memory.
      *
@@ -0,0 +1,131 @@
+package dev.langchain4j.store.memory.chat;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
+
+import dev.langchain4j.data.message.ChatMessage;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Describes how the messages of a chat memory changed since they were last read from or written to a
+ * {@link ChatMemoryStore}: {@link #removedCount()} messages were removed starting at {@link #removedFromIndex()}
+ * (typically, the oldest messages evicted from the chat memory, possibly after a retained system message),
+ * and then {@link #appendedMessages()} were appended.
+ *
+ * @see ChatMemoryStore#updateMessages(Object, List, ChatMessagesDelta)
+ */
+public class ChatMessagesDelta {
+
+    private final int removedFromIndex;
+    private final int removedCount;
+    private final List<ChatMessage> appendedMessages;
+
+    /**
+     * Creates a delta.
+     *
+     * @param removedFromIndex the index of the first removed message, in the previous messages.
+     * @param removedCount     the number of consecutive removed messages.
+     * @param appendedMessages the messages appended after the removal.
+     */
+    public ChatMessagesDelta(int removedFromIndex, int removedCount, List<ChatMessage> appendedMessages) {
+        ensureTrue(removedFromIndex >= 0, "removedFromIndex must not be negative");
+        ensureTrue(removedCount >= 0, "removedCount must not be negative");
+        this.removedFromIndex = removedFromIndex;
+        this.removedCount = removedCount;
+        this.appendedMessages = List.copyOf(ensureNotNull(appendedMessages, "appendedMessages"));
+    }
+
+    /**
+     * @return the index of the first removed message, in the previous messages.
+     */
+    public int removedFromIndex() {
+        return removedFromIndex;
+    }
+
+    /**
+     * @return the number of consecutive removed messages. Zero if no message was removed.
+     */
+    public int removedCount() {
+        return removedCount;
+    }
+
+    /**
+     * @return the messages appended after the removal. Empty if no message was appended.
+     */
+    public List<ChatMessage> appendedMessages() {
+        return appendedMessages;
+    }
+
+    /**
+     * Computes the delta between the previous and the current messages of a chat memory.
+     * Messages are compared by identity, as chat memories keep the instances they read from the store.
+     *
+     * @param previousMessages the messages last read from or written to the store.
+     * @param currentMessages  the current messages.
+     * @return the delta, or an empty optional if the current messages cannot be obtained from the previous ones
+     * by removing a single range of messages and then appending messages.
+     */
+    public static Optional<ChatMessagesDelta> between(
+            List<ChatMessage> previousMessages, List<ChatMessage> currentMessages) {
+        Object[] previous = previousMessages.toArray();
+        Object[] current = currentMessages.toArray();
+
+        int commonPrefix = 0;
+        while (commonPrefix < previous.length
+                && commonPrefix < current.length
+                && previous[commonPrefix] == current[commonPrefix]) {
+            commonPrefix++;
+        }
+
+        // the first message kept after the removed range, if any, is the next current message
+        int removedTo = previous.length;
+        if (commonPrefix < current.length) {
+            for (int i = commonPrefix; i < previous.length; i++) {
+                if (previous[i] == current[commonPrefix]) {
+                    removedTo = i;
+                    break;
+                }
+            }
+        }
+
+        int keptAfterRemoval = previous.length - removedTo;
+        if (commonPrefix + keptAfterRemoval > current.length) {
+            return Optional.empty();
+        }
+        for (int i = 0; i < keptAfterRemoval; i++) {
+            if (previous[removedTo + i] != current[commonPrefix + i]) {
+                return Optional.empty();
+            }
+        }
+
+        List<ChatMessage> appendedMessages =
+                currentMessages.subList(commonPrefix + keptAfterRemoval, currentMessages.size());
+        return Optional.of(new ChatMessagesDelta(commonPrefix, removedTo - commonPrefix, appendedMessages));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ChatMessagesDelta that = (ChatMessagesDelta) o;
+        return this.removedFromIndex == that.removedFromIndex
+                && this.removedCount == that.removedCount
+                && Objects.equals(this.appendedMessages, that.appendedMessages);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(removedFromIndex, removedCount, appendedMessages);
+    }
+
+    @Override
+    public String toString() {
+        return "ChatMessagesDelta {" +
+                " removedFromIndex = " + removedFromIndex +
+                ", removedCount = " + removedCount +
+                ", appendedMessages = " + appendedMessages +
+                " }";
+    }
+}
@@ -0,0 +1,393 @@
+package dev.langchain4j.store.memory.chat;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ChatMemoryStore} that keeps the messages of each chat memory locally
+ * and writes them to the underlying {@link ChatMemoryStore} later, coalescing consecutive updates of the same memory.
+ * <p>
+ * Chat memories write their full state on every added message, so a single turn of a conversation
+ * (a user message, then AI messages with tool execution requests and their results, then the final AI message)
+ * results in several updates. This store writes a chat memory to the underlying store:
+ * <ul>
+ *     <li>when its turn ends, that is, when its last message is an {@link AiMessage} without tool execution requests</li>
+ *     <li>periodically, every {@link Builder#flushInterval(Duration)}, for memories updated in between</li>
+ *     <li>when more than {@link Builder#maxPendingMemories(Integer)} memories have pending updates</li>
+ *     <li>when {@link #flush(Object)}, {@link #flush()} or {@link #close()} is called</li>
+ * </ul>
+ * Writes are performed asynchronously, except the end-of-turn writes when {@link Builder#crashSafe(Boolean)} is enabled:
+ * in this case, {@link #updateMessages(Object, List)} only returns once a completed turn has been written,
+ * so that only turns in progress can be lost if the application crashes.
+ * <p>
+ * Once read or updated, the messages of a chat memory are served from the local copy,
+ * which is therefore authoritative: the underlying store must not be updated by anyone else.
+ * The local copy of a chat memory is dropped once its deletion has been written,
+ * or once it has been written and not accessed for {@link Builder#idleTimeout(Duration)}:
+ * its messages are then read again from the underlying store when needed.
+ * <p>
+ * {@link #close()} should be called on shutdown, so that pending updates are written.
+ */
+public class WriteBehindChatMemoryStore implements ChatMemoryStore, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriteBehindChatMemoryStore.class);
+
+    private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+    private static final int DEFAULT_MAX_PENDING_MEMORIES = 1_000;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private final ChatMemoryStore delegate;
+    private final int maxPendingMemories;
+    private final boolean crashSafe;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoTime;
+    private final ScheduledExecutorService executor;
+    private final boolean ownsExecutor;
+    private final ScheduledFuture<?> scheduledFlush;
+
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<Object> pendingMemoryIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private WriteBehindChatMemoryStore(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.maxPendingMemories = ensureGreaterThanZero(
+                getOrDefault(builder.maxPendingMemories, DEFAULT_MAX_PENDING_MEMORIES), "maxPendingMemories");
+        this.crashSafe = getOrDefault(builder.crashSafe, false);
+        Duration flushInterval = getOrDefault(builder.flushInterval, DEFAULT_FLUSH_INTERVAL);
+        ensureTrue(!flushInterval.isNegative() && !flushInterval.isZero(), "flushInterval must be positive");
+        Duration idleTimeout = getOrDefault(builder.idleTimeout, DEFAULT_IDLE_TIMEOUT);
+        ensureTrue(!idleTimeout.isNegative() && !idleTimeout.isZero(), "idleTimeout must be positive");
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoTime = builder.nanoTime != null ? builder.nanoTime : System::nanoTime;
+        if (builder.executor != null) {
+            this.executor = builder.executor;
+            this.ownsExecutor = false;
+        } else {
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "write-behind-chat-memory-store");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.ownsExecutor = true;
+        }
+        long flushIntervalNanos = flushInterval.toNanos();
+        this.scheduledFlush = executor.scheduleWithFixedDelay(
+                this::flushPeriodically, flushIntervalNanos, flushIntervalNanos, NANOSECONDS);
+    }
+
+    @Override
+    public List<ChatMessage> getMessages(Object memoryId) {
+        while (true) {
+            Entry entry = entries.computeIfAbsent(memoryId, ignored -> new Entry());
+            synchronized (entry) {
+                if (entry.detached) {
+                    continue;
+                }
+                if (entry.messages == null) {
+                    entry.messages = delegate.getMessages(memoryId);
+                }
+                entry.lastAccessNanos = nanoTime.getAsLong();
+                return entry.messages;
+            }
+        }
+    }
+
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+        ensureNotNull(messages, "messages");
+        update(memoryId, messages, false);
+
+        if (isEndOfTurn(messages)) {
+            if (crashSafe) {
+                flush(memoryId);
+            } else {
+                executor.execute(() -> flushQuietly(memoryId));
+            }
+        } else if (pendingMemoryIds.size() > maxPendingMemories && flushRequested.compareAndSet(false, true)) {
+            executor.execute(this::flushQuietly);
+        }
+    }
+
+    @Override
+    public void deleteMessages(Object memoryId) {
+        update(memoryId, new ArrayList<>(), true);
+        executor.execute(() -> flushQuietly(memoryId));
+    }
+
+    private void update(Object memoryId, List<ChatMessage> messages, boolean deleted) {
+        while (true) {
+            Entry entry = entries.computeIfAbsent(memoryId, ignored -> new Entry());
+            synchronized (entry) {
+                if (entry.detached) {
+                    continue;
+                }
+                entry.messages = messages;
+                entry.deleted = deleted;
+                entry.version++;
+                entry.lastAccessNanos = nanoTime.getAsLong();
+            }
+            pendingMemoryIds.add(memoryId);
+            return;
+        }
+    }
+
+    private static boolean isEndOfTurn(List<ChatMessage> messages) {
+        return !messages.isEmpty()
+                && messages.get(messages.size() - 1) instanceof AiMessage aiMessage
+                && !aiMessage.hasToolExecutionRequests();
+    }
+
+    /**
+     * Writes the pending updates of the specified chat memory to the underlying store, if any.
+     * This can be called at the end of each turn of a conversation, when the turn end cannot be inferred
+     * from the messages.
+     *
+     * @param memoryId The ID of the chat memory.
+     */
+    public void flush(Object memoryId) {
+        Entry entry = entries.get(memoryId);
+        if (entry == null) {
+            return;
+        }
+        // even if not pending anymore, a write in progress in another thread is awaited
+        pendingMemoryIds.remove(memoryId);
+        try {
+            entry.flush(memoryId, delegate);
+        } catch (RuntimeException e) {
+            pendingMemoryIds.add(memoryId);
+            throw e;
+        }
+        synchronized (entry) {
+            if (entry.deleted && entry.version == entry.flushedVersion) {
+                entry.detached = true;
+                entries.remove(memoryId, entry);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending updates of all chat memories to the underlying store.
+     * If some of them fail, the others are still written, and the first failure is rethrown.
+     */
+    public void flush() {
+        flushRequested.set(false);
+        RuntimeException failure = null;
+        for (Object memoryId : new ArrayList<>(pendingMemoryIds)) {
+            try {
+                flush(memoryId);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void flushPeriodically() {
+        flushQuietly();
+        evictIdleMemories();
+    }
+
+    /**
+     * Drops the local copies of the chat memories that have been written
+     * and not accessed for the idle timeout.
+     */
+    void evictIdleMemories() {
+        long now = nanoTime.getAsLong();
+        entries.forEach((memoryId, entry) -> {
+            synchronized (entry) {
+                if (entry.version == entry.flushedVersion && now - entry.lastAccessNanos > idleTimeoutNanos) {
+                    entry.detached = true;
+                    entries.remove(memoryId, entry);
+                }
+            }
+        });
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to write chat memories, will retry", e);
+        }
+    }
+
+    private void flushQuietly(Object memoryId) {
+        try {
+            flush(memoryId);
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to write chat memory '{}', will retry", memoryId, e);
+        }
+    }
+
+    /**
+     * Stops the periodic writes and writes all pending updates.
+     * The executor is shut down, unless it was provided with {@link Builder#executor(ScheduledExecutorService)}.
+     */
+    @Override
+    public void close() {
+        scheduledFlush.cancel(false);
+        try {
+            flush();
+        } finally {
+            if (ownsExecutor) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final Object flushLock = new Object();
+
+        // guarded by this
+        private List<ChatMessage> messages;
+        private boolean deleted;
+        private long version;
+        private long flushedVersion;
+        private long lastAccessNanos;
+        private boolean detached;
+
+        private void flush(Object memoryId, ChatMemoryStore delegate) {
+            // serializes the writes of a memory, so that an older state never overwrites a newer one
+            synchronized (flushLock) {
+                List<ChatMessage> messages;
+                boolean deleted;
+                long version;
+                synchronized (this) {
+                    if (this.version == flushedVersion) {
+                        return;
+                    }
+                    messages = this.messages;
+                    deleted = this.deleted;
+                    version = this.version;
+                }
+                if (deleted) {
+                    delegate.deleteMessages(memoryId);
+                } else {
+                    delegate.updateMessages(memoryId, messages);
+                }
+                synchronized (this) {
+                    flushedVersion = version;
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a new WriteBehindChatMemoryStore builder.
+     *
+     * @return the builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * WriteBehindChatMemoryStore builder.
+     */
+    public static class Builder {
+
+        private ChatMemoryStore delegate;
+        private Duration flushInterval;
+        private Integer maxPendingMemories;
+        private Boolean crashSafe;
+        private ScheduledExecutorService executor;
+        private Duration idleTimeout;
+        private LongSupplier nanoTime;
+
+        /**
+         * @param delegate the underlying store, where the messages are eventually written. Mandatory.
+         * @return builder
+         */
+        public Builder delegate(ChatMemoryStore delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param flushInterval the interval at which pending updates are written. Default: 1 second.
+         * @return builder
+         */
+        public Builder flushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * @param maxPendingMemories the number of chat memories with pending updates
+         *                           above which all pending updates are written without waiting for the flush interval.
+         *                           Default: 1,000.
+         * @return builder
+         */
+        public Builder maxPendingMemories(Integer maxPendingMemories) {
+            this.maxPendingMemories = maxPendingMemories;
+            return this;
+        }
+
+        /**
+         * @param crashSafe whether a chat memory is written synchronously when its turn ends,
+         *                  so that completed turns are never lost. Default: false.
+         * @return builder
+         */
+        public Builder crashSafe(Boolean crashSafe) {
+            this.crashSafe = crashSafe;
+            return this;
+        }
+
+        /**
+         * @param idleTimeout the duration after which the local copy of a chat memory that has been written
+         *                    and not accessed since is dropped, to be read again from the underlying store
+         *                    when needed. Default: 10 minutes.
+         * @return builder
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        Builder nanoTime(LongSupplier nanoTime) {
+            this.nanoTime = nanoTime;
+            return this;
+        }
+
+        /**
+         * @param executor the executor performing asynchronous writes.
+         *                 By default, a single daemon thread is used, and shut down by {@link #close()}.
+         * @return builder
+         */
+        public Builder executor(ScheduledExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public WriteBehindChatMemoryStore build() {
+            return new WriteBehindChatMemoryStore(this);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package dev.langchain4j.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BoundedExecutorTest {
+
+    ExecutorService delegate = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        delegate.shutdownNow();
+    }
+
+    @Test
+    void should_limit_concurrently_running_tasks() {
+
+        // given
+        BoundedExecutor executor = new BoundedExecutor(delegate, 3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // when
+        List<CompletableFuture<Void>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> CompletableFuture.runAsync(
+                        () -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            try {
+                                Thread.sleep(20);
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            } finally {
+                                running.decrementAndGet();
+                            }
+                        },
+                        executor))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        // then
+        assertThat(maxRunning.get()).isEqualTo(3);
+    }
+
+    @Test
+    void should_run_queued_tasks_in_order_of_submission() {
+
+        // given
+        BoundedExecutor executor = new BoundedExecutor(delegate, 1);
+        Queue<Integer> executed = new ConcurrentLinkedQueue<>();
+
+        // when
+        List<CompletableFuture<Void>> futures = IntStream.range(0, 10)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> executed.add(i), executor))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        // then
+        assertThat(executed).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void should_release_permit_when_task_fails() {
+
+        // given
+        BoundedExecutor executor = new BoundedExecutor(delegate, 1);
+
+        // when
+        CompletableFuture<Void> failed = CompletableFuture.runAsync(
+                () -> {
+                    throw new RuntimeException("failure");
+                },
+                executor);
+        CompletableFuture<String> succeeded = CompletableFuture.supplyAsync(() -> "success", executor);
+
+        // then
+        assertThatThrownBy(failed::join).hasRootCauseMessage("failure");
+        assertThat(succeeded.join()).isEqualTo("success");
+    }
+
+    @Test
+    void should_fail_when_max_concurrency_is_not_positive() {
+
+        assertThatThrownBy(() -> new BoundedExecutor(delegate, 0))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxConcurrency must be greater than zero, but is: 0");
+    }
+}
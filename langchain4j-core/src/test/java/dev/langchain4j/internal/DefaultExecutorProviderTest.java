@@ -0,0 +1,77 @@
+package dev.langchain4j.internal;
+
+import static dev.langchain4j.internal.DefaultExecutorProvider.EXECUTION_STRATEGY_PROPERTY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.internal.DefaultExecutorProvider.ExecutionStrategy;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class DefaultExecutorProviderTest {
+
+    @AfterEach
+    void clearProperty() {
+        System.clearProperty(EXECUTION_STRATEGY_PROPERTY);
+    }
+
+    @Test
+    void should_use_virtual_threads_by_default() {
+        assertThat(DefaultExecutorProvider.executionStrategy()).isEqualTo(ExecutionStrategy.VIRTUAL_THREADS);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "virtual-threads, VIRTUAL_THREADS",
+        "PLATFORM_THREADS, PLATFORM_THREADS",
+        "' platform-threads ', PLATFORM_THREADS"
+    })
+    void should_read_execution_strategy_from_system_property(String value, ExecutionStrategy expected) {
+
+        System.setProperty(EXECUTION_STRATEGY_PROPERTY, value);
+
+        assertThat(DefaultExecutorProvider.executionStrategy()).isEqualTo(expected);
+    }
+
+    @Test
+    void should_fail_on_unknown_execution_strategy() {
+
+        System.setProperty(EXECUTION_STRATEGY_PROPERTY, "green-threads");
+
+        assertThatThrownBy(DefaultExecutorProvider::executionStrategy)
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("green-threads");
+    }
+
+    @Test
+    void should_execute_on_daemon_platform_threads() throws Exception {
+
+        ExecutorService executor = DefaultExecutorProvider.createExecutorService(ExecutionStrategy.PLATFORM_THREADS);
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get();
+
+            assertThat(thread.isDaemon()).isTrue();
+            assertThat(thread.getName()).startsWith("langchain4j-");
+            assertThat(executor.submit(VirtualThreadUtils::isVirtualThread).get()).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void should_execute_on_virtual_threads() throws Exception {
+
+        ExecutorService executor = DefaultExecutorProvider.createExecutorService(ExecutionStrategy.VIRTUAL_THREADS);
+        try {
+            assertThat(executor.submit(VirtualThreadUtils::isVirtualThread).get()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -8,7 +8,11 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.exception.InvalidRequestException;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class RetryUtilsTest {
@@ -131,4 +135,61 @@ class RetryUtilsTest {
         verify(mockAction, times(1)).call();
         verifyNoMoreInteractions(mockAction);
     }
+
+    @Test
+    void retryAsyncThenSuccess() {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(100).build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(
+                () -> attempts.incrementAndGet() == 1
+                        ? CompletableFuture.failedFuture(new RuntimeException())
+                        : CompletableFuture.completedFuture("Success"),
+                2);
+
+        assertThat(result.join()).isEqualTo("Success");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void maxAttemptsReachedAsync() {
+        AtomicInteger attempts = new AtomicInteger();
+        RuntimeException error = new RuntimeException("failed");
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(100).build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(
+                () -> {
+                    attempts.incrementAndGet();
+                    throw error;
+                },
+                2);
+
+        assertThatThrownBy(result::join).hasCause(error);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void retryAsyncMappingExceptions() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> rateLimited = RetryUtils.withRetryMappingExceptionsAsync(
+                () -> attempts.incrementAndGet() == 1
+                        ? CompletableFuture.failedFuture(new HttpException(429, "slow down"))
+                        : CompletableFuture.completedFuture("Success"),
+                1);
+        assertThat(rateLimited.join()).isEqualTo("Success");
+        assertThat(attempts).hasValue(2);
+
+        attempts.set(0);
+        CompletableFuture<String> invalid = RetryUtils.withRetryMappingExceptionsAsync(
+                () -> {
+                    attempts.incrementAndGet();
+                    return CompletableFuture.failedFuture(new HttpException(400, "invalid"));
+                },
+                2);
+        assertThatThrownBy(invalid::join).hasCauseInstanceOf(InvalidRequestException.class);
+        assertThat(attempts).hasValue(1);
+    }
 }
@@ -1,6 +1,7 @@
 package dev.langchain4j.model.chat;
 
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
 import dev.langchain4j.model.chat.listener.ChatModelListener;
 import dev.langchain4j.model.chat.listener.ChatModelRequestContext;
@@ -11,11 +12,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.data.MapEntry.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -141,4 +145,57 @@ class ChatModelListenerTest {
         // then
         verify(listener2).onResponse(any());
     }
+
+    @Test
+    void should_call_listeners_when_chatting_asynchronously() {
+
+        // given
+        ChatModelListener listener1 = spy(new SuccessfulListener());
+        ChatModelListener listener2 = spy(new SuccessfulListener());
+        TestChatModel model = new TestChatModel(List.of(listener1, listener2));
+
+        // when
+        ChatResponse chatResponse = model.chatAsync(chatRequest()).join();
+
+        // then
+        assertThat(chatResponse.aiMessage().text()).isEqualTo("hi");
+
+        InOrder inOrder = inOrder(listener1, listener2);
+        inOrder.verify(listener1).onRequest(any());
+        inOrder.verify(listener2).onRequest(any());
+        inOrder.verify(listener1).onResponse(any());
+        inOrder.verify(listener2).onResponse(any());
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void should_call_listeners_when_asynchronous_chat_fails() {
+
+        // given
+        RuntimeException error = new RuntimeException("LLM is unavailable");
+        ChatModelListener listener = spy(new SuccessfulListener());
+        ChatModel model = new TestChatModel(List.of(listener)) {
+
+            @Override
+            public CompletableFuture<ChatResponse> doChatAsync(ChatRequest chatRequest) {
+                return CompletableFuture.supplyAsync(() -> {
+                    throw error;
+                });
+            }
+        };
+
+        // when
+        CompletableFuture<ChatResponse> futureResponse = model.chatAsync(chatRequest());
+
+        // then
+        assertThatThrownBy(futureResponse::join).hasCause(error);
+
+        verify(listener).onRequest(any());
+        verify(listener).onError(argThat(errorContext -> errorContext.error() == error));
+        verifyNoMoreInteractions(listener);
+    }
+
+    private static ChatRequest chatRequest() {
+        return ChatRequest.builder().messages(UserMessage.from("hi")).build();
+    }
 }
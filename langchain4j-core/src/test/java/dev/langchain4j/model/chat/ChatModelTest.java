@@ -8,9 +8,12 @@ import dev.langchain4j.model.chat.response.ChatResponse;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class ChatModelTest implements WithAssertions {
 
@@ -54,4 +57,31 @@ class ChatModelTest implements WithAssertions {
             assertThat(response.finishReason()).isNull();
         }
     }
+
+    static class ChatOverridingModel implements ChatModel {
+
+        final AtomicInteger chats = new AtomicInteger();
+
+        @Override
+        public ChatResponse chat(ChatRequest chatRequest) {
+            if (chats.incrementAndGet() > 1) {
+                throw new IllegalStateException("LLM is unavailable");
+            }
+            return ChatResponse.builder().aiMessage(new AiMessage("Hi")).build();
+        }
+    }
+
+    @Test
+    void should_chat_asynchronously_with_model_overriding_chat() {
+        ChatOverridingModel model = new ChatOverridingModel();
+        ChatRequest chatRequest =
+                ChatRequest.builder().messages(new UserMessage("Hello")).build();
+
+        assertThat(model.chatAsync(chatRequest).join().aiMessage().text()).isEqualTo("Hi");
+        assertThat(model.chatAsync(chatRequest))
+                .failsWithin(Duration.ofSeconds(1))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+        assertThat(model.chats).hasValue(2);
+    }
 }
@@ -0,0 +1,234 @@
+package dev.langchain4j.model.embedding.cache;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CachingEmbeddingModelTest {
+
+    @Test
+    void should_only_embed_each_text_once() {
+
+        // given
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel();
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("counting")
+                .build();
+
+        // when
+        Response<List<Embedding>> first = model.embedAll(segments("footer", "a", " footer ", "b", "footer"));
+        Response<List<Embedding>> second = model.embedAll(segments("b", "c", "footer"));
+
+        // then
+        assertThat(delegate.embedded).containsExactly(asList("footer", "a", "b"), asList("c"));
+        assertThat(first.content()).extracting(CachingEmbeddingModelTest::length).containsExactly(6, 1, 6, 1, 6);
+        assertThat(first.tokenUsage()).isEqualTo(new TokenUsage(3));
+        assertThat(second.content()).extracting(CachingEmbeddingModelTest::length).containsExactly(1, 1, 6);
+        assertThat(second.tokenUsage()).isEqualTo(new TokenUsage(1));
+        assertThat(model.statistics()).isEqualTo(new EmbeddingCacheStatistics(2, 4, 2));
+        assertThat(model.statistics().hitRate()).isEqualTo(0.5);
+
+        // when
+        Response<Embedding> cached = model.embed("c");
+
+        // then
+        assertThat(delegate.embedded).hasSize(2);
+        assertThat(cached.content()).isEqualTo(second.content().get(1));
+        assertThat(cached.tokenUsage()).isNull();
+    }
+
+    @Test
+    void should_key_on_model_name() {
+
+        // given
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel();
+        InMemoryEmbeddingCache cache = new InMemoryEmbeddingCache();
+
+        // when
+        CachingEmbeddingModel.builder().delegate(delegate).modelName("v1").caches(cache).build().embed("a");
+        CachingEmbeddingModel.builder().delegate(delegate).modelName("v2").caches(cache).build().embed("a");
+
+        // then
+        assertThat(delegate.embedded).hasSize(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void should_evict_least_recently_used_and_expired_embeddings() throws InterruptedException {
+
+        // given
+        Embedding embedding = Embedding.from(new float[] {1});
+        InMemoryEmbeddingCache cache = InMemoryEmbeddingCache.builder().maxSize(2).build();
+        cache.put("a", embedding);
+        cache.put("b", embedding);
+        cache.get("a");
+
+        // when
+        cache.put("c", embedding);
+
+        // then
+        assertThat(cache.get("a")).isEqualTo(embedding);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo(embedding);
+
+        // given
+        InMemoryEmbeddingCache expiringCache = InMemoryEmbeddingCache.builder()
+                .timeToLive(Duration.ofMillis(50))
+                .build();
+        expiringCache.put("a", embedding);
+        assertThat(expiringCache.get("a")).isEqualTo(embedding);
+
+        // when
+        Thread.sleep(100);
+
+        // then
+        assertThat(expiringCache.get("a")).isNull();
+        assertThat(expiringCache.size()).isZero();
+    }
+
+    @Test
+    void should_persist_embeddings_and_promote_them_to_memory(@TempDir Path directory) throws Exception {
+
+        // given
+        Path file = directory.resolve("embeddings.bin");
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel();
+        try (FileEmbeddingCache fileCache = new FileEmbeddingCache(file)) {
+            CachingEmbeddingModel.builder()
+                    .delegate(delegate)
+                    .modelName("counting")
+                    .caches(new InMemoryEmbeddingCache(), fileCache)
+                    .build()
+                    .embedAll(segments("a", "bb"));
+        }
+        // a record that was only partially written is discarded
+        Files.write(file, new byte[] {0, 0}, APPEND);
+
+        InMemoryEmbeddingCache memoryCache = new InMemoryEmbeddingCache();
+        try (FileEmbeddingCache fileCache = new FileEmbeddingCache(file)) {
+            CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                    .delegate(delegate)
+                    .modelName("counting")
+                    .caches(memoryCache, fileCache)
+                    .build();
+
+            // when
+            Response<List<Embedding>> response = model.embedAll(segments("bb", "ccc"));
+
+            // then
+            assertThat(delegate.embedded).containsExactly(asList("a", "bb"), asList("ccc"));
+            assertThat(response.content()).extracting(CachingEmbeddingModelTest::length).containsExactly(2, 3);
+            assertThat(memoryCache.size()).isEqualTo(2);
+            assertThat(fileCache.size()).isEqualTo(3);
+        }
+
+        try (FileEmbeddingCache fileCache = new FileEmbeddingCache(file)) {
+            assertThat(fileCache.size()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void should_embed_missing_texts_asynchronously_with_the_underlying_model() {
+
+        // given
+        AsyncEmbeddingModel delegate = new AsyncEmbeddingModel();
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("async")
+                .build();
+        CompletableFuture<Response<List<Embedding>>> first = model.embedAllAsync(segments("a"));
+        delegate.pending.remove(0).complete(Response.from(asList(Embedding.from(new float[] {1}))));
+        first.join();
+
+        // when
+        CompletableFuture<Response<List<Embedding>>> future = model.embedAllAsync(segments("a", "bb", "bb"));
+
+        // then
+        assertThat(future).isNotDone();
+        assertThat(delegate.embedded).containsExactly(asList("a"), asList("bb"));
+
+        // when
+        delegate.pending.remove(0).complete(Response.from(asList(Embedding.from(new float[] {2}))));
+
+        // then
+        assertThat(future.join().content()).extracting(CachingEmbeddingModelTest::length).containsExactly(1, 2, 2);
+        assertThat(model.embedAllAsync(segments("bb", "a"))).isCompleted();
+        assertThat(delegate.embedded).hasSize(2);
+        assertThat(model.statistics()).isEqualTo(new EmbeddingCacheStatistics(3, 2, 1));
+    }
+
+    @Test
+    void should_require_model_name() {
+        assertThatThrownBy(() -> CachingEmbeddingModel.builder()
+                        .delegate(new CountingEmbeddingModel())
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("modelName cannot be null or blank");
+    }
+
+    private static List<TextSegment> segments(String... texts) {
+        List<TextSegment> segments = new ArrayList<>();
+        for (String text : texts) {
+            segments.add(TextSegment.from(text));
+        }
+        return segments;
+    }
+
+    private static int length(Embedding embedding) {
+        return (int) embedding.vector()[0];
+    }
+
+    /**
+     * Embeds each text into a vector holding its length, and records the texts of each call.
+     */
+    private static class CountingEmbeddingModel implements EmbeddingModel {
+
+        final List<List<String>> embedded = new ArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            embedded.add(textSegments.stream().map(TextSegment::text).toList());
+            List<Embedding> embeddings = textSegments.stream()
+                    .map(segment -> Embedding.from(new float[] {segment.text().length()}))
+                    .toList();
+            return Response.from(embeddings, new TokenUsage(textSegments.size()));
+        }
+    }
+
+    /**
+     * Embeds texts asynchronously, with futures completed by the test.
+     */
+    private static class AsyncEmbeddingModel implements EmbeddingModel {
+
+        final List<List<String>> embedded = new ArrayList<>();
+        final List<CompletableFuture<Response<List<Embedding>>>> pending = new ArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+            embedded.add(textSegments.stream().map(TextSegment::text).toList());
+            CompletableFuture<Response<List<Embedding>>> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        }
+    }
+}
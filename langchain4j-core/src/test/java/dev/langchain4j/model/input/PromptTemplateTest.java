@@ -96,6 +96,38 @@ class PromptTemplateTest {
         assertThat(prompt.text()).isEqualTo("My name is Klaus, call me Klaus.");
     }
 
+    @Test
+    void should_allow_spaces_around_variable_name() {
+
+        // given
+        PromptTemplate promptTemplate = PromptTemplate.from("My name is {{ name }}, call me {{name}}.");
+
+        Map<String, Object> variables = singletonMap("name", "Klaus");
+
+        // when
+        Prompt prompt = promptTemplate.apply(variables);
+
+        // then
+        assertThat(prompt.text()).isEqualTo("My name is Klaus, call me Klaus.");
+    }
+
+    @Test
+    void should_not_substitute_variables_within_values() {
+
+        // given
+        PromptTemplate promptTemplate = PromptTemplate.from("{{first}} and {{second}}");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("first", "{{second}}");
+        variables.put("second", "{{first}}");
+
+        // when
+        Prompt prompt = promptTemplate.apply(variables);
+
+        // then
+        assertThat(prompt.text()).isEqualTo("{{second}} and {{first}}");
+    }
+
     @Test
     void should_fail_when_value_is_missing() {
 
@@ -33,7 +33,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -223,6 +225,71 @@ class DefaultRetrievalAugmentorTest {
         verifyNoMoreInteractions(executor);
     }
 
+    @Test
+    void should_limit_parallel_calls_to_each_retriever() {
+
+        // given
+        Content content1 = Content.from("content 1");
+        SlowContentRetriever contentRetriever1 = new SlowContentRetriever(content1);
+
+        Content content2 = Content.from("content 2");
+        SlowContentRetriever contentRetriever2 = new SlowContentRetriever(content2);
+
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        Query query3 = Query.from("query 3");
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(new TestQueryTransformer(query1, query2, query3))
+                .queryRouter(new DefaultQueryRouter(contentRetriever1, contentRetriever2))
+                .contentAggregator(new TestContentAggregator())
+                .contentInjector(new TestContentInjector())
+                .executor(executor)
+                .maxConcurrency(1)
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+
+        try {
+            // when
+            AugmentationResult result = retrievalAugmentor.augment(
+                    new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null)));
+
+            // then
+            assertThat(result.contents()).hasSize(6);
+            assertThat(contentRetriever1.maxRunning.get()).isEqualTo(1);
+            assertThat(contentRetriever2.maxRunning.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class SlowContentRetriever implements ContentRetriever {
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        private final Content content;
+
+        SlowContentRetriever(Content content) {
+            this.content = content;
+        }
+
+        @Override
+        public List<Content> retrieve(Query query) {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+                return List.of(content);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+
     private static class TestExecutor implements Executor {
 
         @Override
@@ -4,7 +4,13 @@ import static dev.langchain4j.data.segment.TextSegment.textSegment;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -19,7 +25,20 @@ import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
 
 class EmbeddingStoreIngestorTest {
 
@@ -192,4 +211,414 @@ class EmbeddingStoreIngestorTest {
 
         assertThat(ingestionResult.tokenUsage()).isEqualTo(tokenUsage);
     }
+
+    @Test
+    void should_embed_and_store_in_batches_when_pipelined() {
+
+        // given
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            documents.add(Document.from("Sentence " + i));
+        }
+
+        ConcurrencyTrackingEmbeddingModel embeddingModel = new ConcurrencyTrackingEmbeddingModel();
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .embeddingBatchSize(2)
+                .embeddingConcurrency(2)
+                .build();
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingest(documents);
+
+        // then
+        InOrder inOrder = inOrder(embeddingStore);
+        inOrder.verify(embeddingStore)
+                .addAll(
+                        asList(Embedding.from(new float[] {0}), Embedding.from(new float[] {1})),
+                        asList(segment("Sentence 0"), segment("Sentence 1")));
+        inOrder.verify(embeddingStore)
+                .addAll(
+                        asList(Embedding.from(new float[] {2}), Embedding.from(new float[] {3})),
+                        asList(segment("Sentence 2"), segment("Sentence 3")));
+        inOrder.verify(embeddingStore)
+                .addAll(singletonList(Embedding.from(new float[] {4})), singletonList(segment("Sentence 4")));
+        verifyNoMoreInteractions(embeddingStore);
+
+        assertThat(ingestionResult.tokenUsage()).isEqualTo(new TokenUsage(5));
+        assertThat(ingestionResult.preparation().items()).isEqualTo(5);
+        assertThat(ingestionResult.embedding().items()).isEqualTo(5);
+        assertThat(ingestionResult.embedding().batches()).isEqualTo(3);
+        assertThat(ingestionResult.storing().items()).isEqualTo(5);
+        assertThat(ingestionResult.storing().batches()).isEqualTo(3);
+    }
+
+    @Test
+    void should_limit_embedding_concurrency_when_pipelined() {
+
+        // given
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            documents.add(Document.from("Sentence " + i));
+        }
+
+        ConcurrencyTrackingEmbeddingModel embeddingModel = new ConcurrencyTrackingEmbeddingModel();
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .embeddingBatchSize(4)
+                .embeddingConcurrency(3)
+                .build();
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingest(documents);
+
+        // then
+        assertThat(embeddingModel.maxConcurrentCalls.get()).isBetween(1, 3);
+        assertThat(ingestionResult.embedding().batches()).isEqualTo(10);
+        assertThat(ingestionResult.storing().items()).isEqualTo(40);
+    }
+
+    @Test
+    void should_fail_when_embedding_fails_when_pipelined() {
+
+        // given
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenThrow(new IllegalStateException("embedding failed"));
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .embeddingBatchSize(1)
+                .build();
+
+        // then
+        assertThatThrownBy(() -> ingestor.ingest(Document.from("First"), Document.from("Second")))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("embedding failed");
+        verify(embeddingStore, never()).addAll(anyList(), any());
+    }
+
+    @Test
+    void should_ingest_stream_of_documents_lazily_and_report_checkpoints() {
+
+        // given
+        AtomicInteger pulledDocuments = new AtomicInteger();
+        Stream<Document> documents = IntStream.range(0, 10).mapToObj(i -> {
+            pulledDocuments.incrementAndGet();
+            return Document.from("Sentence " + i);
+        });
+
+        ConcurrencyTrackingEmbeddingModel embeddingModel = new ConcurrencyTrackingEmbeddingModel();
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        List<Integer> pulledDocumentsWhenStored = new ArrayList<>();
+        doAnswer(invocation -> {
+                    pulledDocumentsWhenStored.add(pulledDocuments.get());
+                    return List.of();
+                })
+                .when(embeddingStore)
+                .addAll(anyList(), anyList());
+
+        List<IngestionCheckpoint> checkpoints = new ArrayList<>();
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .checkpointInterval(4)
+                .checkpointListener(checkpoints::add)
+                .build();
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingest(documents);
+
+        // then
+        // default batches of 128 text segments: everything is stored once the stream is exhausted
+        assertThat(pulledDocumentsWhenStored).containsExactly(10);
+        assertThat(ingestionResult.storing().items()).isEqualTo(10);
+        assertThat(checkpoints).hasSize(1);
+        assertThat(checkpoints.get(0).documents()).isEqualTo(10);
+        assertThat(checkpoints.get(0).textSegments()).isEqualTo(10);
+        assertThat(checkpoints.get(0).lastDocument()).isEqualTo(Document.from("Sentence 9"));
+    }
+
+    @Test
+    void should_pull_documents_only_as_fast_as_they_are_stored() {
+
+        // given
+        AtomicInteger pulledDocuments = new AtomicInteger();
+        Iterator<Document> documents = IntStream.range(0, 10)
+                .mapToObj(i -> {
+                    pulledDocuments.incrementAndGet();
+                    return Document.from("Sentence " + i);
+                })
+                .iterator();
+
+        ConcurrencyTrackingEmbeddingModel embeddingModel = new ConcurrencyTrackingEmbeddingModel();
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        List<Integer> pulledDocumentsWhenStored = new ArrayList<>();
+        doAnswer(invocation -> {
+                    pulledDocumentsWhenStored.add(pulledDocuments.get());
+                    return List.of();
+                })
+                .when(embeddingStore)
+                .addAll(anyList(), anyList());
+
+        List<IngestionCheckpoint> checkpoints = new ArrayList<>();
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .embeddingBatchSize(2)
+                .executor(Runnable::run)
+                .checkpointInterval(3)
+                .checkpointListener(checkpoints::add)
+                .build();
+
+        // when
+        ingestor.ingest(documents);
+
+        // then
+        assertThat(pulledDocumentsWhenStored).containsExactly(2, 4, 6, 8, 10);
+        // a document is only complete once the batch after its last text segment has been cut
+        assertThat(checkpoints).extracting(IngestionCheckpoint::documents).containsExactly(3L, 7L, 10L);
+        assertThat(checkpoints).extracting(IngestionCheckpoint::textSegments).containsExactly(4L, 8L, 10L);
+        assertThat(checkpoints.get(1).lastDocument()).isEqualTo(Document.from("Sentence 6"));
+    }
+
+    @Test
+    void should_only_embed_new_or_changed_text_segments_when_incremental() {
+
+        // given
+        MapEmbeddingStore embeddingStore = new MapEmbeddingStore();
+        IngestionManifest manifest = new InMemoryIngestionManifest();
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(new LineSplitter())
+                .embeddingModel(new ConcurrencyTrackingEmbeddingModel())
+                .embeddingStore(embeddingStore)
+                .manifest(manifest)
+                .build();
+
+        IngestionResult first = ingestor.ingest(
+                file("a.txt", "Line 1\nLine 2\nLine 3"),
+                file("b.txt", "Line 4"));
+        assertThat(first.embedding().items()).isEqualTo(4);
+        assertThat(embeddingStore.texts()).containsExactlyInAnyOrder("Line 1", "Line 2", "Line 3", "Line 4");
+
+        // when
+        IngestionResult second = ingestor.ingest(
+                file("a.txt", "Line 1\nLine 5\nLine 3"),
+                file("b.txt", "Line 4"));
+
+        // then
+        assertThat(second.preparation().items()).isEqualTo(2);
+        assertThat(second.embedding().items()).isEqualTo(1);
+        assertThat(second.tokenUsage().inputTokenCount()).isEqualTo(1);
+        assertThat(embeddingStore.texts()).containsExactlyInAnyOrder("Line 1", "Line 5", "Line 3", "Line 4");
+        assertThat(manifest.documentKeys()).containsExactlyInAnyOrder(
+                Path.of("/docs", "a.txt").toString(), Path.of("/docs", "b.txt").toString());
+
+        // when
+        IngestionResult third = ingestor.ingest(
+                file("a.txt", "Line 1\nLine 5\nLine 3"),
+                file("b.txt", "Line 4"));
+
+        // then
+        assertThat(third.embedding().items()).isZero();
+        assertThat(third.storing().items()).isZero();
+        assertThat(embeddingStore.texts()).containsExactlyInAnyOrder("Line 1", "Line 5", "Line 3", "Line 4");
+
+        // when
+        IngestionResult reconfigured = EmbeddingStoreIngestor.builder()
+                .documentSplitter(new LineSplitter())
+                .embeddingModel(new ConcurrencyTrackingEmbeddingModel())
+                .embeddingStore(embeddingStore)
+                .manifest(manifest)
+                .fingerprint("v2")
+                .build()
+                .ingest(file("a.txt", "Line 1\nLine 5\nLine 3"), file("b.txt", "Line 4"));
+
+        // then
+        assertThat(reconfigured.embedding().items()).isEqualTo(4);
+        assertThat(embeddingStore.texts()).containsExactlyInAnyOrder("Line 1", "Line 5", "Line 3", "Line 4");
+    }
+
+    @Test
+    void should_persist_manifest_and_remove_missing_documents_when_incremental(@TempDir Path directory) {
+
+        // given
+        Path file = directory.resolve("manifest.json");
+        MapEmbeddingStore embeddingStore = new MapEmbeddingStore();
+        EmbeddingStoreIngestor.builder()
+                .documentSplitter(new LineSplitter())
+                .embeddingModel(new ConcurrencyTrackingEmbeddingModel())
+                .embeddingStore(embeddingStore)
+                .manifest(new FileIngestionManifest(file))
+                .build()
+                .ingest(file("a.txt", "Line 1\nLine 1"), file("b.txt", "Line 2\nLine 3"));
+        assertThat(embeddingStore.texts()).containsExactlyInAnyOrder("Line 1", "Line 1", "Line 2", "Line 3");
+
+        FileIngestionManifest manifest = new FileIngestionManifest(file);
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(new LineSplitter())
+                .embeddingModel(new ConcurrencyTrackingEmbeddingModel())
+                .embeddingStore(embeddingStore)
+                .manifest(manifest)
+                .removeMissingDocuments(true)
+                .build();
+
+        // when
+        IngestionResult result = ingestor.ingest(file("a.txt", "Line 1\nLine 1"));
+
+        // then
+        assertThat(result.embedding().items()).isZero();
+        assertThat(embeddingStore.texts()).containsExactly("Line 1", "Line 1");
+        assertThat(manifest.documentKeys()).containsExactly(Path.of("/docs", "a.txt").toString());
+        assertThat(new FileIngestionManifest(file).get(Path.of("/docs", "a.txt").toString()))
+                .isEqualTo(manifest.get(Path.of("/docs", "a.txt").toString()));
+    }
+
+    @Test
+    void should_not_commit_document_before_all_its_batches_are_stored_when_incremental() {
+
+        // given
+        MapEmbeddingStore embeddingStore = new MapEmbeddingStore();
+        IngestionManifest manifest = new InMemoryIngestionManifest();
+        AtomicBoolean failing = new AtomicBoolean(true);
+        EmbeddingModel embeddingModel = new ConcurrencyTrackingEmbeddingModel() {
+
+            @Override
+            public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+                if (failing.get() && textSegments.stream().anyMatch(segment -> segment.text().equals("Line 3"))) {
+                    throw new IllegalStateException("embedding failed");
+                }
+                return super.embedAll(textSegments);
+            }
+        };
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(new LineSplitter())
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .manifest(manifest)
+                .embeddingBatchSize(2)
+                .build();
+        Document document = file("a.txt", "Line 1\nLine 2\nLine 3\nLine 4");
+
+        assertThatThrownBy(() -> ingestor.ingest(document))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("embedding failed");
+        assertThat(manifest.documentKeys()).isEmpty();
+
+        // when
+        failing.set(false);
+        IngestionResult result = ingestor.ingest(document);
+
+        // then
+        assertThat(result.embedding().items()).isEqualTo(4);
+        assertThat(embeddingStore.texts()).containsExactlyInAnyOrder("Line 1", "Line 2", "Line 3", "Line 4");
+        assertThat(manifest.documentKeys()).containsExactly(Path.of("/docs", "a.txt").toString());
+    }
+
+    private static Document file(String fileName, String text) {
+        return Document.from(text, Metadata.from(Document.FILE_NAME, fileName)
+                .put(Document.ABSOLUTE_DIRECTORY_PATH, "/docs"));
+    }
+
+    private static class LineSplitter implements DocumentSplitter {
+
+        @Override
+        public List<TextSegment> split(Document document) {
+            List<TextSegment> segments = new ArrayList<>();
+            String[] lines = document.text().split("\n");
+            for (int i = 0; i < lines.length; i++) {
+                segments.add(TextSegment.from(lines[i], document.metadata().copy().put("index", i)));
+            }
+            return segments;
+        }
+    }
+
+    private static class MapEmbeddingStore implements EmbeddingStore<TextSegment> {
+
+        final Map<String, TextSegment> segments = new LinkedHashMap<>();
+
+        List<String> texts() {
+            return segments.values().stream().map(TextSegment::text).toList();
+        }
+
+        @Override
+        public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+            for (int i = 0; i < ids.size(); i++) {
+                segments.put(ids.get(i), embedded.get(i));
+            }
+        }
+
+        @Override
+        public void removeAll(Collection<String> ids) {
+            ids.forEach(segments::remove);
+        }
+
+        @Override
+        public String add(Embedding embedding) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(String id, Embedding embedding) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String add(Embedding embedding, TextSegment textSegment) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static TextSegment segment(String text) {
+        return TextSegment.from(text, Metadata.from("index", "0"));
+    }
+
+    /**
+     * Embeds each segment into a vector holding the number at the end of its text.
+     */
+    private static class ConcurrencyTrackingEmbeddingModel implements EmbeddingModel {
+
+        final AtomicInteger concurrentCalls = new AtomicInteger();
+        final AtomicInteger maxConcurrentCalls = new AtomicInteger();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            maxConcurrentCalls.accumulateAndGet(concurrentCalls.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                concurrentCalls.decrementAndGet();
+            }
+            List<Embedding> embeddings = new ArrayList<>();
+            for (TextSegment textSegment : textSegments) {
+                String text = textSegment.text();
+                embeddings.add(Embedding.from(new float[] {Integer.parseInt(text.substring(text.lastIndexOf(' ') + 1))}));
+            }
+            return Response.from(embeddings, new TokenUsage(textSegments.size()));
+        }
+    }
 }
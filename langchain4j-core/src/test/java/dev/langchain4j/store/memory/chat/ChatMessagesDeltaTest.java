@@ -0,0 +1,67 @@
+package dev.langchain4j.store.memory.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ChatMessagesDeltaTest {
+
+    ChatMessage system = SystemMessage.from("system");
+    ChatMessage user1 = UserMessage.from("user 1");
+    ChatMessage ai1 = AiMessage.from("ai 1");
+    ChatMessage user2 = UserMessage.from("user 2");
+    ChatMessage ai2 = AiMessage.from("ai 2");
+
+    @Test
+    void should_describe_appended_messages() {
+        assertThat(ChatMessagesDelta.between(List.of(), List.of(user1)))
+                .contains(new ChatMessagesDelta(0, 0, List.of(user1)));
+        assertThat(ChatMessagesDelta.between(List.of(user1), List.of(user1, ai1, user2)))
+                .contains(new ChatMessagesDelta(1, 0, List.of(ai1, user2)));
+    }
+
+    @Test
+    void should_describe_evicted_and_appended_messages() {
+        assertThat(ChatMessagesDelta.between(List.of(user1, ai1, user2), List.of(user2, ai2)))
+                .contains(new ChatMessagesDelta(0, 2, List.of(ai2)));
+    }
+
+    @Test
+    void should_describe_messages_evicted_after_system_message() {
+        assertThat(ChatMessagesDelta.between(List.of(system, user1, ai1, user2), List.of(system, user2, ai2)))
+                .contains(new ChatMessagesDelta(1, 2, List.of(ai2)));
+    }
+
+    @Test
+    void should_describe_replaced_system_message() {
+        ChatMessage newSystem = SystemMessage.from("new system");
+
+        assertThat(ChatMessagesDelta.between(List.of(system, user1, ai1), List.of(user1, ai1, newSystem)))
+                .contains(new ChatMessagesDelta(0, 1, List.of(newSystem)));
+    }
+
+    @Test
+    void should_describe_all_messages_replaced() {
+        assertThat(ChatMessagesDelta.between(List.of(user1, ai1), List.of(user2)))
+                .contains(new ChatMessagesDelta(0, 2, List.of(user2)));
+    }
+
+    @Test
+    void should_not_describe_multiple_removed_ranges() {
+        assertThat(ChatMessagesDelta.between(List.of(system, user1, ai1, user2), List.of(user1, user2)))
+                .isEmpty();
+    }
+
+    @Test
+    void should_compare_messages_by_identity() {
+        ChatMessage sameAsUser1 = UserMessage.from("user 1");
+
+        assertThat(ChatMessagesDelta.between(List.of(user1, ai1), List.of(sameAsUser1, ai1, user2)))
+                .contains(new ChatMessagesDelta(0, 2, List.of(sameAsUser1, ai1, user2)));
+    }
+}
@@ -0,0 +1,222 @@
+package dev.langchain4j.store.memory.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class WriteBehindChatMemoryStoreTest {
+
+    static final ToolExecutionRequest TOOL_EXECUTION_REQUEST =
+            ToolExecutionRequest.builder().id("1").name("weather").arguments("{}").build();
+
+    CountingChatMemoryStore delegate = new CountingChatMemoryStore();
+
+    WriteBehindChatMemoryStore store;
+
+    @AfterEach
+    void close() {
+        store.close();
+    }
+
+    @Test
+    void should_write_once_per_turn_when_crash_safe() {
+
+        // given
+        store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(Duration.ofHours(1))
+                .crashSafe(true)
+                .build();
+
+        List<ChatMessage> messages = new ArrayList<>();
+
+        // when
+        update(messages, UserMessage.from("What is the weather?"));
+        update(messages, AiMessage.from(TOOL_EXECUTION_REQUEST));
+        update(messages, ToolExecutionResultMessage.from(TOOL_EXECUTION_REQUEST, "sunny"));
+
+        // then
+        assertThat(delegate.updates).hasValue(0);
+        assertThat(store.getMessages("id")).containsExactlyElementsOf(messages);
+
+        // when
+        update(messages, AiMessage.from("It is sunny"));
+
+        // then
+        assertThat(delegate.updates).hasValue(1);
+        assertThat(delegate.getMessages("id")).containsExactlyElementsOf(messages);
+    }
+
+    @Test
+    void should_coalesce_updates_until_flushed() {
+
+        // given
+        store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(Duration.ofHours(1))
+                .build();
+
+        List<ChatMessage> messages = new ArrayList<>();
+        update(messages, UserMessage.from("first"));
+        update(messages, UserMessage.from("second"));
+
+        // when
+        store.flush("id");
+        store.flush("id");
+
+        // then
+        assertThat(delegate.updates).hasValue(1);
+        assertThat(delegate.getMessages("id")).containsExactlyElementsOf(messages);
+    }
+
+    @Test
+    void should_read_from_delegate_only_once() {
+
+        // given
+        delegate.updateMessages("id", List.of(UserMessage.from("hello")));
+        store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(Duration.ofHours(1))
+                .build();
+
+        // when
+        store.getMessages("id");
+        List<ChatMessage> messages = store.getMessages("id");
+
+        // then
+        assertThat(messages).containsExactly(UserMessage.from("hello"));
+        assertThat(delegate.reads).hasValue(1);
+    }
+
+    @Test
+    void should_delete_messages() {
+
+        // given
+        delegate.updateMessages("id", List.of(UserMessage.from("hello")));
+        store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(Duration.ofHours(1))
+                .build();
+        store.getMessages("id");
+
+        // when
+        store.deleteMessages("id");
+        store.flush();
+
+        // then
+        assertThat(store.getMessages("id")).isEmpty();
+        assertThat(delegate.getMessages("id")).isEmpty();
+    }
+
+    @Test
+    void should_retry_failed_writes() {
+
+        // given
+        store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(Duration.ofHours(1))
+                .build();
+        store.updateMessages("id", List.of(UserMessage.from("hello")));
+        delegate.failing = true;
+
+        // when-then
+        assertThatThrownBy(() -> store.flush()).hasMessage("store is unavailable");
+
+        // when
+        delegate.failing = false;
+        store.flush();
+
+        // then
+        assertThat(delegate.getMessages("id")).containsExactly(UserMessage.from("hello"));
+    }
+
+    @Test
+    void should_write_pending_updates_periodically() throws Exception {
+
+        // given
+        store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(Duration.ofMillis(10))
+                .build();
+
+        // when
+        store.updateMessages("id", List.of(UserMessage.from("hello")));
+
+        // then
+        for (int i = 0; i < 500 && delegate.updates.get() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(delegate.getMessages("id")).containsExactly(UserMessage.from("hello"));
+    }
+
+    @Test
+    void should_drop_idle_chat_memories_once_written_and_read_them_again() {
+
+        // given
+        AtomicLong nanoTime = new AtomicLong();
+        store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(Duration.ofHours(1))
+                .idleTimeout(Duration.ofMinutes(10))
+                .nanoTime(nanoTime::get)
+                .build();
+        store.updateMessages("written", List.of(UserMessage.from("hello")));
+        store.updateMessages("pending", List.of(UserMessage.from("hi")));
+        store.flush("written");
+
+        // when
+        nanoTime.addAndGet(Duration.ofMinutes(11).toNanos());
+        store.evictIdleMemories();
+
+        // then
+        assertThat(store.getMessages("written")).containsExactly(UserMessage.from("hello"));
+        assertThat(store.getMessages("pending")).containsExactly(UserMessage.from("hi"));
+        assertThat(delegate.reads).hasValue(1);
+
+        // when
+        store.evictIdleMemories();
+
+        // then
+        assertThat(store.getMessages("written")).containsExactly(UserMessage.from("hello"));
+        assertThat(delegate.reads).hasValue(1);
+    }
+
+    private void update(List<ChatMessage> messages, ChatMessage message) {
+        messages.add(message);
+        store.updateMessages("id", new ArrayList<>(messages));
+    }
+
+    static class CountingChatMemoryStore extends InMemoryChatMemoryStore {
+
+        final AtomicInteger reads = new AtomicInteger();
+        final AtomicInteger updates = new AtomicInteger();
+        volatile boolean failing;
+
+        @Override
+        public List<ChatMessage> getMessages(Object memoryId) {
+            reads.incrementAndGet();
+            return super.getMessages(memoryId);
+        }
+
+        @Override
+        public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+            if (failing) {
+                throw new RuntimeException("store is unavailable");
+            }
+            updates.incrementAndGet();
+            super.updateMessages(memoryId, messages);
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package dev.langchain4j.http.client;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import dev.langchain4j.exception.HttpException;
-import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.http.client.sse.Utf8ServerSentEventParser;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A client for executing HTTP requests both synchronously and asynchronously.
@@ -22,6 +27,55 @@ public interface HttpClient {
      */
     SuccessfulHttpResponse execute(HttpRequest request) throws HttpException, RuntimeException;
 
+    /**
+     * Executes a given HTTP request asynchronously and returns a future of the response.
+     * <p>
+     * The returned future completes exceptionally with an {@link HttpException}
+     * if the server returns a client (4XX) or server (5XX) error response,
+     * or with another {@link RuntimeException} if an unexpected error occurs during request execution.
+     * <p>
+     * The default implementation executes the request synchronously with {@link #execute(HttpRequest)}.
+     * Implementations that support non-blocking I/O should override it,
+     * so that no thread is blocked while waiting for the response.
+     *
+     * @param request the HTTP request to be executed.
+     * @return a future of the {@link SuccessfulHttpResponse}.
+     */
+    default CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+        try {
+            return CompletableFuture.completedFuture(execute(request));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Executes a given HTTP request asynchronously and returns a future of the response,
+     * completed as soon as the status code and headers are received.
+     * The response body is then published, as it is received, by {@link StreamingHttpResponse#body()}.
+     * <p>
+     * The returned future completes exceptionally with an {@link HttpException}
+     * if the server returns a client (4XX) or server (5XX) error response,
+     * or with another {@link RuntimeException} if an unexpected error occurs during request execution.
+     * <p>
+     * The default implementation executes the request with {@link #executeAsync(HttpRequest)}
+     * and publishes the whole body at once.
+     * Implementations that support non-blocking I/O should override it.
+     *
+     * @param request the HTTP request to be executed.
+     * @return a future of the {@link StreamingHttpResponse}.
+     */
+    default CompletableFuture<StreamingHttpResponse> executeStreamingAsync(HttpRequest request) {
+        return executeAsync(request).thenApply(response -> {
+            byte[] body = response.body() == null ? new byte[0] : response.body().getBytes(UTF_8);
+            return StreamingHttpResponse.builder()
+                    .statusCode(response.statusCode())
+                    .headers(response.headers())
+                    .body(new SingleItemPublisher<>(List.of(ByteBuffer.wrap(body))))
+                    .build();
+        });
+    }
+
     /**
      * Executes a given HTTP request asynchronously with server-sent events (SSE) handling.
      * This method returns immediately while processing continues on a separate thread.
@@ -30,7 +84,7 @@ public interface HttpClient {
      * The execution flow is as follows:
      * <ol>
      *   <li>The request is initiated asynchronously</li>
-     *   <li>Received SSE data is parsed using the {@link DefaultServerSentEventParser}</li>
+     *   <li>Received SSE data is parsed using the {@link Utf8ServerSentEventParser}</li>
      *   <li>Parsed events are delivered to the listener's appropriate methods</li>
      *   <li>If an error occurs, {@link ServerSentEventListener#onError(Throwable)} is called</li>
      * </ol>
@@ -42,7 +96,7 @@ public interface HttpClient {
      * @param listener the listener to receive parsed events and error notifications.
      */
     default void execute(HttpRequest request, ServerSentEventListener listener) {
-        execute(request, new DefaultServerSentEventParser(), listener);
+        execute(request, new Utf8ServerSentEventParser(), listener);
     }
 
     /**
@@ -0,0 +1,56 @@
+package dev.langchain4j.http.client;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes a single item, on the thread requesting it, to a single subscriber.
+ */
+class SingleItemPublisher<T> implements Flow.Publisher<T> {
+
+    private final T item;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    SingleItemPublisher(T item) {
+        this.item = item;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("Only one subscriber is supported"));
+            return;
+        }
+
+        subscriber.onSubscribe(new Flow.Subscription() {
+
+            private final AtomicBoolean done = new AtomicBoolean();
+
+            @Override
+            public void request(long n) {
+                if (!done.compareAndSet(false, true)) {
+                    return;
+                }
+                if (n <= 0) {
+                    subscriber.onError(new IllegalArgumentException("Requested items must be positive, but was " + n));
+                    return;
+                }
+                subscriber.onNext(item);
+                subscriber.onComplete();
+            }
+
+            @Override
+            public void cancel() {
+                done.set(true);
+            }
+        });
+    }
+}
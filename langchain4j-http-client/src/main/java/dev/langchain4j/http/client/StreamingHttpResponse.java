@@ -0,0 +1,74 @@
+package dev.langchain4j.http.client;
+
+import static dev.langchain4j.internal.Utils.copy;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+/**
+ * A successful (2XX) HTTP response whose body is published as it is received,
+ * see {@link HttpClient#executeStreamingAsync(HttpRequest)}.
+ * <p>
+ * The body must be subscribed to exactly once, and the subscriber must not block:
+ * it is usually invoked on a thread of the HTTP client.
+ */
+public class StreamingHttpResponse {
+
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final Flow.Publisher<List<ByteBuffer>> body;
+
+    public StreamingHttpResponse(Builder builder) {
+        this.statusCode = ensureBetween(builder.statusCode, 200, 299, "statusCode");
+        this.headers = copy(builder.headers);
+        this.body = ensureNotNull(builder.body, "body");
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    public Map<String, List<String>> headers() {
+        return headers;
+    }
+
+    public Flow.Publisher<List<ByteBuffer>> body() {
+        return body;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private int statusCode;
+        private Map<String, List<String>> headers;
+        private Flow.Publisher<List<ByteBuffer>> body;
+
+        private Builder() {}
+
+        public Builder statusCode(int statusCode) {
+            this.statusCode = statusCode;
+            return this;
+        }
+
+        public Builder headers(Map<String, List<String>> headers) {
+            this.headers = headers;
+            return this;
+        }
+
+        public Builder body(Flow.Publisher<List<ByteBuffer>> body) {
+            this.body = body;
+            return this;
+        }
+
+        public StreamingHttpResponse build() {
+            return new StreamingHttpResponse(this);
+        }
+    }
+}
@@ -7,10 +7,12 @@ import dev.langchain4j.Internal;
 import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.StreamingHttpResponse;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
 import dev.langchain4j.http.client.sse.ServerSentEvent;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +47,41 @@ public class LoggingHttpClient implements HttpClient {
         return response;
     }
 
+    @Override
+    public CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+
+        if (logRequests) {
+            HttpRequestLogger.log(log, request);
+        }
+
+        return delegateHttpClient.executeAsync(request).thenApply(response -> {
+            if (logResponses) {
+                HttpResponseLogger.log(log, response);
+            }
+            return response;
+        });
+    }
+
+    @Override
+    public CompletableFuture<StreamingHttpResponse> executeStreamingAsync(HttpRequest request) {
+
+        if (logRequests) {
+            HttpRequestLogger.log(log, request);
+        }
+
+        return delegateHttpClient.executeStreamingAsync(request).thenApply(response -> {
+            if (logResponses) {
+                HttpResponseLogger.log(
+                        log,
+                        SuccessfulHttpResponse.builder()
+                                .statusCode(response.statusCode())
+                                .headers(response.headers())
+                                .build());
+            }
+            return response;
+        });
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener delegateListener) {
 
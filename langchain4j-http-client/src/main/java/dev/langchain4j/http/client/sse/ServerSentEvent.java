@@ -1,17 +1,38 @@
 package dev.langchain4j.http.client.sse;
 
 import static dev.langchain4j.internal.Utils.quoted;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.util.Objects;
 
 public class ServerSentEvent {
 
     private final String event;
-    private final String data;
+    private String data;
+    private final byte[] utf8Data;
 
     public ServerSentEvent(String event, String data) {
         this.event = event;
         this.data = data;
+        this.utf8Data = null;
+    }
+
+    private ServerSentEvent(String event, byte[] utf8Data) {
+        this.event = event;
+        this.utf8Data = utf8Data;
+    }
+
+    /**
+     * Creates an event whose data is UTF-8 encoded.
+     * The data is decoded into a {@link String} only if {@link #data()} is called,
+     * so that consumers can parse it directly from {@link #utf8Data()}.
+     *
+     * @param event    the event type, or {@code null}.
+     * @param utf8Data the UTF-8 encoded data. Must not be modified afterwards.
+     * @return the event.
+     */
+    public static ServerSentEvent fromUtf8(String event, byte[] utf8Data) {
+        return new ServerSentEvent(event, utf8Data);
     }
 
     public String event() {
@@ -19,24 +40,40 @@ public class ServerSentEvent {
     }
 
     public String data() {
+        if (data == null && utf8Data != null) {
+            data = new String(utf8Data, UTF_8);
+        }
         return data;
     }
 
+    /**
+     * Returns the data as UTF-8 encoded bytes, without decoding it into a {@link String}
+     * when the event was parsed by a byte-level parser (see {@link Utf8ServerSentEventParser}).
+     *
+     * @return the UTF-8 encoded data, or {@code null} if there is no data. Must not be modified.
+     */
+    public byte[] utf8Data() {
+        if (utf8Data != null) {
+            return utf8Data;
+        }
+        return data == null ? null : data.getBytes(UTF_8);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) return true;
         if (obj == null || obj.getClass() != this.getClass()) return false;
         var that = (ServerSentEvent) obj;
-        return Objects.equals(this.event, that.event) && Objects.equals(this.data, that.data);
+        return Objects.equals(this.event, that.event) && Objects.equals(this.data(), that.data());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(event, data);
+        return Objects.hash(event, data());
     }
 
     @Override
     public String toString() {
-        return "ServerSentEvent {" + " event = " + quoted(event) + ", data = " + quoted(data) + " }";
+        return "ServerSentEvent {" + " event = " + quoted(event) + ", data = " + quoted(data()) + " }";
     }
 }
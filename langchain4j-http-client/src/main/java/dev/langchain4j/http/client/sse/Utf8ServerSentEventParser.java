@@ -0,0 +1,242 @@
+package dev.langchain4j.http.client.sse;
+
+import static dev.langchain4j.http.client.sse.ServerSentEventListenerUtils.ignoringExceptions;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.langchain4j.http.client.StreamingHttpResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link ServerSentEventParser} that scans the UTF-8 encoded response body for line and field boundaries
+ * directly in its read buffer, instead of decoding it into a {@link String} per line.
+ * The data of each event is copied once into its own byte array and delivered with
+ * {@link ServerSentEvent#fromUtf8(String, byte[])}, so that listeners can parse it from
+ * {@link ServerSentEvent#utf8Data()} without any intermediate {@link String}.
+ * <p>
+ * Besides parsing an {@link InputStream}, it can parse a body published as it is received,
+ * see {@link #subscriber(ServerSentEventListener)}.
+ * <p>
+ * Events are parsed the same way as by the {@link DefaultServerSentEventParser},
+ * which can still be used (e.g., when a custom listener relies on its behavior).
+ */
+public class Utf8ServerSentEventParser implements ServerSentEventParser {
+
+    private static final byte[] EVENT = "event:".getBytes(UTF_8);
+    private static final byte[] DATA = "data:".getBytes(UTF_8);
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+
+    @Override
+    public void parse(InputStream httpResponseBody, ServerSentEventListener listener) {
+
+        try (InputStream input = httpResponseBody) {
+
+            Lines lines = new Lines(new Events(listener));
+            while (true) {
+                lines.ensureFreeSpace();
+                int read = input.read(lines.buffer, lines.end, lines.buffer.length - lines.end);
+                if (read == -1) {
+                    break;
+                }
+                lines.scan(read);
+            }
+            lines.finish();
+        } catch (IOException e) {
+            ignoringExceptions(() -> listener.onError(e));
+        }
+    }
+
+    /**
+     * Returns a subscriber that parses the response body as it is published (see {@link StreamingHttpResponse#body()}),
+     * without blocking a thread while waiting for the next bytes.
+     * Events are delivered to the listener on the publishing thread.
+     * When the body is complete, {@link ServerSentEventListener#onClose()} is called.
+     *
+     * @param listener the listener to receive parsed events or error notifications.
+     * @return the subscriber.
+     */
+    public Flow.Subscriber<List<ByteBuffer>> subscriber(ServerSentEventListener listener) {
+        return new LinesSubscriber(listener);
+    }
+
+    private static class LinesSubscriber implements Flow.Subscriber<List<ByteBuffer>> {
+
+        private final ServerSentEventListener listener;
+        private final Lines lines;
+        private Flow.Subscription subscription;
+
+        LinesSubscriber(ServerSentEventListener listener) {
+            this.listener = listener;
+            this.lines = new Lines(new Events(listener));
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            for (ByteBuffer buffer : buffers) {
+                lines.feed(buffer);
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            ignoringExceptions(() -> listener.onError(throwable));
+        }
+
+        @Override
+        public void onComplete() {
+            lines.finish();
+            ignoringExceptions(listener::onClose);
+        }
+    }
+
+    /**
+     * Splits bytes into lines (terminated by '\n', '\r' or "\r\n"), scanned in place in its buffer.
+     */
+    private static class Lines {
+
+        private final Events events;
+
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+        private int lineStart;
+        private int end;
+        private boolean skipLineFeed; // the previous line ended with '\r', which can be followed by '\n'
+
+        Lines(Events events) {
+            this.events = events;
+        }
+
+        void feed(ByteBuffer bytes) {
+            while (bytes.hasRemaining()) {
+                ensureFreeSpace();
+                int length = Math.min(bytes.remaining(), buffer.length - end);
+                bytes.get(buffer, end, length);
+                scan(length);
+            }
+        }
+
+        void ensureFreeSpace() {
+            if (lineStart == end) {
+                lineStart = 0;
+                end = 0;
+            } else if (end == buffer.length) {
+                // the current line does not fit in the rest of the buffer
+                if (lineStart > 0) {
+                    System.arraycopy(buffer, lineStart, buffer, 0, end - lineStart);
+                    end -= lineStart;
+                    lineStart = 0;
+                } else {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+            }
+        }
+
+        /**
+         * Scans the given number of bytes, just appended to the buffer.
+         */
+        void scan(int length) {
+            int scanFrom = end;
+            end += length;
+
+            for (int i = scanFrom; i < end; i++) {
+                byte b = buffer[i];
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (b == '\n') {
+                        lineStart = i + 1;
+                        continue;
+                    }
+                }
+                if (b == '\n' || b == '\r') {
+                    events.onLine(buffer, lineStart, i);
+                    lineStart = i + 1;
+                    skipLineFeed = b == '\r';
+                }
+            }
+        }
+
+        void finish() {
+            if (lineStart < end) {
+                events.onLine(buffer, lineStart, end);
+                lineStart = end;
+            }
+            events.dispatch();
+        }
+    }
+
+    private static class Events {
+
+        private final ServerSentEventListener listener;
+
+        private String event;
+        private byte[] data = new byte[256];
+        private int dataLength;
+
+        Events(ServerSentEventListener listener) {
+            this.listener = listener;
+        }
+
+        void onLine(byte[] line, int from, int to) {
+            if (from == to) {
+                dispatch();
+            } else if (startsWith(line, from, to, EVENT)) {
+                int start = trimStart(line, from + EVENT.length, to);
+                event = new String(line, start, trimEnd(line, start, to) - start, UTF_8);
+            } else if (startsWith(line, from, to, DATA)) {
+                int start = trimStart(line, from + DATA.length, to);
+                int length = trimEnd(line, start, to) - start;
+                if (dataLength > 0) {
+                    ensureDataCapacity(1);
+                    data[dataLength++] = '\n';
+                }
+                ensureDataCapacity(length);
+                System.arraycopy(line, start, data, dataLength, length);
+                dataLength += length;
+            }
+        }
+
+        void dispatch() {
+            if (dataLength > 0) {
+                ServerSentEvent sse = ServerSentEvent.fromUtf8(event, Arrays.copyOf(data, dataLength));
+                ignoringExceptions(() -> listener.onEvent(sse));
+                event = null;
+                dataLength = 0;
+            }
+        }
+
+        private void ensureDataCapacity(int length) {
+            if (dataLength + length > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + length));
+            }
+        }
+
+        private static boolean startsWith(byte[] line, int from, int to, byte[] prefix) {
+            return to - from >= prefix.length && Arrays.equals(line, from, from + prefix.length, prefix, 0, prefix.length);
+        }
+
+        // same as String.trim(): bytes of multibyte UTF-8 sequences are never below or equal to ' '
+        private static int trimStart(byte[] line, int from, int to) {
+            while (from < to && (line[from] & 0xFF) <= ' ') {
+                from++;
+            }
+            return from;
+        }
+
+        private static int trimEnd(byte[] line, int from, int to) {
+            while (to > from && (line[to - 1] & 0xFF) <= ' ') {
+                to--;
+            }
+            return to;
+        }
+    }
+}
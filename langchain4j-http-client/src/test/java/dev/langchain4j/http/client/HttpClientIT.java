@@ -1,6 +1,7 @@
 package dev.langchain4j.http.client;
 
 import static dev.langchain4j.http.client.HttpMethod.POST;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.synchronizedList;
 import static java.util.Collections.synchronizedSet;
 import static java.util.stream.Collectors.joining;
@@ -16,11 +17,15 @@ import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
 import dev.langchain4j.http.client.sse.ServerSentEvent;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
@@ -145,6 +150,138 @@ public abstract class HttpClientIT {
         }
     }
 
+    @Test
+    void should_return_successful_http_response_future() throws Exception {
+
+        for (HttpClient client : clients()) {
+
+            // given
+            HttpRequest request = HttpRequest.builder()
+                    .method(POST)
+                    .url("https://api.openai.com/v1/chat/completions")
+                    .addHeader("Authorization", "Bearer " + OPENAI_API_KEY)
+                    .addHeader("Content-Type", "application/json")
+                    .body(
+                            """
+                            {
+                                "model": "gpt-4o-mini",
+                                "messages": [
+                                    {
+                                        "role" : "user",
+                                        "content" : "What is the capital of Germany?"
+                                    }
+                                ]
+                            }
+                            """)
+                    .build();
+
+            // when
+            SuccessfulHttpResponse response = client.executeAsync(request).get(30, TimeUnit.SECONDS);
+
+            // then
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers()).isNotEmpty();
+            assertThat(response.body()).contains("Berlin");
+        }
+    }
+
+    @Test
+    void should_complete_future_with_400() throws Exception {
+
+        for (HttpClient client : clients()) {
+
+            // given
+            HttpRequest request = HttpRequest.builder()
+                    .method(POST)
+                    .url("https://api.openai.com/v1/chat/completions")
+                    .addHeader("Authorization", "Bearer " + OPENAI_API_KEY)
+                    .addHeader("Content-Type", "application/json")
+                    .body("""
+                            {
+                                "model": "gpt-4o-mini"
+                            }
+                            """) // missing field "messages"
+                    .build();
+
+            // when
+            try {
+                client.executeStreamingAsync(request).get(30, TimeUnit.SECONDS);
+                fail("Should have thrown an exception");
+            } catch (ExecutionException e) {
+                // then
+                assertThat(e.getCause()).isExactlyInstanceOf(HttpException.class);
+                HttpException httpException = (HttpException) e.getCause();
+                assertThat(httpException.statusCode()).isEqualTo(400);
+                assertThat(httpException.getMessage()).contains("Missing required parameter: 'messages'");
+            }
+        }
+    }
+
+    @Test
+    void should_publish_streaming_http_response_body() throws Exception {
+
+        for (HttpClient client : clients()) {
+
+            // given
+            HttpRequest request = HttpRequest.builder()
+                    .method(POST)
+                    .url("https://api.openai.com/v1/chat/completions")
+                    .addHeader("Authorization", "Bearer " + OPENAI_API_KEY)
+                    .addHeader("Content-Type", "application/json")
+                    .body(
+                            """
+                            {
+                                "model": "gpt-4o-mini",
+                                "messages": [
+                                    {
+                                        "role" : "user",
+                                        "content" : "What is the capital of Germany?"
+                                    }
+                                ],
+                                "stream": true
+                            }
+                            """)
+                    .build();
+
+            // when
+            StreamingHttpResponse response = client.executeStreamingAsync(request).get(30, TimeUnit.SECONDS);
+
+            CompletableFuture<String> body = new CompletableFuture<>();
+            response.body().subscribe(new Flow.Subscriber<>() {
+
+                private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(List<ByteBuffer> buffers) {
+                    for (ByteBuffer buffer : buffers) {
+                        byte[] array = new byte[buffer.remaining()];
+                        buffer.get(array);
+                        bytes.writeBytes(array);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    body.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    body.complete(bytes.toString(UTF_8));
+                }
+            });
+
+            // then
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(body.get(30, TimeUnit.SECONDS)).contains("data: ").contains("Berlin").endsWith("data: [DONE]\n\n");
+        }
+    }
+
     @Test
     void should_return_successful_http_response_async() throws Exception {
 
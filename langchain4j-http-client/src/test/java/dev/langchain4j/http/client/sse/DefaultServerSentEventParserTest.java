@@ -24,11 +24,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class DefaultServerSentEventParserTest {
 
-    private final ServerSentEventParser parser = new DefaultServerSentEventParser();
+    private final ServerSentEventParser parser = createParser();
 
     @Mock
     private ServerSentEventListener listener;
 
+    ServerSentEventParser createParser() {
+        return new DefaultServerSentEventParser();
+    }
+
+    ServerSentEventListener listener() {
+        return listener;
+    }
+
     @AfterEach
     void afterEach() {
         verifyNoMoreInteractions(listener);
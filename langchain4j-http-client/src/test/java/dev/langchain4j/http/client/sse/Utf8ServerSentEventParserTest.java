@@ -0,0 +1,104 @@
+package dev.langchain4j.http.client.sse;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.Flow;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+class Utf8ServerSentEventParserTest extends DefaultServerSentEventParserTest {
+
+    @Override
+    ServerSentEventParser createParser() {
+        return new Utf8ServerSentEventParser();
+    }
+
+    @Test
+    void shouldParseLinesEndingWithCarriageReturns() {
+
+        // given
+        String input = "event: first\r\ndata: First event\r\n\r\ndata: Second\rdata: event\r\r";
+
+        // when
+        new Utf8ServerSentEventParser().parse(oneByteAtATime(input), listener());
+
+        // then
+        verify(listener()).onEvent(new ServerSentEvent("first", "First event"));
+        verify(listener()).onEvent(new ServerSentEvent(null, "Second\nevent"));
+    }
+
+    @Test
+    void shouldParseLinesLongerThanBuffer() {
+
+        // given
+        String data = "x".repeat(20_000);
+        String input = "data: a\n\n" + "data: " + data + "\n\n" + "data: b\n\n";
+
+        // when
+        new Utf8ServerSentEventParser().parse(new ByteArrayInputStream(input.getBytes(UTF_8)), listener());
+
+        // then
+        verify(listener()).onEvent(new ServerSentEvent(null, "a"));
+        verify(listener()).onEvent(new ServerSentEvent(null, data));
+        verify(listener()).onEvent(new ServerSentEvent(null, "b"));
+    }
+
+    @Test
+    void shouldProvideUtf8DataWithoutDecoding() {
+
+        // given
+        String input = "data:  {\"content\": \"Привет, 世界 👋\"} \n\n";
+
+        // when
+        new Utf8ServerSentEventParser().parse(oneByteAtATime(input), listener());
+
+        // then
+        ArgumentCaptor<ServerSentEvent> captor = ArgumentCaptor.forClass(ServerSentEvent.class);
+        verify(listener()).onEvent(captor.capture());
+        assertThat(captor.getValue().utf8Data()).isEqualTo("{\"content\": \"Привет, 世界 👋\"}".getBytes(UTF_8));
+        assertThat(captor.getValue().data()).isEqualTo("{\"content\": \"Привет, 世界 👋\"}");
+    }
+
+    @Test
+    void shouldParsePublishedBody() {
+
+        // given
+        byte[] bytes = "data: First\r\n\r\ndata: Sec".getBytes(UTF_8);
+        byte[] moreBytes = "ond\n\ndata: Third".getBytes(UTF_8);
+        Flow.Subscriber<List<ByteBuffer>> subscriber = new Utf8ServerSentEventParser().subscriber(listener());
+
+        // when
+        subscriber.onSubscribe(mock(Flow.Subscription.class));
+        subscriber.onNext(List.of(ByteBuffer.wrap(bytes, 0, 10), ByteBuffer.wrap(bytes, 10, bytes.length - 10)));
+        subscriber.onNext(List.of(ByteBuffer.wrap(moreBytes)));
+        subscriber.onComplete();
+
+        // then
+        InOrder inOrder = inOrder(listener());
+        inOrder.verify(listener()).onEvent(new ServerSentEvent(null, "First"));
+        inOrder.verify(listener()).onEvent(new ServerSentEvent(null, "Second"));
+        inOrder.verify(listener()).onEvent(new ServerSentEvent(null, "Third"));
+        inOrder.verify(listener()).onClose();
+    }
+
+    private static InputStream oneByteAtATime(String input) {
+        return new FilterInputStream(new ByteArrayInputStream(input.getBytes(UTF_8))) {
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+    }
+}
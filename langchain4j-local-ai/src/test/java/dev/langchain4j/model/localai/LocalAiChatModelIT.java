@@ -4,6 +4,7 @@ import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.response.ChatResponse;
 import org.junit.jupiter.api.Test;
 
@@ -11,6 +12,7 @@ import java.util.List;
 
 import static dev.langchain4j.model.output.FinishReason.STOP;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class LocalAiChatModelIT {
@@ -52,4 +54,19 @@ class LocalAiChatModelIT {
         assertThat(response.tokenUsage()).isNull();
         assertThat(response.finishReason()).isEqualTo(STOP); // should be LENGTH, this is a bug in LocalAI
     }
+
+    @Test
+    void should_send_messages_and_return_response_asynchronously() throws Exception {
+
+        // given
+        ChatRequest chatRequest = ChatRequest.builder()
+                .messages(UserMessage.from("hello"))
+                .build();
+
+        // when
+        ChatResponse response = model.chatAsync(chatRequest).get(60, SECONDS);
+
+        // then
+        assertThat(response.aiMessage().text()).isNotBlank();
+    }
 }
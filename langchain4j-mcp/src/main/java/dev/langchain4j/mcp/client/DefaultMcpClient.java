@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.mcp.client.logging.DefaultMcpLogMessageHandler;
 import dev.langchain4j.mcp.client.logging.McpLogMessageHandler;
 import dev.langchain4j.mcp.client.protocol.CancellationNotification;
@@ -34,8 +35,9 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -48,6 +50,13 @@ import org.slf4j.LoggerFactory;
 public class DefaultMcpClient implements McpClient {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultMcpClient.class);
+
+    /**
+     * Triggers the health checks of all clients; the checks themselves are executed
+     * on the shared {@link DefaultExecutorProvider} executor, so that a slow server does not delay the others.
+     */
+    private static final ScheduledExecutorService HEALTH_CHECK_SCHEDULER = createHealthCheckScheduler();
+
     private final AtomicLong idGenerator = new AtomicLong(0);
     private final McpTransport transport;
     static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
@@ -75,7 +84,8 @@ public class DefaultMcpClient implements McpClient {
     private volatile boolean closed = false;
     private final Boolean autoHealthCheck;
     private final Duration autoHealthCheckInterval;
-    private final ScheduledExecutorService healthCheckScheduler;
+    private final AtomicBoolean healthCheckInProgress = new AtomicBoolean();
+    private volatile ScheduledFuture<?> healthCheck;
     private final ReentrantLock initializationLock = new ReentrantLock();
 
     public DefaultMcpClient(Builder builder) {
@@ -93,13 +103,6 @@ public class DefaultMcpClient implements McpClient {
         reconnectInterval = getOrDefault(builder.reconnectInterval, Duration.ofSeconds(5));
         autoHealthCheck = getOrDefault(builder.autoHealthCheck, Boolean.TRUE);
         autoHealthCheckInterval = getOrDefault(builder.autoHealthCheckInterval, Duration.ofSeconds(30));
-        healthCheckScheduler = autoHealthCheck
-                ? Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "mcp-server-health-checker");
-            t.setDaemon(true);
-            return t;
-        })
-                : null;
         toolExecutionTimeoutErrorMessage =
                 getOrDefault(builder.toolExecutionTimeoutErrorMessage, "There was a timeout executing the tool");
         RESULT_TIMEOUT = JsonNodeFactory.instance.objectNode();
@@ -371,16 +374,33 @@ public class DefaultMcpClient implements McpClient {
             } catch (Exception e) {
                 log.warn("mcp server health check failed. Attempting to reconnect...", e);
                 triggerReconnection();
+            } finally {
+                healthCheckInProgress.set(false);
             }
         };
-        healthCheckScheduler.scheduleAtFixedRate(
-                healthCheckTask,
+        healthCheck = HEALTH_CHECK_SCHEDULER.scheduleAtFixedRate(
+                () -> {
+                    // skip this check if the previous one is still waiting for the server
+                    if (!closed && healthCheckInProgress.compareAndSet(false, true)) {
+                        DefaultExecutorProvider.getDefaultExecutorService().execute(healthCheckTask);
+                    }
+                },
                 autoHealthCheckInterval.toMillis(),
                 autoHealthCheckInterval.toMillis(),
                 TimeUnit.MILLISECONDS
         );
     }
 
+    private static ScheduledExecutorService createHealthCheckScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "mcp-server-health-checker");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
     private void triggerReconnection() {
         if (initializationLock.tryLock()) {
             try {
@@ -414,8 +434,8 @@ public class DefaultMcpClient implements McpClient {
     @Override
     public void close() {
         closed = true;
-        if (healthCheckScheduler != null) {
-            healthCheckScheduler.shutdownNow();
+        if (healthCheck != null) {
+            healthCheck.cancel(false);
         }
         try {
             transport.close();
@@ -10,7 +10,7 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.time.Duration;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -57,10 +57,11 @@ public class McpAutoHealthCheckIT {
 
     @Test
     void shouldStartHealthCheckSchedulerByDefault() throws Exception {
-        Field schedulerField = DefaultMcpClient.class.getDeclaredField("healthCheckScheduler");
-        schedulerField.setAccessible(true);
-        ScheduledExecutorService scheduler = (ScheduledExecutorService) schedulerField.get(mcpClient);
-        assertThat(scheduler).isNotNull();
+        Field healthCheckField = DefaultMcpClient.class.getDeclaredField("healthCheck");
+        healthCheckField.setAccessible(true);
+        ScheduledFuture<?> healthCheck = (ScheduledFuture<?>) healthCheckField.get(mcpClient);
+        assertThat(healthCheck).isNotNull();
+        assertThat(healthCheck.isDone()).isFalse();
         assertThatCode(() -> TimeUnit.MILLISECONDS.sleep(500))
                 .doesNotThrowAnyException();
     }
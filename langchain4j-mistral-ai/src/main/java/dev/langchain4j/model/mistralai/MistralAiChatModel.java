@@ -1,6 +1,7 @@
 package dev.langchain4j.model.mistralai;
 
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptionsAsync;
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
@@ -30,6 +31,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -229,7 +231,21 @@ public class MistralAiChatModel implements ChatModel {
         MistralAiChatCompletionResponse mistralAiResponse =
                 withRetryMappingExceptions(() -> client.chatCompletion(request), maxRetries);
 
-         return ChatResponse.builder()
+        return toChatResponse(mistralAiResponse);
+    }
+
+    @Override
+    public CompletableFuture<ChatResponse> doChatAsync(ChatRequest chatRequest) {
+        validate(chatRequest.parameters());
+
+        MistralAiChatCompletionRequest request = createMistralAiRequest(chatRequest, safePrompt, randomSeed, false);
+
+        return withRetryMappingExceptionsAsync(() -> client.chatCompletionAsync(request), maxRetries)
+                .thenApply(MistralAiChatModel::toChatResponse);
+    }
+
+    private static ChatResponse toChatResponse(MistralAiChatCompletionResponse mistralAiResponse) {
+        return ChatResponse.builder()
                 .aiMessage(aiMessageFrom(mistralAiResponse))
                 .metadata(ChatResponseMetadata.builder()
                         .id(mistralAiResponse.getId())
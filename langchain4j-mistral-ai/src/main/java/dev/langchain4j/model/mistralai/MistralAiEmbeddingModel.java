@@ -1,6 +1,7 @@
 package dev.langchain4j.model.mistralai;
 
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptionsAsync;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.model.mistralai.internal.mapper.MistralAiMapper.tokenUsageFrom;
@@ -18,6 +19,7 @@ import dev.langchain4j.model.mistralai.spi.MistralAiEmbeddingModelBuilderFactory
 import dev.langchain4j.model.output.Response;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents a Mistral AI embedding model, such as mistral-embed.
@@ -93,13 +95,31 @@ public class MistralAiEmbeddingModel extends DimensionAwareEmbeddingModel {
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
 
-        MistralAiEmbeddingRequest request = MistralAiEmbeddingRequest.builder()
+        MistralAiEmbeddingRequest request = toEmbeddingRequest(textSegments);
+
+        MistralAiEmbeddingResponse response = withRetryMappingExceptions(() -> client.embedding(request), maxRetries);
+
+        return toResponse(response);
+    }
+
+    @Override
+    public CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+
+        MistralAiEmbeddingRequest request = toEmbeddingRequest(textSegments);
+
+        return withRetryMappingExceptionsAsync(() -> client.embeddingAsync(request), maxRetries)
+                .thenApply(MistralAiEmbeddingModel::toResponse);
+    }
+
+    private MistralAiEmbeddingRequest toEmbeddingRequest(List<TextSegment> textSegments) {
+        return MistralAiEmbeddingRequest.builder()
                 .model(modelName)
                 .input(textSegments.stream().map(TextSegment::text).collect(toList()))
                 .encodingFormat(EMBEDDINGS_ENCODING_FORMAT)
                 .build();
+    }
 
-        MistralAiEmbeddingResponse response = withRetryMappingExceptions(() -> client.embedding(request), maxRetries);
+    private static Response<List<Embedding>> toResponse(MistralAiEmbeddingResponse response) {
 
         List<Embedding> embeddings = response.getData().stream()
                 .map(mistralAiEmbedding -> Embedding.from(mistralAiEmbedding.getEmbedding()))
@@ -20,6 +20,7 @@ import dev.langchain4j.model.StreamingResponseHandler;
 import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import dev.langchain4j.model.mistralai.internal.api.*;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 @Internal
 public class DefaultMistralAiClient extends MistralAiClient {
@@ -63,19 +64,19 @@ public class DefaultMistralAiClient extends MistralAiClient {
 
     @Override
     public MistralAiChatCompletionResponse chatCompletion(MistralAiChatCompletionRequest request) {
-        HttpRequest httpRequest = HttpRequest.builder()
-                .method(POST)
-                .url(baseUrl, "chat/completions")
-                .addHeader("Authorization", "Bearer " + apiKey)
-                .addHeader("Content-Type", "application/json")
-                .addHeader("User-Agent", "langchain4j-mistral-ai")
-                .body(toJson(request))
-                .build();
-
-        SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(httpRequest);
+        SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(postRequest("chat/completions", request));
         return fromJson(successfulHttpResponse.body(), MistralAiChatCompletionResponse.class);
     }
 
+    @Override
+    public CompletableFuture<MistralAiChatCompletionResponse> chatCompletionAsync(
+            MistralAiChatCompletionRequest request) {
+        return httpClient
+                .executeAsync(postRequest("chat/completions", request))
+                .thenApply(successfulHttpResponse ->
+                        fromJson(successfulHttpResponse.body(), MistralAiChatCompletionResponse.class));
+    }
+
     @Override
     public void streamingChatCompletion(
             MistralAiChatCompletionRequest request, StreamingChatResponseHandler handler) {
@@ -135,17 +136,27 @@ public class DefaultMistralAiClient extends MistralAiClient {
 
     @Override
     public MistralAiEmbeddingResponse embedding(MistralAiEmbeddingRequest request) {
-        HttpRequest httpRequest = HttpRequest.builder()
+        SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(postRequest("embeddings", request));
+        return fromJson(successfulHttpResponse.body(), MistralAiEmbeddingResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<MistralAiEmbeddingResponse> embeddingAsync(MistralAiEmbeddingRequest request) {
+        return httpClient
+                .executeAsync(postRequest("embeddings", request))
+                .thenApply(successfulHttpResponse ->
+                        fromJson(successfulHttpResponse.body(), MistralAiEmbeddingResponse.class));
+    }
+
+    private HttpRequest postRequest(String path, Object request) {
+        return HttpRequest.builder()
                 .method(POST)
-                .url(baseUrl, "embeddings")
+                .url(baseUrl, path)
                 .addHeader("Authorization", "Bearer " + apiKey)
                 .addHeader("Content-Type", "application/json")
                 .addHeader("User-Agent", "langchain4j-mistral-ai")
                 .body(toJson(request))
                 .build();
-
-        SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(httpRequest);
-        return fromJson(successfulHttpResponse.body(), MistralAiEmbeddingResponse.class);
     }
 
     @Override
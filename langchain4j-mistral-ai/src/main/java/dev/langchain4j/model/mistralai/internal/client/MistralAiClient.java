@@ -7,6 +7,7 @@ import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import dev.langchain4j.model.mistralai.internal.api.*;
 import dev.langchain4j.spi.ServiceHelper;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 @Internal
 public abstract class MistralAiClient {
@@ -18,6 +19,31 @@ public abstract class MistralAiClient {
 
     public abstract MistralAiEmbeddingResponse embedding(MistralAiEmbeddingRequest request);
 
+    /**
+     * Requests a chat completion without blocking the calling thread.
+     * By default, requests it synchronously on the calling thread.
+     */
+    public CompletableFuture<MistralAiChatCompletionResponse> chatCompletionAsync(
+            MistralAiChatCompletionRequest request) {
+        try {
+            return CompletableFuture.completedFuture(chatCompletion(request));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Requests embeddings without blocking the calling thread.
+     * By default, requests them synchronously on the calling thread.
+     */
+    public CompletableFuture<MistralAiEmbeddingResponse> embeddingAsync(MistralAiEmbeddingRequest request) {
+        try {
+            return CompletableFuture.completedFuture(embedding(request));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     public abstract MistralAiModerationResponse moderation(MistralAiModerationRequest request);
 
     public abstract MistralAiModelResponse listModels();
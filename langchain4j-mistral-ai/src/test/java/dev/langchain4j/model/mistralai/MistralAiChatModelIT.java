@@ -112,6 +112,23 @@ class MistralAiChatModelIT {
         assertThat(response.finishReason()).isEqualTo(STOP);
     }
 
+    @Test
+    void should_generate_answer_asynchronously() {
+
+        // given
+        ChatRequest chatRequest = ChatRequest.builder()
+                .messages(userMessage("What is the capital of Peru?"))
+                .build();
+
+        // when
+        ChatResponse response = defaultModel.chatAsync(chatRequest).join();
+
+        // then
+        assertThat(response.aiMessage().text()).contains("Lima");
+        assertThat(response.tokenUsage().totalTokenCount()).isGreaterThan(0);
+        assertThat(response.finishReason()).isEqualTo(STOP);
+    }
+
     @Test
     void should_generate_answer_and_return_token_usage_and_finish_reason_length() {
 
@@ -63,4 +63,22 @@ class MistralAiEmbeddingModelIT {
 
         assertThat(response.finishReason()).isNull();
     }
+
+    @Test
+    void should_embed_multiple_inputs_asynchronously() {
+
+        // given
+        TextSegment textSegment1 = TextSegment.from("Embed this sentence.");
+        TextSegment textSegment2 = TextSegment.from("As well as this one.");
+
+        // when
+        Response<List<Embedding>> response =
+                model.embedAllAsync(asList(textSegment1, textSegment2)).join();
+
+        // then
+        assertThat(response.content()).hasSize(2);
+        assertThat(response.content().get(0).vector()).hasSize(1024);
+        assertThat(response.content().get(1).vector()).hasSize(1024);
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(7 + 8);
+    }
 }
@@ -1,6 +1,7 @@
 package dev.langchain4j.model.ollama;
 
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptionsAsync;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.ModelProvider.OLLAMA;
 import static dev.langchain4j.model.ollama.InternalOllamaHelper.aiMessageFrom;
@@ -18,6 +19,7 @@ import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.model.ollama.spi.OllamaChatModelBuilderFactory;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <a href="https://github.com/jmorganca/ollama/blob/main/docs/api.md">Ollama API reference</a>
@@ -41,6 +43,20 @@ public class OllamaChatModel extends OllamaBaseChatModel implements ChatModel {
         OllamaChatResponse ollamaChatResponse =
                 withRetryMappingExceptions(() -> client.chat(ollamaChatRequest), maxRetries);
 
+        return toChatResponse(ollamaChatResponse);
+    }
+
+    @Override
+    public CompletableFuture<ChatResponse> doChatAsync(ChatRequest chatRequest) {
+        validate(chatRequest.parameters());
+
+        OllamaChatRequest ollamaChatRequest = toOllamaChatRequest(chatRequest, false);
+
+        return withRetryMappingExceptionsAsync(() -> client.chatAsync(ollamaChatRequest), maxRetries)
+                .thenApply(OllamaChatModel::toChatResponse);
+    }
+
+    private static ChatResponse toChatResponse(OllamaChatResponse ollamaChatResponse) {
         return ChatResponse.builder()
                 .aiMessage(aiMessageFrom(ollamaChatResponse))
                 .metadata(chatResponseMetadataFrom(ollamaChatResponse))
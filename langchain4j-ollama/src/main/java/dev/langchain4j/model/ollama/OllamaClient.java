@@ -32,6 +32,7 @@ import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 class OllamaClient {
 
@@ -82,17 +83,26 @@ class OllamaClient {
 
     public OllamaChatResponse chat(OllamaChatRequest request) {
 
-        HttpRequest httpRequest = HttpRequest.builder()
+        SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(chatHttpRequest(request));
+
+        return fromJson(successfulHttpResponse.body(), OllamaChatResponse.class);
+    }
+
+    public CompletableFuture<OllamaChatResponse> chatAsync(OllamaChatRequest request) {
+        return httpClient
+                .executeAsync(chatHttpRequest(request))
+                .thenApply(successfulHttpResponse ->
+                        fromJson(successfulHttpResponse.body(), OllamaChatResponse.class));
+    }
+
+    private HttpRequest chatHttpRequest(OllamaChatRequest request) {
+        return HttpRequest.builder()
                 .method(POST)
                 .url(baseUrl, "api/chat")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
                 .body(toJson(request))
                 .build();
-
-        SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(httpRequest);
-
-        return fromJson(successfulHttpResponse.body(), OllamaChatResponse.class);
     }
 
     public void streamingCompletion(CompletionRequest request, StreamingResponseHandler<String> handler) {
@@ -181,17 +191,25 @@ class OllamaClient {
 
     public EmbeddingResponse embed(EmbeddingRequest request) {
 
-        HttpRequest httpRequest = HttpRequest.builder()
+        SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(embedHttpRequest(request));
+
+        return fromJson(successfulHttpResponse.body(), EmbeddingResponse.class);
+    }
+
+    public CompletableFuture<EmbeddingResponse> embedAsync(EmbeddingRequest request) {
+        return httpClient
+                .executeAsync(embedHttpRequest(request))
+                .thenApply(successfulHttpResponse -> fromJson(successfulHttpResponse.body(), EmbeddingResponse.class));
+    }
+
+    private HttpRequest embedHttpRequest(EmbeddingRequest request) {
+        return HttpRequest.builder()
                 .method(POST)
                 .url(baseUrl, "api/embed")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
                 .body(toJson(request))
                 .build();
-
-        SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(httpRequest);
-
-        return fromJson(successfulHttpResponse.body(), EmbeddingResponse.class);
     }
 
     public ModelsListResponse listModels() {
@@ -1,6 +1,7 @@
 package dev.langchain4j.model.ollama;
 
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptionsAsync;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
@@ -15,6 +16,7 @@ import dev.langchain4j.model.output.Response;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -48,11 +50,27 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        EmbeddingRequest request = toEmbeddingRequest(textSegments);
+        EmbeddingResponse response = withRetryMappingExceptions(() -> client.embed(request), maxRetries);
+
+        return toResponse(response);
+    }
+
+    @Override
+    public CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+        EmbeddingRequest request = toEmbeddingRequest(textSegments);
+
+        return withRetryMappingExceptionsAsync(() -> client.embedAsync(request), maxRetries)
+                .thenApply(OllamaEmbeddingModel::toResponse);
+    }
+
+    private EmbeddingRequest toEmbeddingRequest(List<TextSegment> textSegments) {
         List<String> input = textSegments.stream().map(TextSegment::text).collect(Collectors.toList());
 
-        EmbeddingRequest request =
-                EmbeddingRequest.builder().model(modelName).input(input).build();
-        EmbeddingResponse response = withRetryMappingExceptions(() -> client.embed(request), maxRetries);
+        return EmbeddingRequest.builder().model(modelName).input(input).build();
+    }
+
+    private static Response<List<Embedding>> toResponse(EmbeddingResponse response) {
         List<Embedding> embeddings =
                 response.getEmbeddings().stream().map(Embedding::from).collect(Collectors.toList());
 
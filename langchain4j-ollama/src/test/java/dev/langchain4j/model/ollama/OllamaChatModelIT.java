@@ -100,6 +100,23 @@ class OllamaChatModelIT extends AbstractOllamaLanguageModelInfrastructure {
         assertThat(metadata.finishReason()).isEqualTo(FinishReason.STOP);
     }
 
+    @Test
+    void should_generate_response_asynchronously() {
+
+        // given
+        ChatRequest chatRequest = ChatRequest.builder()
+                .messages(UserMessage.from("What is the capital of Germany?"))
+                .build();
+
+        // when
+        ChatResponse response = model.chatAsync(chatRequest).join();
+
+        // then
+        assertThat(response.aiMessage().text()).contains("Berlin");
+        assertThat(response.metadata().modelName()).isEqualTo(MODEL_NAME);
+        assertThat(response.metadata().finishReason()).isEqualTo(FinishReason.STOP);
+    }
+
     @Test
     void should_respect_numPredict() {
 
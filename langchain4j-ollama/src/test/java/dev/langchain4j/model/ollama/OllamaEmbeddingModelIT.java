@@ -58,6 +58,23 @@ class OllamaEmbeddingModelIT extends AbstractOllamaEmbeddingModelInfrastructure
         assertThat(response.finishReason()).isNull();
     }
 
+    @Test
+    void should_embed_multiple_segments_asynchronously() {
+
+        // given
+        List<TextSegment> segments = asList(
+                TextSegment.from("hello"),
+                TextSegment.from("world")
+        );
+
+        // when
+        Response<List<Embedding>> response = model.embedAllAsync(segments).join();
+
+        // then
+        assertThat(response.content()).hasSize(2);
+        assertThat(response.content()).isEqualTo(model.embedAll(segments).content());
+    }
+
     @Test
     void should_return_correct_dimension() {
         // given
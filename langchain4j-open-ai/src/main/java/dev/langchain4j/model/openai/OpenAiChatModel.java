@@ -19,8 +19,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptionsAsync;
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.ModelProvider.OPEN_AI;
@@ -140,6 +142,24 @@ public class OpenAiChatModel implements ChatModel {
         ChatCompletionResponse openAiResponse = withRetryMappingExceptions(() ->
                 client.chatCompletion(openAiRequest).execute(), maxRetries);
 
+        return toChatResponse(openAiResponse);
+    }
+
+    @Override
+    public CompletableFuture<ChatResponse> doChatAsync(ChatRequest chatRequest) {
+
+        OpenAiChatRequestParameters parameters = (OpenAiChatRequestParameters) chatRequest.parameters();
+        validate(parameters);
+
+        ChatCompletionRequest openAiRequest =
+                toOpenAiChatRequest(chatRequest, parameters, strictTools, strictJsonSchema).build();
+
+        return withRetryMappingExceptionsAsync(() -> client.chatCompletion(openAiRequest).executeAsync(), maxRetries)
+                .thenApply(OpenAiChatModel::toChatResponse);
+    }
+
+    private static ChatResponse toChatResponse(ChatCompletionResponse openAiResponse) {
+
         OpenAiChatResponseMetadata responseMetadata = OpenAiChatResponseMetadata.builder()
                 .id(openAiResponse.id())
                 .modelName(openAiResponse.model())
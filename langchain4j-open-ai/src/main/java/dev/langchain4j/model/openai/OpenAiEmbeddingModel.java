@@ -3,6 +3,8 @@ package dev.langchain4j.model.openai;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.openai.internal.OpenAiClient;
 import dev.langchain4j.model.openai.internal.embedding.EmbeddingRequest;
@@ -16,8 +18,18 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static dev.langchain4j.internal.Exceptions.unwrapCompletionException;
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptionsAsync;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_OPENAI_URL;
@@ -28,6 +40,14 @@ import static java.time.Duration.ofSeconds;
 
 /**
  * Represents an OpenAI embedding model, such as text-embedding-ada-002.
+ * <br>
+ * Texts are embedded in batches of at most {@code maxSegmentsPerBatch} texts
+ * and, if configured, {@code maxTokensPerBatch} tokens.
+ * By default, batches are sent one after another.
+ * When {@code maxConcurrentBatches} is greater than 1, up to that many batches are sent concurrently
+ * (on the executor shared by all LangChain4j components, see {@link DefaultExecutorProvider},
+ * unless an {@code executor} is specified).
+ * Each batch is retried independently.
  */
 public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
 
@@ -37,6 +57,10 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final String user;
     private final Integer maxRetries;
     private final Integer maxSegmentsPerBatch;
+    private final Integer maxTokensPerBatch;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final int maxConcurrentBatches;
+    private final Executor executor;
 
     public OpenAiEmbeddingModel(OpenAiEmbeddingModelBuilder builder) {
 
@@ -59,6 +83,33 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         this.maxRetries = getOrDefault(builder.maxRetries, 2);
         this.maxSegmentsPerBatch = getOrDefault(builder.maxSegmentsPerBatch, 2048);
         ensureGreaterThanZero(this.maxSegmentsPerBatch, "maxSegmentsPerBatch");
+        // texts are only tokenized when batches are limited by their number of tokens
+        this.maxTokensPerBatch = builder.maxTokensPerBatch == null
+                ? null
+                : ensureGreaterThanZero(builder.maxTokensPerBatch, "maxTokensPerBatch");
+        this.tokenCountEstimator = this.maxTokensPerBatch == null
+                ? null
+                : getOrDefault(builder.tokenCountEstimator, () -> defaultTokenCountEstimator(modelName));
+        this.maxConcurrentBatches =
+                ensureGreaterThanZero(getOrDefault(builder.maxConcurrentBatches, 1), "maxConcurrentBatches");
+        this.executor = maxConcurrentBatches > 1
+                ? getOrDefault(builder.executor, DefaultExecutorProvider::getDefaultExecutorService)
+                : null;
+    }
+
+    /**
+     * Token counts can only be estimated for models known to the tokenizer,
+     * batches of other models are only limited by their number of texts.
+     */
+    private static TokenCountEstimator defaultTokenCountEstimator(String modelName) {
+        if (modelName == null) {
+            return null;
+        }
+        try {
+            return new OpenAiTokenCountEstimator(modelName);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
     @Override
@@ -79,27 +130,111 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
 
         List<String> texts = textSegments.stream().map(TextSegment::text).toList();
 
-        List<List<String>> textBatches = partition(texts, maxSegmentsPerBatch);
+        List<List<String>> textBatches = partition(texts);
 
         return embedBatchedTexts(textBatches);
     }
 
-    private List<List<String>> partition(List<String> inputList, int size) {
+    /**
+     * Sends the batches without blocking any thread, up to {@link #maxConcurrentBatches} at a time.
+     * Once a batch has failed (after its retries), no further batch is sent,
+     * and the returned future is completed with the first failure.
+     */
+    @Override
+    public CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+
+        List<String> texts = textSegments.stream().map(TextSegment::text).toList();
+
+        List<List<String>> textBatches = partition(texts);
+        if (textBatches.isEmpty()) {
+            return CompletableFuture.completedFuture(combine(List.of()));
+        }
+
+        AsyncBatches batches = new AsyncBatches(textBatches);
+        for (int i = 0; i < Math.min(maxConcurrentBatches, textBatches.size()); i++) {
+            batches.sendNext();
+        }
+        return batches.result;
+    }
+
+    private class AsyncBatches {
+
+        private final List<List<String>> textBatches;
+        private final AtomicReferenceArray<Response<List<Embedding>>> responses;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final CompletableFuture<Response<List<Embedding>>> result = new CompletableFuture<>();
+
+        AsyncBatches(List<List<String>> textBatches) {
+            this.textBatches = textBatches;
+            this.responses = new AtomicReferenceArray<>(textBatches.size());
+            this.remaining = new AtomicInteger(textBatches.size());
+        }
+
+        void sendNext() {
+            int index = next.getAndIncrement();
+            if (index >= textBatches.size() || result.isDone()) {
+                return;
+            }
+            embedTextsAsync(textBatches.get(index)).whenComplete((response, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(unwrapCompletionException(error));
+                    return;
+                }
+                responses.set(index, response);
+                if (remaining.decrementAndGet() == 0) {
+                    List<Response<List<Embedding>>> orderedResponses = new ArrayList<>();
+                    for (int i = 0; i < responses.length(); i++) {
+                        orderedResponses.add(responses.get(i));
+                    }
+                    result.complete(combine(orderedResponses));
+                } else {
+                    sendNext();
+                }
+            });
+        }
+    }
+
+    /**
+     * Cuts the texts into consecutive batches of at most {@link #maxSegmentsPerBatch} texts
+     * and, if configured and token counts can be estimated, {@link #maxTokensPerBatch} tokens.
+     * A text exceeding {@link #maxTokensPerBatch} tokens on its own is sent alone (and rejected by the API).
+     */
+    private List<List<String>> partition(List<String> texts) {
         List<List<String>> result = new ArrayList<>();
-        for (int i = 0; i < inputList.size(); i += size) {
-            int fromIndex = i;
-            int toIndex = Math.min(i + size, inputList.size());
-            result.add(inputList.subList(fromIndex, toIndex));
+        int fromIndex = 0;
+        int batchTokens = 0;
+        for (int i = 0; i < texts.size(); i++) {
+            int tokens = tokenCountEstimator == null ? 0 : tokenCountEstimator.estimateTokenCountInText(texts.get(i));
+            boolean full = i - fromIndex == maxSegmentsPerBatch
+                    || (tokenCountEstimator != null && batchTokens + tokens > maxTokensPerBatch);
+            if (full && i > fromIndex) {
+                result.add(texts.subList(fromIndex, i));
+                fromIndex = i;
+                batchTokens = 0;
+            }
+            batchTokens += tokens;
+        }
+        if (fromIndex < texts.size()) {
+            result.add(texts.subList(fromIndex, texts.size()));
         }
         return result;
     }
 
     private Response<List<Embedding>> embedBatchedTexts(List<List<String>> textBatches) {
         List<Response<List<Embedding>>> responses = new ArrayList<>();
-        for (List<String> batch : textBatches) {
-            Response<List<Embedding>> response = embedTexts(batch);
-            responses.add(response);
+        if (maxConcurrentBatches == 1 || textBatches.size() == 1) {
+            for (List<String> batch : textBatches) {
+                Response<List<Embedding>> response = embedTexts(batch);
+                responses.add(response);
+            }
+        } else {
+            responses = embedBatchesConcurrently(textBatches);
         }
+        return combine(responses);
+    }
+
+    private static Response<List<Embedding>> combine(List<Response<List<Embedding>>> responses) {
         return Response.from(
                 responses.stream()
                         .flatMap(response -> response.content().stream())
@@ -111,16 +246,81 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                         .orElse(null));
     }
 
+    /**
+     * Sends up to {@link #maxConcurrentBatches} batches at a time, and returns their responses in order.
+     * Once a batch has failed (after its retries), no further batch is sent, and the first failure is rethrown.
+     */
+    private List<Response<List<Embedding>>> embedBatchesConcurrently(List<List<String>> textBatches) {
+        Semaphore permits = new Semaphore(maxConcurrentBatches);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletableFuture<Response<List<Embedding>>>> futures = new ArrayList<>();
+        for (List<String> batch : textBatches) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            if (failure.get() != null) {
+                break;
+            }
+            CompletableFuture<Response<List<Embedding>>> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> embedTexts(batch), executor);
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                throw e;
+            }
+            future.whenComplete((response, error) -> {
+                if (error != null) {
+                    failure.compareAndSet(null, error);
+                }
+                permits.release();
+            });
+            futures.add(future);
+        }
+
+        List<Response<List<Embedding>>> responses = new ArrayList<>();
+        for (CompletableFuture<Response<List<Embedding>>> future : futures) {
+            try {
+                responses.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+        return responses;
+    }
+
     private Response<List<Embedding>> embedTexts(List<String> texts) {
 
-        EmbeddingRequest request = EmbeddingRequest.builder()
+        EmbeddingRequest request = toEmbeddingRequest(texts);
+
+        EmbeddingResponse response = withRetryMappingExceptions(() -> client.embedding(request).execute(), maxRetries);
+
+        return toResponse(response);
+    }
+
+    private CompletableFuture<Response<List<Embedding>>> embedTextsAsync(List<String> texts) {
+
+        EmbeddingRequest request = toEmbeddingRequest(texts);
+
+        return withRetryMappingExceptionsAsync(() -> client.embedding(request).executeAsync(), maxRetries)
+                .thenApply(OpenAiEmbeddingModel::toResponse);
+    }
+
+    private EmbeddingRequest toEmbeddingRequest(List<String> texts) {
+        return EmbeddingRequest.builder()
                 .input(texts)
                 .model(modelName)
                 .dimensions(dimensions)
                 .user(user)
                 .build();
+    }
 
-        EmbeddingResponse response = withRetryMappingExceptions(() -> client.embedding(request).execute(), maxRetries);
+    private static Response<List<Embedding>> toResponse(EmbeddingResponse response) {
 
         List<Embedding> embeddings = response.data().stream()
                 .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
@@ -150,6 +350,10 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         private Duration timeout;
         private Integer maxRetries;
         private Integer maxSegmentsPerBatch;
+        private Integer maxTokensPerBatch;
+        private TokenCountEstimator tokenCountEstimator;
+        private Integer maxConcurrentBatches;
+        private Executor executor;
         private Boolean logRequests;
         private Boolean logResponses;
         private Map<String, String> customHeaders;
@@ -233,6 +437,42 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * Sets the maximum number of tokens sent in a single request, e.g. 300,000 (the OpenAI limit).
+         * By default, batches are not limited by their number of tokens, so texts are not tokenized.
+         * Only applies when token counts can be estimated, see {@link #tokenCountEstimator(TokenCountEstimator)}.
+         */
+        public OpenAiEmbeddingModelBuilder maxTokensPerBatch(Integer maxTokensPerBatch) {
+            this.maxTokensPerBatch = maxTokensPerBatch;
+            return this;
+        }
+
+        /**
+         * Sets the estimator used to respect {@link #maxTokensPerBatch(Integer)}. Ignored if that is not set.
+         * By default, an {@link OpenAiTokenCountEstimator} for the model name is used, if the model is known to it.
+         */
+        public OpenAiEmbeddingModelBuilder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches sent concurrently by a single {@code embedAll} call. Default: 1.
+         */
+        public OpenAiEmbeddingModelBuilder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * Sets the executor on which batches are sent when {@link #maxConcurrentBatches(Integer)} is greater than 1.
+         * By default, a virtual thread per batch is used when available, otherwise a cached thread pool.
+         */
+        public OpenAiEmbeddingModelBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public OpenAiEmbeddingModel build() {
             return new OpenAiEmbeddingModel(this);
         }
@@ -2,6 +2,7 @@ package dev.langchain4j.model.openai.internal;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES;
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
@@ -27,4 +28,12 @@ class Json {
             throw new RuntimeException(jpe);
         }
     }
+
+    static <T> T fromJson(byte[] utf8Json, Class<T> type) {
+        try {
+            return OBJECT_MAPPER.readValue(utf8Json, type);
+        } catch (IOException ioe) {
+            throw new RuntimeException(ioe);
+        }
+    }
 }
@@ -1,13 +1,18 @@
 package dev.langchain4j.model.openai.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.sse.ServerSentEvent;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
 class StreamingRequestExecutor<Response> {
 
+    private static final byte[] DONE = "[DONE]".getBytes(UTF_8);
+
     private final HttpClient httpClient;
     private final HttpRequest streamingHttpRequest;
     private final Class<Response> responseClass;
@@ -98,7 +103,9 @@ class StreamingRequestExecutor<Response> {
             @Override
             public void onEvent(ServerSentEvent event) {
 
-                if ("[DONE]".equals(event.data())) {
+                // the data is parsed as UTF-8 bytes, without decoding it into a String first
+                byte[] data = event.utf8Data();
+                if (Arrays.equals(DONE, data)) {
                     return;
                 }
                 try {
@@ -106,7 +113,7 @@ class StreamingRequestExecutor<Response> {
                         errorHandler.accept(new RuntimeException(event.data()));
                         return;
                     }
-                    Response response = Json.fromJson(event.data(), responseClass);
+                    Response response = Json.fromJson(data, responseClass);
                     if (response != null) {
                         partialResponseHandler.accept(response); // do not handle exception, fail-fast
                     }
@@ -1,10 +1,23 @@
 package dev.langchain4j.model.openai.internal;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public interface SyncOrAsync<ResponseContent> {
 
     ResponseContent execute();
 
+    /**
+     * Executes the request without blocking the calling thread.
+     * By default, executes it synchronously on the calling thread.
+     */
+    default CompletableFuture<ResponseContent> executeAsync() {
+        try {
+            return CompletableFuture.completedFuture(execute());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     AsyncResponseHandling onResponse(Consumer<ResponseContent> responseHandler);
 }
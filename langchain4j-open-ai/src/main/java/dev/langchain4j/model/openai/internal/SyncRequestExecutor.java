@@ -4,6 +4,8 @@ import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 class SyncRequestExecutor<Response> {
 
     private final HttpClient httpClient;
@@ -20,4 +22,9 @@ class SyncRequestExecutor<Response> {
         SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(httpRequest);
         return Json.fromJson(successfulHttpResponse.body(), responseClass);
     }
+
+    CompletableFuture<Response> executeAsync() {
+        return httpClient.executeAsync(httpRequest)
+                .thenApply(successfulHttpResponse -> Json.fromJson(successfulHttpResponse.body(), responseClass));
+    }
 }
@@ -4,6 +4,7 @@ import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_4_O_MINI;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.exception.AuthenticationException;
 import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.exception.InternalServerException;
@@ -12,8 +13,10 @@ import dev.langchain4j.exception.LangChain4jException;
 import dev.langchain4j.exception.ModelNotFoundException;
 import dev.langchain4j.exception.RateLimitException;
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
 import io.ktor.http.HttpStatusCode;
 import java.time.Duration;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Stream;
 import me.kpavlov.aimocks.openai.MockOpenai;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -67,6 +70,30 @@ class OpenAiChatModelErrorsTest {
                         .isEqualTo(httpStatusCode));
     }
 
+    @ParameterizedTest
+    @MethodSource("errors")
+    void should_handle_error_responses_asynchronously(int httpStatusCode, Class<LangChain4jException> exception) {
+
+        // given
+        final var question = "Return async error: " + httpStatusCode;
+        MOCK.completion(req -> req.userMessageContains(question)).respondsError(res -> {
+            res.setHttpStatus(HttpStatusCode.Companion.fromValue(httpStatusCode));
+            res.setBody("");
+        });
+
+        ChatRequest chatRequest =
+                ChatRequest.builder().messages(UserMessage.from(question)).build();
+
+        // when-then
+        assertThatThrownBy(() -> model.chatAsync(chatRequest).join())
+                .isExactlyInstanceOf(CompletionException.class)
+                .cause()
+                .isExactlyInstanceOf(exception)
+                .satisfies(ex -> assertThat(((HttpException) ex.getCause()).statusCode())
+                        .as("statusCode")
+                        .isEqualTo(httpStatusCode));
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 10, 100})
     void should_handle_timeout(int millis) {
@@ -0,0 +1,300 @@
+package dev.langchain4j.model.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class OpenAiEmbeddingModelTest {
+
+    @Test
+    void should_send_batches_concurrently_and_keep_order() {
+
+        // given
+        EmbeddingsHttpClient httpClient = new EmbeddingsHttpClient();
+        OpenAiEmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new FixedHttpClientBuilder(httpClient))
+                .apiKey("key")
+                .modelName("text-embedding-3-small")
+                .maxSegmentsPerBatch(3)
+                .maxConcurrentBatches(4)
+                .build();
+
+        List<TextSegment> segments = IntStream.range(0, 20)
+                .mapToObj(i -> TextSegment.from("x".repeat(i + 1)))
+                .toList();
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments);
+
+        // then
+        assertThat(httpClient.batches).hasSize(7);
+        assertThat(httpClient.maxConcurrentRequests.get()).isBetween(2, 4);
+        assertThat(response.content())
+                .extracting(embedding -> (int) embedding.vector()[0])
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 20).boxed().toList());
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(20);
+    }
+
+    @Test
+    void should_limit_batches_by_token_count() {
+
+        // given
+        EmbeddingsHttpClient httpClient = new EmbeddingsHttpClient();
+        TokenCountEstimator oneTokenPerCharacter = new TokenCountEstimator() {
+
+            @Override
+            public int estimateTokenCountInText(String text) {
+                return text.length();
+            }
+
+            @Override
+            public int estimateTokenCountInMessage(ChatMessage message) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        OpenAiEmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new FixedHttpClientBuilder(httpClient))
+                .apiKey("key")
+                .modelName("custom-model")
+                .maxTokensPerBatch(10)
+                .tokenCountEstimator(oneTokenPerCharacter)
+                .build();
+
+        // when
+        model.embedAll(List.of(
+                TextSegment.from("aaaa"),
+                TextSegment.from("bbbbbb"),
+                TextSegment.from("c"),
+                TextSegment.from("dddddddddddd"),
+                TextSegment.from("ee")));
+
+        // then
+        assertThat(httpClient.batches)
+                .containsExactly(List.of("aaaa", "bbbbbb"), List.of("c"), List.of("dddddddddddd"), List.of("ee"));
+    }
+
+    @Test
+    void should_not_estimate_token_counts_when_max_tokens_per_batch_is_not_set() {
+
+        // given
+        EmbeddingsHttpClient httpClient = new EmbeddingsHttpClient();
+        TokenCountEstimator failingEstimator = mock(TokenCountEstimator.class);
+        when(failingEstimator.estimateTokenCountInText(anyString())).thenThrow(new IllegalStateException());
+        OpenAiEmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new FixedHttpClientBuilder(httpClient))
+                .apiKey("key")
+                .modelName("text-embedding-3-small")
+                .maxSegmentsPerBatch(2)
+                .tokenCountEstimator(failingEstimator)
+                .build();
+
+        // when
+        model.embedAll(List.of(TextSegment.from("a"), TextSegment.from("b"), TextSegment.from("c")));
+
+        // then
+        assertThat(httpClient.batches).containsExactly(List.of("a", "b"), List.of("c"));
+        verifyNoInteractions(failingEstimator);
+    }
+
+    @Test
+    void should_retry_each_batch_independently() {
+
+        // given
+        EmbeddingsHttpClient httpClient = new EmbeddingsHttpClient();
+        httpClient.failOnceOn = "flaky";
+        OpenAiEmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new FixedHttpClientBuilder(httpClient))
+                .apiKey("key")
+                .modelName("text-embedding-3-small")
+                .maxSegmentsPerBatch(1)
+                .maxConcurrentBatches(2)
+                .maxRetries(1)
+                .build();
+
+        // when
+        Response<List<Embedding>> response =
+                model.embedAll(List.of(TextSegment.from("a"), TextSegment.from("flaky"), TextSegment.from("ccc")));
+
+        // then
+        assertThat(httpClient.batches).hasSize(4);
+        assertThat(httpClient.batches.stream().filter(batch -> batch.equals(List.of("flaky"))))
+                .hasSize(2);
+        assertThat(response.content()).extracting(embedding -> (int) embedding.vector()[0]).containsExactly(1, 5, 3);
+    }
+
+    @Test
+    void should_send_batches_asynchronously_and_keep_order() {
+
+        // given
+        EmbeddingsHttpClient httpClient = new EmbeddingsHttpClient();
+        httpClient.failOnceOn = "xxxxx";
+        OpenAiEmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new FixedHttpClientBuilder(httpClient))
+                .apiKey("key")
+                .modelName("text-embedding-3-small")
+                .maxSegmentsPerBatch(3)
+                .maxConcurrentBatches(3)
+                .maxRetries(1)
+                .build();
+
+        List<TextSegment> segments = IntStream.range(0, 20)
+                .mapToObj(i -> TextSegment.from("x".repeat(i + 1)))
+                .toList();
+
+        // when
+        Response<List<Embedding>> response = model.embedAllAsync(segments).join();
+
+        // then
+        assertThat(httpClient.batches).hasSize(8);
+        assertThat(httpClient.maxConcurrentRequests.get()).isBetween(2, 3);
+        assertThat(response.content())
+                .extracting(embedding -> (int) embedding.vector()[0])
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 20).boxed().toList());
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(20);
+    }
+
+    @Test
+    void should_stop_sending_batches_asynchronously_after_failure() {
+
+        // given
+        EmbeddingsHttpClient httpClient = new EmbeddingsHttpClient();
+        httpClient.failOnceOn = "a";
+        OpenAiEmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new FixedHttpClientBuilder(httpClient))
+                .apiKey("key")
+                .modelName("text-embedding-3-small")
+                .maxSegmentsPerBatch(1)
+                .maxRetries(0)
+                .build();
+
+        // when
+        CompletableFuture<Response<List<Embedding>>> response =
+                model.embedAllAsync(List.of(TextSegment.from("a"), TextSegment.from("b"), TextSegment.from("c")));
+
+        // then
+        assertThatThrownBy(response::join).hasRootCauseMessage("temporary failure");
+        assertThat(httpClient.batches).containsExactly(List.of("a"));
+    }
+
+    /**
+     * Embeds each text into a vector holding its length, with a usage of one token per text.
+     */
+    private static class EmbeddingsHttpClient implements HttpClient {
+
+        private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+        final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger concurrentRequests = new AtomicInteger();
+        final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+        final AtomicBoolean failed = new AtomicBoolean();
+        volatile String failOnceOn;
+
+        @Override
+        public SuccessfulHttpResponse execute(HttpRequest request) {
+            maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+            try {
+                List<String> texts = new ArrayList<>();
+                for (JsonNode input : OBJECT_MAPPER.readTree(request.body()).get("input")) {
+                    texts.add(input.asText());
+                }
+                batches.add(texts);
+                Thread.sleep(50);
+                if (texts.contains(failOnceOn) && failed.compareAndSet(false, true)) {
+                    throw new RuntimeException("temporary failure");
+                }
+
+                StringBuilder data = new StringBuilder();
+                for (int i = 0; i < texts.size(); i++) {
+                    data.append(i == 0 ? "" : ",")
+                            .append("{\"index\":").append(i)
+                            .append(",\"embedding\":[").append(texts.get(i).length()).append("]}");
+                }
+                return SuccessfulHttpResponse.builder()
+                        .statusCode(200)
+                        .body("{\"data\":[" + data + "],\"usage\":{\"prompt_tokens\":" + texts.size()
+                                + ",\"total_tokens\":" + texts.size() + "}}")
+                        .build();
+            } catch (JsonProcessingException | InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                concurrentRequests.decrementAndGet();
+            }
+        }
+
+        @Override
+        public CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+            return CompletableFuture.supplyAsync(() -> execute(request));
+        }
+
+        @Override
+        public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class FixedHttpClientBuilder implements HttpClientBuilder {
+
+        private final HttpClient httpClient;
+
+        FixedHttpClientBuilder(HttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+
+        @Override
+        public Duration connectTimeout() {
+            return null;
+        }
+
+        @Override
+        public HttpClientBuilder connectTimeout(Duration timeout) {
+            return this;
+        }
+
+        @Override
+        public Duration readTimeout() {
+            return null;
+        }
+
+        @Override
+        public HttpClientBuilder readTimeout(Duration timeout) {
+            return this;
+        }
+
+        @Override
+        public HttpClient build() {
+            return httpClient;
+        }
+    }
+}
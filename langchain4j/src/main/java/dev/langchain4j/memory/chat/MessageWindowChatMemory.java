@@ -8,6 +8,7 @@ import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.service.memory.ChatMemoryService;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.ChatMessagesDelta;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -52,7 +53,9 @@ public class MessageWindowChatMemory implements ChatMemory {
 
     @Override
     public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
+        List<ChatMessage> storedMessages = store.getMessages(id);
+        List<ChatMessage> messages = new LinkedList<>(storedMessages);
+        ensureCapacity(messages, maxMessages);
         if (message instanceof SystemMessage) {
             Optional<SystemMessage> systemMessage = findSystemMessage(messages);
             if (systemMessage.isPresent()) {
@@ -65,7 +68,16 @@ public class MessageWindowChatMemory implements ChatMemory {
         }
         messages.add(message);
         ensureCapacity(messages, maxMessages);
-        store.updateMessages(id, messages);
+        updateStore(storedMessages, messages);
+    }
+
+    private void updateStore(List<ChatMessage> storedMessages, List<ChatMessage> messages) {
+        Optional<ChatMessagesDelta> delta = ChatMessagesDelta.between(storedMessages, messages);
+        if (delta.isPresent()) {
+            store.updateMessages(id, messages, delta.get());
+        } else {
+            store.updateMessages(id, messages);
+        }
     }
 
     private static Optional<SystemMessage> findSystemMessage(List<ChatMessage> messages) {
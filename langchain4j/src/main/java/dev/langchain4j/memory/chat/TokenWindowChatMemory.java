@@ -9,9 +9,13 @@ import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.service.memory.ChatMemoryService;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.ChatMessagesDelta;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
@@ -34,6 +38,12 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * that prohibit sending orphan {@code ToolExecutionResultMessage}(s) in the request.
  * <p>
  * The state of chat memory is stored in {@link ChatMemoryStore} ({@link SingleSlotChatMemoryStore} is used by default).
+ * <p>
+ * The token count of each message is estimated once, when the message is added (or first read from the store),
+ * and kept along with the message, so that adding a message and reading the messages
+ * do not re-estimate the whole history.
+ * The {@link TokenCountEstimator} is therefore expected to count the tokens of a list of messages
+ * as the sum of the tokens of each message, plus a constant overhead.
  */
 public class TokenWindowChatMemory implements ChatMemory {
 
@@ -42,6 +52,14 @@ public class TokenWindowChatMemory implements ChatMemory {
     private final TokenCountEstimator tokenCountEstimator;
     private final ChatMemoryStore store;
 
+    // The window is cached together with the token count of each message,
+    // so that the token count estimator only ever sees each message once.
+    // It is synchronized with the store whenever the store holds something else than what was last read or written.
+    private final ArrayDeque<CountedMessage> window = new ArrayDeque<>();
+    private List<ChatMessage> storedMessages;
+    private int tokenCountInMessages;
+    private Integer tokenCountOverhead;
+
     private TokenWindowChatMemory(Builder builder) {
         this.id = ensureNotNull(builder.id, "id");
         this.maxTokens = ensureGreaterThanZero(builder.maxTokens, "maxTokens");
@@ -55,73 +73,139 @@ public class TokenWindowChatMemory implements ChatMemory {
     }
 
     @Override
-    public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
+    public synchronized void add(ChatMessage message) {
+        synchronizeWithStore();
         if (message instanceof SystemMessage) {
-            Optional<SystemMessage> maybeSystemMessage = findSystemMessage(messages);
+            Optional<CountedMessage> maybeSystemMessage = findSystemMessage();
             if (maybeSystemMessage.isPresent()) {
-                if (maybeSystemMessage.get().equals(message)) {
+                if (maybeSystemMessage.get().message.equals(message)) {
                     return; // do not add the same system message
                 } else {
-                    messages.remove(maybeSystemMessage.get()); // need to replace existing system message
+                    remove(maybeSystemMessage.get()); // need to replace existing system message
                 }
             }
         }
-        messages.add(message);
-        ensureCapacity(messages, maxTokens, tokenCountEstimator);
-        store.updateMessages(id, messages);
+        append(message, tokenCountEstimator.estimateTokenCountInMessage(message));
+        ensureCapacity();
+        updateStore(windowMessages());
     }
 
-    private static Optional<SystemMessage> findSystemMessage(List<ChatMessage> messages) {
-        return messages.stream()
-                .filter(message -> message instanceof SystemMessage)
-                .map(message -> (SystemMessage) message)
+    private void updateStore(List<ChatMessage> messages) {
+        Optional<ChatMessagesDelta> delta = ChatMessagesDelta.between(storedMessages, messages);
+        if (delta.isPresent()) {
+            store.updateMessages(id, messages, delta.get());
+        } else {
+            store.updateMessages(id, messages);
+        }
+        storedMessages = messages;
+    }
+
+    private Optional<CountedMessage> findSystemMessage() {
+        return window.stream()
+                .filter(countedMessage -> countedMessage.message instanceof SystemMessage)
                 .findAny();
     }
 
     @Override
-    public List<ChatMessage> messages() {
-        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
-        ensureCapacity(messages, maxTokens, tokenCountEstimator);
+    public synchronized List<ChatMessage> messages() {
+        synchronizeWithStore();
+        return windowMessages();
+    }
+
+    private List<ChatMessage> windowMessages() {
+        List<ChatMessage> messages = new ArrayList<>(window.size());
+        for (CountedMessage countedMessage : window) {
+            messages.add(countedMessage.message);
+        }
         return messages;
     }
 
-    private static void ensureCapacity(List<ChatMessage> messages, int maxTokens, TokenCountEstimator estimator) {
+    private void synchronizeWithStore() {
+        List<ChatMessage> messages = store.getMessages(id);
+        if (messages == storedMessages || messages.equals(storedMessages)) {
+            return;
+        }
+
+        Map<ChatMessage, Integer> knownTokenCounts = new HashMap<>();
+        for (CountedMessage countedMessage : window) {
+            knownTokenCounts.put(countedMessage.message, countedMessage.tokenCount);
+        }
+        window.clear();
+        tokenCountInMessages = 0;
+        for (ChatMessage message : messages) {
+            Integer tokenCount = knownTokenCounts.get(message);
+            append(message, tokenCount != null ? tokenCount : tokenCountEstimator.estimateTokenCountInMessage(message));
+        }
+        storedMessages = messages;
+        ensureCapacity();
+    }
+
+    private void append(ChatMessage message, int tokenCount) {
+        window.addLast(new CountedMessage(message, tokenCount));
+        tokenCountInMessages += tokenCount;
+    }
+
+    private void remove(CountedMessage countedMessage) {
+        window.remove(countedMessage);
+        tokenCountInMessages -= countedMessage.tokenCount;
+    }
 
-        if (messages.isEmpty()) {
+    private void ensureCapacity() {
+
+        if (window.isEmpty()) {
             return;
         }
 
-        int currentTokenCount = estimator.estimateTokenCountInMessages(messages);
-        while (currentTokenCount > maxTokens && !messages.isEmpty()) {
+        if (tokenCountOverhead == null) {
+            // tokens added once per request by the estimator (e.g. to prime the reply), on top of each message
+            tokenCountOverhead =
+                    tokenCountEstimator.estimateTokenCountInMessages(windowMessages()) - tokenCountInMessages;
+        }
+
+        while (tokenCountOverhead + tokenCountInMessages > maxTokens && !window.isEmpty()) {
 
-            int messageToEvictIndex = 0;
-            if (messages.get(0) instanceof SystemMessage) {
-                if (messages.size() == 1) {
+            CountedMessage systemMessage = null;
+            if (window.peekFirst().message instanceof SystemMessage) {
+                if (window.size() == 1) {
                     return;
                 }
-                messageToEvictIndex = 1;
+                systemMessage = window.pollFirst();
             }
 
-            ChatMessage evictedMessage = messages.remove(messageToEvictIndex);
-            int tokenCountOfEvictedMessage = estimator.estimateTokenCountInMessage(evictedMessage);
-            currentTokenCount -= tokenCountOfEvictedMessage;
+            CountedMessage evictedMessage = window.pollFirst();
+            tokenCountInMessages -= evictedMessage.tokenCount;
 
-            if (evictedMessage instanceof AiMessage aiMessage && aiMessage.hasToolExecutionRequests()) {
-                while (messages.size() > messageToEvictIndex
-                        && messages.get(messageToEvictIndex) instanceof ToolExecutionResultMessage) {
+            if (evictedMessage.message instanceof AiMessage aiMessage && aiMessage.hasToolExecutionRequests()) {
+                while (!window.isEmpty() && window.peekFirst().message instanceof ToolExecutionResultMessage) {
                     // Some LLMs (e.g. OpenAI) prohibit ToolExecutionResultMessage(s) without corresponding AiMessage,
                     // so we have to automatically evict orphan ToolExecutionResultMessage(s) if AiMessage was evicted
-                    ChatMessage orphanToolExecutionResultMessage = messages.remove(messageToEvictIndex);
-                    currentTokenCount -= estimator.estimateTokenCountInMessage(orphanToolExecutionResultMessage);
+                    tokenCountInMessages -= window.pollFirst().tokenCount;
                 }
             }
+
+            if (systemMessage != null) {
+                window.addFirst(systemMessage);
+            }
         }
     }
 
     @Override
-    public void clear() {
+    public synchronized void clear() {
         store.deleteMessages(id);
+        window.clear();
+        tokenCountInMessages = 0;
+        storedMessages = null;
+    }
+
+    private static class CountedMessage {
+
+        private final ChatMessage message;
+        private final int tokenCount;
+
+        private CountedMessage(ChatMessage message, int tokenCount) {
+            this.message = message;
+            this.tokenCount = tokenCount;
+        }
     }
 
     public static Builder builder() {
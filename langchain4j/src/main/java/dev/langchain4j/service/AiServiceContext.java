@@ -8,6 +8,7 @@ import dev.langchain4j.model.chat.StreamingChatModel;
 import dev.langchain4j.model.moderation.ModerationModel;
 import dev.langchain4j.rag.RetrievalAugmentor;
 import dev.langchain4j.service.guardrail.GuardrailService;
+import dev.langchain4j.service.memory.ChatMemoryEvictionPolicy;
 import dev.langchain4j.service.memory.ChatMemoryService;
 import dev.langchain4j.service.tool.ToolService;
 import java.util.Optional;
@@ -54,6 +55,10 @@ public class AiServiceContext {
         chatMemoryService = new ChatMemoryService(chatMemoryProvider);
     }
 
+    public void initChatMemories(ChatMemoryProvider chatMemoryProvider, ChatMemoryEvictionPolicy evictionPolicy) {
+        chatMemoryService = new ChatMemoryService(chatMemoryProvider, evictionPolicy);
+    }
+
     public GuardrailService guardrailService() {
         return this.guardrailService.updateAndGet(
                 service -> (service != null) ? service : guardrailServiceBuilder.build());
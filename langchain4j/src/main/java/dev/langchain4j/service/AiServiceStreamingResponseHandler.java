@@ -1,5 +1,6 @@
 package dev.langchain4j.service;
 
+import static dev.langchain4j.internal.Exceptions.runtime;
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
@@ -19,6 +20,7 @@ import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.service.tool.ToolExecution;
 import dev.langchain4j.service.tool.ToolExecutor;
+import dev.langchain4j.service.tool.ToolService;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +31,11 @@ import org.slf4j.LoggerFactory;
 /**
  * Handles response from a language model for AI Service that is streamed token-by-token. Handles both regular (text)
  * responses and responses with the request to execute one or multiple tools.
+ * <p>
+ * The same handler is used for all the responses of a single AI Service invocation:
+ * when the LLM requests tools, they are executed from the {@link ToolService#continuationExecutor() continuation executor}
+ * (so that they do not block the thread delivering the streaming response),
+ * and the next request is then sent to the LLM with this handler again.
  */
 @Internal
 class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler {
@@ -47,7 +54,8 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
     private final Consumer<Throwable> errorHandler;
 
     private final ChatMemory temporaryMemory;
-    private final TokenUsage tokenUsage;
+    private TokenUsage tokenUsage;
+    private int toolExecutionsLeft;
 
     private final List<ToolSpecification> toolSpecifications;
     private final Map<String, ToolExecutor> toolExecutors;
@@ -80,6 +88,7 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
 
         this.temporaryMemory = temporaryMemory;
         this.tokenUsage = ensureNotNull(tokenUsage, "tokenUsage");
+        this.toolExecutionsLeft = context.toolService.maxSequentialToolsInvocations();
         this.commonGuardrailParams = commonGuardrailParams;
 
         this.toolSpecifications = copy(toolSpecifications);
@@ -103,44 +112,25 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
         addToMemory(aiMessage);
 
         if (aiMessage.hasToolExecutionRequests()) {
-            for (ToolExecutionRequest toolExecutionRequest : aiMessage.toolExecutionRequests()) {
-                String toolName = toolExecutionRequest.name();
-                ToolExecutor toolExecutor = toolExecutors.get(toolName);
-                String toolExecutionResult = toolExecutor.execute(toolExecutionRequest, memoryId);
-                ToolExecutionResultMessage toolExecutionResultMessage =
-                        ToolExecutionResultMessage.from(toolExecutionRequest, toolExecutionResult);
-                addToMemory(toolExecutionResultMessage);
+            tokenUsage = tokenUsage.add(completeResponse.metadata().tokenUsage());
 
-                if (toolExecutionHandler != null) {
-                    ToolExecution toolExecution = ToolExecution.builder()
-                            .request(toolExecutionRequest)
-                            .result(toolExecutionResult)
-                            .build();
-                    toolExecutionHandler.accept(toolExecution);
-                }
+            if (toolExecutionsLeft-- == 0) {
+                onError(runtime(
+                        "Something is wrong, exceeded %s sequential tool executions",
+                        context.toolService.maxSequentialToolsInvocations()));
+                return;
             }
 
-            ChatRequest chatRequest = ChatRequest.builder()
-                    .messages(messagesToSend(memoryId))
-                    .toolSpecifications(toolSpecifications)
-                    .build();
+            // partial responses preceding tool execution requests are not subject to output guardrails
+            responseBuffer.clear();
 
-            var handler = new AiServiceStreamingResponseHandler(
-                    chatExecutor,
-                    context,
-                    memoryId,
-                    partialResponseHandler,
-                    toolExecutionHandler,
-                    completeResponseHandler,
-                    errorHandler,
-                    temporaryMemory,
-                    TokenUsage.sum(tokenUsage, completeResponse.metadata().tokenUsage()),
-                    toolSpecifications,
-                    toolExecutors,
-                    commonGuardrailParams,
-                    methodKey);
-
-            context.streamingChatModel.chat(chatRequest, handler);
+            try {
+                context.toolService
+                        .continuationExecutor()
+                        .execute(() -> executeToolsAndContinue(aiMessage.toolExecutionRequests()));
+            } catch (RuntimeException e) {
+                onError(e);
+            }
         } else {
             if (completeResponseHandler != null) {
                 ChatResponse finalChatResponse = ChatResponse.builder()
@@ -183,6 +173,35 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
         }
     }
 
+    private void executeToolsAndContinue(List<ToolExecutionRequest> toolExecutionRequests) {
+        try {
+            List<ToolExecutionResultMessage> toolExecutionResultMessages =
+                    context.toolService.executeTools(toolExecutionRequests, toolExecutors, memoryId);
+
+            for (int i = 0; i < toolExecutionRequests.size(); i++) {
+                ToolExecutionResultMessage toolExecutionResultMessage = toolExecutionResultMessages.get(i);
+                addToMemory(toolExecutionResultMessage);
+
+                if (toolExecutionHandler != null) {
+                    ToolExecution toolExecution = ToolExecution.builder()
+                            .request(toolExecutionRequests.get(i))
+                            .result(toolExecutionResultMessage.text())
+                            .build();
+                    toolExecutionHandler.accept(toolExecution);
+                }
+            }
+
+            ChatRequest chatRequest = ChatRequest.builder()
+                    .messages(messagesToSend(memoryId))
+                    .toolSpecifications(toolSpecifications)
+                    .build();
+
+            context.streamingChatModel.chat(chatRequest, this);
+        } catch (Exception e) {
+            onError(e);
+        }
+    }
+
     private ChatMemory getMemory() {
         return getMemory(memoryId);
     }
@@ -7,6 +7,7 @@ import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 
 import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionPolicy;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.agent.tool.ToolSpecification;
 import dev.langchain4j.data.message.AiMessage;
@@ -29,14 +30,17 @@ import dev.langchain4j.rag.RetrievalAugmentor;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
 import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
+import dev.langchain4j.service.memory.ChatMemoryEvictionPolicy;
 import dev.langchain4j.service.tool.ToolExecutor;
 import dev.langchain4j.service.tool.ToolProvider;
 import dev.langchain4j.spi.services.AiServicesFactory;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 
@@ -64,6 +68,7 @@ import java.util.function.Function;
  * - Tools, configured via {@link #tools(Collection)}, {@link #tools(Object...)}, {@link #tools(Map)} or {@link #toolProvider(ToolProvider)} and methods annotated with @{@link Tool}
  * - Various method return types (output parsers), see more details below
  * - Streaming (use {@link TokenStream} as a return type)
+ * - Asynchronous invocation (use {@link java.util.concurrent.CompletableFuture} as a return type)
  * - Structured prompts as method arguments (see @{@link StructuredPrompt})
  * - Auto-moderation, configured via @{@link Moderate} annotation
  * </pre>
@@ -91,6 +96,9 @@ import java.util.function.Function;
  * - many default Java types: {@code Date}, {@code LocalDateTime}, {@code BigDecimal}, etc., if you want to use the LLM for data extraction
  * - any custom POJO, if you want to use the LLM for data extraction.
  * - Result&lt;T&gt; if you want to access {@link TokenUsage} or sources ({@link Content}s retrieved during RAG), aside from T, which can be of any type listed above. For example: Result&lt;String&gt;, Result&lt;MyCustomPojo&gt;
+ * - CompletableFuture&lt;T&gt; if you do not want to block the calling thread, where T can be of any type listed above. For example: CompletableFuture&lt;String&gt;, CompletableFuture&lt;Result&lt;MyCustomPojo&gt;&gt;.
+ *   The LLM is then called with {@code ChatModel.chatAsync()}, while RAG, tools and output guardrails are executed
+ *   on a default executor (tools being executed on the one configured with {@link #executeToolsConcurrently(Executor)}, if any).
  * For POJOs, it is advisable to use the "json mode" feature if the LLM provider supports it. For OpenAI, this can be enabled by calling {@code responseFormat("json_object")} during model construction.
  *
  * </pre>
@@ -277,6 +285,25 @@ public abstract class AiServices<T> {
         return this;
     }
 
+    /**
+     * Configures the chat memory provider, which provides a dedicated instance of {@link ChatMemory} for each user/conversation,
+     * and bounds the number of {@link ChatMemory} instances kept alive by this AI Service.
+     * Evicted chat memories are obtained again from the {@link ChatMemoryProvider} when their memory ID is used again,
+     * and read their messages back from their {@link dev.langchain4j.store.memory.chat.ChatMemoryStore}.
+     * <p>
+     * Either a {@link ChatMemory} or a {@link ChatMemoryProvider} can be configured, but not both simultaneously.
+     *
+     * @param chatMemoryProvider The provider of a {@link ChatMemory} for each new user/conversation.
+     * @param evictionPolicy     The policy deciding when a {@link ChatMemory} is evicted.
+     * @return builder
+     * @see #chatMemoryProvider(ChatMemoryProvider)
+     */
+    public AiServices<T> chatMemoryProvider(
+            ChatMemoryProvider chatMemoryProvider, ChatMemoryEvictionPolicy evictionPolicy) {
+        context.initChatMemories(chatMemoryProvider, evictionPolicy);
+        return this;
+    }
+
     /**
      * Configures a moderation model to be used for automatic content moderation.
      * If a method in the AI Service is annotated with {@link Moderate}, the moderation model will be invoked
@@ -348,6 +375,50 @@ public abstract class AiServices<T> {
         return this;
     }
 
+    /**
+     * Enables concurrent execution of tools: when the LLM requests several tools at once,
+     * they are executed concurrently on virtual threads (when available, otherwise on a cached thread pool),
+     * and their results are added to the chat memory in the order the tools were requested.
+     * Tools annotated with {@link ToolExecutionPolicy#concurrent()} {@code = false}
+     * are executed one after another on the calling thread.
+     * <br>
+     * By default, tools are executed one after another on the calling thread.
+     *
+     * @return builder
+     * @see #executeToolsConcurrently(Executor)
+     * @see #toolExecutionTimeout(Duration)
+     */
+    public AiServices<T> executeToolsConcurrently() {
+        context.toolService.executeToolsConcurrently(null);
+        return this;
+    }
+
+    /**
+     * Enables concurrent execution of tools on the provided {@link Executor}.
+     *
+     * @param executor The executor to execute tools on.
+     * @return builder
+     * @see #executeToolsConcurrently()
+     */
+    public AiServices<T> executeToolsConcurrently(Executor executor) {
+        context.toolService.executeToolsConcurrently(ensureNotNull(executor, "executor"));
+        return this;
+    }
+
+    /**
+     * Configures the maximum time to wait for the result of a tool, when tools are executed concurrently.
+     * If exceeded, the tool execution is cancelled and the LLM is told that the tool timed out.
+     * Can be overridden per tool with {@link ToolExecutionPolicy#timeoutMillis()}.
+     *
+     * @param toolExecutionTimeout The timeout of tool executions.
+     * @return builder
+     * @see #executeToolsConcurrently()
+     */
+    public AiServices<T> toolExecutionTimeout(Duration toolExecutionTimeout) {
+        context.toolService.toolExecutionTimeout(toolExecutionTimeout);
+        return this;
+    }
+
     /**
      * Configures the strategy to be used when the LLM hallucinates a tool name (i.e., attempts to call a nonexistent tool).
      *
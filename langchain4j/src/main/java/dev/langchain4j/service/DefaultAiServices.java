@@ -5,6 +5,7 @@ import static dev.langchain4j.internal.Utils.isNotNullOrBlank;
 import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
 import static dev.langchain4j.model.chat.request.ResponseFormatType.JSON;
 import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
+import static dev.langchain4j.service.TypeUtils.resolveFirstGenericParameterType;
 import static dev.langchain4j.service.TypeUtils.typeHasRawClass;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 
@@ -15,6 +16,7 @@ import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.guardrail.GuardrailRequestParams;
 import dev.langchain4j.guardrail.InputGuardrailRequest;
 import dev.langchain4j.guardrail.OutputGuardrailRequest;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.guardrail.ChatExecutor;
 import dev.langchain4j.model.chat.request.ChatRequest;
@@ -49,8 +51,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 @Internal
@@ -59,6 +63,10 @@ class DefaultAiServices<T> extends AiServices<T> {
     private final ServiceOutputParser serviceOutputParser = new ServiceOutputParser();
     private final Collection<TokenStreamAdapter> tokenStreamAdapters = loadFactories(TokenStreamAdapter.class);
 
+    // Templates defined by @SystemMessage and @UserMessage on methods are compiled once per method
+    private final Map<Method, Optional<PromptTemplate>> systemMessageTemplates = new ConcurrentHashMap<>();
+    private final Map<Method, Optional<PromptTemplate>> userMessageTemplates = new ConcurrentHashMap<>();
+
     DefaultAiServices(AiServiceContext context) {
         super(context);
     }
@@ -106,9 +114,17 @@ class DefaultAiServices<T> extends AiServices<T> {
                 throw illegalConfiguration(
                         "'%s' is not a supported return type of an AI Service method", returnType.getName());
             }
-            if (returnType == Result.class || returnType == List.class || returnType == Set.class) {
+            if (returnType == Result.class
+                    || returnType == List.class
+                    || returnType == Set.class
+                    || returnType == CompletableFuture.class) {
                 TypeUtils.validateReturnTypesAreProperlyParametrized(method.getName(), method.getGenericReturnType());
             }
+            if (returnType == CompletableFuture.class && context.chatModel == null) {
+                throw illegalConfiguration(
+                        "In order to return CompletableFuture from '%s', please configure the ChatModel on the '%s'.",
+                        method.getName(), context.aiServiceClass.getName());
+            }
 
             if (!context.hasChatMemory()) {
                 for (Parameter parameter : method.getParameters()) {
@@ -126,7 +142,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                 new Class<?>[] {context.aiServiceClass},
                 new InvocationHandler() {
 
-                    private final ExecutorService executor = Executors.newCachedThreadPool();
+                    private final ExecutorService executor = DefaultExecutorProvider.getDefaultExecutorService();
 
                     @Override
                     public Object invoke(Object proxy, Method method, Object[] args) throws Exception {
@@ -140,6 +156,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                             return switch (method.getName()) {
                                 case "getChatMemory" -> context.chatMemoryService.getChatMemory(args[0]);
                                 case "evictChatMemory" -> context.chatMemoryService.evictChatMemory(args[0]) != null;
+                                case "getChatMemoryStatistics" -> context.chatMemoryService.statistics();
                                 default ->
                                     throw new UnsupportedOperationException(
                                             "Unknown method on ChatMemoryAccess class : " + method.getName());
@@ -148,6 +165,26 @@ class DefaultAiServices<T> extends AiServices<T> {
 
                         validateParameters(method);
 
+                        Type returnType = method.getGenericReturnType();
+                        if (typeHasRawClass(returnType, CompletableFuture.class) && !canAdaptTokenStreamTo(returnType)) {
+                            // everything up to the LLM call (e.g., retrieval augmentation) may block,
+                            // so it is executed on the continuation executor
+                            Type resultType = resolveFirstGenericParameterType(returnType);
+                            return CompletableFuture.supplyAsync(
+                                            () -> invoke(method, args, resultType, true),
+                                            context.toolService.continuationExecutor())
+                                    .thenCompose(result -> (CompletableFuture<?>) result);
+                        }
+
+                        return invoke(method, args, returnType, false);
+                    }
+
+                    /**
+                     * Invokes the AI service method, returning either its result,
+                     * or a {@link CompletableFuture} of it when {@code async} is {@code true}.
+                     */
+                    private Object invoke(Method method, Object[] args, Type returnType, boolean async) {
+
                         final Object memoryId = findMemoryId(method, args).orElse(ChatMemoryService.DEFAULT);
                         final ChatMemory chatMemory = context.hasChatMemory()
                                 ? context.chatMemoryService.getOrCreateChatMemory(memoryId)
@@ -156,7 +193,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                         Optional<SystemMessage> systemMessage = prepareSystemMessage(memoryId, method, args);
                         var userMessageTemplate = getUserMessageTemplate(method, args);
                         var variables = InternalReflectionVariableResolver.findTemplateVariables(
-                                userMessageTemplate, method, args);
+                                userMessageTemplate.template(), method, args);
                         UserMessage userMessage = prepareUserMessage(method, args, userMessageTemplate, variables);
                         AugmentationResult augmentationResult = null;
                         if (context.retrievalAugmentor != null) {
@@ -170,7 +207,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                         var commonGuardrailParam = GuardrailRequestParams.builder()
                                 .chatMemory(chatMemory)
                                 .augmentationResult(augmentationResult)
-                                .userMessageTemplate(userMessageTemplate)
+                                .userMessageTemplate(userMessageTemplate.template())
                                 .variables(variables)
                                 .build();
 
@@ -179,8 +216,8 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 context.guardrailService(), method, userMessage, commonGuardrailParam);
 
                         // TODO give user ability to provide custom OutputParser
-                        Type returnType = method.getGenericReturnType();
-                        boolean streaming = returnType == TokenStream.class || canAdaptTokenStreamTo(returnType);
+                        boolean streaming =
+                                !async && (returnType == TokenStream.class || canAdaptTokenStreamTo(returnType));
 
                         boolean supportsJsonSchema = supportsJsonSchema(); // TODO should it be called for
                         // returnType==String?
@@ -253,6 +290,39 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 .chatRequest(chatRequest)
                                 .build();
 
+                        if (async) {
+                            final AugmentationResult finalAugmentationResult = augmentationResult;
+                            final List<ChatMessage> finalMessages = messages;
+                            CompletableFuture<ChatResponse> futureChatResponse =
+                                    context.chatModel.chatAsync(chatRequest);
+                            Executor executor = context.toolService.continuationExecutor();
+                            return futureChatResponse
+                                    .thenComposeAsync(
+                                            chatResponse -> {
+                                                verifyModerationIfNeeded(moderationFuture);
+                                                return context.toolService.executeInferenceAndToolsLoopAsync(
+                                                        chatResponse,
+                                                        parameters,
+                                                        finalMessages,
+                                                        context.chatModel,
+                                                        chatMemory,
+                                                        memoryId,
+                                                        toolServiceContext.toolExecutors());
+                                            },
+                                            moderationFuture != null ? executor : Runnable::run)
+                                    .thenApplyAsync(
+                                            toolServiceResult -> toServiceResult(
+                                                    method,
+                                                    returnType,
+                                                    toolServiceResult,
+                                                    chatExecutor,
+                                                    commonGuardrailParam,
+                                                    finalAugmentationResult),
+                                            context.guardrailService().hasOutputGuardrails(method)
+                                                    ? executor
+                                                    : Runnable::run);
+                        }
+
                         ChatResponse chatResponse = chatExecutor.execute();
 
                         verifyModerationIfNeeded(moderationFuture);
@@ -266,7 +336,24 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 memoryId,
                                 toolServiceContext.toolExecutors());
 
-                        chatResponse = toolServiceResult.chatResponse();
+                        return toServiceResult(
+                                method,
+                                returnType,
+                                toolServiceResult,
+                                chatExecutor,
+                                commonGuardrailParam,
+                                augmentationResult);
+                    }
+
+                    private Object toServiceResult(
+                            Method method,
+                            Type returnType,
+                            ToolServiceResult toolServiceResult,
+                            ChatExecutor chatExecutor,
+                            GuardrailRequestParams commonGuardrailParam,
+                            AugmentationResult augmentationResult) {
+
+                        ChatResponse chatResponse = toolServiceResult.chatResponse();
 
                         FinishReason finishReason = chatResponse.metadata().finishReason();
                         var response = invokeOutputGuardrails(
@@ -379,26 +466,29 @@ class DefaultAiServices<T> extends AiServices<T> {
     }
 
     private Optional<SystemMessage> prepareSystemMessage(Object memoryId, Method method, Object[] args) {
-        return findSystemMessageTemplate(memoryId, method).map(systemMessageTemplate -> PromptTemplate.from(
-                        systemMessageTemplate)
-                .apply(InternalReflectionVariableResolver.findTemplateVariables(systemMessageTemplate, method, args))
-                .toSystemMessage());
+        return findSystemMessageTemplate(memoryId, method)
+                .map(systemMessageTemplate -> systemMessageTemplate
+                        .apply(InternalReflectionVariableResolver.findTemplateVariables(
+                                systemMessageTemplate.template(), method, args))
+                        .toSystemMessage());
     }
 
-    private Optional<String> findSystemMessageTemplate(Object memoryId, Method method) {
-        dev.langchain4j.service.SystemMessage annotation =
-                method.getAnnotation(dev.langchain4j.service.SystemMessage.class);
-        if (annotation != null) {
-            return Optional.of(getTemplate(
-                    method, "System", annotation.fromResource(), annotation.value(), annotation.delimiter()));
+    private Optional<PromptTemplate> findSystemMessageTemplate(Object memoryId, Method method) {
+        Optional<PromptTemplate> templateFromMethodAnnotation = systemMessageTemplates.computeIfAbsent(
+                method,
+                m -> Optional.ofNullable(m.getAnnotation(dev.langchain4j.service.SystemMessage.class))
+                        .map(a -> PromptTemplate.from(
+                                getTemplate(m, "System", a.fromResource(), a.value(), a.delimiter()))));
+        if (templateFromMethodAnnotation.isPresent()) {
+            return templateFromMethodAnnotation;
         }
 
-        return context.systemMessageProvider.apply(memoryId);
+        return context.systemMessageProvider.apply(memoryId).map(PromptTemplate::from);
     }
 
     private static UserMessage prepareUserMessage(
-            Method method, Object[] args, String userMessageTemplate, Map<String, Object> variables) {
-        Prompt prompt = PromptTemplate.from(userMessageTemplate).apply(variables);
+            Method method, Object[] args, PromptTemplate userMessageTemplate, Map<String, Object> variables) {
+        Prompt prompt = userMessageTemplate.apply(variables);
 
         Optional<String> maybeUserName = findUserName(method.getParameters(), args);
         return maybeUserName
@@ -406,9 +496,10 @@ class DefaultAiServices<T> extends AiServices<T> {
                 .orElseGet(prompt::toUserMessage);
     }
 
-    private static String getUserMessageTemplate(Method method, Object[] args) {
+    private PromptTemplate getUserMessageTemplate(Method method, Object[] args) {
 
-        Optional<String> templateFromMethodAnnotation = findUserMessageTemplateFromMethodAnnotation(method);
+        Optional<PromptTemplate> templateFromMethodAnnotation = userMessageTemplates.computeIfAbsent(
+                method, m -> findUserMessageTemplateFromMethodAnnotation(m).map(PromptTemplate::from));
         Optional<String> templateFromParameterAnnotation =
                 findUserMessageTemplateFromAnnotatedParameter(method.getParameters(), args);
 
@@ -422,13 +513,13 @@ class DefaultAiServices<T> extends AiServices<T> {
             return templateFromMethodAnnotation.get();
         }
         if (templateFromParameterAnnotation.isPresent()) {
-            return templateFromParameterAnnotation.get();
+            return PromptTemplate.from(templateFromParameterAnnotation.get());
         }
 
         Optional<String> templateFromTheOnlyArgument =
                 findUserMessageTemplateFromTheOnlyArgument(method.getParameters(), args);
         if (templateFromTheOnlyArgument.isPresent()) {
-            return templateFromTheOnlyArgument.get();
+            return PromptTemplate.from(templateFromTheOnlyArgument.get());
         }
 
         throw illegalConfiguration("Error: The method '%s' does not have a user message defined.", method.getName());
@@ -22,4 +22,12 @@ public interface ChatMemoryAccess {
      * @return true if {@link ChatMemory} with the given id existed, and it was successfully evicted, false otherwise.
      */
     boolean evictChatMemory(Object memoryId);
+
+    /**
+     * Returns the counts of live, evicted and rehydrated {@link ChatMemory} instances of this AI service.
+     *
+     * @return The chat memory statistics.
+     * @see ChatMemoryEvictionPolicy
+     */
+    ChatMemoryStatistics getChatMemoryStatistics();
 }
@@ -0,0 +1,96 @@
+package dev.langchain4j.service.memory;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
+
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import java.time.Duration;
+
+/**
+ * Bounds the number of {@link ChatMemory} instances that an AI service keeps alive,
+ * when they are obtained from a {@link ChatMemoryProvider}.
+ * <p>
+ * When there are more than {@link Builder#maxChatMemories(Integer)} chat memories,
+ * the least recently used ones are evicted.
+ * Chat memories that have not been used for {@link Builder#idleTimeout(Duration)} are evicted as well.
+ * <p>
+ * Evicting a {@link ChatMemory} only drops the instance, not its messages:
+ * when the same memory ID is used again, a new {@code ChatMemory} is obtained from the {@link ChatMemoryProvider}
+ * and reads the messages back from its {@link ChatMemoryStore}.
+ * Therefore, chat memories should be backed by a {@code ChatMemoryStore} that outlives them
+ * (e.g., a persistent one), otherwise evicted conversations are lost.
+ */
+public class ChatMemoryEvictionPolicy {
+
+    private final Integer maxChatMemories;
+    private final Duration idleTimeout;
+
+    private ChatMemoryEvictionPolicy(Builder builder) {
+        this.maxChatMemories =
+                builder.maxChatMemories == null ? null : ensureGreaterThanZero(builder.maxChatMemories, "maxChatMemories");
+        if (builder.idleTimeout != null) {
+            ensureTrue(
+                    !builder.idleTimeout.isNegative() && !builder.idleTimeout.isZero(), "idleTimeout must be positive");
+        }
+        this.idleTimeout = builder.idleTimeout;
+    }
+
+    /**
+     * @return the maximum number of live chat memories, or {@code null} if unbounded.
+     */
+    public Integer maxChatMemories() {
+        return maxChatMemories;
+    }
+
+    /**
+     * @return the time after which an unused chat memory is evicted, or {@code null} if chat memories do not expire.
+     */
+    public Duration idleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Creates a new ChatMemoryEvictionPolicy builder.
+     *
+     * @return the builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * ChatMemoryEvictionPolicy builder.
+     */
+    public static class Builder {
+
+        private Integer maxChatMemories;
+        private Duration idleTimeout;
+
+        /**
+         * @param maxChatMemories the maximum number of live chat memories.
+         *                        When exceeded, the least recently used chat memory is evicted.
+         *                        If not set, the number of chat memories is not bounded.
+         * @return builder
+         */
+        public Builder maxChatMemories(Integer maxChatMemories) {
+            this.maxChatMemories = maxChatMemories;
+            return this;
+        }
+
+        /**
+         * @param idleTimeout the time after which a chat memory that has not been used is evicted.
+         *                    If not set, chat memories do not expire.
+         * @return builder
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        public ChatMemoryEvictionPolicy build() {
+            return new ChatMemoryEvictionPolicy(this);
+        }
+    }
+}
@@ -4,9 +4,14 @@ import dev.langchain4j.Internal;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
@@ -15,15 +20,47 @@ public class ChatMemoryService {
 
     public static final String DEFAULT = "default";
 
+    private static final int MAX_REMEMBERED_EVICTED_IDS = 10_000;
+
     private ChatMemory defaultChatMemory;
     private Map<Object, ChatMemory> chatMemories;
     private ChatMemoryProvider chatMemoryProvider;
 
+    // used instead of chatMemories when a ChatMemoryEvictionPolicy is configured, access-ordered
+    private LinkedHashMap<Object, BoundedChatMemory> boundedChatMemories;
+    private Integer maxChatMemories;
+    private Long idleTimeoutNanos;
+    private LongSupplier nanoTime;
+    // the most recently evicted memory IDs, bounded so that it does not grow with the number of conversations
+    private Map<Object, Boolean> evictedIds;
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong rehydrated = new AtomicLong();
+
     public ChatMemoryService(ChatMemoryProvider chatMemoryProvider) {
         this.chatMemories = new ConcurrentHashMap<>();
         this.chatMemoryProvider = ensureNotNull(chatMemoryProvider, "chatMemoryProvider");
     }
 
+    public ChatMemoryService(ChatMemoryProvider chatMemoryProvider, ChatMemoryEvictionPolicy evictionPolicy) {
+        this(chatMemoryProvider, evictionPolicy, System::nanoTime);
+    }
+
+    ChatMemoryService(ChatMemoryProvider chatMemoryProvider, ChatMemoryEvictionPolicy evictionPolicy,
+                      LongSupplier nanoTime) {
+        this.chatMemoryProvider = ensureNotNull(chatMemoryProvider, "chatMemoryProvider");
+        ensureNotNull(evictionPolicy, "evictionPolicy");
+        this.boundedChatMemories = new LinkedHashMap<>(16, 0.75f, true);
+        this.maxChatMemories = evictionPolicy.maxChatMemories();
+        this.idleTimeoutNanos = evictionPolicy.idleTimeout() == null ? null : evictionPolicy.idleTimeout().toNanos();
+        this.nanoTime = nanoTime;
+        this.evictedIds = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest) {
+                return size() > MAX_REMEMBERED_EVICTED_IDS;
+            }
+        };
+    }
+
     public ChatMemoryService(ChatMemory chatMemory) {
         defaultChatMemory = ensureNotNull(chatMemory, "chatMemory");
     }
@@ -35,27 +72,157 @@ public class ChatMemoryService {
             }
             return defaultChatMemory;
         }
-        return chatMemories.computeIfAbsent(memoryId, chatMemoryProvider::get);
+        if (boundedChatMemories == null) {
+            return chatMemories.computeIfAbsent(memoryId, chatMemoryProvider::get);
+        }
+
+        ChatMemory existing = getChatMemory(memoryId);
+        if (existing != null) {
+            return existing;
+        }
+
+        // the provider may read from a chat memory store, so it is not called while holding the lock
+        BoundedChatMemory created = new BoundedChatMemory(chatMemoryProvider.get(memoryId));
+        synchronized (boundedChatMemories) {
+            long now = nanoTime.getAsLong();
+            evictIdleChatMemories(now);
+            BoundedChatMemory chatMemory = boundedChatMemories.putIfAbsent(memoryId, created);
+            if (chatMemory == null) {
+                chatMemory = created;
+                if (evictedIds.remove(memoryId) != null) {
+                    rehydrated.incrementAndGet();
+                }
+                evictLeastRecentlyUsedChatMemories();
+            }
+            chatMemory.lastAccessNanos = now;
+            return chatMemory.chatMemory;
+        }
+    }
+
+    private void evictIdleChatMemories(long now) {
+        if (idleTimeoutNanos == null) {
+            return;
+        }
+        // access order: the least recently used chat memories come first
+        Iterator<Map.Entry<Object, BoundedChatMemory>> iterator = boundedChatMemories.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, BoundedChatMemory> entry = iterator.next();
+            if (now - entry.getValue().lastAccessNanos <= idleTimeoutNanos) {
+                break;
+            }
+            iterator.remove();
+            evicted(entry.getKey());
+        }
+    }
+
+    private void evictLeastRecentlyUsedChatMemories() {
+        if (maxChatMemories == null) {
+            return;
+        }
+        Iterator<Object> iterator = boundedChatMemories.keySet().iterator();
+        while (boundedChatMemories.size() > maxChatMemories) {
+            Object memoryId = iterator.next();
+            iterator.remove();
+            evicted(memoryId);
+        }
+    }
+
+    private void evicted(Object memoryId) {
+        evicted.incrementAndGet();
+        evictedIds.put(memoryId, Boolean.TRUE);
     }
 
     public ChatMemory getChatMemory(Object memoryId) {
-        return memoryId == DEFAULT ? defaultChatMemory : chatMemories.get(memoryId);
+        if (memoryId == DEFAULT) {
+            return defaultChatMemory;
+        }
+        if (boundedChatMemories == null) {
+            return chatMemories.get(memoryId);
+        }
+        synchronized (boundedChatMemories) {
+            long now = nanoTime.getAsLong();
+            evictIdleChatMemories(now);
+            BoundedChatMemory chatMemory = boundedChatMemories.get(memoryId);
+            if (chatMemory == null) {
+                return null;
+            }
+            chatMemory.lastAccessNanos = now;
+            return chatMemory.chatMemory;
+        }
     }
 
     public ChatMemory evictChatMemory(Object memoryId) {
-        return chatMemories.remove(memoryId);
+        if (boundedChatMemories == null) {
+            return chatMemories.remove(memoryId);
+        }
+        synchronized (boundedChatMemories) {
+            BoundedChatMemory chatMemory = boundedChatMemories.remove(memoryId);
+            return chatMemory == null ? null : chatMemory.chatMemory;
+        }
     }
 
     public void clearAll() {
-        chatMemories.values().forEach(ChatMemory::clear);
-        chatMemories.clear();
+        if (boundedChatMemories == null) {
+            chatMemories.values().forEach(ChatMemory::clear);
+            chatMemories.clear();
+            return;
+        }
+        synchronized (boundedChatMemories) {
+            boundedChatMemories.values().forEach(chatMemory -> chatMemory.chatMemory.clear());
+            boundedChatMemories.clear();
+            evictedIds.clear();
+        }
     }
 
     public Collection<Object> getChatMemoryIDs() {
-        return chatMemories.keySet();
+        if (boundedChatMemories == null) {
+            return chatMemories.keySet();
+        }
+        synchronized (boundedChatMemories) {
+            return new ArrayList<>(boundedChatMemories.keySet());
+        }
     }
 
     public Collection<ChatMemory> getChatMemories() {
-        return chatMemories.values();
+        if (boundedChatMemories == null) {
+            return chatMemories.values();
+        }
+        synchronized (boundedChatMemories) {
+            return boundedChatMemories.values().stream()
+                    .map(chatMemory -> chatMemory.chatMemory)
+                    .toList();
+        }
+    }
+
+    /**
+     * Returns the counts of live and evicted chat memories.
+     * Rehydrated chat memories are only counted when a {@link ChatMemoryEvictionPolicy} is configured,
+     * for the last {@value #MAX_REMEMBERED_EVICTED_IDS} evicted memory IDs.
+     *
+     * @return the chat memory statistics.
+     */
+    public ChatMemoryStatistics statistics() {
+        long live;
+        if (boundedChatMemories == null) {
+            live = chatMemories == null ? 0 : chatMemories.size();
+        } else {
+            synchronized (boundedChatMemories) {
+                live = boundedChatMemories.size();
+            }
+        }
+        if (defaultChatMemory != null) {
+            live++;
+        }
+        return new ChatMemoryStatistics(live, evicted.get(), rehydrated.get());
+    }
+
+    private static class BoundedChatMemory {
+
+        private final ChatMemory chatMemory;
+        private long lastAccessNanos;
+
+        private BoundedChatMemory(ChatMemory chatMemory) {
+            this.chatMemory = chatMemory;
+        }
     }
 }
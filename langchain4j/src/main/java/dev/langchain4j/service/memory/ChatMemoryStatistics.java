@@ -0,0 +1,71 @@
+package dev.langchain4j.service.memory;
+
+import java.util.Objects;
+
+/**
+ * Counts of the chat memories held by an AI service, see {@link ChatMemoryAccess#getChatMemoryStatistics()}.
+ */
+public class ChatMemoryStatistics {
+
+    private final long live;
+    private final long evicted;
+    private final long rehydrated;
+
+    /**
+     * Creates chat memory statistics.
+     *
+     * @param live       the number of chat memories currently held.
+     * @param evicted    the number of chat memories evicted by the {@link ChatMemoryEvictionPolicy}.
+     * @param rehydrated the number of chat memories that were created again for a memory ID
+     *                   whose chat memory had been evicted (its messages are reloaded from the chat memory store).
+     */
+    public ChatMemoryStatistics(long live, long evicted, long rehydrated) {
+        this.live = live;
+        this.evicted = evicted;
+        this.rehydrated = rehydrated;
+    }
+
+    /**
+     * @return the number of chat memories currently held.
+     */
+    public long live() {
+        return live;
+    }
+
+    /**
+     * @return the number of chat memories evicted by the {@link ChatMemoryEvictionPolicy}.
+     */
+    public long evicted() {
+        return evicted;
+    }
+
+    /**
+     * @return the number of chat memories that were created again for a memory ID
+     * whose chat memory had been evicted (its messages are reloaded from the chat memory store).
+     */
+    public long rehydrated() {
+        return rehydrated;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ChatMemoryStatistics that = (ChatMemoryStatistics) o;
+        return this.live == that.live && this.evicted == that.evicted && this.rehydrated == that.rehydrated;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(live, evicted, rehydrated);
+    }
+
+    @Override
+    public String toString() {
+        return "ChatMemoryStatistics {" +
+                " live = " + live +
+                ", evicted = " + evicted +
+                ", rehydrated = " + rehydrated +
+                " }";
+    }
+}
@@ -4,15 +4,19 @@ import static dev.langchain4j.agent.tool.ToolSpecifications.toolSpecificationFro
 import static dev.langchain4j.internal.Exceptions.runtime;
 import static dev.langchain4j.internal.Utils.getAnnotatedMethod;
 import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 import dev.langchain4j.Internal;
 import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionPolicy;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.agent.tool.ToolSpecification;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.internal.BoundedExecutor;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.chat.ChatModel;
 import dev.langchain4j.model.chat.request.ChatRequest;
@@ -21,12 +25,20 @@ import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.service.IllegalConfigurationException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
 @Internal
@@ -37,6 +49,14 @@ public class ToolService {
     private ToolProvider toolProvider;
     private int maxSequentialToolsInvocations = 100;
 
+    // concurrent tool execution is enabled when the executor is set
+    private Executor executor;
+    private Duration toolExecutionTimeout;
+    private final Set<String> nonConcurrentTools = new HashSet<>();
+    private final Map<String, Duration> toolExecutionTimeouts = new HashMap<>();
+    private final Map<String, Integer> toolMaxConcurrency = new HashMap<>();
+    private final Map<String, Executor> boundedToolExecutors = new ConcurrentHashMap<>();
+
     private Function<ToolExecutionRequest, ToolExecutionResultMessage> toolHallucinationStrategy =
             HallucinatedToolNameStrategy.THROW_EXCEPTION;
 
@@ -76,12 +96,52 @@ public class ToolService {
         }
         toolExecutors.put(toolSpecification.name(), new DefaultToolExecutor(objectWithTool, method));
         toolSpecifications.add(toolSpecificationFrom(method));
+
+        ToolExecutionPolicy policy = method.getAnnotation(ToolExecutionPolicy.class);
+        if (policy != null) {
+            if (!policy.concurrent()) {
+                nonConcurrentTools.add(toolSpecification.name());
+            }
+            if (policy.timeoutMillis() > 0) {
+                toolExecutionTimeouts.put(toolSpecification.name(), Duration.ofMillis(policy.timeoutMillis()));
+            }
+            if (policy.maxConcurrency() > 0) {
+                toolMaxConcurrency.put(toolSpecification.name(), policy.maxConcurrency());
+            }
+        }
     }
 
     public void maxSequentialToolsInvocations(int maxSequentialToolsInvocations) {
         this.maxSequentialToolsInvocations = maxSequentialToolsInvocations;
     }
 
+    public int maxSequentialToolsInvocations() {
+        return maxSequentialToolsInvocations;
+    }
+
+    public void executeToolsConcurrently(Executor executor) {
+        this.executor = executor != null ? executor : DefaultExecutorProvider.getDefaultExecutorService();
+    }
+
+    /**
+     * Returns the executor that streaming and asynchronous AI services hand the blocking steps
+     * of an invocation (RAG, tool execution rounds, chat memory updates, output guardrails) off to,
+     * so that they do not block the thread delivering the LLM response.
+     * <p>
+     * This is always the executor shared by all LangChain4j components (see {@link DefaultExecutorProvider}),
+     * never the one configured for concurrent tool execution: a tool execution round waits for the tools
+     * it submits to that executor, which would deadlock if both were the same bounded executor.
+     *
+     * @return the executor to execute the blocking steps of an invocation on.
+     */
+    public Executor continuationExecutor() {
+        return DefaultExecutorProvider.getDefaultExecutorService();
+    }
+
+    public void toolExecutionTimeout(Duration toolExecutionTimeout) {
+        this.toolExecutionTimeout = toolExecutionTimeout;
+    }
+
     public ToolServiceContext createContext(Object memoryId, UserMessage userMessage) {
         if (this.toolProvider == null) {
             return this.toolSpecifications.isEmpty() ?
@@ -115,11 +175,86 @@ public class ToolService {
             ChatMemory chatMemory,
             Object memoryId,
             Map<String, ToolExecutor> toolExecutors) {
-        TokenUsage tokenUsageAccumulator = chatResponse.metadata().tokenUsage();
-        int executionsLeft = maxSequentialToolsInvocations;
-        List<ToolExecution> toolExecutions = new ArrayList<>();
+        InferenceAndToolsLoop loop =
+                new InferenceAndToolsLoop(parameters, messages, chatMemory, memoryId, toolExecutors);
 
         while (true) {
+            ChatRequest chatRequest = loop.executeTools(chatResponse);
+            if (chatRequest == null) {
+                return loop.result(chatResponse);
+            }
+            chatResponse = chatModel.chat(chatRequest);
+        }
+    }
+
+    /**
+     * The asynchronous variant of {@link #executeInferenceAndToolsLoop}:
+     * the LLM is called with {@link ChatModel#chatAsync(ChatRequest)},
+     * and the tools (as well as chat memory updates) are executed on the {@link #continuationExecutor()},
+     * so that no thread is blocked while waiting for the LLM.
+     *
+     * @return a future completed with the result of the loop.
+     */
+    public CompletableFuture<ToolServiceResult> executeInferenceAndToolsLoopAsync(
+            ChatResponse chatResponse,
+            ChatRequestParameters parameters,
+            List<ChatMessage> messages,
+            ChatModel chatModel,
+            ChatMemory chatMemory,
+            Object memoryId,
+            Map<String, ToolExecutor> toolExecutors) {
+        InferenceAndToolsLoop loop =
+                new InferenceAndToolsLoop(parameters, messages, chatMemory, memoryId, toolExecutors);
+        return continueAsync(loop, chatResponse, chatModel);
+    }
+
+    private CompletableFuture<ToolServiceResult> continueAsync(
+            InferenceAndToolsLoop loop, ChatResponse chatResponse, ChatModel chatModel) {
+        return CompletableFuture.supplyAsync(() -> loop.executeTools(chatResponse), continuationExecutor())
+                .thenCompose(chatRequest -> chatRequest == null
+                        ? CompletableFuture.completedFuture(loop.result(chatResponse))
+                        : chatModel.chatAsync(chatRequest)
+                                .thenCompose(nextChatResponse -> continueAsync(loop, nextChatResponse, chatModel)));
+    }
+
+    /**
+     * The state of a single inference and tools loop, shared by its synchronous and asynchronous variants.
+     * Its steps are never executed concurrently.
+     */
+    private class InferenceAndToolsLoop {
+
+        private final ChatRequestParameters parameters;
+        private final ChatMemory chatMemory;
+        private final Object memoryId;
+        private final Map<String, ToolExecutor> toolExecutors;
+        private final List<ToolExecution> toolExecutions = new ArrayList<>();
+
+        private List<ChatMessage> messages;
+        private TokenUsage tokenUsageAccumulator;
+        private int executionsLeft = maxSequentialToolsInvocations;
+
+        InferenceAndToolsLoop(
+                ChatRequestParameters parameters,
+                List<ChatMessage> messages,
+                ChatMemory chatMemory,
+                Object memoryId,
+                Map<String, ToolExecutor> toolExecutors) {
+            this.parameters = parameters;
+            this.messages = messages;
+            this.chatMemory = chatMemory;
+            this.memoryId = memoryId;
+            this.toolExecutors = toolExecutors;
+        }
+
+        /**
+         * Executes the tools requested in the given response, if any.
+         *
+         * @return the next request to send to the LLM, or {@code null} if no tools were requested.
+         */
+        ChatRequest executeTools(ChatResponse chatResponse) {
+
+            tokenUsageAccumulator = TokenUsage.sum(
+                    tokenUsageAccumulator, chatResponse.metadata().tokenUsage());
 
             if (executionsLeft-- == 0) {
                 throw runtime(
@@ -136,16 +271,16 @@ public class ToolService {
             }
 
             if (!aiMessage.hasToolExecutionRequests()) {
-                break;
+                return null;
             }
 
-            for (ToolExecutionRequest toolExecutionRequest : aiMessage.toolExecutionRequests()) {
-                ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
+            List<ToolExecutionRequest> toolExecutionRequests = aiMessage.toolExecutionRequests();
+            List<ToolExecutionResultMessage> toolExecutionResultMessages =
+                    ToolService.this.executeTools(toolExecutionRequests, toolExecutors, memoryId);
 
-                ToolExecutionResultMessage toolExecutionResultMessage = toolExecutor == null
-                        ? applyToolHallucinationStrategy(toolExecutionRequest)
-                        : ToolExecutionResultMessage.from(
-                                toolExecutionRequest, toolExecutor.execute(toolExecutionRequest, memoryId));
+            for (int i = 0; i < toolExecutionRequests.size(); i++) {
+                ToolExecutionRequest toolExecutionRequest = toolExecutionRequests.get(i);
+                ToolExecutionResultMessage toolExecutionResultMessage = toolExecutionResultMessages.get(i);
 
                 toolExecutions.add(ToolExecution.builder()
                         .request(toolExecutionRequest)
@@ -163,25 +298,160 @@ public class ToolService {
                 messages = chatMemory.messages();
             }
 
-            ChatRequest chatRequest = ChatRequest.builder()
+            return ChatRequest.builder()
                     .messages(messages)
                     .parameters(parameters)
                     .build();
+        }
 
-            chatResponse = chatModel.chat(chatRequest);
+        ToolServiceResult result(ChatResponse chatResponse) {
+            ChatResponse finalChatResponse = ChatResponse.builder()
+                    .aiMessage(chatResponse.aiMessage())
+                    .metadata(chatResponse.metadata().toBuilder()
+                            .tokenUsage(tokenUsageAccumulator)
+                            .build())
+                    .build();
 
-            tokenUsageAccumulator = TokenUsage.sum(
-                    tokenUsageAccumulator, chatResponse.metadata().tokenUsage());
+            return new ToolServiceResult(finalChatResponse, toolExecutions);
+        }
+    }
+
+    /**
+     * Executes the given tool execution requests and returns their results in the same order as the requests.
+     * <p>
+     * When concurrent tool execution is enabled, tools that allow it are executed concurrently on the configured
+     * executor, while the other tools are executed one after another on the calling thread.
+     * A tool that does not complete within its timeout is cancelled,
+     * and its result tells the LLM that the tool timed out.
+     * If a tool throws an exception, the tools that are still running are cancelled and the exception is rethrown.
+     * <p>
+     * Otherwise, tools are executed one after another on the calling thread,
+     * and neither timeouts nor concurrency limits apply.
+     * <p>
+     * In both cases, the hallucinated tool name strategy is applied to the requests of unknown tools
+     * before any tool is executed, so that no tool is executed if it throws.
+     *
+     * @param toolExecutionRequests the tool execution requests, in the order they were requested by the LLM.
+     * @param toolExecutors         the tool executors, by tool name.
+     * @param memoryId              the ID of the chat memory.
+     * @return the tool execution results, in the order of the requests.
+     */
+    public List<ToolExecutionResultMessage> executeTools(
+            List<ToolExecutionRequest> toolExecutionRequests,
+            Map<String, ToolExecutor> toolExecutors,
+            Object memoryId) {
+        int size = toolExecutionRequests.size();
+        ToolExecutionResultMessage[] results = new ToolExecutionResultMessage[size];
+        for (int i = 0; i < size; i++) {
+            ToolExecutionRequest toolExecutionRequest = toolExecutionRequests.get(i);
+            if (!toolExecutors.containsKey(toolExecutionRequest.name())) {
+                results[i] = applyToolHallucinationStrategy(toolExecutionRequest);
+            }
+        }
+
+        if (executor == null) {
+            for (int i = 0; i < size; i++) {
+                ToolExecutionRequest toolExecutionRequest = toolExecutionRequests.get(i);
+                if (results[i] == null) {
+                    ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
+                    results[i] = ToolExecutionResultMessage.from(
+                            toolExecutionRequest, toolExecutor.execute(toolExecutionRequest, memoryId));
+                }
+            }
+            return List.of(results);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        FutureTask<String>[] tasks = new FutureTask[size];
+        Duration[] timeouts = new Duration[size];
+        long[] startTimes = new long[size];
+
+        boolean completed = false;
+        try {
+            for (int i = 0; i < size; i++) {
+                ToolExecutionRequest toolExecutionRequest = toolExecutionRequests.get(i);
+                ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
+                Duration timeout = timeoutOf(toolExecutionRequest);
+                if (results[i] != null
+                        || nonConcurrentTools.contains(toolExecutionRequest.name())
+                        || (size == 1
+                                && timeout == null
+                                && !toolMaxConcurrency.containsKey(toolExecutionRequest.name()))) {
+                    continue;
+                }
+                tasks[i] = new FutureTask<>(() -> toolExecutor.execute(toolExecutionRequest, memoryId));
+                timeouts[i] = timeout;
+                startTimes[i] = System.nanoTime();
+                executorFor(toolExecutionRequest.name()).execute(tasks[i]);
+            }
+
+            // tools that are not executed concurrently, in the order requested by the LLM
+            for (int i = 0; i < size; i++) {
+                ToolExecutionRequest toolExecutionRequest = toolExecutionRequests.get(i);
+                if (tasks[i] == null && results[i] == null) {
+                    ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
+                    results[i] = ToolExecutionResultMessage.from(
+                            toolExecutionRequest, toolExecutor.execute(toolExecutionRequest, memoryId));
+                }
+            }
+
+            for (int i = 0; i < size; i++) {
+                ToolExecutionRequest toolExecutionRequest = toolExecutionRequests.get(i);
+                if (tasks[i] != null) {
+                    results[i] = await(tasks[i], timeouts[i], startTimes[i], toolExecutionRequest);
+                }
+            }
+
+            completed = true;
+            return List.of(results);
+        } finally {
+            if (!completed) {
+                for (FutureTask<String> task : tasks) {
+                    if (task != null) {
+                        task.cancel(true);
+                    }
+                }
+            }
         }
+    }
 
-        chatResponse = ChatResponse.builder()
-                .aiMessage(chatResponse.aiMessage())
-                .metadata(chatResponse.metadata().toBuilder()
-                        .tokenUsage(tokenUsageAccumulator)
-                        .build())
-                .build();
+    private Executor executorFor(String toolName) {
+        Integer maxConcurrency = toolMaxConcurrency.get(toolName);
+        if (maxConcurrency == null) {
+            return executor;
+        }
+        return boundedToolExecutors.computeIfAbsent(toolName, ignored -> new BoundedExecutor(executor, maxConcurrency));
+    }
 
-        return new ToolServiceResult(chatResponse, toolExecutions);
+    private Duration timeoutOf(ToolExecutionRequest toolExecutionRequest) {
+        return toolExecutionTimeouts.getOrDefault(toolExecutionRequest.name(), toolExecutionTimeout);
+    }
+
+    private static ToolExecutionResultMessage await(
+            FutureTask<String> task, Duration timeout, long startTime, ToolExecutionRequest toolExecutionRequest) {
+        try {
+            String result = timeout == null
+                    ? task.get()
+                    : task.get(timeout.toNanos() - (System.nanoTime() - startTime), NANOSECONDS);
+            return ToolExecutionResultMessage.from(toolExecutionRequest, result);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            return ToolExecutionResultMessage.from(
+                    toolExecutionRequest,
+                    String.format("Execution of the tool '%s' timed out", toolExecutionRequest.name()));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
     }
 
     public ToolExecutionResultMessage applyToolHallucinationStrategy(ToolExecutionRequest toolExecutionRequest) {
@@ -0,0 +1,413 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Exceptions.runtime;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Reads and writes {@link InMemoryEmbeddingStore} snapshots in a compact binary format.
+ * <p>
+ * The file consists of:
+ * <ul>
+ *     <li>a fixed-size header: magic number, format version, number of entries, dimension
+ *     and the offsets of the following blocks</li>
+ *     <li>the vector block: all vectors as raw little-endian float32, row by row</li>
+ *     <li>the norm block: the norm of every vector as little-endian float64</li>
+ *     <li>the record block: for every entry, its id, and optionally the text and metadata of its {@link TextSegment}</li>
+ * </ul>
+ * On load, the vector block is memory-mapped (read-only) instead of being read,
+ * so that it is paged in lazily by the operating system and never copied onto the Java heap.
+ * A mapped page is only copied once the loaded store has to modify it.
+ */
+class BinaryInMemoryEmbeddingStoreCodec {
+
+    private static final int MAGIC = 0x4C344A45; // "L4JE"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+
+    private static final byte NO_EMBEDDED = 0;
+    private static final byte TEXT_SEGMENT = 1;
+
+    private static final byte STRING = 0;
+    private static final byte UUID_TYPE = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte FLOAT = 4;
+    private static final byte DOUBLE = 5;
+
+    private BinaryInMemoryEmbeddingStoreCodec() {
+    }
+
+    static void write(InMemoryEmbeddingStore<?> store, Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            write(store, channel);
+        }
+    }
+
+    static <Embedded> void write(InMemoryEmbeddingStore<Embedded> store, FileChannel channel) throws IOException {
+        channel.position(HEADER_SIZE);
+        Output output = new Output(channel, HEADER_SIZE);
+
+        List<Entry<Embedded>> written = new ArrayList<>();
+        double[] norms = new double[1024];
+        int dimension = 0;
+        for (Entry<Embedded> entry : store.entries) {
+            ensureSupported(entry.embedded);
+            float[] vector = store.vector(entry);
+            if (vector == null) {
+                continue; // removed concurrently
+            }
+            if (written.isEmpty()) {
+                dimension = vector.length;
+            } else if (vector.length != dimension) {
+                // vectors are laid out in rows of a single length
+                throw new IllegalStateException(String.format(
+                        "All embeddings must have the same dimension to be written in the binary format, "
+                                + "but found embeddings of dimension %s and %s",
+                        dimension, vector.length));
+            }
+
+            double norm = 0.0;
+            for (float v : vector) {
+                output.writeFloat(v);
+                norm += v * v;
+            }
+            if (written.size() == norms.length) {
+                norms = Arrays.copyOf(norms, written.size() * 2);
+            }
+            norms[written.size()] = Math.sqrt(norm);
+            written.add(entry);
+        }
+
+        long normsOffset = output.position();
+        for (int i = 0; i < written.size(); i++) {
+            output.writeDouble(norms[i]);
+        }
+
+        long recordsOffset = output.position();
+        for (Entry<Embedded> entry : written) {
+            output.writeString(entry.id);
+            writeEmbedded(entry.embedded, output);
+        }
+        output.flush();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(written.size());
+        header.putInt(dimension);
+        header.putLong(HEADER_SIZE);
+        header.putLong(normsOffset);
+        header.putLong(recordsOffset);
+        header.clear(); // the rest of the header is reserved
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+    }
+
+    static InMemoryEmbeddingStore<TextSegment> read(Path filePath) throws IOException {
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .vectorStorage(VectorStorage.OFF_HEAP_MATRIX)
+                .build();
+        read(filePath, store);
+        return store;
+    }
+
+    /**
+     * Reads the given file into the given (empty) store.
+     */
+    static <Embedded> void read(Path filePath, InMemoryEmbeddingStore<Embedded> store) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw runtime("'%s' is not a binary in-memory embedding store file", filePath);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw runtime("Unsupported binary in-memory embedding store format version: %s", version);
+            }
+            int count = header.getInt();
+            int dimension = header.getInt();
+            long vectorsOffset = header.getLong();
+            long normsOffset = header.getLong();
+            long recordsOffset = header.getLong();
+
+            List<FloatBuffer> pages = new ArrayList<>();
+            long pageBytes = (long) EmbeddingMatrix.ROWS_PER_PAGE * dimension * Float.BYTES;
+            for (int firstRow = 0; firstRow < count; firstRow += EmbeddingMatrix.ROWS_PER_PAGE) {
+                int rows = Math.min(EmbeddingMatrix.ROWS_PER_PAGE, count - firstRow);
+                long offset = vectorsOffset + (firstRow / EmbeddingMatrix.ROWS_PER_PAGE) * pageBytes;
+                pages.add(channel.map(FileChannel.MapMode.READ_ONLY, offset, (long) rows * dimension * Float.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asFloatBuffer());
+            }
+
+            double[] norms = new double[count];
+            channel.position(normsOffset);
+            Input input = new Input(channel);
+            for (int i = 0; i < count; i++) {
+                norms[i] = input.readDouble();
+            }
+
+            List<Entry<Embedded>> entries = new ArrayList<>(count);
+            channel.position(recordsOffset);
+            input = new Input(channel);
+            for (int row = 0; row < count; row++) {
+                String id = input.readString();
+                entries.add(new Entry<>(id, readEmbedded(input), row));
+            }
+
+            store.load(entries, dimension, pages, norms);
+        }
+    }
+
+    static void ensureSupported(Object embedded) {
+        if (embedded != null && !(embedded instanceof TextSegment)) {
+            throw illegalArgument("Only %s can be serialized in the binary format, got %s",
+                    TextSegment.class.getSimpleName(), embedded.getClass().getName());
+        }
+    }
+
+    static void writeEmbedded(Object embedded, Output output) throws IOException {
+        if (embedded instanceof TextSegment segment) {
+            output.writeByte(TEXT_SEGMENT);
+            output.writeString(segment.text());
+            writeMetadata(segment.metadata(), output);
+        } else {
+            output.writeByte(NO_EMBEDDED);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <Embedded> Embedded readEmbedded(Input input) throws IOException {
+        if (input.readByte() == TEXT_SEGMENT) {
+            String text = input.readString();
+            return (Embedded) TextSegment.from(text, readMetadata(input));
+        }
+        return null;
+    }
+
+    private static void writeMetadata(Metadata metadata, Output output) throws IOException {
+        Map<String, Object> map = metadata.toMap();
+        output.writeInt(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            output.writeString(entry.getKey());
+            Object value = entry.getValue();
+            if (value instanceof String string) {
+                output.writeByte(STRING);
+                output.writeString(string);
+            } else if (value instanceof UUID uuid) {
+                output.writeByte(UUID_TYPE);
+                output.writeLong(uuid.getMostSignificantBits());
+                output.writeLong(uuid.getLeastSignificantBits());
+            } else if (value instanceof Integer integer) {
+                output.writeByte(INTEGER);
+                output.writeInt(integer);
+            } else if (value instanceof Long longValue) {
+                output.writeByte(LONG);
+                output.writeLong(longValue);
+            } else if (value instanceof Float floatValue) {
+                output.writeByte(FLOAT);
+                output.writeFloat(floatValue);
+            } else if (value instanceof Double doubleValue) {
+                output.writeByte(DOUBLE);
+                output.writeDouble(doubleValue);
+            } else {
+                throw illegalArgument("Unsupported metadata value type: %s", value.getClass().getName());
+            }
+        }
+    }
+
+    private static Metadata readMetadata(Input input) throws IOException {
+        int size = input.readInt();
+        Map<String, Object> map = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String key = input.readString();
+            byte type = input.readByte();
+            Object value = switch (type) {
+                case STRING -> input.readString();
+                case UUID_TYPE -> new UUID(input.readLong(), input.readLong());
+                case INTEGER -> input.readInt();
+                case LONG -> input.readLong();
+                case FLOAT -> input.readFloat();
+                case DOUBLE -> input.readDouble();
+                default -> throw runtime("Unknown metadata value type: %s", type);
+            };
+            map.put(key, value);
+        }
+        return Metadata.from(map);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Buffered little-endian writer on top of a channel.
+     * The given position is only used to report the {@link #position()} of the next byte.
+     */
+    static class Output {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+        private long position;
+
+        Output(WritableByteChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        long position() {
+            return position + buffer.position();
+        }
+
+        void writeByte(byte value) throws IOException {
+            ensureRemaining(Byte.BYTES);
+            buffer.put(value);
+        }
+
+        void writeInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void writeLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void writeFloat(float value) throws IOException {
+            ensureRemaining(Float.BYTES);
+            buffer.putFloat(value);
+        }
+
+        void writeDouble(double value) throws IOException {
+            ensureRemaining(Double.BYTES);
+            buffer.putDouble(value);
+        }
+
+        void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(UTF_8);
+            writeInt(bytes.length);
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensureRemaining(1);
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensureRemaining(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Buffered little-endian reader on top of a channel.
+     */
+    static class Input {
+
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+
+        Input(ReadableByteChannel channel) {
+            this.channel = channel;
+            buffer.limit(0);
+        }
+
+        byte readByte() throws IOException {
+            ensureAvailable(Byte.BYTES);
+            return buffer.get();
+        }
+
+        int readInt() throws IOException {
+            ensureAvailable(Integer.BYTES);
+            return buffer.getInt();
+        }
+
+        long readLong() throws IOException {
+            ensureAvailable(Long.BYTES);
+            return buffer.getLong();
+        }
+
+        float readFloat() throws IOException {
+            ensureAvailable(Float.BYTES);
+            return buffer.getFloat();
+        }
+
+        double readDouble() throws IOException {
+            ensureAvailable(Double.BYTES);
+            return buffer.getDouble();
+        }
+
+        String readString() throws IOException {
+            int length = readInt();
+            byte[] bytes = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                ensureAvailable(1);
+                int chunk = Math.min(buffer.remaining(), length - offset);
+                buffer.get(bytes, offset, chunk);
+                offset += chunk;
+            }
+            return new String(bytes, UTF_8);
+        }
+
+        private void ensureAvailable(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException();
+                }
+            }
+            buffer.flip();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+import static dev.langchain4j.store.embedding.inmemory.EmbeddingMatrix.ROWS_PER_PAGE;
+
+/**
+ * Reduces every dimension to its sign, packed 64 dimensions per {@code long}.
+ * Rows are ranked by their Hamming distance to the (equally reduced) query.
+ */
+class BinaryQuantizedVectors extends QuantizedVectors {
+
+    private final int words;
+    private final List<long[]> pages = new ArrayList<>();
+
+    BinaryQuantizedVectors(int dimension) {
+        super(dimension);
+        this.words = (dimension + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    @Override
+    void set(int row, float[] vector) {
+        if (row / ROWS_PER_PAGE == pages.size()) {
+            pages.add(new long[ROWS_PER_PAGE * words]);
+        }
+        long[] page = pages.get(row / ROWS_PER_PAGE);
+        int offset = (row % ROWS_PER_PAGE) * words;
+        long[] bits = bits(vector);
+        System.arraycopy(bits, 0, page, offset, words);
+    }
+
+    @Override
+    void move(int fromRow, int toRow) {
+        System.arraycopy(pages.get(fromRow / ROWS_PER_PAGE), (fromRow % ROWS_PER_PAGE) * words,
+                pages.get(toRow / ROWS_PER_PAGE), (toRow % ROWS_PER_PAGE) * words, words);
+    }
+
+    @Override
+    void truncate(int rows) {
+        while (pages.size() > pages(rows)) {
+            pages.remove(pages.size() - 1);
+        }
+    }
+
+    @Override
+    IntToDoubleFunction scorer(float[] queryVector, double queryNorm, double[] norms) {
+        long[] queryBits = bits(queryVector);
+        return row -> {
+            long[] page = pages.get(row / ROWS_PER_PAGE);
+            int offset = (row % ROWS_PER_PAGE) * words;
+            int distance = 0;
+            for (int i = 0; i < words; i++) {
+                distance += Long.bitCount(queryBits[i] ^ page[offset + i]);
+            }
+            return -distance;
+        };
+    }
+
+    private long[] bits(float[] vector) {
+        long[] bits = new long[words];
+        for (int i = 0; i < dimension; i++) {
+            if (vector[i] > 0) {
+                bits[i / Long.SIZE] |= 1L << (i % Long.SIZE);
+            }
+        }
+        return bits;
+    }
+}
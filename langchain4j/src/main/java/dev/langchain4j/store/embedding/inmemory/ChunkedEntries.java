@@ -0,0 +1,486 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * The entries of an {@link InMemoryEmbeddingStore}, in insertion order.
+ * <p>
+ * Entries are appended to fixed-size chunks, so an addition never copies existing entries.
+ * A removal leaves an empty slot behind, and only copies the chunks it touches.
+ * Once more than half of the slots are empty, the entries are compacted into new chunks.
+ * An index from id to slots makes removals by id independent of the number of entries.
+ * Optionally, a {@link MetadataIndex} narrows down the entries a filtered search has to look at.
+ * <p>
+ * Writers are serialized by a lock and publish an immutable {@link Snapshot} of the chunks.
+ * Iteration (and thus search) works on the snapshot that was current when it started,
+ * without taking any lock and without being affected by concurrent writers.
+ */
+class ChunkedEntries<Embedded> extends AbstractCollection<Entry<Embedded>> {
+
+    static final int CHUNK_SIZE = 1024;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // guarded by lock
+    private final Map<String, int[]> slotsById = new HashMap<>();
+    private final MetadataIndex metadataIndex;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    ChunkedEntries() {
+        this.metadataIndex = null;
+    }
+
+    ChunkedEntries(Collection<Entry<Embedded>> entries) {
+        this.metadataIndex = null;
+        addAll(entries);
+    }
+
+    /**
+     * @param indexedMetadataKeys the metadata keys to index, see {@link MetadataIndex}
+     */
+    ChunkedEntries(Set<String> indexedMetadataKeys) {
+        this.metadataIndex = indexedMetadataKeys.isEmpty() ? null : new MetadataIndex(indexedMetadataKeys);
+    }
+
+    @Override
+    public boolean add(Entry<Embedded> entry) {
+        return addAll(List.of(entry));
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Entry<Embedded>> entries) {
+        if (entries.isEmpty()) {
+            return false;
+        }
+        lock.lock();
+        try {
+            Snapshot current = snapshot;
+            Object[][] chunks = current.chunks;
+            int end = current.end;
+            for (Entry<Embedded> entry : entries) {
+                int chunk = end / CHUNK_SIZE;
+                if (chunk == chunks.length) {
+                    chunks = Arrays.copyOf(chunks, Math.max(4, chunks.length * 2));
+                }
+                if (chunks[chunk] == null) {
+                    chunks[chunk] = new Object[CHUNK_SIZE];
+                }
+                // slots at and beyond the end are invisible to published snapshots, so they can be written in place
+                chunks[chunk][end % CHUNK_SIZE] = entry;
+                index(entry, end);
+                end++;
+            }
+            snapshot = new Snapshot(chunks, end, current.size + entries.size());
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the removed entries
+     */
+    List<Entry<Embedded>> removeIds(Collection<String> ids) {
+        lock.lock();
+        try {
+            Removal removal = new Removal(snapshot);
+            for (String id : ids) {
+                int[] slots = slotsById.remove(id);
+                if (slots != null) {
+                    for (int slot : slots) {
+                        removal.remove(slot);
+                    }
+                }
+            }
+            return removal.publish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the removed entries
+     */
+    List<Entry<Embedded>> removeMatching(Predicate<Entry<Embedded>> predicate) {
+        lock.lock();
+        try {
+            Snapshot current = snapshot;
+            Removal removal = new Removal(current);
+            for (int slot = 0; slot < current.end; slot++) {
+                Entry<Embedded> entry = current.entryAt(slot);
+                if (entry != null && predicate.test(entry)) {
+                    removal.remove(slot);
+                    unindex(entry.id, slot);
+                }
+            }
+            return removal.publish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Entry<Embedded>> filter) {
+        return !removeMatching(filter::test).isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            slotsById.clear();
+            if (metadataIndex != null) {
+                metadataIndex.clear();
+            }
+            snapshot = Snapshot.EMPTY;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size;
+    }
+
+    @Override
+    public Iterator<Entry<Embedded>> iterator() {
+        return new SnapshotIterator(snapshot);
+    }
+
+    /**
+     * @return a spliterator over the current snapshot that splits into ranges of slots of roughly equal size
+     */
+    @Override
+    public Spliterator<Entry<Embedded>> spliterator() {
+        Snapshot current = snapshot;
+        return new SnapshotSpliterator(current, 0, current.end, null);
+    }
+
+    /**
+     * Selects the entries of the current snapshot that may match the given filter,
+     * using the metadata index if there is one and it can answer the filter.
+     */
+    Selection<Embedded> select(Filter filter) {
+        if (filter == null || metadataIndex == null) {
+            return new Selection<>(spliterator(), -1, filter);
+        }
+        lock.lock();
+        try {
+            Snapshot current = snapshot;
+            MetadataIndex.Candidates candidates = metadataIndex.candidates(filter, current.end);
+            if (candidates == null) {
+                return new Selection<>(new SnapshotSpliterator(current, 0, current.end, null), -1, filter);
+            }
+            return new Selection<>(
+                    new SnapshotSpliterator(current, 0, current.end, candidates.slots),
+                    candidates.slots.cardinality(),
+                    candidates.exact ? null : filter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void index(Entry<Embedded> entry, int slot) {
+        index(entry.id, slot);
+        if (metadataIndex != null) {
+            metadataIndex.add(entry.embedded, slot);
+        }
+    }
+
+    private void index(String id, int slot) {
+        int[] slots = slotsById.get(id);
+        if (slots == null) {
+            slotsById.put(id, new int[]{slot});
+        } else {
+            // duplicate ids are rare, but allowed
+            int[] extended = Arrays.copyOf(slots, slots.length + 1);
+            extended[slots.length] = slot;
+            slotsById.put(id, extended);
+        }
+    }
+
+    private void unindex(String id, int slot) {
+        int[] slots = slotsById.get(id);
+        if (slots.length == 1) {
+            slotsById.remove(id);
+            return;
+        }
+        int[] remaining = new int[slots.length - 1];
+        int i = 0;
+        for (int s : slots) {
+            if (s != slot) {
+                remaining[i++] = s;
+            }
+        }
+        slotsById.put(id, remaining);
+    }
+
+    /**
+     * Collects the removals of a single operation, copying each touched chunk once.
+     */
+    private class Removal {
+
+        private final Snapshot current;
+        private final Object[][] chunks;
+        private final boolean[] copied;
+        private final List<Entry<Embedded>> removed = new ArrayList<>();
+
+        Removal(Snapshot current) {
+            this.current = current;
+            this.chunks = current.chunks.clone();
+            this.copied = new boolean[chunks.length];
+        }
+
+        @SuppressWarnings("unchecked")
+        void remove(int slot) {
+            int chunk = slot / CHUNK_SIZE;
+            if (!copied[chunk]) {
+                chunks[chunk] = chunks[chunk].clone();
+                copied[chunk] = true;
+            }
+            removed.add((Entry<Embedded>) chunks[chunk][slot % CHUNK_SIZE]);
+            chunks[chunk][slot % CHUNK_SIZE] = null;
+        }
+
+        List<Entry<Embedded>> publish() {
+            if (removed.isEmpty()) {
+                return removed;
+            }
+            int size = current.size - removed.size();
+            int empty = current.end - size;
+            if (empty > size && empty >= CHUNK_SIZE) {
+                compact(new Snapshot(chunks, current.end, size));
+            } else {
+                snapshot = new Snapshot(chunks, current.end, size);
+            }
+            return removed;
+        }
+    }
+
+    private void compact(Snapshot sparse) {
+        slotsById.clear();
+        if (metadataIndex != null) {
+            metadataIndex.clear();
+        }
+        Object[][] chunks = new Object[Math.max(4, (sparse.size + CHUNK_SIZE - 1) / CHUNK_SIZE)][];
+        int end = 0;
+        for (int slot = 0; slot < sparse.end; slot++) {
+            Entry<Embedded> entry = sparse.entryAt(slot);
+            if (entry != null) {
+                if (chunks[end / CHUNK_SIZE] == null) {
+                    chunks[end / CHUNK_SIZE] = new Object[CHUNK_SIZE];
+                }
+                chunks[end / CHUNK_SIZE][end % CHUNK_SIZE] = entry;
+                index(entry, end);
+                end++;
+            }
+        }
+        snapshot = new Snapshot(chunks, end, end);
+    }
+
+    /**
+     * Entries are compared in order, like a {@link List}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ChunkedEntries<?> that)) return false;
+        Iterator<?> these = this.iterator();
+        Iterator<?> those = that.iterator();
+        while (these.hasNext() && those.hasNext()) {
+            if (!Objects.equals(these.next(), those.next())) {
+                return false;
+            }
+        }
+        return !these.hasNext() && !those.hasNext();
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (Entry<Embedded> entry : this) {
+            hashCode = 31 * hashCode + Objects.hashCode(entry);
+        }
+        return hashCode;
+    }
+
+    /**
+     * The chunks, the number of used slots ({@code end}) and the number of entries at one point in time.
+     * Slots below {@code end} are never modified once published: a removal copies the chunk instead.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new Object[0][], 0, 0);
+
+        final Object[][] chunks;
+        final int end;
+        final int size;
+
+        Snapshot(Object[][] chunks, int end, int size) {
+            this.chunks = chunks;
+            this.end = end;
+            this.size = size;
+        }
+
+        @SuppressWarnings("unchecked")
+        <Embedded> Entry<Embedded> entryAt(int slot) {
+            return (Entry<Embedded>) chunks[slot / CHUNK_SIZE][slot % CHUNK_SIZE];
+        }
+    }
+
+    private class SnapshotIterator implements Iterator<Entry<Embedded>> {
+
+        private final Snapshot snapshot;
+        private int slot;
+        private Entry<Embedded> next;
+
+        SnapshotIterator(Snapshot snapshot) {
+            this.snapshot = snapshot;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null && slot < snapshot.end) {
+                next = snapshot.entryAt(slot++);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<Embedded> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Entry<Embedded> current = next;
+            advance();
+            return current;
+        }
+    }
+
+    /**
+     * The result of {@link #select(Filter)}.
+     */
+    static class Selection<Embedded> {
+
+        /**
+         * The entries that may match the filter.
+         */
+        final Spliterator<Entry<Embedded>> entries;
+
+        /**
+         * The number of selected entries (including removed ones that are yet to be compacted),
+         * or {@code -1} if the metadata index was not used and all entries are selected.
+         */
+        final int size;
+
+        /**
+         * The filter the selected entries still have to be tested against,
+         * or {@code null} if they are known to match.
+         */
+        final Filter residualFilter;
+
+        Selection(Spliterator<Entry<Embedded>> entries, int size, Filter residualFilter) {
+            this.entries = entries;
+            this.size = size;
+            this.residualFilter = residualFilter;
+        }
+
+        boolean usesIndex() {
+            return size >= 0;
+        }
+    }
+
+    /**
+     * Iterates over a range of slots of a snapshot, optionally only over the slots set in the given candidates.
+     */
+    private class SnapshotSpliterator implements Spliterator<Entry<Embedded>> {
+
+        private final Snapshot snapshot;
+        private final BitSet candidates;
+        private int from;
+        private final int to;
+
+        SnapshotSpliterator(Snapshot snapshot, int from, int to, BitSet candidates) {
+            this.snapshot = snapshot;
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry<Embedded>> action) {
+            while ((from = nextCandidate(from)) < to) {
+                Entry<Embedded> entry = snapshot.entryAt(from++);
+                if (entry != null) {
+                    action.accept(entry);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Entry<Embedded>> action) {
+            for (from = nextCandidate(from); from < to; from = nextCandidate(from + 1)) {
+                Entry<Embedded> entry = snapshot.entryAt(from);
+                if (entry != null) {
+                    action.accept(entry);
+                }
+            }
+        }
+
+        private int nextCandidate(int slot) {
+            if (candidates == null || slot >= to) {
+                return slot;
+            }
+            int next = candidates.nextSetBit(slot);
+            return next < 0 ? to : next;
+        }
+
+        @Override
+        public Spliterator<Entry<Embedded>> trySplit() {
+            int middle = (from + to) >>> 1;
+            if (middle <= from) {
+                return null;
+            }
+            Spliterator<Entry<Embedded>> prefix = new SnapshotSpliterator(snapshot, from, middle, candidates);
+            from = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+}
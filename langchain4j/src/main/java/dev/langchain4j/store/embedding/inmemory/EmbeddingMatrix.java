@@ -0,0 +1,642 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Comparator.comparingDouble;
+
+/**
+ * Packs the vectors of the entries of an {@link InMemoryEmbeddingStore} row by row into contiguous pages
+ * (either {@code float[]} on the heap or direct {@link FloatBuffer}s off the heap),
+ * and keeps the norm of every row, so that a search only has to compute one dot product per row.
+ * <p>
+ * Rows are compacted on removal: the last row is moved into the freed slot.
+ * Entries stored in the matrix do not hold an {@link Embedding}; it is recreated on demand from their row.
+ * <p>
+ * If quantization is configured, every row is also kept as {@link QuantizedVectors}.
+ * Searches then scan the quantized rows and re-score only the best candidates against the full-precision rows,
+ * which can be kept in memory-mapped files (see {@link QuantizationConfig#fullPrecisionDirectory()}).
+ * <p>
+ * All mutations are guarded by a write lock, searches share a read lock.
+ */
+class EmbeddingMatrix<Embedded> {
+
+    static final int ROWS_PER_PAGE = 1024;
+
+    private static final Comparator<ScoredRow> COMPARATOR = comparingDouble(scoredRow -> scoredRow.score);
+
+    private final boolean offHeap;
+    private final ParallelSearch parallelSearch;
+    private final QuantizationConfig quantization;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<float[]> heapPages = new ArrayList<>();
+    private final List<FloatBuffer> offHeapPages = new ArrayList<>();
+    private double[] norms = new double[ROWS_PER_PAGE];
+    private Object[] rowEntries = new Object[ROWS_PER_PAGE];
+    private QuantizedVectors quantizedVectors;
+    private int dimension = -1;
+    private int size;
+
+    EmbeddingMatrix(boolean offHeap, ParallelSearch parallelSearch) {
+        this(offHeap, parallelSearch, null);
+    }
+
+    /**
+     * @param quantization if {@link QuantizationConfig#fullPrecisionDirectory()} is set, {@code offHeap} must be too
+     */
+    EmbeddingMatrix(boolean offHeap, ParallelSearch parallelSearch, QuantizationConfig quantization) {
+        this.offHeap = offHeap;
+        this.parallelSearch = parallelSearch;
+        this.quantization = quantization;
+    }
+
+    boolean isOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * Copies the vectors of the given entries into the matrix and detaches their {@link Embedding}s.
+     */
+    void add(List<Entry<Embedded>> entries) {
+        lock.writeLock().lock();
+        try {
+            if (entries.isEmpty()) {
+                return;
+            }
+            dimension = validate(entries);
+            if (quantization != null) {
+                calibrate(entries.stream().map(entry -> entry.embedding.vector()).toList());
+            }
+            for (Entry<Embedded> entry : entries) {
+                append(entry, entry.embedding.vector());
+                entry.embedding = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the given entries cannot be added, because of their dimension
+     */
+    void ensureCanAdd(List<Entry<Embedded>> entries) {
+        lock.readLock().lock();
+        try {
+            if (!entries.isEmpty()) {
+                validate(entries);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the dimension of the matrix once the given (non-empty) entries are added
+     */
+    private int validate(List<Entry<Embedded>> entries) {
+        int expectedDimension = dimension == -1 ? entries.get(0).embedding.dimension() : dimension;
+        for (Entry<Embedded> entry : entries) {
+            ensureDimension(entry.embedding.vector(), expectedDimension);
+        }
+        return expectedDimension;
+    }
+
+    /**
+     * Takes over vectors that are already laid out row by row in the given off-heap pages
+     * (e.g. memory-mapped from a file) together with their norms, without copying them.
+     * Read-only pages are copied only once a row has to be written into them.
+     * All pages but the last must hold exactly {@link #ROWS_PER_PAGE} rows.
+     * The row of each entry must match its position in the list.
+     */
+    void load(List<Entry<Embedded>> entries, int dimension, List<FloatBuffer> pages, double[] norms) {
+        lock.writeLock().lock();
+        try {
+            if (!offHeap || size > 0) {
+                throw new IllegalStateException("Only an empty off-heap matrix can be loaded");
+            }
+            this.dimension = entries.isEmpty() ? -1 : dimension;
+            for (int i = 0; i < pages.size(); i++) {
+                FloatBuffer page = pages.get(i);
+                if (page.capacity() < ROWS_PER_PAGE * dimension) {
+                    // the last page is only partially filled, it must have room for new rows
+                    allocatePage();
+                    offHeapPages.get(i).put(0, page, 0, page.capacity());
+                } else {
+                    offHeapPages.add(page);
+                }
+            }
+            int capacity = Math.max(ROWS_PER_PAGE, entries.size());
+            this.norms = Arrays.copyOf(norms, capacity);
+            this.rowEntries = Arrays.copyOf(entries.toArray(), capacity);
+            this.size = entries.size();
+            if (quantization != null) {
+                quantizeLoadedRows();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return a copy of the vector of the given entry, or {@code null} if it is no longer in the matrix
+     */
+    float[] vector(Entry<Embedded> entry) {
+        lock.readLock().lock();
+        try {
+            return entry.row < 0 ? null : embeddingAt(entry.row).vector();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void remove(Collection<Entry<Embedded>> entries) {
+        lock.writeLock().lock();
+        try {
+            for (Entry<Embedded> entry : entries) {
+                if (entry.row >= 0) {
+                    removeRow(entry.row);
+                    entry.row = -1;
+                }
+            }
+            releaseUnusedPages();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            for (int row = 0; row < size; row++) {
+                entryAt(row).row = -1;
+            }
+            heapPages.clear();
+            offHeapPages.clear();
+            quantizedVectors = null;
+            norms = new double[ROWS_PER_PAGE];
+            rowEntries = new Object[ROWS_PER_PAGE];
+            dimension = -1;
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Scores every row accepted by the given filter against the query vector.
+     * With quantization, the quantized rows are scored and only the best of them are re-scored exactly.
+     *
+     * @return up to {@code maxResults} matches with a score of at least {@code minScore},
+     * ordered from the most to the least relevant
+     */
+    List<EmbeddingMatch<Embedded>> search(float[] queryVector,
+                                          int maxResults,
+                                          double minScore,
+                                          Predicate<Entry<Embedded>> filter) {
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                return new ArrayList<>();
+            }
+            ensureSameDimension(queryVector);
+
+            double queryNorm = norm(queryVector, 0, queryVector.length);
+            IntToDoubleFunction scorer = row -> score(queryVector, queryNorm, row);
+            if (quantizedVectors == null) {
+                return toMatches(topRows(scorer, maxResults, minScore, filter));
+            }
+
+            List<ScoredRow> candidates = topRows(quantizedVectors.scorer(queryVector, queryNorm, norms),
+                    candidates(maxResults), Double.NEGATIVE_INFINITY, filter);
+            return toMatches(rescore(candidates, scorer, maxResults, minScore));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores only the rows of the given entries (e.g. preselected by a {@link MetadataIndex}) against the query vector.
+     *
+     * @return up to {@code maxResults} matches with a score of at least {@code minScore},
+     * ordered from the most to the least relevant
+     */
+    List<EmbeddingMatch<Embedded>> search(float[] queryVector,
+                                          int maxResults,
+                                          double minScore,
+                                          Collection<Entry<Embedded>> candidates) {
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                return new ArrayList<>();
+            }
+            ensureSameDimension(queryVector);
+
+            double queryNorm = norm(queryVector, 0, queryVector.length);
+            IntToDoubleFunction scorer = row -> score(queryVector, queryNorm, row);
+            boolean prescreen = quantizedVectors != null && candidates.size() > candidates(maxResults);
+
+            IntToDoubleFunction firstScorer = prescreen
+                    ? quantizedVectors.scorer(queryVector, queryNorm, norms)
+                    : scorer;
+            PriorityQueue<ScoredRow> topRows = new PriorityQueue<>(COMPARATOR);
+            for (Entry<Embedded> entry : candidates) {
+                if (entry.row >= 0) { // unless removed concurrently
+                    if (prescreen) {
+                        offer(topRows, entry.row, firstScorer, candidates(maxResults), Double.NEGATIVE_INFINITY);
+                    } else {
+                        offer(topRows, entry.row, firstScorer, maxResults, minScore);
+                    }
+                }
+            }
+
+            List<ScoredRow> sortedRows = sorted(topRows);
+            return toMatches(prescreen ? rescore(sortedRows, scorer, maxResults, minScore) : sortedRows);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<ScoredRow> topRows(IntToDoubleFunction scorer,
+                                    int maxResults,
+                                    double minScore,
+                                    Predicate<Entry<Embedded>> filter) {
+        int chunks = parallelSearch == null ? 1 : parallelSearch.chunks(size);
+        if (chunks > 1) {
+            // chunks only read the matrix, the read lock held by this thread keeps writers out
+            int chunkSize = (size + chunks - 1) / chunks;
+            List<Supplier<PriorityQueue<ScoredRow>>> chunkSearches = new ArrayList<>(chunks);
+            for (int from = 0; from < size; from += chunkSize) {
+                int fromRow = from;
+                int toRow = Math.min(size, from + chunkSize);
+                chunkSearches.add(() -> scoreRows(fromRow, toRow, scorer, maxResults, minScore, filter));
+            }
+            return parallelSearch.search(chunkSearches, maxResults, COMPARATOR);
+        }
+        return sorted(scoreRows(0, size, scorer, maxResults, minScore, filter));
+    }
+
+    /**
+     * Scores the given candidates (found via their quantized rows) against the full-precision rows.
+     */
+    private List<ScoredRow> rescore(List<ScoredRow> candidates,
+                                    IntToDoubleFunction scorer,
+                                    int maxResults,
+                                    double minScore) {
+        PriorityQueue<ScoredRow> topRows = new PriorityQueue<>(COMPARATOR);
+        for (ScoredRow candidate : candidates) {
+            offer(topRows, candidate.row, scorer, maxResults, minScore);
+        }
+        return sorted(topRows);
+    }
+
+    private int candidates(int maxResults) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) maxResults * quantization.oversampling());
+    }
+
+    private static List<ScoredRow> sorted(PriorityQueue<ScoredRow> topRows) {
+        List<ScoredRow> sortedRows = new ArrayList<>(topRows);
+        sortedRows.sort(COMPARATOR);
+        Collections.reverse(sortedRows);
+        return sortedRows;
+    }
+
+    private List<EmbeddingMatch<Embedded>> toMatches(List<ScoredRow> sortedRows) {
+        List<EmbeddingMatch<Embedded>> matches = new ArrayList<>(sortedRows.size());
+        for (ScoredRow scoredRow : sortedRows) {
+            Entry<Embedded> entry = entryAt(scoredRow.row);
+            matches.add(new EmbeddingMatch<>(scoredRow.score, entry.id, embeddingAt(scoredRow.row), entry.embedded));
+        }
+        return matches;
+    }
+
+    private PriorityQueue<ScoredRow> scoreRows(int fromRow,
+                                               int toRow,
+                                               IntToDoubleFunction scorer,
+                                               int maxResults,
+                                               double minScore,
+                                               Predicate<Entry<Embedded>> filter) {
+        PriorityQueue<ScoredRow> topRows = new PriorityQueue<>(COMPARATOR);
+        for (int row = fromRow; row < toRow; row++) {
+            if (filter.test(entryAt(row))) {
+                offer(topRows, row, scorer, maxResults, minScore);
+            }
+        }
+        return topRows;
+    }
+
+    private static void offer(PriorityQueue<ScoredRow> topRows,
+                              int row,
+                              IntToDoubleFunction scorer,
+                              int maxResults,
+                              double minScore) {
+        double score = scorer.applyAsDouble(row);
+        if (score >= minScore) {
+            topRows.add(new ScoredRow(row, score));
+            if (topRows.size() > maxResults) {
+                topRows.poll();
+            }
+        }
+    }
+
+    private double score(float[] queryVector, double queryNorm, int row) {
+        double cosineSimilarity = dotProduct(queryVector, row)
+                / Math.max(queryNorm * norms[row], CosineSimilarity.EPSILON);
+        return RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+    }
+
+    /**
+     * Returns a copy of the given entries, each holding its own {@link Embedding}.
+     * Entries that are no longer in the matrix are skipped.
+     */
+    List<Entry<Embedded>> materialize(Collection<Entry<Embedded>> entries) {
+        lock.readLock().lock();
+        try {
+            List<Entry<Embedded>> materialized = new ArrayList<>(entries.size());
+            for (Entry<Embedded> entry : entries) {
+                if (entry.row >= 0) {
+                    materialized.add(new Entry<>(entry.id, embeddingAt(entry.row), entry.embedded));
+                }
+            }
+            return materialized;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void append(Entry<Embedded> entry, float[] vector) {
+        int row = size;
+        if (row == rowEntries.length) {
+            rowEntries = Arrays.copyOf(rowEntries, row * 2);
+            norms = Arrays.copyOf(norms, row * 2);
+        }
+        if (row / ROWS_PER_PAGE == pageCount()) {
+            allocatePage();
+        }
+
+        int offset = (row % ROWS_PER_PAGE) * dimension;
+        if (offHeap) {
+            writableOffHeapPage(row / ROWS_PER_PAGE).put(offset, vector);
+        } else {
+            System.arraycopy(vector, 0, heapPages.get(row / ROWS_PER_PAGE), offset, dimension);
+        }
+        norms[row] = norm(vector, 0, dimension);
+        if (quantizedVectors != null) {
+            quantizedVectors.set(row, vector);
+        }
+        rowEntries[row] = entry;
+        entry.row = row;
+        size++;
+    }
+
+    private void removeRow(int row) {
+        int last = size - 1;
+        if (row != last) {
+            int lastOffset = (last % ROWS_PER_PAGE) * dimension;
+            int offset = (row % ROWS_PER_PAGE) * dimension;
+            if (offHeap) {
+                FloatBuffer source = offHeapPages.get(last / ROWS_PER_PAGE);
+                FloatBuffer target = writableOffHeapPage(row / ROWS_PER_PAGE);
+                for (int i = 0; i < dimension; i++) {
+                    target.put(offset + i, source.get(lastOffset + i));
+                }
+            } else {
+                System.arraycopy(heapPages.get(last / ROWS_PER_PAGE), lastOffset,
+                        heapPages.get(row / ROWS_PER_PAGE), offset, dimension);
+            }
+            norms[row] = norms[last];
+            if (quantizedVectors != null) {
+                quantizedVectors.move(last, row);
+            }
+            rowEntries[row] = rowEntries[last];
+            entryAt(row).row = row;
+        }
+        rowEntries[last] = null;
+        size--;
+    }
+
+    private void releaseUnusedPages() {
+        int requiredPages = (size + ROWS_PER_PAGE - 1) / ROWS_PER_PAGE;
+        while (pageCount() > requiredPages) {
+            if (offHeap) {
+                offHeapPages.remove(offHeapPages.size() - 1);
+            } else {
+                heapPages.remove(heapPages.size() - 1);
+            }
+        }
+        if (quantizedVectors != null) {
+            quantizedVectors.truncate(size);
+        }
+        if (size == 0) {
+            dimension = -1;
+            quantizedVectors = null;
+        }
+    }
+
+    /**
+     * Prepares the quantized rows for the given vectors, which are about to be appended.
+     */
+    private void calibrate(List<float[]> vectors) {
+        if (quantizedVectors == null) {
+            quantizedVectors = QuantizedVectors.create(quantization.type(), dimension);
+        }
+        if (quantizedVectors.calibrate(vectors)) {
+            for (int row = 0; row < size; row++) {
+                quantizedVectors.set(row, embeddingAt(row).vector());
+            }
+        }
+    }
+
+    /**
+     * Calibrates on all loaded rows, one page at a time, before encoding them.
+     */
+    private void quantizeLoadedRows() {
+        if (size == 0) {
+            return;
+        }
+        quantizedVectors = QuantizedVectors.create(quantization.type(), dimension);
+        for (int from = 0; from < size; from += ROWS_PER_PAGE) {
+            List<float[]> vectors = new ArrayList<>(ROWS_PER_PAGE);
+            for (int row = from; row < Math.min(size, from + ROWS_PER_PAGE); row++) {
+                vectors.add(embeddingAt(row).vector());
+            }
+            quantizedVectors.calibrate(vectors);
+        }
+        for (int row = 0; row < size; row++) {
+            quantizedVectors.set(row, embeddingAt(row).vector());
+        }
+    }
+
+    private void allocatePage() {
+        int floats = ROWS_PER_PAGE * dimension;
+        if (offHeap) {
+            offHeapPages.add(allocateOffHeapPage(floats));
+        } else {
+            heapPages.add(new float[floats]);
+        }
+    }
+
+    private FloatBuffer writableOffHeapPage(int index) {
+        FloatBuffer page = offHeapPages.get(index);
+        if (page.isReadOnly()) {
+            FloatBuffer copy = allocateOffHeapPage(page.capacity());
+            copy.put(0, page, 0, page.capacity());
+            offHeapPages.set(index, copy);
+            return copy;
+        }
+        return page;
+    }
+
+    private FloatBuffer allocateOffHeapPage(int floats) {
+        Path directory = quantization == null ? null : quantization.fullPrecisionDirectory();
+        if (directory == null) {
+            return ByteBuffer.allocateDirect(floats * Float.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asFloatBuffer();
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Path file = Files.createTempFile(directory, "vectors-", ".page");
+            try (FileChannel channel = FileChannel.open(file, READ, WRITE)) {
+                // the mapping stays valid after the channel is closed and the file is deleted
+                return channel.map(READ_WRITE, 0, (long) floats * Float.BYTES)
+                        .order(ByteOrder.nativeOrder())
+                        .asFloatBuffer();
+            } finally {
+                delete(file);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.delete(file);
+        } catch (IOException e) {
+            // some platforms do not allow deleting mapped files
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    private int pageCount() {
+        return offHeap ? offHeapPages.size() : heapPages.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Entry<Embedded> entryAt(int row) {
+        return (Entry<Embedded>) rowEntries[row];
+    }
+
+    private Embedding embeddingAt(int row) {
+        float[] vector = new float[dimension];
+        int offset = (row % ROWS_PER_PAGE) * dimension;
+        if (offHeap) {
+            offHeapPages.get(row / ROWS_PER_PAGE).get(offset, vector);
+        } else {
+            System.arraycopy(heapPages.get(row / ROWS_PER_PAGE), offset, vector, 0, dimension);
+        }
+        return Embedding.from(vector);
+    }
+
+    private double dotProduct(float[] query, int row) {
+        int offset = (row % ROWS_PER_PAGE) * dimension;
+        if (offHeap) {
+            return dotProduct(query, offHeapPages.get(row / ROWS_PER_PAGE), offset);
+        } else {
+            return dotProduct(query, heapPages.get(row / ROWS_PER_PAGE), offset);
+        }
+    }
+
+    /**
+     * Unrolled by four, with independent accumulators, so that the JIT can pipeline the multiplications.
+     */
+    private static double dotProduct(float[] query, float[] page, int offset) {
+        double sum0 = 0.0, sum1 = 0.0, sum2 = 0.0, sum3 = 0.0;
+        int i = 0;
+        int unrolledLength = query.length & ~3;
+        for (; i < unrolledLength; i += 4) {
+            sum0 += query[i] * page[offset + i];
+            sum1 += query[i + 1] * page[offset + i + 1];
+            sum2 += query[i + 2] * page[offset + i + 2];
+            sum3 += query[i + 3] * page[offset + i + 3];
+        }
+        for (; i < query.length; i++) {
+            sum0 += query[i] * page[offset + i];
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+    private static double dotProduct(float[] query, FloatBuffer page, int offset) {
+        double sum0 = 0.0, sum1 = 0.0, sum2 = 0.0, sum3 = 0.0;
+        int i = 0;
+        int unrolledLength = query.length & ~3;
+        for (; i < unrolledLength; i += 4) {
+            sum0 += query[i] * page.get(offset + i);
+            sum1 += query[i + 1] * page.get(offset + i + 1);
+            sum2 += query[i + 2] * page.get(offset + i + 2);
+            sum3 += query[i + 3] * page.get(offset + i + 3);
+        }
+        for (; i < query.length; i++) {
+            sum0 += query[i] * page.get(offset + i);
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+    private static double norm(float[] vector, int offset, int length) {
+        double sum = 0.0;
+        for (int i = offset; i < offset + length; i++) {
+            sum += vector[i] * vector[i];
+        }
+        return Math.sqrt(sum);
+    }
+
+    private void ensureSameDimension(float[] vector) {
+        ensureDimension(vector, dimension);
+    }
+
+    private static void ensureDimension(float[] vector, int dimension) {
+        if (vector.length != dimension) {
+            throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                    vector.length, dimension);
+        }
+    }
+
+    private static class ScoredRow {
+
+        final int row;
+        final double score;
+
+        ScoredRow(int row, double score) {
+            this.row = row;
+            this.score = score;
+        }
+    }
+}
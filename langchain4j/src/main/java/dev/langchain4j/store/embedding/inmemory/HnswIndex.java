@@ -0,0 +1,448 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static java.util.Comparator.comparingDouble;
+
+/**
+ * A Hierarchical Navigable Small World graph (Malkov and Yashunin, 2016) over the entries of an
+ * {@link InMemoryEmbeddingStore}, used for approximate nearest neighbour search by cosine similarity.
+ * <p>
+ * Removed entries are only marked as deleted, so that the graph stays navigable.
+ * Once more than half of the nodes are deleted, the graph is rebuilt from the remaining ones.
+ * <p>
+ * All mutations are guarded by a write lock, searches share a read lock.
+ */
+class HnswIndex<Embedded> {
+
+    private final int m;
+    private final int maxConnectionsOnLayer0;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double levelMultiplier;
+    private final Random random;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Node<Embedded>> nodes = new ArrayList<>();
+    private final Map<Entry<Embedded>, Node<Embedded>> nodesByEntry = new IdentityHashMap<>();
+    private Node<Embedded> entryPoint;
+    private int dimension = -1;
+    private int deletedCount;
+
+    HnswIndex(HnswIndexConfig config) {
+        this.m = config.m();
+        this.maxConnectionsOnLayer0 = config.m() * 2;
+        this.efConstruction = config.efConstruction();
+        this.efSearch = config.efSearch();
+        this.levelMultiplier = 1 / Math.log(config.m());
+        this.random = config.seed() == null ? new Random() : new Random(config.seed());
+    }
+
+    void add(Collection<Entry<Embedded>> entries) {
+        lock.writeLock().lock();
+        try {
+            // validate all vectors before inserting any, so that a mismatch leaves the graph unchanged
+            validate(entries);
+            for (Entry<Embedded> entry : entries) {
+                insert(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the given entries cannot be added, because of their dimension
+     */
+    void ensureCanAdd(Collection<Entry<Embedded>> entries) {
+        lock.readLock().lock();
+        try {
+            validate(entries);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void validate(Collection<Entry<Embedded>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        int expectedDimension = dimension == -1
+                ? entries.iterator().next().embedding.dimension()
+                : dimension;
+        for (Entry<Embedded> entry : entries) {
+            ensureDimension(entry.embedding.vector(), expectedDimension);
+        }
+    }
+
+    void remove(Collection<Entry<Embedded>> entries) {
+        lock.writeLock().lock();
+        try {
+            for (Entry<Embedded> entry : entries) {
+                Node<Embedded> node = nodesByEntry.remove(entry);
+                if (node != null) {
+                    node.deleted = true;
+                    deletedCount++;
+                }
+            }
+            if (deletedCount > nodes.size() / 2) {
+                rebuild();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            reset();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code max(efSearch, maxResults)} entries accepted by the given filter,
+     * ordered from the most to the least similar to the query vector.
+     */
+    List<Entry<Embedded>> search(float[] queryVector, int maxResults, Predicate<Entry<Embedded>> filter) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint == null) {
+                return new ArrayList<>();
+            }
+            ensureSameDimension(queryVector);
+
+            Query query = new Query(queryVector);
+            Node<Embedded> current = entryPoint;
+            for (int level = entryPoint.level; level > 0; level--) {
+                current = greedySearch(query, current, level);
+            }
+
+            PriorityQueue<Candidate<Embedded>> found = searchLayer(query, current, Math.max(efSearch, maxResults), 0,
+                    node -> !node.deleted && filter.test(node.entry));
+
+            List<Entry<Embedded>> result = new ArrayList<>(found.size());
+            while (!found.isEmpty()) {
+                result.add(found.poll().node.entry);
+            }
+            Collections.reverse(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(Entry<Embedded> entry) {
+        float[] vector = entry.embedding.vector();
+        if (dimension == -1) {
+            dimension = vector.length;
+        }
+        ensureSameDimension(vector);
+
+        int level = randomLevel();
+        Node<Embedded> node = new Node<>(nodes.size(), entry, level, m, maxConnectionsOnLayer0);
+        nodes.add(node);
+        nodesByEntry.put(entry, node);
+
+        if (entryPoint == null) {
+            entryPoint = node;
+            return;
+        }
+
+        Query query = new Query(vector);
+        Node<Embedded> current = entryPoint;
+        for (int l = entryPoint.level; l > level; l--) {
+            current = greedySearch(query, current, l);
+        }
+
+        for (int l = Math.min(level, entryPoint.level); l >= 0; l--) {
+            // deleted nodes are still linked to, they keep the graph navigable until the next rebuild
+            PriorityQueue<Candidate<Embedded>> candidates = searchLayer(query, current, efConstruction, l,
+                    candidate -> candidate != node);
+            List<Candidate<Embedded>> neighbours = selectNeighbours(toDescendingList(candidates), m);
+            for (Candidate<Embedded> neighbour : neighbours) {
+                node.connect(l, neighbour.node.id);
+                connectBack(neighbour.node, node, l);
+            }
+            if (!neighbours.isEmpty()) {
+                current = neighbours.get(0).node;
+            }
+        }
+
+        if (level > entryPoint.level) {
+            entryPoint = node;
+        }
+    }
+
+    private void connectBack(Node<Embedded> neighbour, Node<Embedded> node, int level) {
+        int maxConnections = maxConnections(level);
+        if (neighbour.neighbourCounts[level] < maxConnections) {
+            neighbour.connect(level, node.id);
+            return;
+        }
+
+        Query query = new Query(neighbour.vector(), neighbour.norm);
+        List<Candidate<Embedded>> candidates = new ArrayList<>(maxConnections + 1);
+        candidates.add(new Candidate<>(node, query.similarityTo(node)));
+        for (int i = 0; i < neighbour.neighbourCounts[level]; i++) {
+            Node<Embedded> existing = nodes.get(neighbour.neighbours[level][i]);
+            candidates.add(new Candidate<>(existing, query.similarityTo(existing)));
+        }
+        candidates.sort(comparingDouble((Candidate<Embedded> candidate) -> candidate.similarity).reversed());
+
+        List<Candidate<Embedded>> selected = selectNeighbours(candidates, maxConnections);
+        neighbour.neighbourCounts[level] = 0;
+        for (Candidate<Embedded> candidate : selected) {
+            neighbour.connect(level, candidate.node.id);
+        }
+    }
+
+    /**
+     * The neighbour selection heuristic from the HNSW paper:
+     * a candidate is preferred if it is closer to the base node than to any already selected neighbour,
+     * which keeps the graph connected across clusters. Pruned candidates fill the remaining slots.
+     *
+     * @param candidates candidates ordered from the most to the least similar
+     */
+    private List<Candidate<Embedded>> selectNeighbours(List<Candidate<Embedded>> candidates, int max) {
+        if (candidates.size() <= max) {
+            return candidates;
+        }
+        List<Candidate<Embedded>> selected = new ArrayList<>(max);
+        List<Candidate<Embedded>> pruned = new ArrayList<>();
+        for (Candidate<Embedded> candidate : candidates) {
+            if (selected.size() >= max) {
+                break;
+            }
+            Query query = new Query(candidate.node.vector(), candidate.node.norm);
+            boolean diverse = true;
+            for (Candidate<Embedded> alreadySelected : selected) {
+                if (query.similarityTo(alreadySelected.node) > candidate.similarity) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                pruned.add(candidate);
+            }
+        }
+        for (int i = 0; i < pruned.size() && selected.size() < max; i++) {
+            selected.add(pruned.get(i));
+        }
+        return selected;
+    }
+
+    private Node<Embedded> greedySearch(Query query, Node<Embedded> start, int level) {
+        Node<Embedded> current = start;
+        double currentSimilarity = query.similarityTo(current);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < current.neighbourCounts[level]; i++) {
+                Node<Embedded> neighbour = nodes.get(current.neighbours[level][i]);
+                double similarity = query.similarityTo(neighbour);
+                if (similarity > currentSimilarity) {
+                    current = neighbour;
+                    currentSimilarity = similarity;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Searches a single layer of the graph, starting from the given node.
+     * All nodes are traversed, but only the ones accepted by {@code accept} end up in the result.
+     *
+     * @return up to {@code ef} accepted candidates, the least similar at the head of the queue
+     */
+    private PriorityQueue<Candidate<Embedded>> searchLayer(Query query,
+                                                           Node<Embedded> start,
+                                                           int ef,
+                                                           int level,
+                                                           Predicate<Node<Embedded>> accept) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate<Embedded>> candidates =
+                new PriorityQueue<>(comparingDouble((Candidate<Embedded> candidate) -> candidate.similarity).reversed());
+        PriorityQueue<Candidate<Embedded>> found = new PriorityQueue<>(comparingDouble(candidate -> candidate.similarity));
+
+        Candidate<Embedded> first = new Candidate<>(start, query.similarityTo(start));
+        visited.set(start.id);
+        candidates.add(first);
+        if (accept.test(start)) {
+            found.add(first);
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate<Embedded> closest = candidates.poll();
+            if (found.size() >= ef && closest.similarity < found.peek().similarity) {
+                break;
+            }
+            Node<Embedded> node = closest.node;
+            for (int i = 0; i < node.neighbourCounts[level]; i++) {
+                int neighbourId = node.neighbours[level][i];
+                if (visited.get(neighbourId)) {
+                    continue;
+                }
+                visited.set(neighbourId);
+
+                Node<Embedded> neighbour = nodes.get(neighbourId);
+                double similarity = query.similarityTo(neighbour);
+                if (found.size() < ef || similarity > found.peek().similarity) {
+                    Candidate<Embedded> candidate = new Candidate<>(neighbour, similarity);
+                    candidates.add(candidate);
+                    if (accept.test(neighbour)) {
+                        found.add(candidate);
+                        if (found.size() > ef) {
+                            found.poll();
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private void rebuild() {
+        List<Entry<Embedded>> liveEntries = new ArrayList<>(nodes.size() - deletedCount);
+        for (Node<Embedded> node : nodes) {
+            if (!node.deleted) {
+                liveEntries.add(node.entry);
+            }
+        }
+        reset();
+        for (Entry<Embedded> entry : liveEntries) {
+            insert(entry);
+        }
+    }
+
+    private void reset() {
+        nodes.clear();
+        nodesByEntry.clear();
+        entryPoint = null;
+        dimension = -1;
+        deletedCount = 0;
+    }
+
+    private int randomLevel() {
+        return (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private int maxConnections(int level) {
+        return level == 0 ? maxConnectionsOnLayer0 : m;
+    }
+
+    private void ensureSameDimension(float[] vector) {
+        ensureDimension(vector, dimension);
+    }
+
+    private static void ensureDimension(float[] vector, int dimension) {
+        if (vector.length != dimension) {
+            throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                    vector.length, dimension);
+        }
+    }
+
+    private List<Candidate<Embedded>> toDescendingList(PriorityQueue<Candidate<Embedded>> ascending) {
+        List<Candidate<Embedded>> list = new ArrayList<>(ascending.size());
+        while (!ascending.isEmpty()) {
+            list.add(ascending.poll());
+        }
+        Collections.reverse(list);
+        return list;
+    }
+
+    private static double norm(float[] vector) {
+        double norm = 0.0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        return Math.sqrt(norm);
+    }
+
+    private static class Query {
+
+        private final float[] vector;
+        private final double norm;
+
+        Query(float[] vector) {
+            this(vector, norm(vector));
+        }
+
+        Query(float[] vector, double norm) {
+            this.vector = vector;
+            this.norm = norm;
+        }
+
+        double similarityTo(Node<?> node) {
+            float[] other = node.vector();
+            double dotProduct = 0.0;
+            for (int i = 0; i < vector.length; i++) {
+                dotProduct += vector[i] * other[i];
+            }
+            return dotProduct / Math.max(norm * node.norm, CosineSimilarity.EPSILON);
+        }
+    }
+
+    private static class Node<Embedded> {
+
+        final int id;
+        final Entry<Embedded> entry;
+        final double norm;
+        final int level;
+        final int[][] neighbours;
+        final int[] neighbourCounts;
+        boolean deleted;
+
+        Node(int id, Entry<Embedded> entry, int level, int m, int maxConnectionsOnLayer0) {
+            this.id = id;
+            this.entry = entry;
+            this.norm = norm(entry.embedding.vector());
+            this.level = level;
+            this.neighbours = new int[level + 1][];
+            this.neighbourCounts = new int[level + 1];
+            for (int l = 0; l <= level; l++) {
+                neighbours[l] = new int[l == 0 ? maxConnectionsOnLayer0 : m];
+            }
+        }
+
+        float[] vector() {
+            return entry.embedding.vector();
+        }
+
+        void connect(int level, int neighbourId) {
+            neighbours[level][neighbourCounts[level]++] = neighbourId;
+        }
+    }
+
+    private static class Candidate<Embedded> {
+
+        final Node<Embedded> node;
+        final double similarity;
+
+        Candidate(Node<Embedded> node, double similarity) {
+            this.node = node;
+            this.similarity = similarity;
+        }
+    }
+}
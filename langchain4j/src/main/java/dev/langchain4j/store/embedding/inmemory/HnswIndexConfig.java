@@ -0,0 +1,116 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+/**
+ * Configuration of the HNSW (Hierarchical Navigable Small World) graph index
+ * that {@link InMemoryEmbeddingStore} can use for approximate nearest neighbour search.
+ * <p>
+ * Higher values of {@link #m()}, {@link #efConstruction()} and {@link #efSearch()} improve recall
+ * at the cost of memory, ingestion time and query latency, respectively.
+ *
+ * @see InMemoryEmbeddingStore.Builder#hnswIndex(HnswIndexConfig)
+ */
+public class HnswIndexConfig {
+
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final Long seed;
+
+    private HnswIndexConfig(Builder builder) {
+        this.m = ensureBetween(getOrDefault(builder.m, 16), 2, 512, "m");
+        this.efConstruction = ensureGreaterThanZero(getOrDefault(builder.efConstruction, 200), "efConstruction");
+        this.efSearch = ensureGreaterThanZero(getOrDefault(builder.efSearch, 50), "efSearch");
+        this.seed = builder.seed;
+    }
+
+    /**
+     * @return The maximum number of connections each node keeps per layer (layer 0 keeps twice as many).
+     */
+    public int m() {
+        return m;
+    }
+
+    /**
+     * @return The size of the dynamic candidate list used when inserting a new node.
+     */
+    public int efConstruction() {
+        return efConstruction;
+    }
+
+    /**
+     * @return The size of the dynamic candidate list used when searching.
+     * The effective value is never lower than {@link dev.langchain4j.store.embedding.EmbeddingSearchRequest#maxResults()}.
+     */
+    public int efSearch() {
+        return efSearch;
+    }
+
+    /**
+     * @return The seed of the random generator drawing the layer of each node, or {@code null} if it is not seeded.
+     */
+    public Long seed() {
+        return seed;
+    }
+
+    public static HnswIndexConfig defaultConfig() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer m;
+        private Integer efConstruction;
+        private Integer efSearch;
+        private Long seed;
+
+        /**
+         * @param m The maximum number of connections each node keeps per layer. Default: 16.
+         * @return builder
+         */
+        public Builder m(Integer m) {
+            this.m = m;
+            return this;
+        }
+
+        /**
+         * @param efConstruction The size of the dynamic candidate list used when inserting a new node. Default: 200.
+         * @return builder
+         */
+        public Builder efConstruction(Integer efConstruction) {
+            this.efConstruction = efConstruction;
+            return this;
+        }
+
+        /**
+         * @param efSearch The size of the dynamic candidate list used when searching. Default: 50.
+         * @return builder
+         */
+        public Builder efSearch(Integer efSearch) {
+            this.efSearch = efSearch;
+            return this;
+        }
+
+        /**
+         * @param seed The seed of the random generator drawing the layer of each node.
+         *             With a seed, adding the same embeddings in the same order always builds the same graph,
+         *             which makes search results reproducible. Default: not seeded.
+         * @return builder
+         */
+        public Builder seed(Long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public HnswIndexConfig build() {
+            return new HnswIndexConfig(this);
+        }
+    }
+}
@@ -11,21 +11,35 @@ import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.RelevanceScore;
 import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.inmemory.ChunkedEntries.Selection;
 
 import java.io.IOException;
+import java.nio.FloatBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.PriorityQueue;
-import java.util.concurrent.CopyOnWriteArrayList;
-
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -33,31 +47,116 @@ import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static java.util.Comparator.comparingDouble;
 import static java.util.stream.Collectors.toList;
 
 /**
  * An {@link EmbeddingStore} that stores embeddings in memory.
  * <p>
- * Uses a brute force approach by iterating over all embeddings to find the best matches.
+ * By default, uses a brute force approach by iterating over all embeddings to find the best matches.
+ * <p>
+ * Optionally, an HNSW graph index can be configured via {@link Builder#hnswIndex(HnswIndexConfig)}.
+ * In this case, searches are approximate and take sub-linear time.
+ * The index is kept in sync with all {@code add*} and {@code removeAll*} operations.
+ * It is not persisted: stores recreated via {@link #fromJson(String)} or {@link #fromFile(Path)}
+ * and stores created via {@link #merge(Collection)} use the brute force approach.
+ * <p>
+ * For large stores, vectors can be packed into a contiguous matrix with precomputed norms
+ * (on or off the Java heap) via {@link Builder#vectorStorage(VectorStorage)}.
+ * This reduces the number of objects the garbage collector has to trace and the cost of each brute force search.
+ * <p>
+ * To fit more embeddings into memory, the matrix can additionally hold quantized copies of the vectors
+ * (int8 or binary), see {@link Builder#quantization(QuantizationConfig)}.
+ * Searches scan the quantized vectors and re-score the best candidates against the full-precision vectors.
+ * <p>
+ * Brute force searches over large stores can be spread over multiple threads,
+ * see {@link Builder#parallelSearchThreshold(Integer)}, {@link Builder#searchExecutor(Executor)}
+ * and {@link Builder#searchParallelism(Integer)}.
+ * <p>
+ * Filtered searches can be narrowed down with metadata indexes, see {@link Builder#indexedMetadataKeys(Collection)}.
  * <p>
  * This store can be persisted using the {@link #serializeToJson()} and {@link #serializeToFile(Path)} methods.
  * <p>
  * It can also be recreated from JSON or a file using the {@link #fromJson(String)} and {@link #fromFile(Path)} methods.
+ * <p>
+ * Large stores are better persisted in a compact binary format via {@link #serializeToBinaryFile(Path)}
+ * and recreated via {@link #fromBinaryFile(Path)}, which memory-maps the vectors instead of reading them.
+ * <p>
+ * To make every change durable as it happens, a write-ahead log can be configured
+ * via {@link Builder#writeAheadLog(WriteAheadLogConfig)}.
  *
  * @param <Embedded> The class of the object that has been embedded.
  *                   Typically, it is {@link dev.langchain4j.data.segment.TextSegment}.
  */
 public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded> {
 
-    final CopyOnWriteArrayList<Entry<Embedded>> entries;
+    final ChunkedEntries<Embedded> entries;
+    private final transient HnswIndex<Embedded> hnswIndex;
+    private final transient EmbeddingMatrix<Embedded> matrix;
+    private final transient ParallelSearch parallelSearch;
+    private final transient WriteAheadLog writeAheadLog;
 
     public InMemoryEmbeddingStore() {
-        this.entries = new CopyOnWriteArrayList<>();
+        this.entries = new ChunkedEntries<>();
+        this.hnswIndex = null;
+        this.matrix = null;
+        this.parallelSearch = null;
+        this.writeAheadLog = null;
     }
 
     private InMemoryEmbeddingStore(Collection<Entry<Embedded>> entries) {
-        this.entries = new CopyOnWriteArrayList<>(entries);
+        this.entries = new ChunkedEntries<>(entries);
+        this.hnswIndex = null;
+        this.matrix = null;
+        this.parallelSearch = null;
+        this.writeAheadLog = null;
+    }
+
+    private InMemoryEmbeddingStore(Builder<Embedded> builder) {
+        QuantizationConfig quantization = builder.quantizationConfig;
+        VectorStorage vectorStorage = getOrDefault(builder.vectorStorage,
+                quantization == null ? VectorStorage.PER_ENTRY : VectorStorage.OFF_HEAP_MATRIX);
+        if (builder.hnswIndexConfig != null && vectorStorage != VectorStorage.PER_ENTRY) {
+            throw illegalArgument("HNSW index can only be used with %s vector storage", VectorStorage.PER_ENTRY);
+        }
+        if (quantization != null && vectorStorage == VectorStorage.PER_ENTRY) {
+            throw illegalArgument("Quantization cannot be used with %s vector storage", VectorStorage.PER_ENTRY);
+        }
+        if (quantization != null
+                && quantization.fullPrecisionDirectory() != null
+                && vectorStorage != VectorStorage.OFF_HEAP_MATRIX) {
+            throw illegalArgument("Full-precision vectors can only be memory-mapped with %s vector storage",
+                    VectorStorage.OFF_HEAP_MATRIX);
+        }
+        this.entries = new ChunkedEntries<>(builder.indexedMetadataKeys == null
+                ? new HashSet<>()
+                : new HashSet<>(builder.indexedMetadataKeys));
+        this.hnswIndex = builder.hnswIndexConfig == null ? null : new HnswIndex<>(builder.hnswIndexConfig);
+        this.parallelSearch = parallelSearch(builder);
+        this.matrix = vectorStorage == VectorStorage.PER_ENTRY
+                ? null
+                : new EmbeddingMatrix<>(vectorStorage == VectorStorage.OFF_HEAP_MATRIX, parallelSearch, quantization);
+        this.writeAheadLog = builder.writeAheadLogConfig == null
+                ? null
+                : WriteAheadLog.open(builder.writeAheadLogConfig, this);
+    }
+
+    private static ParallelSearch parallelSearch(Builder<?> builder) {
+        if (builder.parallelSearchThreshold == null
+                && builder.searchExecutor == null
+                && builder.searchParallelism == null) {
+            return null;
+        }
+        Executor executor = getOrDefault(builder.searchExecutor, ForkJoinPool::commonPool);
+        return new ParallelSearch(
+                executor,
+                ensureGreaterThanZero(
+                        getOrDefault(builder.parallelSearchThreshold, ParallelSearch.DEFAULT_THRESHOLD),
+                        "parallelSearchThreshold"),
+                ensureGreaterThanZero(
+                        getOrDefault(builder.searchParallelism, () -> ParallelSearch.defaultParallelism(executor)),
+                        "searchParallelism"));
     }
 
     @Override
@@ -80,7 +179,7 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     }
 
     public void add(String id, Embedding embedding, Embedded embedded) {
-        entries.add(new Entry<>(id, embedding, embedded));
+        add(singletonList(new Entry<>(id, embedding, embedded)));
     }
 
     @Override
@@ -109,25 +208,61 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
 
     private List<String> add(List<Entry<Embedded>> newEntries) {
 
-        entries.addAll(newEntries);
-
-        return newEntries.stream()
+        List<String> ids = newEntries.stream()
                 .map(entry -> entry.id)
                 .collect(toList());
+
+        if (writeAheadLog == null) {
+            addEntries(newEntries);
+        } else {
+            byte[] record = WriteAheadLog.addRecord(newEntries);
+            writeAheadLog.append(() -> {
+                // an entry that cannot be added must not be logged either
+                ensureCanAdd(newEntries);
+                return new WriteAheadLog.Mutation(record, () -> addEntries(newEntries));
+            });
+        }
+
+        return ids;
+    }
+
+    private void ensureCanAdd(List<Entry<Embedded>> newEntries) {
+        if (hnswIndex != null) {
+            hnswIndex.ensureCanAdd(newEntries);
+        }
+        if (matrix != null) {
+            matrix.ensureCanAdd(newEntries);
+        }
+    }
+
+    void addEntries(List<Entry<Embedded>> newEntries) {
+        if (hnswIndex != null) {
+            hnswIndex.add(newEntries);
+        }
+        if (matrix != null) {
+            matrix.add(newEntries);
+        }
+        entries.addAll(newEntries);
     }
 
     @Override
     public void removeAll(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
 
-        entries.removeIf(entry -> ids.contains(entry.id));
+        if (writeAheadLog == null) {
+            removeEntriesById(ids);
+            return;
+        }
+
+        byte[] record = WriteAheadLog.removeRecord(ids);
+        writeAheadLog.append(() -> new WriteAheadLog.Mutation(record, () -> removeEntriesById(ids)));
     }
 
     @Override
     public void removeAll(Filter filter) {
         ensureNotNull(filter, "filter");
 
-        entries.removeIf(entry -> {
+        Predicate<Entry<Embedded>> predicate = entry -> {
             if (entry.embedded instanceof TextSegment) {
                 return filter.test(((TextSegment) entry.embedded).metadata());
             } else if (entry.embedded == null) {
@@ -135,28 +270,139 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
             } else {
                 throw new UnsupportedOperationException("Not supported yet.");
             }
+        };
+
+        if (writeAheadLog == null) {
+            removeEntries(predicate);
+            return;
+        }
+
+        writeAheadLog.append(() -> {
+            // the matching entries are only removed once their record is durable
+            Set<Entry<Embedded>> matching = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Entry<Embedded> entry : entries) {
+                if (predicate.test(entry)) {
+                    matching.add(entry);
+                }
+            }
+            return matching.isEmpty()
+                    ? null
+                    : new WriteAheadLog.Mutation(
+                            WriteAheadLog.removeMatchingRecord(matching), () -> removeEntries(matching::contains));
         });
     }
 
+    /**
+     * @return the removed entries
+     */
+    List<Entry<Embedded>> removeEntriesById(Collection<String> ids) {
+        return detach(entries.removeIds(ids));
+    }
+
+    /**
+     * @return the removed entries
+     */
+    List<Entry<Embedded>> removeEntries(Predicate<Entry<Embedded>> predicate) {
+        return detach(entries.removeMatching(predicate));
+    }
+
+    private List<Entry<Embedded>> detach(List<Entry<Embedded>> removed) {
+        if (hnswIndex != null) {
+            hnswIndex.remove(removed);
+        }
+        if (matrix != null) {
+            matrix.remove(removed);
+        }
+        return removed;
+    }
+
     @Override
     public void removeAll() {
+        if (writeAheadLog == null) {
+            clearEntries();
+            return;
+        }
+
+        writeAheadLog.append(() -> new WriteAheadLog.Mutation(WriteAheadLog.removeAllRecord(), this::clearEntries));
+    }
+
+    void clearEntries() {
         entries.clear();
+        if (hnswIndex != null) {
+            hnswIndex.clear();
+        }
+        if (matrix != null) {
+            matrix.clear();
+        }
     }
 
     @Override
     public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest embeddingSearchRequest) {
 
+        Selection<Embedded> selection = entries.select(embeddingSearchRequest.filter());
+
+        // scoring a small selection exactly beats searching the graph for the few entries that match the filter
+        if (hnswIndex != null && !(selection.usesIndex() && selection.size * 10 <= entries.size())) {
+            return approximateSearch(embeddingSearchRequest);
+        }
+        if (matrix != null) {
+            float[] queryVector = embeddingSearchRequest.queryEmbedding().vector();
+            if (selection.usesIndex()) {
+                List<Entry<Embedded>> candidates = new ArrayList<>(selection.size);
+                Predicate<Entry<Embedded>> filter = entryFilter(selection.residualFilter);
+                selection.entries.forEachRemaining(entry -> {
+                    if (filter.test(entry)) {
+                        candidates.add(entry);
+                    }
+                });
+                return new EmbeddingSearchResult<>(matrix.search(queryVector,
+                        embeddingSearchRequest.maxResults(), embeddingSearchRequest.minScore(), candidates));
+            }
+            return new EmbeddingSearchResult<>(matrix.search(
+                    queryVector,
+                    embeddingSearchRequest.maxResults(),
+                    embeddingSearchRequest.minScore(),
+                    entryFilter(embeddingSearchRequest.filter())));
+        }
+
         Comparator<EmbeddingMatch<Embedded>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<Embedded>> matches = new PriorityQueue<>(comparator);
+        Filter filter = selection.residualFilter;
+
+        int selected = selection.usesIndex() ? selection.size : entries.size();
+        int chunks = parallelSearch == null ? 1 : parallelSearch.chunks(selected);
+        if (chunks > 1) {
+            List<Supplier<PriorityQueue<EmbeddingMatch<Embedded>>>> chunkSearches = new ArrayList<>(chunks);
+            for (Spliterator<Entry<Embedded>> chunk : split(selection.entries, chunks)) {
+                chunkSearches.add(() -> search(chunk, embeddingSearchRequest, filter, comparator));
+            }
+            List<EmbeddingMatch<Embedded>> result =
+                    parallelSearch.search(chunkSearches, embeddingSearchRequest.maxResults(), comparator);
+            return new EmbeddingSearchResult<>(result);
+        }
 
-        Filter filter = embeddingSearchRequest.filter();
+        PriorityQueue<EmbeddingMatch<Embedded>> matches =
+                search(selection.entries, embeddingSearchRequest, filter, comparator);
 
-        for (Entry<Embedded> entry : entries) {
+        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(matches);
+        result.sort(comparator);
+        Collections.reverse(result);
+
+        return new EmbeddingSearchResult<>(result);
+    }
+
+    private PriorityQueue<EmbeddingMatch<Embedded>> search(Spliterator<Entry<Embedded>> candidates,
+                                                           EmbeddingSearchRequest embeddingSearchRequest,
+                                                           Filter filter,
+                                                           Comparator<EmbeddingMatch<Embedded>> comparator) {
+
+        PriorityQueue<EmbeddingMatch<Embedded>> matches = new PriorityQueue<>(comparator);
+
+        candidates.forEachRemaining(entry -> {
 
             if (filter != null && entry.embedded instanceof TextSegment) {
                 Metadata metadata = ((TextSegment) entry.embedded).metadata();
                 if (!filter.test(metadata)) {
-                    continue;
+                    return;
                 }
             }
 
@@ -168,17 +414,124 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
                     matches.poll();
                 }
             }
+        });
+
+        return matches;
+    }
+
+    /**
+     * Splits a snapshot of the entries into (up to) the given number of chunks of roughly equal size.
+     */
+    private static <T> List<Spliterator<T>> split(Spliterator<T> spliterator, int chunks) {
+        Deque<Spliterator<T>> result = new ArrayDeque<>(chunks);
+        result.add(spliterator);
+        while (result.size() < chunks) {
+            Spliterator<T> largest = result.pollFirst();
+            Spliterator<T> prefix = largest.trySplit();
+            if (prefix == null) {
+                result.addFirst(largest);
+                break;
+            }
+            result.addLast(prefix);
+            result.addLast(largest);
         }
+        return new ArrayList<>(result);
+    }
 
-        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(matches);
-        result.sort(comparator);
-        Collections.reverse(result);
+    private EmbeddingSearchResult<Embedded> approximateSearch(EmbeddingSearchRequest embeddingSearchRequest) {
+
+        Embedding queryEmbedding = embeddingSearchRequest.queryEmbedding();
+        List<Entry<Embedded>> candidates = hnswIndex.search(queryEmbedding.vector(),
+                embeddingSearchRequest.maxResults(), entryFilter(embeddingSearchRequest.filter()));
+
+        List<EmbeddingMatch<Embedded>> result = new ArrayList<>();
+        for (Entry<Embedded> entry : candidates) {
+            double cosineSimilarity = CosineSimilarity.between(entry.embedding, queryEmbedding);
+            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+            if (score >= embeddingSearchRequest.minScore()) {
+                result.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
+            }
+            if (result.size() == embeddingSearchRequest.maxResults()) {
+                break;
+            }
+        }
 
         return new EmbeddingSearchResult<>(result);
     }
 
+    private static <Embedded> Predicate<Entry<Embedded>> entryFilter(Filter filter) {
+        return entry -> filter == null
+                || !(entry.embedded instanceof TextSegment)
+                || filter.test(((TextSegment) entry.embedded).metadata());
+    }
+
+    /**
+     * @return the vector of the given entry, or {@code null} if it has been removed from the matrix
+     */
+    float[] vector(Entry<Embedded> entry) {
+        return matrix == null ? entry.embedding.vector() : matrix.vector(entry);
+    }
+
+    /**
+     * Populates this (empty) store with entries whose vectors are already laid out in the given pages.
+     * Unless this store keeps its vectors in an off-heap matrix, the vectors are copied.
+     */
+    void load(List<Entry<Embedded>> entries, int dimension, List<FloatBuffer> pages, double[] norms) {
+        if (matrix != null && matrix.isOffHeap()) {
+            matrix.load(entries, dimension, pages, norms);
+            this.entries.addAll(entries);
+            return;
+        }
+
+        List<Entry<Embedded>> copies = new ArrayList<>(entries.size());
+        for (Entry<Embedded> entry : entries) {
+            float[] vector = new float[dimension];
+            pages.get(entry.row / EmbeddingMatrix.ROWS_PER_PAGE)
+                    .get((entry.row % EmbeddingMatrix.ROWS_PER_PAGE) * dimension, vector);
+            copies.add(new Entry<>(entry.id, Embedding.from(vector), entry.embedded));
+        }
+        addEntries(copies);
+    }
+
+    /**
+     * Writes a snapshot of this store and starts a new, empty write-ahead log.
+     * This also happens automatically once the log exceeds {@link WriteAheadLogConfig#compactionThreshold()}.
+     *
+     * @throws IllegalStateException if no write-ahead log is configured
+     */
+    public void compact() {
+        ensureWriteAheadLog().compact();
+    }
+
+    /**
+     * Closes the write-ahead log, if one is configured.
+     * Changes to this store after closing then fail with an {@link IllegalStateException}, leaving the store unchanged.
+     */
+    public void close() {
+        if (writeAheadLog != null) {
+            writeAheadLog.close();
+        }
+    }
+
+    private WriteAheadLog ensureWriteAheadLog() {
+        if (writeAheadLog == null) {
+            throw new IllegalStateException("No write-ahead log is configured");
+        }
+        return writeAheadLog;
+    }
+
+    /**
+     * Returns the entries of this store, each holding its own {@link Embedding}.
+     */
+    private Collection<Entry<Embedded>> entriesWithEmbeddings() {
+        return matrix == null ? entries : matrix.materialize(entries);
+    }
+
     public String serializeToJson() {
-        return loadCodec().toJson(this);
+        InMemoryEmbeddingStore<Embedded> store = matrix == null
+                ? this
+                : new InMemoryEmbeddingStore<>(entriesWithEmbeddings());
+        return loadCodec().toJson(store);
     }
 
     public void serializeToFile(Path filePath) {
@@ -194,6 +547,28 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         serializeToFile(Paths.get(filePath));
     }
 
+    /**
+     * Writes this store to the given file in a compact binary format:
+     * a header, a block of raw float32 vectors, a block of their norms
+     * and a block of ids, texts and metadata.
+     * Only stores with {@link TextSegment}s (or without embedded objects) are supported,
+     * and all embeddings must have the same dimension.
+     *
+     * @throws IllegalStateException if the embeddings do not all have the same dimension
+     * @see #fromBinaryFile(Path)
+     */
+    public void serializeToBinaryFile(Path filePath) {
+        try {
+            BinaryInMemoryEmbeddingStoreCodec.write(this, filePath);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void serializeToBinaryFile(String filePath) {
+        serializeToBinaryFile(Paths.get(filePath));
+    }
+
     public static InMemoryEmbeddingStore<TextSegment> fromJson(String json) {
         return loadCodec().fromJson(json);
     }
@@ -211,6 +586,26 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return fromFile(Paths.get(filePath));
     }
 
+    /**
+     * Recreates a store from a file written by {@link #serializeToBinaryFile(Path)}.
+     * <p>
+     * The vectors are memory-mapped (read-only) rather than read,
+     * so the returned store (which uses {@link VectorStorage#OFF_HEAP_MATRIX}) can serve searches immediately,
+     * while the operating system pages the vectors in on demand.
+     * Changes to the returned store are not written back to the file.
+     */
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(Path filePath) {
+        try {
+            return BinaryInMemoryEmbeddingStoreCodec.read(filePath);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(String filePath) {
+        return fromBinaryFile(Paths.get(filePath));
+    }
+
     /**
      * Merges given {@code InMemoryEmbeddingStore}s into a single {@code InMemoryEmbeddingStore},
      * copying all entries from each store.
@@ -219,7 +614,7 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         ensureNotNull(stores, "stores");
         List<Entry<Embedded>> entries = new ArrayList<>();
         for (InMemoryEmbeddingStore<Embedded> store : stores) {
-            entries.addAll(store.entries);
+            entries.addAll(store.entriesWithEmbeddings());
         }
         return new InMemoryEmbeddingStore<>(entries);
     }
@@ -233,11 +628,125 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return merge(asList(first, second));
     }
 
+    public static <Embedded> Builder<Embedded> builder() {
+        return new Builder<>();
+    }
+
+    public static class Builder<Embedded> {
+
+        private HnswIndexConfig hnswIndexConfig;
+        private VectorStorage vectorStorage;
+        private Integer parallelSearchThreshold;
+        private Executor searchExecutor;
+        private Integer searchParallelism;
+        private WriteAheadLogConfig writeAheadLogConfig;
+        private Collection<String> indexedMetadataKeys;
+        private QuantizationConfig quantizationConfig;
+
+        /**
+         * @param hnswIndexConfig The configuration of the HNSW graph index.
+         *                        If provided, searches are answered by the index (approximately)
+         *                        instead of by a brute force scan over all embeddings.
+         *                        See {@link HnswIndexConfig#defaultConfig()}.
+         * @return builder
+         */
+        public Builder<Embedded> hnswIndex(HnswIndexConfig hnswIndexConfig) {
+            this.hnswIndexConfig = hnswIndexConfig;
+            return this;
+        }
+
+        /**
+         * @param vectorStorage How vectors are kept in memory. Default: {@link VectorStorage#PER_ENTRY}.
+         *                      Matrix storages cannot be combined with {@link #hnswIndex(HnswIndexConfig)}.
+         * @return builder
+         */
+        public Builder<Embedded> vectorStorage(VectorStorage vectorStorage) {
+            this.vectorStorage = vectorStorage;
+            return this;
+        }
+
+        /**
+         * @param parallelSearchThreshold The minimum number of embeddings in the store
+         *                                for a brute force search to be split into chunks that are scored concurrently
+         *                                (see {@link #searchExecutor(Executor)}). Default: 10000.
+         *                                If none of the parallel search options is set,
+         *                                searches always run on the calling thread.
+         * @return builder
+         */
+        public Builder<Embedded> parallelSearchThreshold(Integer parallelSearchThreshold) {
+            this.parallelSearchThreshold = parallelSearchThreshold;
+            return this;
+        }
+
+        /**
+         * @param searchExecutor The executor on which the chunks of a parallel brute force search are scored.
+         *                       Default: {@link ForkJoinPool#commonPool()}.
+         * @return builder
+         */
+        public Builder<Embedded> searchExecutor(Executor searchExecutor) {
+            this.searchExecutor = searchExecutor;
+            return this;
+        }
+
+        /**
+         * @param searchParallelism The number of chunks a parallel brute force search is split into.
+         *                          Default: the parallelism of the executor (plus the calling thread)
+         *                          if it is a {@link ForkJoinPool}, otherwise the number of available processors.
+         * @return builder
+         */
+        public Builder<Embedded> searchParallelism(Integer searchParallelism) {
+            this.searchParallelism = searchParallelism;
+            return this;
+        }
+
+        /**
+         * @param writeAheadLogConfig The configuration of the write-ahead log.
+         *                            If provided, the store is recovered from the configured directory on build,
+         *                            and every subsequent change is durably logged before it returns.
+         *                            Only {@link TextSegment}s (or no embedded objects) are supported.
+         * @return builder
+         */
+        public Builder<Embedded> writeAheadLog(WriteAheadLogConfig writeAheadLogConfig) {
+            this.writeAheadLogConfig = writeAheadLogConfig;
+            return this;
+        }
+
+        /**
+         * @param indexedMetadataKeys The metadata keys (e.g. a tenant id) to keep inverted and sorted indexes for.
+         *                            Filters on these keys ({@code isEqualTo}, {@code isIn}, range comparisons
+         *                            and their combinations) select the matching entries via the indexes,
+         *                            so that only those entries are scored.
+         *                            By default, no keys are indexed and every entry is tested against the filter.
+         * @return builder
+         */
+        public Builder<Embedded> indexedMetadataKeys(Collection<String> indexedMetadataKeys) {
+            this.indexedMetadataKeys = indexedMetadataKeys;
+            return this;
+        }
+
+        /**
+         * @param quantizationConfig The configuration of the quantized vectors scanned by brute force searches.
+         *                           Requires a matrix {@link #vectorStorage(VectorStorage)},
+         *                           which then defaults to {@link VectorStorage#OFF_HEAP_MATRIX}.
+         *                           Default: no quantization.
+         * @return builder
+         */
+        public Builder<Embedded> quantization(QuantizationConfig quantizationConfig) {
+            this.quantizationConfig = quantizationConfig;
+            return this;
+        }
+
+        public InMemoryEmbeddingStore<Embedded> build() {
+            return new InMemoryEmbeddingStore<>(this);
+        }
+    }
+
     static class Entry<Embedded> {
 
         String id;
         Embedding embedding;
         Embedded embedded;
+        transient int row = -1;
 
         Entry(String id, Embedding embedding) {
             this(id, embedding, null);
@@ -249,6 +758,15 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
             this.embedded = embedded;
         }
 
+        /**
+         * Creates an entry whose vector is held by an {@link EmbeddingMatrix} at the given row.
+         */
+        Entry(String id, Embedded embedded, int row) {
+            this.id = ensureNotBlank(id, "id");
+            this.embedded = embedded;
+            this.row = row;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
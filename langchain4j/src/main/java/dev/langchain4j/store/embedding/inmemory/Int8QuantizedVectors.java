@@ -0,0 +1,129 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.store.embedding.CosineSimilarity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+import static dev.langchain4j.store.embedding.inmemory.EmbeddingMatrix.ROWS_PER_PAGE;
+
+/**
+ * Maps every dimension linearly onto 256 levels (one byte), between a minimum and a maximum per dimension.
+ * <p>
+ * The range of each dimension is calibrated from the added vectors.
+ * Whenever a vector falls outside of it, the range is widened with some headroom
+ * (so that this rarely happens twice) and all rows are encoded again.
+ */
+class Int8QuantizedVectors extends QuantizedVectors {
+
+    private static final int LEVELS = 255;
+    private static final double HEADROOM = 0.1;
+
+    private final float[] min;
+    private final float[] max;
+    private final float[] step;
+    private final List<byte[]> pages = new ArrayList<>();
+    private boolean calibrated;
+
+    Int8QuantizedVectors(int dimension) {
+        super(dimension);
+        this.min = new float[dimension];
+        this.max = new float[dimension];
+        this.step = new float[dimension];
+    }
+
+    @Override
+    boolean calibrate(List<float[]> vectors) {
+        if (vectors.isEmpty()) {
+            return false;
+        }
+        boolean changed = false;
+        for (int i = 0; i < dimension; i++) {
+            float lowest = Float.POSITIVE_INFINITY;
+            float highest = Float.NEGATIVE_INFINITY;
+            for (float[] vector : vectors) {
+                lowest = Math.min(lowest, vector[i]);
+                highest = Math.max(highest, vector[i]);
+            }
+            if (!calibrated) {
+                float headroom = (float) ((highest - lowest) * HEADROOM);
+                min[i] = lowest - headroom;
+                max[i] = highest + headroom;
+            } else if (lowest < min[i] || highest > max[i]) {
+                float newMin = Math.min(min[i], lowest);
+                float newMax = Math.max(max[i], highest);
+                float headroom = (float) ((newMax - newMin) * HEADROOM);
+                min[i] = lowest < min[i] ? newMin - headroom : newMin;
+                max[i] = highest > max[i] ? newMax + headroom : newMax;
+                changed = true;
+            }
+            step[i] = (max[i] - min[i]) / LEVELS;
+        }
+        calibrated = true;
+        return changed;
+    }
+
+    @Override
+    void set(int row, float[] vector) {
+        if (row / ROWS_PER_PAGE == pages.size()) {
+            pages.add(new byte[ROWS_PER_PAGE * dimension]);
+        }
+        byte[] page = pages.get(row / ROWS_PER_PAGE);
+        int offset = (row % ROWS_PER_PAGE) * dimension;
+        for (int i = 0; i < dimension; i++) {
+            int level = step[i] == 0 ? 0 : Math.round((vector[i] - min[i]) / step[i]);
+            page[offset + i] = (byte) Math.max(0, Math.min(LEVELS, level));
+        }
+    }
+
+    @Override
+    void move(int fromRow, int toRow) {
+        System.arraycopy(pages.get(fromRow / ROWS_PER_PAGE), (fromRow % ROWS_PER_PAGE) * dimension,
+                pages.get(toRow / ROWS_PER_PAGE), (toRow % ROWS_PER_PAGE) * dimension, dimension);
+    }
+
+    @Override
+    void truncate(int rows) {
+        while (pages.size() > pages(rows)) {
+            pages.remove(pages.size() - 1);
+        }
+    }
+
+    /**
+     * Since {@code value ≈ min + step * level}, the dot product with the query is approximated by
+     * a constant term plus the dot product of the levels with the query scaled by the steps.
+     */
+    @Override
+    IntToDoubleFunction scorer(float[] queryVector, double queryNorm, double[] norms) {
+        float[] scaledQuery = new float[dimension];
+        double constant = 0;
+        for (int i = 0; i < dimension; i++) {
+            scaledQuery[i] = queryVector[i] * step[i];
+            constant += queryVector[i] * min[i];
+        }
+        double offset = constant;
+        return row -> {
+            byte[] page = pages.get(row / ROWS_PER_PAGE);
+            int pageOffset = (row % ROWS_PER_PAGE) * dimension;
+            double dotProduct = offset + dotProduct(scaledQuery, page, pageOffset);
+            return dotProduct / Math.max(queryNorm * norms[row], CosineSimilarity.EPSILON);
+        };
+    }
+
+    private static double dotProduct(float[] query, byte[] page, int offset) {
+        double sum0 = 0.0, sum1 = 0.0, sum2 = 0.0, sum3 = 0.0;
+        int i = 0;
+        int unrolledLength = query.length & ~3;
+        for (; i < unrolledLength; i += 4) {
+            sum0 += query[i] * (page[offset + i] & 0xFF);
+            sum1 += query[i + 1] * (page[offset + i + 1] & 0xFF);
+            sum2 += query[i + 2] * (page[offset + i + 2] & 0xFF);
+            sum3 += query[i + 3] * (page[offset + i + 3] & 0xFF);
+        }
+        for (; i < query.length; i++) {
+            sum0 += query[i] * (page[offset + i] & 0xFF);
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+}
@@ -0,0 +1,377 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsIn;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotIn;
+import dev.langchain4j.store.embedding.filter.logical.And;
+import dev.langchain4j.store.embedding.filter.logical.Not;
+import dev.langchain4j.store.embedding.filter.logical.Or;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Indexes the values of selected metadata keys of the {@link TextSegment}s in {@link ChunkedEntries} by slot,
+ * so that a {@link Filter} can be turned into a set of candidate slots before any similarity is computed.
+ * <p>
+ * For every key, numbers, strings and {@link UUID}s are kept in separate sorted maps from value to slots,
+ * which answer equality, {@code IsIn} and range comparisons.
+ * Numbers are compared as {@link BigDecimal}s, like {@link Filter#test(Object)} does.
+ * <p>
+ * The index only answers a comparison if it would give the same result as {@link Filter#test(Object)}
+ * for every indexed value, i.e. if none of the values of the key can cause a type mismatch.
+ * Otherwise, or for filters it does not support (e.g. {@code ContainsString}),
+ * it gives up and the caller has to test the filter on every entry.
+ * <p>
+ * Removed entries are not removed from the index: their slots stay empty until the entries are compacted,
+ * at which point the index is rebuilt.
+ */
+class MetadataIndex {
+
+    private final Set<String> keys;
+    private final Map<String, KeyIndex> keyIndexes = new HashMap<>();
+    private final Postings unfiltered = new Postings();
+
+    MetadataIndex(Set<String> keys) {
+        this.keys = keys;
+    }
+
+    void add(Object embedded, int slot) {
+        if (!(embedded instanceof TextSegment segment)) {
+            unfiltered.add(slot); // filters are not applied to entries without a text segment
+            return;
+        }
+        Map<String, Object> metadata = segment.metadata().toMap();
+        for (String key : keys) {
+            Object value = metadata.get(key);
+            if (value != null) {
+                keyIndexes.computeIfAbsent(key, ignored -> new KeyIndex()).add(value, slot);
+            }
+        }
+    }
+
+    void clear() {
+        keyIndexes.clear();
+        unfiltered.clear();
+    }
+
+    /**
+     * @param end the number of slots
+     * @return the slots that may match the given filter, or {@code null} if the index cannot answer it
+     */
+    Candidates candidates(Filter filter, int end) {
+        Candidates candidates = compile(filter, end);
+        if (candidates != null) {
+            unfiltered.addTo(candidates.slots);
+        }
+        return candidates;
+    }
+
+    private Candidates compile(Filter filter, int end) {
+        if (filter instanceof And and) {
+            Candidates left = compile(and.left(), end);
+            Candidates right = compile(and.right(), end);
+            if (left == null || right == null) {
+                // one side still narrows down the candidates, the whole filter has to be tested on them
+                Candidates candidates = left == null ? right : left;
+                return candidates == null ? null : new Candidates(candidates.slots, false);
+            }
+            left.slots.and(right.slots);
+            return new Candidates(left.slots, left.exact && right.exact);
+        } else if (filter instanceof Or or) {
+            Candidates left = compile(or.left(), end);
+            Candidates right = compile(or.right(), end);
+            if (left == null || right == null) {
+                return null;
+            }
+            left.slots.or(right.slots);
+            return new Candidates(left.slots, left.exact && right.exact);
+        } else if (filter instanceof Not not) {
+            Candidates candidates = compile(not.expression(), end);
+            return candidates == null || !candidates.exact ? null : exact(complement(candidates.slots, end));
+        } else if (filter instanceof IsEqualTo isEqualTo) {
+            return exact(isEqualTo(isEqualTo.key(), isEqualTo.comparisonValue()));
+        } else if (filter instanceof IsNotEqualTo isNotEqualTo) {
+            return exact(complement(isEqualTo(isNotEqualTo.key(), isNotEqualTo.comparisonValue()), end));
+        } else if (filter instanceof IsIn isIn) {
+            return exact(isIn(isIn.key(), isIn.comparisonValues()));
+        } else if (filter instanceof IsNotIn isNotIn) {
+            return exact(complement(isIn(isNotIn.key(), isNotIn.comparisonValues()), end));
+        } else if (filter instanceof IsGreaterThan isGreaterThan) {
+            return exact(range(isGreaterThan.key(), isGreaterThan.comparisonValue(), false, false));
+        } else if (filter instanceof IsGreaterThanOrEqualTo isGreaterThanOrEqualTo) {
+            return exact(range(isGreaterThanOrEqualTo.key(), isGreaterThanOrEqualTo.comparisonValue(), false, true));
+        } else if (filter instanceof IsLessThan isLessThan) {
+            return exact(range(isLessThan.key(), isLessThan.comparisonValue(), true, false));
+        } else if (filter instanceof IsLessThanOrEqualTo isLessThanOrEqualTo) {
+            return exact(range(isLessThanOrEqualTo.key(), isLessThanOrEqualTo.comparisonValue(), true, true));
+        }
+        return null;
+    }
+
+    private BitSet isEqualTo(String key, Object comparisonValue) {
+        if (!keys.contains(key)) {
+            return null;
+        }
+        KeyIndex keyIndex = keyIndexes.get(key);
+        if (keyIndex == null) {
+            return new BitSet();
+        }
+        return keyIndex.isEqualTo(comparisonValue);
+    }
+
+    private BitSet isIn(String key, Collection<?> comparisonValues) {
+        if (!keys.contains(key)) {
+            return null;
+        }
+        KeyIndex keyIndex = keyIndexes.get(key);
+        if (keyIndex == null) {
+            return new BitSet();
+        }
+        return keyIndex.isIn(comparisonValues);
+    }
+
+    private BitSet range(String key, Comparable<?> comparisonValue, boolean below, boolean inclusive) {
+        if (!keys.contains(key)) {
+            return null;
+        }
+        KeyIndex keyIndex = keyIndexes.get(key);
+        if (keyIndex == null) {
+            return new BitSet();
+        }
+        return keyIndex.range(comparisonValue, below, inclusive);
+    }
+
+    private static Candidates exact(BitSet slots) {
+        return slots == null ? null : new Candidates(slots, true);
+    }
+
+    private static BitSet complement(BitSet slots, int end) {
+        if (slots == null) {
+            return null;
+        }
+        BitSet complement = new BitSet(end);
+        complement.set(0, end);
+        complement.andNot(slots);
+        return complement;
+    }
+
+    /**
+     * The slots that may match a filter. If {@code exact}, all of them match and the filter does not need to be tested.
+     */
+    static class Candidates {
+
+        final BitSet slots;
+        final boolean exact;
+
+        Candidates(BitSet slots, boolean exact) {
+            this.slots = slots;
+            this.exact = exact;
+        }
+    }
+
+    private static class KeyIndex {
+
+        private final NavigableMap<BigDecimal, Postings> numbers = new TreeMap<>();
+        private final NavigableMap<String, Postings> strings = new TreeMap<>();
+        private final NavigableMap<UUID, Postings> uuids = new TreeMap<>();
+        private boolean hasFloats;
+        private boolean unsupported;
+
+        void add(Object value, int slot) {
+            if (value instanceof Number number) {
+                BigDecimal decimal = toBigDecimal(number);
+                if (decimal == null) {
+                    unsupported = true;
+                    return;
+                }
+                hasFloats |= number instanceof Float;
+                numbers.computeIfAbsent(decimal, ignored -> new Postings()).add(slot);
+            } else if (value instanceof String string) {
+                strings.computeIfAbsent(string, ignored -> new Postings()).add(slot);
+            } else if (value instanceof UUID uuid) {
+                uuids.computeIfAbsent(uuid, ignored -> new Postings()).add(slot);
+            } else {
+                unsupported = true;
+            }
+        }
+
+        BitSet isEqualTo(Object comparisonValue) {
+            if (unsupported) {
+                return null;
+            }
+            BitSet slots = new BitSet();
+            if (comparisonValue instanceof Number number) {
+                BigDecimal decimal = toBigDecimal(number);
+                if (decimal == null || !strings.isEmpty() || !uuids.isEmpty()) {
+                    return null;
+                }
+                addTo(slots, numbers.get(decimal));
+            } else if (comparisonValue instanceof String string) {
+                if (!numbers.isEmpty() || !uuids.isEmpty()) {
+                    return null;
+                }
+                addTo(slots, strings.get(string));
+            } else if (comparisonValue instanceof UUID uuid) {
+                if (!numbers.isEmpty()) {
+                    return null;
+                }
+                // string values are compared with the string representation of a UUID
+                addTo(slots, uuids.get(uuid));
+                addTo(slots, strings.get(uuid.toString()));
+            } else {
+                return null;
+            }
+            return slots;
+        }
+
+        BitSet isIn(Collection<?> comparisonValues) {
+            if (unsupported) {
+                return null;
+            }
+            Object first = comparisonValues.iterator().next();
+            BitSet slots = new BitSet();
+            if (first instanceof Number) {
+                // IsIn compares floats by their double value, unlike the other comparisons
+                if (hasFloats || !strings.isEmpty() || !uuids.isEmpty()) {
+                    return null;
+                }
+                for (Object value : comparisonValues) {
+                    if (!(value instanceof Number number) || value instanceof Float) {
+                        return null;
+                    }
+                    BigDecimal decimal = toBigDecimal(number);
+                    if (decimal == null) {
+                        return null;
+                    }
+                    addTo(slots, numbers.get(decimal));
+                }
+            } else if (first instanceof UUID) {
+                if (!numbers.isEmpty() || !strings.isEmpty()) {
+                    return null;
+                }
+                for (Object value : comparisonValues) {
+                    if (!(value instanceof UUID uuid)) {
+                        return null;
+                    }
+                    addTo(slots, uuids.get(uuid));
+                }
+            } else if (first instanceof String) {
+                if (!numbers.isEmpty() || !uuids.isEmpty()) {
+                    return null;
+                }
+                for (Object value : comparisonValues) {
+                    if (value instanceof String string) {
+                        addTo(slots, strings.get(string));
+                    }
+                }
+            } else {
+                return null;
+            }
+            return slots;
+        }
+
+        BitSet range(Comparable<?> comparisonValue, boolean below, boolean inclusive) {
+            if (unsupported) {
+                return null;
+            }
+            Collection<Postings> postings;
+            if (comparisonValue instanceof Number number) {
+                BigDecimal decimal = toBigDecimal(number);
+                if (decimal == null || !strings.isEmpty() || !uuids.isEmpty()) {
+                    return null;
+                }
+                postings = range(numbers, decimal, below, inclusive);
+            } else if (comparisonValue instanceof String string) {
+                if (!numbers.isEmpty() || !uuids.isEmpty()) {
+                    return null;
+                }
+                postings = range(strings, string, below, inclusive);
+            } else if (comparisonValue instanceof UUID uuid) {
+                if (!numbers.isEmpty() || !strings.isEmpty()) {
+                    return null;
+                }
+                postings = range(uuids, uuid, below, inclusive);
+            } else {
+                return null;
+            }
+            BitSet slots = new BitSet();
+            for (Postings posting : postings) {
+                posting.addTo(slots);
+            }
+            return slots;
+        }
+
+        private static <K> Collection<Postings> range(NavigableMap<K, Postings> values,
+                                                      K comparisonValue,
+                                                      boolean below,
+                                                      boolean inclusive) {
+            return below
+                    ? values.headMap(comparisonValue, inclusive).values()
+                    : values.tailMap(comparisonValue, inclusive).values();
+        }
+
+        private static void addTo(BitSet slots, Postings postings) {
+            if (postings != null) {
+                postings.addTo(slots);
+            }
+        }
+
+        /**
+         * @return the number as compared by {@link Filter#test(Object)}, or {@code null} if it cannot be compared
+         */
+        private static BigDecimal toBigDecimal(Number number) {
+            if (number instanceof Double || number instanceof Float) {
+                double value = number.doubleValue();
+                if (Double.isNaN(value) || Double.isInfinite(value)) {
+                    return null;
+                }
+            } else if (!(number instanceof Integer || number instanceof Long)) {
+                return null;
+            }
+            return new BigDecimal(number.toString());
+        }
+    }
+
+    /**
+     * A growable list of slots, in ascending order.
+     */
+    private static class Postings {
+
+        private int[] slots = new int[1];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        void addTo(BitSet bitSet) {
+            for (int i = 0; i < size; i++) {
+                bitSet.set(slots[i]);
+            }
+        }
+
+        void clear() {
+            slots = new int[1];
+            size = 0;
+        }
+    }
+}
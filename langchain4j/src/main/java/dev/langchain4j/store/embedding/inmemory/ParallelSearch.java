@@ -0,0 +1,91 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * Runs the chunks of a brute force search of an {@link InMemoryEmbeddingStore} concurrently
+ * and merges their partial top-K results.
+ * <p>
+ * Each chunk keeps its own bounded heap, so there is no contention between chunks.
+ * The last chunk is scored on the calling thread.
+ */
+class ParallelSearch {
+
+    static final int DEFAULT_THRESHOLD = 10_000;
+
+    private final Executor executor;
+    private final int threshold;
+    private final int parallelism;
+
+    ParallelSearch(Executor executor, int threshold, int parallelism) {
+        this.executor = executor;
+        this.threshold = threshold;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * The calling thread scores one chunk itself, hence one chunk more than the parallelism of a {@link ForkJoinPool}.
+     */
+    static int defaultParallelism(Executor executor) {
+        return executor instanceof ForkJoinPool forkJoinPool
+                ? forkJoinPool.getParallelism() + 1
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @return the number of chunks a search over {@code size} embeddings should be split into,
+     * or {@code 1} if it is not worth going parallel
+     */
+    int chunks(int size) {
+        if (size < threshold || parallelism < 2) {
+            return 1;
+        }
+        return parallelism;
+    }
+
+    /**
+     * @param chunkSearches each returns a heap of at most {@code maxResults} elements, the worst at the head
+     * @return at most {@code maxResults} elements from all chunks, ordered from the best to the worst
+     */
+    <T> List<T> search(List<Supplier<PriorityQueue<T>>> chunkSearches, int maxResults, Comparator<T> comparator) {
+        List<CompletableFuture<PriorityQueue<T>>> futures = new ArrayList<>(chunkSearches.size() - 1);
+        for (int i = 0; i < chunkSearches.size() - 1; i++) {
+            futures.add(CompletableFuture.supplyAsync(chunkSearches.get(i), executor));
+        }
+
+        PriorityQueue<T> merged = chunkSearches.get(chunkSearches.size() - 1).get();
+        for (CompletableFuture<PriorityQueue<T>> future : futures) {
+            for (T element : join(future)) {
+                merged.add(element);
+                if (merged.size() > maxResults) {
+                    merged.poll();
+                }
+            }
+        }
+
+        List<T> result = new ArrayList<>(merged);
+        result.sort(comparator);
+        Collections.reverse(result);
+        return result;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
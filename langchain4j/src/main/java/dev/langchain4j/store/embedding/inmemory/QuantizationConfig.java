@@ -0,0 +1,104 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.nio.file.Path;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Configuration of the quantized vectors that {@link InMemoryEmbeddingStore} scans during brute force searches.
+ * <p>
+ * A search first scores the compact quantized vectors, keeps the best
+ * {@code maxResults * }{@link #oversampling()} candidates and re-scores only those
+ * against the full-precision vectors, so returned scores and embeddings are exact.
+ * Higher {@link #oversampling()} values trade query latency for recall.
+ * <p>
+ * The full-precision vectors are kept in the configured {@link VectorStorage},
+ * or in memory-mapped files in {@link #fullPrecisionDirectory()}, so that the operating system can page them out.
+ *
+ * @see InMemoryEmbeddingStore.Builder#quantization(QuantizationConfig)
+ */
+public class QuantizationConfig {
+
+    private final QuantizationType type;
+    private final int oversampling;
+    private final Path fullPrecisionDirectory;
+
+    private QuantizationConfig(Builder builder) {
+        this.type = ensureNotNull(builder.type, "type");
+        this.oversampling = ensureGreaterThanZero(
+                getOrDefault(builder.oversampling, type == QuantizationType.BINARY ? 10 : 4), "oversampling");
+        this.fullPrecisionDirectory = builder.fullPrecisionDirectory;
+    }
+
+    /**
+     * @return How vectors are quantized.
+     */
+    public QuantizationType type() {
+        return type;
+    }
+
+    /**
+     * @return How many candidates (per requested result) are re-scored against the full-precision vectors.
+     */
+    public int oversampling() {
+        return oversampling;
+    }
+
+    /**
+     * @return The directory in which the full-precision vectors are memory-mapped,
+     * or {@code null} if they are kept in the configured {@link VectorStorage}.
+     */
+    public Path fullPrecisionDirectory() {
+        return fullPrecisionDirectory;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private QuantizationType type;
+        private Integer oversampling;
+        private Path fullPrecisionDirectory;
+
+        /**
+         * @param type How vectors are quantized.
+         * @return builder
+         */
+        public Builder type(QuantizationType type) {
+            this.type = type;
+            return this;
+        }
+
+        /**
+         * @param oversampling How many candidates (per requested result) are re-scored
+         *                     against the full-precision vectors.
+         *                     Default: 4 for {@link QuantizationType#INT8}, 10 for {@link QuantizationType#BINARY}.
+         * @return builder
+         */
+        public Builder oversampling(Integer oversampling) {
+            this.oversampling = oversampling;
+            return this;
+        }
+
+        /**
+         * @param fullPrecisionDirectory The directory in which the full-precision vectors are kept
+         *                               in memory-mapped (temporary) files instead of in memory.
+         *                               The files are not meant to be reused, see
+         *                               {@link InMemoryEmbeddingStore#serializeToBinaryFile(Path)} for persistence.
+         *                               Default: none, the vectors are kept in the configured {@link VectorStorage}.
+         * @return builder
+         */
+        public Builder fullPrecisionDirectory(Path fullPrecisionDirectory) {
+            this.fullPrecisionDirectory = fullPrecisionDirectory;
+            return this;
+        }
+
+        public QuantizationConfig build() {
+            return new QuantizationConfig(this);
+        }
+    }
+}
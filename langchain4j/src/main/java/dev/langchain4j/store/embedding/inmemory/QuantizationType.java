@@ -0,0 +1,21 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+/**
+ * Defines how {@link InMemoryEmbeddingStore} compresses its vectors when quantization is enabled.
+ *
+ * @see QuantizationConfig#type()
+ */
+public enum QuantizationType {
+
+    /**
+     * Every dimension is mapped to one byte, using a range that is calibrated per dimension
+     * from the vectors seen so far. Needs 4 times less memory than {@code float32} vectors.
+     */
+    INT8,
+
+    /**
+     * Every dimension is reduced to its sign (one bit), candidates are pre-screened by Hamming distance.
+     * Needs 32 times less memory than {@code float32} vectors, but loses more recall.
+     */
+    BINARY
+}
@@ -0,0 +1,59 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+import static dev.langchain4j.store.embedding.inmemory.EmbeddingMatrix.ROWS_PER_PAGE;
+
+/**
+ * Compact, approximate copies of the rows of an {@link EmbeddingMatrix}.
+ * They are scanned first, and only the best rows are then re-scored against the full-precision vectors.
+ * <p>
+ * Rows are kept in pages of {@link EmbeddingMatrix#ROWS_PER_PAGE} rows, mirroring the rows of the matrix.
+ * Not thread-safe, the {@link EmbeddingMatrix} guards all access.
+ */
+abstract class QuantizedVectors {
+
+    final int dimension;
+
+    QuantizedVectors(int dimension) {
+        this.dimension = dimension;
+    }
+
+    static QuantizedVectors create(QuantizationType type, int dimension) {
+        return type == QuantizationType.BINARY
+                ? new BinaryQuantizedVectors(dimension)
+                : new Int8QuantizedVectors(dimension);
+    }
+
+    /**
+     * Adapts the encoding to vectors that are about to be added.
+     *
+     * @return {@code true} if the encoding has changed and all existing rows have to be encoded again
+     */
+    boolean calibrate(List<float[]> vectors) {
+        return false;
+    }
+
+    /**
+     * Encodes the given vector into the given row, which is either an existing row or the one after the last.
+     */
+    abstract void set(int row, float[] vector);
+
+    abstract void move(int fromRow, int toRow);
+
+    /**
+     * Releases the pages that are not needed to hold the given number of rows.
+     */
+    abstract void truncate(int rows);
+
+    /**
+     * @param norms the norms of the full-precision rows
+     * @return a function that approximates the similarity of each row to the given query (higher is more similar)
+     */
+    abstract IntToDoubleFunction scorer(float[] queryVector, double queryNorm, double[] norms);
+
+    static int pages(int rows) {
+        return (rows + ROWS_PER_PAGE - 1) / ROWS_PER_PAGE;
+    }
+}
@@ -0,0 +1,27 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+/**
+ * Defines how {@link InMemoryEmbeddingStore} keeps the vectors of its embeddings in memory.
+ *
+ * @see InMemoryEmbeddingStore.Builder#vectorStorage(VectorStorage)
+ */
+public enum VectorStorage {
+
+    /**
+     * Each entry holds its own {@link dev.langchain4j.data.embedding.Embedding} object.
+     * This is the default.
+     */
+    PER_ENTRY,
+
+    /**
+     * All vectors are packed into contiguous {@code float} pages on the Java heap, together with precomputed norms.
+     * {@link dev.langchain4j.data.embedding.Embedding} objects are only created for the returned matches.
+     */
+    HEAP_MATRIX,
+
+    /**
+     * Same as {@link #HEAP_MATRIX}, but the pages are allocated outside the Java heap (as direct buffers),
+     * so that they are neither copied nor scanned by the garbage collector.
+     */
+    OFF_HEAP_MATRIX
+}
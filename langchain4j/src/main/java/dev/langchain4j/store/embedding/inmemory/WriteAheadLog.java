@@ -0,0 +1,425 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.inmemory.BinaryInMemoryEmbeddingStoreCodec.Input;
+import dev.langchain4j.store.embedding.inmemory.BinaryInMemoryEmbeddingStoreCodec.Output;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static dev.langchain4j.internal.Exceptions.runtime;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * An append-only log of the mutations of an {@link InMemoryEmbeddingStore}, on top of a binary snapshot.
+ * <p>
+ * The directory holds one generation of files: {@code snapshot-<generation>.bin}
+ * (written by {@link BinaryInMemoryEmbeddingStoreCodec}, absent for generation 0)
+ * and {@code log-<generation>.log}, which records every mutation since that snapshot.
+ * Each log record is framed by its length and a CRC32 checksum, so that a record torn by a crash is detected
+ * and cut off on replay.
+ * <p>
+ * Each mutation is prepared from the current state of the store, then its record is appended and fsynced,
+ * and only then is the mutation applied to the store, all under a single lock:
+ * the log has the same order as the store, and a mutation whose record could not be made durable
+ * leaves the store unchanged.
+ * <p>
+ * Compaction writes a snapshot of generation {@code n + 1} to a temporary file, atomically renames it
+ * and only then starts the new log and deletes the files of generation {@code n}.
+ * A crash at any point leaves either the old or the new generation intact.
+ */
+class WriteAheadLog {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("snapshot-(\\d+)\\.bin");
+    private static final int FRAME_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    private static final byte REMOVE_ALL = 3;
+    private static final byte REMOVE_MATCHING = 4;
+
+    private final Path directory;
+    private final long compactionThreshold;
+    private final InMemoryEmbeddingStore<?> store;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // guarded by lock
+    private FileChannel channel;
+    private long generation;
+    private long size;
+    private boolean closed;
+
+    private WriteAheadLog(WriteAheadLogConfig config, InMemoryEmbeddingStore<?> store) {
+        this.directory = config.directory();
+        this.compactionThreshold = config.compactionThreshold();
+        this.store = store;
+    }
+
+    /**
+     * Loads the latest snapshot from the configured directory into the given (empty) store,
+     * replays the log on top of it and opens the log for appending.
+     */
+    static <Embedded> WriteAheadLog open(WriteAheadLogConfig config, InMemoryEmbeddingStore<Embedded> store) {
+        WriteAheadLog log = new WriteAheadLog(config, store);
+        try {
+            log.recover(store);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return log;
+    }
+
+    private <Embedded> void recover(InMemoryEmbeddingStore<Embedded> store) throws IOException {
+        Files.createDirectories(directory);
+
+        long latest = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = SNAPSHOT_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    latest = Math.max(latest, Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        generation = latest;
+        deleteOtherGenerations();
+
+        if (Files.exists(snapshotFile(generation))) {
+            BinaryInMemoryEmbeddingStoreCodec.read(snapshotFile(generation), store);
+        }
+
+        channel = FileChannel.open(logFile(generation), CREATE, READ, WRITE);
+        size = replay(store);
+        channel.truncate(size);
+        channel.position(size);
+        channel.force(true);
+    }
+
+    /**
+     * @return the position right after the last intact record
+     */
+    private <Embedded> long replay(InMemoryEmbeddingStore<Embedded> store) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        long position = 0;
+        long fileSize = channel.size();
+        while (position + FRAME_HEADER_SIZE <= fileSize) {
+            header.clear();
+            readFully(header, position);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length <= 0 || position + FRAME_HEADER_SIZE + length > fileSize) {
+                break; // torn record
+            }
+            ByteBuffer record = ByteBuffer.allocate(length);
+            readFully(record, position + FRAME_HEADER_SIZE);
+            if (checksum(record.array()) != checksum) {
+                break; // torn record
+            }
+            apply(record.array(), store);
+            position += FRAME_HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private static <Embedded> void apply(byte[] record, InMemoryEmbeddingStore<Embedded> store) throws IOException {
+        Input input = new Input(Channels.newChannel(new ByteArrayInputStream(record)));
+        byte type = input.readByte();
+        switch (type) {
+            case ADD -> {
+                int count = input.readInt();
+                List<Entry<Embedded>> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    String id = input.readString();
+                    float[] vector = new float[input.readInt()];
+                    for (int j = 0; j < vector.length; j++) {
+                        vector[j] = input.readFloat();
+                    }
+                    Embedded embedded = BinaryInMemoryEmbeddingStoreCodec.readEmbedded(input);
+                    entries.add(new Entry<>(id, Embedding.from(vector), embedded));
+                }
+                store.addEntries(entries);
+            }
+            case REMOVE -> {
+                int count = input.readInt();
+                List<String> ids = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    ids.add(input.readString());
+                }
+                store.removeEntriesById(ids);
+            }
+            case REMOVE_ALL -> store.clearEntries();
+            case REMOVE_MATCHING -> {
+                // entries with the same id whose content differs did not match the filter and must be kept
+                int count = input.readInt();
+                Map<String, List<Embedded>> removed = new HashMap<>();
+                for (int i = 0; i < count; i++) {
+                    String id = input.readString();
+                    Embedded embedded = BinaryInMemoryEmbeddingStoreCodec.readEmbedded(input);
+                    removed.computeIfAbsent(id, ignored -> new ArrayList<>()).add(embedded);
+                }
+                store.removeEntries(entry -> {
+                    List<Embedded> embedded = removed.get(entry.id);
+                    return embedded != null && embedded.contains(entry.embedded);
+                });
+            }
+            default -> throw runtime("Unknown write-ahead log record type: %s", type);
+        }
+    }
+
+    static <Embedded> byte[] addRecord(List<Entry<Embedded>> entries) {
+        return record(output -> {
+            output.writeByte(ADD);
+            output.writeInt(entries.size());
+            for (Entry<Embedded> entry : entries) {
+                BinaryInMemoryEmbeddingStoreCodec.ensureSupported(entry.embedded);
+                output.writeString(entry.id);
+                float[] vector = entry.embedding.vector();
+                output.writeInt(vector.length);
+                for (float v : vector) {
+                    output.writeFloat(v);
+                }
+                BinaryInMemoryEmbeddingStoreCodec.writeEmbedded(entry.embedded, output);
+            }
+        });
+    }
+
+    static byte[] removeRecord(Collection<String> ids) {
+        return record(output -> {
+            output.writeByte(REMOVE);
+            output.writeInt(ids.size());
+            for (String id : ids) {
+                output.writeString(id);
+            }
+        });
+    }
+
+    /**
+     * Records entries removed by a filter. As the filter cannot be logged, each entry is identified
+     * by its id together with its content, which is all the filter depends on.
+     */
+    static <Embedded> byte[] removeMatchingRecord(Collection<Entry<Embedded>> removed) {
+        return record(output -> {
+            output.writeByte(REMOVE_MATCHING);
+            output.writeInt(removed.size());
+            for (Entry<Embedded> entry : removed) {
+                output.writeString(entry.id);
+                BinaryInMemoryEmbeddingStoreCodec.writeEmbedded(entry.embedded, output);
+            }
+        });
+    }
+
+    static byte[] removeAllRecord() {
+        return new byte[]{REMOVE_ALL};
+    }
+
+    private static byte[] record(RecordWriter writer) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            Output output = new Output(Channels.newChannel(bytes), 0);
+            writer.write(output);
+            output.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * A change of the store, together with the record that replays it.
+     */
+    record Mutation(byte[] record, Runnable change) {}
+
+    /**
+     * Prepares a mutation from the current state of the store, appends its record to the log,
+     * and applies it to the store once the record is durable.
+     * Nothing is appended if the preparation returns {@code null} (i.e. the mutation would not change anything).
+     * If the record cannot be written or fsynced, the store is left unchanged and an exception is thrown.
+     *
+     * @throws IllegalStateException if the log is closed
+     */
+    void append(Supplier<Mutation> preparation) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("The write-ahead log is closed");
+            }
+            Mutation mutation = preparation.get();
+            if (mutation == null) {
+                return;
+            }
+            writeDurably(mutation.record());
+            mutation.change().run();
+            if (size >= compactionThreshold) {
+                try {
+                    compact();
+                } catch (RuntimeException e) {
+                    // the mutation is durable and applied, compaction is retried after the next one
+                    LOG.warn("Failed to compact the write-ahead log in {}", directory, e);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeDurably(byte[] record) {
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + record.length).order(ByteOrder.LITTLE_ENDIAN);
+        frame.putInt(record.length);
+        frame.putInt(checksum(record));
+        frame.put(record);
+        frame.flip();
+        try {
+            while (frame.hasRemaining()) {
+                channel.write(frame);
+            }
+            channel.force(false);
+            size += frame.limit();
+        } catch (IOException e) {
+            try {
+                // the record is not applied, so it must not be replayed either
+                channel.truncate(size);
+                channel.position(size);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Writes the whole store to a new snapshot and starts a new, empty log.
+     * Mutations are blocked while the snapshot is written, searches are not.
+     */
+    void compact() {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("The write-ahead log is closed");
+            }
+            long next = generation + 1;
+            Path temporaryFile = directory.resolve(snapshotFile(next).getFileName() + ".tmp");
+            BinaryInMemoryEmbeddingStoreCodec.write(store, temporaryFile);
+            Files.move(temporaryFile, snapshotFile(next), ATOMIC_MOVE, REPLACE_EXISTING);
+            FileChannel nextChannel = FileChannel.open(logFile(next), CREATE, TRUNCATE_EXISTING, WRITE);
+            syncDirectory();
+
+            FileChannel previousChannel = channel;
+            channel = nextChannel;
+            previousChannel.close();
+            generation = next;
+            size = 0;
+            deleteOtherGenerations();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the log. Any later mutation fails with an {@link IllegalStateException}, without changing the store.
+     */
+    void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            channel.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Best effort: a file that cannot be deleted yet (e.g. a snapshot that is still memory-mapped on Windows)
+     * is deleted by a later compaction or recovery.
+     */
+    private void deleteOtherGenerations() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                boolean ownFile = name.startsWith("snapshot-") || name.startsWith("log-");
+                boolean currentGeneration = file.equals(snapshotFile(generation)) || file.equals(logFile(generation));
+                if (ownFile && !currentGeneration) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException ignored) {
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Makes the rename of a snapshot durable. Not supported on every platform, hence best effort.
+     */
+    private void syncDirectory() {
+        try (FileChannel directoryChannel = FileChannel.open(directory, READ)) {
+            directoryChannel.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private Path snapshotFile(long generation) {
+        return directory.resolve("snapshot-" + generation + ".bin");
+    }
+
+    private Path logFile(long generation) {
+        return directory.resolve("log-" + generation + ".log");
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of write-ahead log");
+            }
+            position += read;
+        }
+    }
+
+    private static int checksum(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+
+    private interface RecordWriter {
+
+        void write(Output output) throws IOException;
+    }
+}
@@ -0,0 +1,78 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.nio.file.Path;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Configuration of the write-ahead log that makes an {@link InMemoryEmbeddingStore} durable.
+ * <p>
+ * Every {@code add*} and {@code removeAll*} operation is appended to a log file in {@link #directory()}
+ * and fsynced before it changes the store, so an operation that fails leaves the store unchanged.
+ * Operations are therefore executed one at a time: batching additions with {@code addAll} amortizes the fsyncs.
+ * Once the log grows beyond {@link #compactionThreshold()} bytes,
+ * the whole store is written to a binary snapshot and the log is started anew.
+ * When a store is built with the same directory again, it loads the latest snapshot and replays the log.
+ *
+ * @see InMemoryEmbeddingStore.Builder#writeAheadLog(WriteAheadLogConfig)
+ */
+public class WriteAheadLogConfig {
+
+    private final Path directory;
+    private final long compactionThreshold;
+
+    private WriteAheadLogConfig(Builder builder) {
+        this.directory = ensureNotNull(builder.directory, "directory");
+        this.compactionThreshold = ensureBetween(
+                getOrDefault(builder.compactionThreshold, 64L * 1024 * 1024), 1, Long.MAX_VALUE, "compactionThreshold");
+    }
+
+    /**
+     * @return The directory that holds the snapshot and the log files.
+     */
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * @return The size of the log (in bytes) after which it is compacted into a new snapshot.
+     */
+    public long compactionThreshold() {
+        return compactionThreshold;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Path directory;
+        private Long compactionThreshold;
+
+        /**
+         * @param directory The directory that holds the snapshot and the log files. It is created if it does not exist.
+         * @return builder
+         */
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        /**
+         * @param compactionThreshold The size of the log (in bytes) after which it is compacted into a new snapshot.
+         *                            Default: 64 MiB.
+         * @return builder
+         */
+        public Builder compactionThreshold(Long compactionThreshold) {
+            this.compactionThreshold = compactionThreshold;
+            return this;
+        }
+
+        public WriteAheadLogConfig build() {
+            return new WriteAheadLogConfig(this);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package dev.langchain4j.data.document.loader;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocument;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocuments;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocumentsRecursively;
+import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.streamDocuments;
+import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.streamDocumentsRecursively;
 
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
@@ -16,6 +18,8 @@ import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -191,6 +195,34 @@ class FileSystemDocumentLoaderTest implements WithAssertions {
         assertThat(loadDocumentsRecursively(resourceDirectory.toString())).isEqualTo(documents);
     }
 
+    @Test
+    void should_lazily_stream_documents() {
+
+        // given
+        Path resourceDirectory = resourceDirectory();
+        AtomicInteger parsed = new AtomicInteger();
+        DocumentParser countingParser = inputStream -> {
+            parsed.incrementAndGet();
+            return new TextDocumentParser().parse(inputStream);
+        };
+
+        // when
+        try (Stream<Document> documents = streamDocumentsRecursively(resourceDirectory, countingParser)) {
+
+            // then
+            assertThat(parsed).hasValue(0);
+            assertThat(documents.limit(2)).hasSize(2);
+            assertThat(parsed).hasValue(2);
+        }
+
+        try (Stream<Document> documents = streamDocumentsRecursively(resourceDirectory)) {
+            assertThat(documents.toList()).isEqualTo(loadDocumentsRecursively(resourceDirectory));
+        }
+        try (Stream<Document> documents = streamDocuments(resourceDirectory)) {
+            assertThat(documents.toList()).isEqualTo(loadDocuments(resourceDirectory));
+        }
+    }
+
     @Test
     void should_recursively_load_matching_documents() {
 
@@ -6,10 +6,16 @@ import static dev.langchain4j.data.message.UserMessage.userMessage;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.ChatMessagesDelta;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import java.util.ArrayList;
+import java.util.List;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -408,4 +414,43 @@ class MessageWindowChatMemoryTest implements WithAssertions {
         // then orphan toolExecutionResultMessage1 and toolExecutionResultMessage2 are evicted together with aiMessage
         assertThat(chatMemory.messages()).containsExactly(systemMessage, aiMessage2);
     }
+
+    @Test
+    void should_update_store_with_deltas() {
+
+        // given
+        List<ChatMessagesDelta> deltas = new ArrayList<>();
+        ChatMemoryStore store = new InMemoryChatMemoryStore() {
+
+            @Override
+            public void updateMessages(Object memoryId, List<ChatMessage> messages, ChatMessagesDelta delta) {
+                deltas.add(delta);
+                super.updateMessages(memoryId, messages, delta);
+            }
+        };
+        ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                .maxMessages(3)
+                .chatMemoryStore(store)
+                .build();
+
+        SystemMessage systemMessage = systemMessage("Be polite");
+        UserMessage userMessage = userMessage("hello");
+        AiMessage aiMessage = aiMessage("hi");
+        UserMessage userMessage2 = userMessage("how are you?");
+
+        // when
+        chatMemory.add(systemMessage);
+        chatMemory.add(userMessage);
+        chatMemory.add(aiMessage);
+        chatMemory.add(userMessage2);
+
+        // then
+        assertThat(chatMemory.messages()).containsExactly(systemMessage, aiMessage, userMessage2);
+        assertThat(deltas)
+                .containsExactly(
+                        new ChatMessagesDelta(0, 0, List.of(systemMessage)),
+                        new ChatMessagesDelta(1, 0, List.of(userMessage)),
+                        new ChatMessagesDelta(2, 0, List.of(aiMessage)),
+                        new ChatMessagesDelta(1, 1, List.of(userMessage2)));
+    }
 }
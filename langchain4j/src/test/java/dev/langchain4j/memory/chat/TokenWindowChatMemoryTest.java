@@ -18,6 +18,10 @@ import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.model.openai.OpenAiChatModelName;
 import dev.langchain4j.model.openai.OpenAiTokenCountEstimator;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import java.util.ArrayList;
+import java.util.List;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -611,4 +615,79 @@ class TokenWindowChatMemoryTest implements WithAssertions {
                 OpenAiTokenCountEstimator(OpenAiChatModelName.GPT_3_5_TURBO));
         chatMemory.add(systemMessageWithTokens(10));
     }
+
+    @Test
+    void should_estimate_tokens_of_each_message_only_once() {
+
+        // given
+        List<ChatMessage> estimatedMessages = new ArrayList<>();
+        TokenCountEstimator countingEstimator = new TokenCountEstimator() {
+
+            @Override
+            public int estimateTokenCountInText(String text) {
+                return TOKEN_COUNT_ESTIMATOR.estimateTokenCountInText(text);
+            }
+
+            @Override
+            public int estimateTokenCountInMessage(ChatMessage message) {
+                estimatedMessages.add(message);
+                return TOKEN_COUNT_ESTIMATOR.estimateTokenCountInMessage(message);
+            }
+
+            @Override
+            public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+                return TOKEN_COUNT_ESTIMATOR.estimateTokenCountInMessages(messages);
+            }
+        };
+        ChatMemory chatMemory = TokenWindowChatMemory.withMaxTokens(30, countingEstimator);
+
+        UserMessage userMessage = userMessageWithTokens(10);
+        AiMessage aiMessage = aiMessageWithTokens(10);
+        UserMessage userMessage2 = userMessageWithTokens(10);
+
+        // when
+        chatMemory.add(userMessage);
+        chatMemory.add(aiMessage);
+        chatMemory.messages();
+        chatMemory.add(userMessage2);
+        chatMemory.messages();
+
+        // then
+        assertThat(chatMemory.messages()).containsExactly(aiMessage, userMessage2);
+        assertThat(estimatedMessages).containsExactly(userMessage, aiMessage, userMessage2);
+    }
+
+    @Test
+    void should_reflect_messages_updated_in_the_store_by_another_chat_memory() {
+
+        // given
+        ChatMemoryStore store = new InMemoryChatMemoryStore();
+        ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(30, TOKEN_COUNT_ESTIMATOR)
+                .chatMemoryStore(store)
+                .build();
+        ChatMemory anotherChatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(30, TOKEN_COUNT_ESTIMATOR)
+                .chatMemoryStore(store)
+                .build();
+
+        UserMessage userMessage = userMessageWithTokens(10);
+        AiMessage aiMessage = aiMessageWithTokens(10);
+        UserMessage userMessage2 = userMessageWithTokens(10);
+
+        // when
+        chatMemory.add(userMessage);
+        anotherChatMemory.add(aiMessage);
+        chatMemory.add(userMessage2);
+
+        // then
+        assertThat(chatMemory.messages()).containsExactly(aiMessage, userMessage2);
+        assertThat(anotherChatMemory.messages()).containsExactly(aiMessage, userMessage2);
+
+        // when
+        anotherChatMemory.clear();
+
+        // then
+        assertThat(chatMemory.messages()).isEmpty();
+    }
 }
@@ -0,0 +1,254 @@
+package dev.langchain4j.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.ChatResponseMetadata;
+import dev.langchain4j.model.output.TokenUsage;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.service.tool.ToolExecution;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class AsyncAiServicesTest {
+
+    interface Assistant {
+
+        CompletableFuture<String> chat(String userMessage);
+
+        CompletableFuture<Result<String>> chatWithResult(String userMessage);
+    }
+
+    static class Tools {
+
+        @Tool
+        String weather(String city) {
+            return "sunny in " + city;
+        }
+    }
+
+    /**
+     * Only supports asynchronous requests, answered when {@link #respond()} is called.
+     */
+    static class AsyncChatModel implements ChatModel {
+
+        final Queue<ChatRequest> requests = new ConcurrentLinkedQueue<>();
+        final Queue<CompletableFuture<ChatResponse>> pendingResponses = new ConcurrentLinkedQueue<>();
+        final Function<ChatRequest, AiMessage> script;
+
+        AsyncChatModel(Function<ChatRequest, AiMessage> script) {
+            this.script = script;
+        }
+
+        @Override
+        public ChatResponse doChat(ChatRequest chatRequest) {
+            throw new UnsupportedOperationException("blocking chat is not expected");
+        }
+
+        @Override
+        public CompletableFuture<ChatResponse> doChatAsync(ChatRequest chatRequest) {
+            requests.add(chatRequest);
+            CompletableFuture<ChatResponse> futureResponse = new CompletableFuture<>();
+            pendingResponses.add(futureResponse);
+            return futureResponse.thenApply(ignored -> ChatResponse.builder()
+                    .aiMessage(script.apply(chatRequest))
+                    .metadata(ChatResponseMetadata.builder()
+                            .tokenUsage(new TokenUsage(1, 1))
+                            .build())
+                    .build());
+        }
+
+        /**
+         * Answers the pending requests until the given future is done.
+         */
+        <T> T respondUntilDone(CompletableFuture<T> future) throws Exception {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!future.isDone() && System.nanoTime() < deadline) {
+                CompletableFuture<ChatResponse> pendingResponse = pendingResponses.poll();
+                if (pendingResponse == null) {
+                    Thread.sleep(10);
+                } else {
+                    pendingResponse.complete(null);
+                }
+            }
+            return future.get(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void should_not_block_until_llm_responds() throws Exception {
+
+        // given
+        AsyncChatModel model = new AsyncChatModel(chatRequest -> AiMessage.from("Hello!"));
+        Assistant assistant = AiServices.create(Assistant.class, model);
+
+        // when
+        CompletableFuture<String> futureAnswer = assistant.chat("Hi");
+
+        // then
+        Thread.sleep(100);
+        assertThat(futureAnswer).isNotDone();
+
+        assertThat(model.respondUntilDone(futureAnswer)).isEqualTo("Hello!");
+        assertThat(model.requests).hasSize(1);
+    }
+
+    @Test
+    void should_execute_tools_asynchronously() throws Exception {
+
+        // given
+        AsyncChatModel model = new AsyncChatModel(chatRequest -> {
+            ChatMessage lastMessage = chatRequest.messages().get(chatRequest.messages().size() - 1);
+            if (lastMessage instanceof ToolExecutionResultMessage) {
+                return AiMessage.from("It is sunny in Munich");
+            }
+            return AiMessage.from(weatherRequest("Munich"));
+        });
+        MessageWindowChatMemory chatMemory = MessageWindowChatMemory.withMaxMessages(10);
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(model)
+                .chatMemory(chatMemory)
+                .tools(new Tools())
+                .build();
+
+        // when
+        Result<String> result = model.respondUntilDone(assistant.chatWithResult("What is the weather in Munich?"));
+
+        // then
+        assertThat(result.content()).isEqualTo("It is sunny in Munich");
+        assertThat(result.toolExecutions()).extracting(ToolExecution::result).containsExactly("sunny in Munich");
+        assertThat(result.tokenUsage()).isEqualTo(new TokenUsage(2, 2));
+
+        assertThat(model.requests).hasSize(2);
+        assertThat(chatMemory.messages())
+                .containsExactly(
+                        UserMessage.from("What is the weather in Munich?"),
+                        AiMessage.from(weatherRequest("Munich")),
+                        ToolExecutionResultMessage.from(weatherRequest("Munich"), "sunny in Munich"),
+                        AiMessage.from("It is sunny in Munich"));
+    }
+
+    @Test
+    void should_execute_tools_concurrently_on_single_thread_executor() throws Exception {
+
+        // given
+        AsyncChatModel model = new AsyncChatModel(chatRequest -> {
+            ChatMessage lastMessage = chatRequest.messages().get(chatRequest.messages().size() - 1);
+            if (lastMessage instanceof ToolExecutionResultMessage) {
+                return AiMessage.from("It is sunny in Munich and in Paris");
+            }
+            return AiMessage.from(List.of(weatherRequest("Munich"), weatherRequest("Paris")));
+        });
+        ExecutorService toolExecutor = Executors.newSingleThreadExecutor();
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(model)
+                .tools(new Tools())
+                .executeToolsConcurrently(toolExecutor)
+                .build();
+
+        // when
+        try {
+            Result<String> result =
+                    model.respondUntilDone(assistant.chatWithResult("What is the weather in Munich and in Paris?"));
+
+            // then
+            assertThat(result.content()).isEqualTo("It is sunny in Munich and in Paris");
+            assertThat(result.toolExecutions())
+                    .extracting(ToolExecution::result)
+                    .containsExactly("sunny in Munich", "sunny in Paris");
+        } finally {
+            toolExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_augment_user_message_asynchronously() throws Exception {
+
+        // given
+        AsyncChatModel model = new AsyncChatModel(chatRequest -> AiMessage.from("It is sunny"));
+        Content content = Content.from("The weather is always sunny");
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(model)
+                .contentRetriever(query -> List.of(content))
+                .build();
+
+        // when
+        Result<String> result = model.respondUntilDone(assistant.chatWithResult("How is the weather?"));
+
+        // then
+        assertThat(result.content()).isEqualTo("It is sunny");
+        assertThat(result.sources()).containsExactly(content);
+
+        UserMessage userMessage = (UserMessage) model.requests.peek().messages().get(0);
+        assertThat(userMessage.singleText())
+                .startsWith("How is the weather?")
+                .contains("The weather is always sunny");
+    }
+
+    @Test
+    void should_complete_exceptionally_when_llm_fails() {
+
+        // given
+        RuntimeException error = new RuntimeException("LLM is unavailable");
+        ChatModel model = new ChatModel() {
+
+            @Override
+            public CompletableFuture<ChatResponse> doChatAsync(ChatRequest chatRequest) {
+                return CompletableFuture.failedFuture(error);
+            }
+        };
+        Assistant assistant = AiServices.create(Assistant.class, model);
+
+        // when
+        CompletableFuture<String> futureAnswer = assistant.chat("Hi");
+
+        // then
+        assertThatThrownBy(() -> futureAnswer.get(10, TimeUnit.SECONDS))
+                .isExactlyInstanceOf(ExecutionException.class)
+                .hasCause(error);
+    }
+
+    interface RawFutureAssistant {
+
+        @SuppressWarnings("rawtypes")
+        CompletableFuture chat(String userMessage);
+    }
+
+    @Test
+    void should_fail_when_future_is_not_parametrized() {
+
+        AsyncChatModel model = new AsyncChatModel(chatRequest -> AiMessage.from("Hello!"));
+
+        assertThatThrownBy(() -> AiServices.create(RawFutureAssistant.class, model))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ToolExecutionRequest weatherRequest(String city) {
+        return ToolExecutionRequest.builder()
+                .id("1")
+                .name("weather")
+                .arguments("{\"arg0\": \"" + city + "\"}")
+                .build();
+    }
+}
@@ -0,0 +1,208 @@
+package dev.langchain4j.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.service.tool.ToolExecution;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StreamingAiServicesWithToolsTest {
+
+    static final String MODEL_THREAD_NAME = "streaming-model";
+
+    interface Assistant {
+
+        TokenStream chat(String userMessage);
+    }
+
+    static class Tools {
+
+        final Queue<String> threads = new ConcurrentLinkedQueue<>();
+
+        @Tool
+        String weather(String city) {
+            threads.add(Thread.currentThread().getName());
+            return "sunny in " + city;
+        }
+    }
+
+    /**
+     * Streams responses on its own thread, like HTTP clients do.
+     */
+    static class ScriptedStreamingChatModel implements StreamingChatModel {
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, MODEL_THREAD_NAME));
+        final Queue<ChatRequest> requests = new ConcurrentLinkedQueue<>();
+        final Function<ChatRequest, AiMessage> script;
+
+        ScriptedStreamingChatModel(Function<ChatRequest, AiMessage> script) {
+            this.script = script;
+        }
+
+        @Override
+        public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+            requests.add(chatRequest);
+            executor.execute(() -> {
+                AiMessage aiMessage = script.apply(chatRequest);
+                if (aiMessage.text() != null) {
+                    handler.onPartialResponse(aiMessage.text());
+                }
+                handler.onCompleteResponse(ChatResponse.builder().aiMessage(aiMessage).build());
+            });
+        }
+    }
+
+    ScriptedStreamingChatModel model;
+
+    @AfterEach
+    void shutdown() {
+        model.executor.shutdownNow();
+    }
+
+    @Test
+    void should_execute_tools_off_the_streaming_thread() throws Exception {
+
+        // given
+        model = new ScriptedStreamingChatModel(chatRequest -> {
+            ChatMessage lastMessage = chatRequest.messages().get(chatRequest.messages().size() - 1);
+            if (lastMessage instanceof ToolExecutionResultMessage) {
+                return AiMessage.from("It is sunny in Munich and in Paris");
+            }
+            return AiMessage.from(List.of(weatherRequest("1", "Munich"), weatherRequest("2", "Paris")));
+        });
+        Tools tools = new Tools();
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .streamingChatModel(model)
+                .chatMemory(MessageWindowChatMemory.withMaxMessages(10))
+                .tools(tools)
+                .build();
+
+        Queue<ToolExecution> toolExecutions = new ConcurrentLinkedQueue<>();
+        CompletableFuture<ChatResponse> futureResponse = new CompletableFuture<>();
+
+        // when
+        assistant
+                .chat("What is the weather in Munich and in Paris?")
+                .onPartialResponse(partialResponse -> {})
+                .onToolExecuted(toolExecutions::add)
+                .onCompleteResponse(futureResponse::complete)
+                .onError(futureResponse::completeExceptionally)
+                .start();
+
+        // then
+        ChatResponse response = futureResponse.get(10, TimeUnit.SECONDS);
+        assertThat(response.aiMessage().text()).isEqualTo("It is sunny in Munich and in Paris");
+
+        assertThat(tools.threads).hasSize(2).doesNotContain(MODEL_THREAD_NAME);
+        assertThat(toolExecutions)
+                .extracting(ToolExecution::result)
+                .containsExactly("sunny in Munich", "sunny in Paris");
+
+        assertThat(model.requests).hasSize(2);
+        List<ChatMessage> secondRequestMessages =
+                model.requests.stream().skip(1).findFirst().orElseThrow().messages();
+        assertThat(secondRequestMessages.subList(2, 4))
+                .containsExactly(
+                        ToolExecutionResultMessage.from(weatherRequest("1", "Munich"), "sunny in Munich"),
+                        ToolExecutionResultMessage.from(weatherRequest("2", "Paris"), "sunny in Paris"));
+    }
+
+    @Test
+    void should_fail_when_max_sequential_tool_invocations_is_exceeded() {
+
+        // given
+        model = new ScriptedStreamingChatModel(
+                chatRequest -> AiMessage.from(List.of(weatherRequest("1", "Munich"))));
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .streamingChatModel(model)
+                .chatMemory(MessageWindowChatMemory.withMaxMessages(100))
+                .tools(new Tools())
+                .maxSequentialToolsInvocations(3)
+                .build();
+
+        CompletableFuture<ChatResponse> futureResponse = new CompletableFuture<>();
+
+        // when
+        assistant
+                .chat("What is the weather in Munich?")
+                .onPartialResponse(partialResponse -> {})
+                .onCompleteResponse(futureResponse::complete)
+                .onError(futureResponse::completeExceptionally)
+                .start();
+
+        // then
+        assertThatThrownBy(() -> futureResponse.get(10, TimeUnit.SECONDS))
+                .isExactlyInstanceOf(ExecutionException.class)
+                .hasMessageContaining("exceeded 3 sequential tool executions");
+        assertThat(model.requests).hasSize(4);
+    }
+
+    @Test
+    void should_execute_tools_concurrently_on_single_thread_executor() throws Exception {
+
+        // given
+        model = new ScriptedStreamingChatModel(chatRequest -> {
+            ChatMessage lastMessage = chatRequest.messages().get(chatRequest.messages().size() - 1);
+            if (lastMessage instanceof ToolExecutionResultMessage) {
+                return AiMessage.from("It is sunny in Munich and in Paris");
+            }
+            return AiMessage.from(List.of(weatherRequest("1", "Munich"), weatherRequest("2", "Paris")));
+        });
+        ExecutorService toolExecutor = Executors.newSingleThreadExecutor();
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .streamingChatModel(model)
+                .chatMemory(MessageWindowChatMemory.withMaxMessages(10))
+                .tools(new Tools())
+                .executeToolsConcurrently(toolExecutor)
+                .build();
+
+        CompletableFuture<ChatResponse> futureResponse = new CompletableFuture<>();
+
+        // when
+        try {
+            assistant
+                    .chat("What is the weather in Munich and in Paris?")
+                    .onPartialResponse(partialResponse -> {})
+                    .onCompleteResponse(futureResponse::complete)
+                    .onError(futureResponse::completeExceptionally)
+                    .start();
+
+            // then
+            ChatResponse response = futureResponse.get(10, TimeUnit.SECONDS);
+            assertThat(response.aiMessage().text()).isEqualTo("It is sunny in Munich and in Paris");
+        } finally {
+            toolExecutor.shutdownNow();
+        }
+    }
+
+    private static ToolExecutionRequest weatherRequest(String id, String city) {
+        return ToolExecutionRequest.builder()
+                .id(id)
+                .name("weather")
+                .arguments("{\"arg0\": \"" + city + "\"}")
+                .build();
+    }
+}
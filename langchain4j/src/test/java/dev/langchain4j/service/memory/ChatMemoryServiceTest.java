@@ -0,0 +1,168 @@
+package dev.langchain4j.service.memory;
+
+import static dev.langchain4j.data.message.SystemMessage.systemMessage;
+import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ChatMemoryServiceTest {
+
+    ChatMemoryStore store = new InMemoryChatMemoryStore();
+
+    ChatMemoryProvider chatMemoryProvider = memoryId -> MessageWindowChatMemory.builder()
+            .id(memoryId)
+            .maxMessages(10)
+            .chatMemoryStore(store)
+            .build();
+
+    AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void should_evict_least_recently_used_chat_memory() {
+
+        // given
+        ChatMemoryEvictionPolicy evictionPolicy =
+                ChatMemoryEvictionPolicy.builder().maxChatMemories(2).build();
+        ChatMemoryService chatMemoryService =
+                new ChatMemoryService(chatMemoryProvider, evictionPolicy, nanoTime::get);
+
+        ChatMemory first = chatMemoryService.getOrCreateChatMemory("first");
+        first.add(userMessage("hello from first"));
+        chatMemoryService.getOrCreateChatMemory("second");
+
+        // when
+        chatMemoryService.getOrCreateChatMemory("first");
+        chatMemoryService.getOrCreateChatMemory("third");
+
+        // then
+        assertThat(chatMemoryService.getChatMemoryIDs()).containsExactly("first", "third");
+        assertThat(chatMemoryService.getChatMemory("second")).isNull();
+        assertThat(chatMemoryService.getChatMemory("first")).isSameAs(first);
+        assertThat(chatMemoryService.statistics()).isEqualTo(new ChatMemoryStatistics(2, 1, 0));
+    }
+
+    @Test
+    void should_evict_idle_chat_memories() {
+
+        // given
+        ChatMemoryEvictionPolicy evictionPolicy =
+                ChatMemoryEvictionPolicy.builder().idleTimeout(Duration.ofMinutes(10)).build();
+        ChatMemoryService chatMemoryService =
+                new ChatMemoryService(chatMemoryProvider, evictionPolicy, nanoTime::get);
+
+        chatMemoryService.getOrCreateChatMemory("first");
+        nanoTime.addAndGet(Duration.ofMinutes(6).toNanos());
+        chatMemoryService.getOrCreateChatMemory("second");
+
+        // when
+        nanoTime.addAndGet(Duration.ofMinutes(6).toNanos());
+
+        // then
+        assertThat(chatMemoryService.getChatMemory("first")).isNull();
+        assertThat(chatMemoryService.getChatMemory("second")).isNotNull();
+        assertThat(chatMemoryService.statistics()).isEqualTo(new ChatMemoryStatistics(1, 1, 0));
+    }
+
+    @Test
+    void should_rehydrate_evicted_chat_memory_from_store() {
+
+        // given
+        ChatMemoryEvictionPolicy evictionPolicy =
+                ChatMemoryEvictionPolicy.builder().maxChatMemories(1).build();
+        ChatMemoryService chatMemoryService =
+                new ChatMemoryService(chatMemoryProvider, evictionPolicy, nanoTime::get);
+
+        chatMemoryService.getOrCreateChatMemory("first").add(userMessage("hello from first"));
+        chatMemoryService.getOrCreateChatMemory("second");
+
+        // when
+        ChatMemory first = chatMemoryService.getOrCreateChatMemory("first");
+
+        // then
+        assertThat(first.messages()).containsExactly(userMessage("hello from first"));
+        assertThat(chatMemoryService.statistics()).isEqualTo(new ChatMemoryStatistics(1, 2, 1));
+    }
+
+    @Test
+    void should_not_count_chat_memory_seeded_by_provider_as_rehydrated() {
+
+        // given
+        ChatMemoryProvider seedingChatMemoryProvider = memoryId -> {
+            ChatMemory chatMemory = chatMemoryProvider.get(memoryId);
+            chatMemory.add(systemMessage("You are a helpful assistant"));
+            return chatMemory;
+        };
+        ChatMemoryEvictionPolicy evictionPolicy =
+                ChatMemoryEvictionPolicy.builder().maxChatMemories(10).build();
+        ChatMemoryService chatMemoryService =
+                new ChatMemoryService(seedingChatMemoryProvider, evictionPolicy, nanoTime::get);
+
+        // when
+        chatMemoryService.getOrCreateChatMemory("first");
+        chatMemoryService.getOrCreateChatMemory("second");
+
+        // then
+        assertThat(chatMemoryService.statistics()).isEqualTo(new ChatMemoryStatistics(2, 0, 0));
+    }
+
+    @Test
+    void should_create_chat_memories_concurrently() throws Exception {
+
+        // given
+        CountDownLatch firstRequested = new CountDownLatch(1);
+        CountDownLatch secondCreated = new CountDownLatch(1);
+        ChatMemoryProvider blockingChatMemoryProvider = memoryId -> {
+            if ("first".equals(memoryId)) {
+                firstRequested.countDown();
+                try {
+                    assertThat(secondCreated.await(10, SECONDS)).isTrue();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            return chatMemoryProvider.get(memoryId);
+        };
+        ChatMemoryEvictionPolicy evictionPolicy =
+                ChatMemoryEvictionPolicy.builder().maxChatMemories(10).build();
+        ChatMemoryService chatMemoryService =
+                new ChatMemoryService(blockingChatMemoryProvider, evictionPolicy, nanoTime::get);
+
+        // when
+        CompletableFuture<ChatMemory> first =
+                CompletableFuture.supplyAsync(() -> chatMemoryService.getOrCreateChatMemory("first"));
+        assertThat(firstRequested.await(10, SECONDS)).isTrue();
+        ChatMemory second = chatMemoryService.getOrCreateChatMemory("second");
+        secondCreated.countDown();
+
+        // then
+        assertThat(second).isNotNull();
+        assertThat(first.get(10, SECONDS)).isSameAs(chatMemoryService.getChatMemory("first"));
+        assertThat(chatMemoryService.getChatMemoryIDs()).containsExactlyInAnyOrder("first", "second");
+    }
+
+    @Test
+    void should_not_evict_chat_memories_without_eviction_policy() {
+
+        // given
+        ChatMemoryService chatMemoryService = new ChatMemoryService(chatMemoryProvider);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            chatMemoryService.getOrCreateChatMemory(i);
+        }
+
+        // then
+        assertThat(chatMemoryService.statistics()).isEqualTo(new ChatMemoryStatistics(100, 0, 0));
+    }
+}
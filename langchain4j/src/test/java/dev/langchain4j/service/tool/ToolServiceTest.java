@@ -0,0 +1,246 @@
+package dev.langchain4j.service.tool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionPolicy;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ToolServiceTest {
+
+    static class Tools {
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        @Tool
+        String slow(String value) throws InterruptedException {
+            return run(value, 300);
+        }
+
+        @Tool
+        @ToolExecutionPolicy(concurrent = false)
+        String exclusive(String value) throws InterruptedException {
+            return run(value, 100);
+        }
+
+        @Tool
+        @ToolExecutionPolicy(maxConcurrency = 2)
+        String limited(String value) throws InterruptedException {
+            return run(value, 100);
+        }
+
+        @Tool
+        @ToolExecutionPolicy(timeoutMillis = 100)
+        String hanging(String value) throws InterruptedException {
+            return run(value, 10_000);
+        }
+
+        private String run(String value, long millis) throws InterruptedException {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(millis);
+                return value;
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+
+    ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_execute_tools_concurrently_and_preserve_order() {
+
+        // given
+        Tools tools = new Tools();
+        ToolService toolService = toolService(tools);
+        toolService.executeToolsConcurrently(executor);
+
+        // when
+        long start = System.nanoTime();
+        List<ToolExecutionResultMessage> results = toolService.executeTools(
+                List.of(request("1", "slow", "a"), request("2", "slow", "b"), request("3", "slow", "c")),
+                toolService.toolExecutors(),
+                "default");
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        assertThat(results).extracting(ToolExecutionResultMessage::id).containsExactly("1", "2", "3");
+        assertThat(results).extracting(ToolExecutionResultMessage::text).containsExactly("a", "b", "c");
+        assertThat(tools.maxRunning.get()).isEqualTo(3);
+        assertThat(elapsedMillis).isLessThan(900);
+    }
+
+    @Test
+    void should_execute_tools_sequentially_by_default() {
+
+        // given
+        Tools tools = new Tools();
+        ToolService toolService = toolService(tools);
+
+        // when
+        List<ToolExecutionResultMessage> results = toolService.executeTools(
+                List.of(request("1", "exclusive", "a"), request("2", "exclusive", "b")),
+                toolService.toolExecutors(),
+                "default");
+
+        // then
+        assertThat(results).extracting(ToolExecutionResultMessage::text).containsExactly("a", "b");
+        assertThat(tools.maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_execute_non_concurrent_tools_concurrently_with_each_other() {
+
+        // given
+        Tools tools = new Tools();
+        ToolService toolService = toolService(tools);
+        toolService.executeToolsConcurrently(executor);
+
+        // when
+        List<ToolExecutionResultMessage> results = toolService.executeTools(
+                List.of(request("1", "exclusive", "a"), request("2", "slow", "b"), request("3", "exclusive", "c")),
+                toolService.toolExecutors(),
+                "default");
+
+        // then
+        assertThat(results).extracting(ToolExecutionResultMessage::text).containsExactly("a", "b", "c");
+        assertThat(tools.maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_limit_concurrent_executions_of_tool() {
+
+        // given
+        Tools tools = new Tools();
+        ToolService toolService = toolService(tools);
+        toolService.executeToolsConcurrently(executor);
+
+        // when
+        List<ToolExecutionResultMessage> results = toolService.executeTools(
+                List.of(
+                        request("1", "limited", "a"),
+                        request("2", "limited", "b"),
+                        request("3", "limited", "c"),
+                        request("4", "limited", "d"),
+                        request("5", "limited", "e")),
+                toolService.toolExecutors(),
+                "default");
+
+        // then
+        assertThat(results).extracting(ToolExecutionResultMessage::text).containsExactly("a", "b", "c", "d", "e");
+        assertThat(tools.maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_time_out_tool() {
+
+        // given
+        Tools tools = new Tools();
+        ToolService toolService = toolService(tools);
+        toolService.executeToolsConcurrently(executor);
+
+        // when
+        List<ToolExecutionResultMessage> results = toolService.executeTools(
+                List.of(request("1", "hanging", "a"), request("2", "slow", "b")),
+                toolService.toolExecutors(),
+                "default");
+
+        // then
+        assertThat(results)
+                .extracting(ToolExecutionResultMessage::text)
+                .containsExactly("Execution of the tool 'hanging' timed out", "b");
+    }
+
+    @Test
+    void should_apply_default_timeout() {
+
+        // given
+        Tools tools = new Tools();
+        ToolService toolService = toolService(tools);
+        toolService.executeToolsConcurrently(executor);
+        toolService.toolExecutionTimeout(Duration.ofMillis(50));
+
+        // when
+        List<ToolExecutionResultMessage> results =
+                toolService.executeTools(List.of(request("1", "slow", "a")), toolService.toolExecutors(), "default");
+
+        // then
+        assertThat(results).extracting(ToolExecutionResultMessage::text)
+                .containsExactly("Execution of the tool 'slow' timed out");
+    }
+
+    @Test
+    void should_rethrow_tool_exception() {
+
+        // given
+        Tools tools = new Tools();
+        ToolService toolService = toolService(tools);
+        toolService.tools(Map.of(
+                ToolSpecification.builder().name("failing").build(),
+                (request, memoryId) -> {
+                    throw new IllegalStateException("b");
+                }));
+        toolService.executeToolsConcurrently(executor);
+
+        // when-then
+        assertThatThrownBy(() -> toolService.executeTools(
+                        List.of(request("1", "slow", "a"), request("2", "failing", "b")),
+                        toolService.toolExecutors(),
+                        "default"))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("b");
+    }
+
+    @Test
+    void should_apply_hallucinated_tool_name_strategy_before_executing_any_tool() {
+
+        // given
+        Tools tools = new Tools();
+        ToolService toolService = toolService(tools);
+        toolService.executeToolsConcurrently(executor);
+        toolService.hallucinatedToolNameStrategy(request -> {
+            throw new IllegalArgumentException("Unknown tool: " + request.name());
+        });
+
+        // when-then
+        assertThatThrownBy(() -> toolService.executeTools(
+                        List.of(request("1", "slow", "a"), request("2", "exclusive", "b"), request("3", "unknown", "c")),
+                        toolService.toolExecutors(),
+                        "default"))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown tool: unknown");
+        assertThat(tools.maxRunning.get()).isZero();
+    }
+
+    private static ToolService toolService(Tools tools) {
+        ToolService toolService = new ToolService();
+        toolService.tools(List.of(tools));
+        return toolService;
+    }
+
+    private static ToolExecutionRequest request(String id, String name, String value) {
+        return ToolExecutionRequest.builder()
+                .id(id)
+                .name(name)
+                .arguments("{\"arg0\": \"" + value + "\"}")
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChunkedEntriesTest {
+
+    @Test
+    void should_keep_insertion_order_across_chunks_and_compactions() {
+
+        // given
+        ChunkedEntries<String> entries = new ChunkedEntries<>(entries(0, 5_000));
+
+        // when
+        entries.removeMatching(entry -> Integer.parseInt(entry.id) % 3 != 0);
+        entries.addAll(entries(5_000, 5_010));
+
+        // then
+        List<String> expected = new ArrayList<>();
+        IntStream.range(0, 5_000).filter(i -> i % 3 == 0).forEach(i -> expected.add(String.valueOf(i)));
+        IntStream.range(5_000, 5_010).forEach(i -> expected.add(String.valueOf(i)));
+        assertThat(ids(entries)).containsExactlyElementsOf(expected);
+        assertThat(entries).hasSize(expected.size());
+    }
+
+    @Test
+    void should_remove_by_id_including_duplicates() {
+
+        // given
+        ChunkedEntries<String> entries = new ChunkedEntries<>(entries(0, 10));
+        entries.add(entry("3"));
+
+        // when
+        List<Entry<String>> removed = entries.removeIds(List.of("3", "3", "7", "missing"));
+
+        // then
+        assertThat(removed).extracting(entry -> entry.id).containsExactly("3", "3", "7");
+        assertThat(ids(entries)).containsExactly("0", "1", "2", "4", "5", "6", "8", "9");
+
+        // when
+        entries.removeMatching(entry -> entry.id.equals("5"));
+        entries.add(entry("5"));
+
+        // then
+        assertThat(entries.removeIds(List.of("5"))).hasSize(1);
+        assertThat(ids(entries)).containsExactly("0", "1", "2", "4", "6", "8", "9");
+    }
+
+    @Test
+    void should_not_be_affected_by_concurrent_writers_while_iterating() {
+
+        // given
+        ChunkedEntries<String> entries = new ChunkedEntries<>(entries(0, 3_000));
+        Iterator<Entry<String>> iterator = entries.iterator();
+        Spliterator<Entry<String>> spliterator = entries.spliterator();
+
+        // when
+        entries.removeMatching(entry -> true);
+        entries.addAll(entries(3_000, 4_000));
+
+        // then
+        List<String> iterated = new ArrayList<>();
+        iterator.forEachRemaining(entry -> iterated.add(entry.id));
+        assertThat(iterated).hasSize(3_000).startsWith("0").endsWith("2999");
+
+        Spliterator<Entry<String>> prefix = spliterator.trySplit();
+        List<String> split = new ArrayList<>();
+        prefix.forEachRemaining(entry -> split.add(entry.id));
+        spliterator.forEachRemaining(entry -> split.add(entry.id));
+        assertThat(split).isEqualTo(iterated);
+
+        assertThat(ids(entries)).hasSize(1_000).startsWith("3000");
+    }
+
+    @Test
+    void should_compare_entries_in_order() {
+
+        assertThat(new ChunkedEntries<>(entries(0, 3)))
+                .isEqualTo(new ChunkedEntries<>(entries(0, 3)))
+                .hasSameHashCodeAs(new ChunkedEntries<>(entries(0, 3)))
+                .isNotEqualTo(new ChunkedEntries<>(entries(1, 4)));
+    }
+
+    private static List<Entry<String>> entries(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> entry(String.valueOf(i))).collect(toList());
+    }
+
+    private static Entry<String> entry(String id) {
+        return new Entry<>(id, Embedding.from(new float[]{1, 2}), "text " + id);
+    }
+
+    private static List<String> ids(ChunkedEntries<String> entries) {
+        List<String> ids = new ArrayList<>();
+        entries.forEach(entry -> ids.add(entry.id));
+        return ids;
+    }
+}
@@ -0,0 +1,142 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests if {@link InMemoryEmbeddingStore} works correctly after being written to and loaded from a binary file.
+ */
+class InMemoryEmbeddingStoreBinarySerializedTest extends EmbeddingStoreWithFilteringIT {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        serializeAndDeserialize();
+        return embeddingStore;
+    }
+
+    private void serializeAndDeserialize() {
+        Path filePath = temporaryDirectory.resolve(UUID.randomUUID() + ".bin");
+        embeddingStore.serializeToBinaryFile(filePath);
+        embeddingStore = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+    }
+
+    @Test
+    void should_round_trip_multiple_pages_and_stay_mutable() {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> original = new InMemoryEmbeddingStore<>();
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            ids.add(String.valueOf(i));
+            embeddings.add(randomEmbedding(random, 5));
+            Metadata metadata = new Metadata()
+                    .put("string", "ünïcödé " + i)
+                    .put("uuid", new UUID(i, i))
+                    .put("int", i)
+                    .put("long", (long) i)
+                    .put("float", i / 2f)
+                    .put("double", i / 3d);
+            segments.add(TextSegment.from("text " + i, metadata));
+        }
+        segments.set(7, null);
+        original.addAll(ids, embeddings, segments);
+        Path filePath = temporaryDirectory.resolve("store.bin");
+
+        // when
+        original.serializeToBinaryFile(filePath.toString());
+        InMemoryEmbeddingStore<TextSegment> loaded = InMemoryEmbeddingStore.fromBinaryFile(filePath.toString());
+
+        // then
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random, 5))
+                .maxResults(3_000)
+                .build();
+        assertThat(loaded.search(request).matches()).isEqualTo(original.search(request).matches());
+
+        // when
+        loaded.removeAll(ids.subList(0, 1_000));
+        loaded.add("new", randomEmbedding(random, 5), TextSegment.from("new"));
+
+        // then
+        List<String> loadedIds = loaded.search(request).matches().stream()
+                .map(EmbeddingMatch::embeddingId)
+                .collect(toList());
+        assertThat(loadedIds).hasSize(1_501).contains("new").doesNotContainAnyElementsOf(ids.subList(0, 1_000));
+        assertThat(InMemoryEmbeddingStore.fromBinaryFile(filePath).search(request).matches()).hasSize(2_500);
+    }
+
+    @Test
+    void should_fail_to_write_embeddings_of_different_dimensions() {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        store.add(randomEmbedding(random, 4));
+        store.add(randomEmbedding(random, 3));
+
+        // then
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> store.serializeToBinaryFile(temporaryDirectory.resolve("store.bin")))
+                .withMessageContaining("dimension 4 and 3");
+    }
+
+    @Test
+    void should_fail_when_file_is_missing() {
+
+        assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(() -> InMemoryEmbeddingStore.fromBinaryFile(temporaryDirectory.resolve("missing/store.bin")))
+                .withCauseInstanceOf(NoSuchFileException.class);
+        assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(() -> new InMemoryEmbeddingStore<TextSegment>()
+                        .serializeToBinaryFile(temporaryDirectory.resolve("missing/store.bin")))
+                .withCauseInstanceOf(NoSuchFileException.class);
+    }
+
+    private static Embedding randomEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
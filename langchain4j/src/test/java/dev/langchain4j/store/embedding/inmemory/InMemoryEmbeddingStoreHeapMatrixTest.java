@@ -0,0 +1,26 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithRemovalIT;
+
+class InMemoryEmbeddingStoreHeapMatrixTest extends EmbeddingStoreWithRemovalIT {
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.<TextSegment>builder()
+            .vectorStorage(VectorStorage.HEAP_MATRIX)
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+}
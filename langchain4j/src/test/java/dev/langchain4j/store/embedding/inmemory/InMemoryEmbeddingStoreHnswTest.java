@@ -0,0 +1,205 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryEmbeddingStoreHnswTest extends EmbeddingStoreWithFilteringIT {
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.<TextSegment>builder()
+            .hnswIndex(HnswIndexConfig.defaultConfig())
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Test
+    void should_have_high_recall_compared_to_exact_search() {
+
+        // given
+        int dimension = 32;
+        int corpusSize = 2_000;
+        int queries = 50;
+        int maxResults = 10;
+        Random random = new Random(42);
+
+        InMemoryEmbeddingStore<TextSegment> exactStore = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> hnswStore = InMemoryEmbeddingStore.<TextSegment>builder()
+                .hnswIndex(HnswIndexConfig.builder()
+                        .m(16)
+                        .efConstruction(100)
+                        .efSearch(100)
+                        .seed(42L)
+                        .build())
+                .build();
+
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < corpusSize; i++) {
+            ids.add(String.valueOf(i));
+            embeddings.add(randomEmbedding(random, dimension));
+            segments.add(TextSegment.from(String.valueOf(i)));
+        }
+        exactStore.addAll(ids, embeddings, segments);
+        hnswStore.addAll(ids, embeddings, segments);
+
+        // when
+        int found = 0;
+        for (int i = 0; i < queries; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding(random, dimension))
+                    .maxResults(maxResults)
+                    .build();
+
+            Set<String> expected = new HashSet<>(ids(exactStore.search(request).matches()));
+            List<String> actual = ids(hnswStore.search(request).matches());
+
+            assertThat(actual).hasSize(maxResults);
+            for (String id : actual) {
+                if (expected.contains(id)) {
+                    found++;
+                }
+            }
+        }
+
+        // then
+        double recall = (double) found / (queries * maxResults);
+        assertThat(recall).isGreaterThan(0.95);
+    }
+
+    @Test
+    void should_build_the_same_graph_with_the_same_seed() {
+
+        // given
+        Random random = new Random(42);
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            ids.add(String.valueOf(i));
+            embeddings.add(randomEmbedding(random, 16));
+            segments.add(TextSegment.from(String.valueOf(i)));
+        }
+        HnswIndexConfig config = HnswIndexConfig.builder()
+                .m(4)
+                .efConstruction(8)
+                .efSearch(8)
+                .seed(7L)
+                .build();
+
+        // when
+        List<List<String>> results = new ArrayList<>();
+        for (int run = 0; run < 2; run++) {
+            InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                    .hnswIndex(config)
+                    .build();
+            store.addAll(ids, embeddings, segments);
+            Random queryRandom = new Random(42);
+            for (int query = 0; query < 20; query++) {
+                EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                        .queryEmbedding(randomEmbedding(queryRandom, 16))
+                        .maxResults(5)
+                        .build();
+                results.add(ids(store.search(request).matches()));
+            }
+        }
+
+        // then
+        assertThat(results.subList(20, 40)).isEqualTo(results.subList(0, 20));
+    }
+
+    @Test
+    void should_not_return_removed_embeddings() {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .hnswIndex(HnswIndexConfig.defaultConfig())
+                .build();
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(store.add(randomEmbedding(random, 16)));
+        }
+        List<String> removedIds = ids.subList(0, 40);
+        Set<String> remainingIds = new HashSet<>(ids.subList(40, 100));
+
+        // when
+        store.removeAll(removedIds);
+
+        // then
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random, 16))
+                .maxResults(100)
+                .build();
+        assertThat(ids(store.search(request).matches())).containsExactlyInAnyOrderElementsOf(remainingIds);
+    }
+
+    @Test
+    void should_not_index_any_embedding_of_batch_with_mismatched_dimension() {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .hnswIndex(HnswIndexConfig.defaultConfig())
+                .build();
+        String existingId = store.add(randomEmbedding(random, 16));
+
+        // when
+        assertThatThrownBy(() -> store.addAll(
+                        List.of("1", "2", "3"),
+                        List.of(randomEmbedding(random, 16), randomEmbedding(random, 16), randomEmbedding(random, 8)),
+                        List.of(TextSegment.from("1"), TextSegment.from("2"), TextSegment.from("3"))))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+
+        // then
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random, 16))
+                .maxResults(10)
+                .build();
+        assertThat(ids(store.search(request).matches())).containsExactly(existingId);
+    }
+
+    private static Embedding randomEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    private static List<String> ids(List<EmbeddingMatch<TextSegment>> matches) {
+        return matches.stream().map(EmbeddingMatch::embeddingId).collect(toList());
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
@@ -0,0 +1,166 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import dev.langchain4j.store.embedding.filter.Filter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static dev.langchain4j.store.embedding.filter.Filter.not;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryEmbeddingStoreMetadataIndexTest extends EmbeddingStoreWithFilteringIT {
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.<TextSegment>builder()
+            .indexedMetadataKeys(asList("key", "key2", "name", "age", "city"))
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    static final List<UUID> UUIDS = asList(new UUID(1, 1), new UUID(2, 2), new UUID(3, 3));
+
+    static final List<Filter> FILTERS = asList(
+            metadataKey("tenant").isEqualTo("tenant-3"),
+            metadataKey("tenant").isNotEqualTo("tenant-3"),
+            metadataKey("tenant").isIn("tenant-1", "tenant-2", "unknown"),
+            metadataKey("tenant").isNotIn("tenant-1", "tenant-2"),
+            metadataKey("rank").isGreaterThan(80),
+            metadataKey("rank").isGreaterThanOrEqualTo(80.0),
+            metadataKey("rank").isLessThan(5L),
+            metadataKey("rank").isLessThanOrEqualTo(5),
+            metadataKey("rank").isIn(1, 2L, 3.0),
+            metadataKey("score").isGreaterThan(0.5f),
+            metadataKey("score").isEqualTo(0.25f),
+            metadataKey("owner").isEqualTo(UUIDS.get(1)),
+            metadataKey("owner").isIn(UUIDS.get(0), UUIDS.get(2)),
+            metadataKey("missing").isEqualTo("value"),
+            metadataKey("missing").isNotEqualTo("value"),
+            metadataKey("tenant").isEqualTo("tenant-3").and(metadataKey("rank").isLessThan(50)),
+            metadataKey("tenant").isEqualTo("tenant-3").and(metadataKey("text").containsString("1")),
+            metadataKey("tenant").isEqualTo("tenant-3").or(metadataKey("rank").isEqualTo(7)),
+            metadataKey("tenant").isEqualTo("tenant-3").or(metadataKey("text").containsString("1")),
+            not(metadataKey("tenant").isIn("tenant-0", "tenant-1").and(metadataKey("rank").isGreaterThan(10))),
+            metadataKey("text").containsString("7")
+    );
+
+    @ParameterizedTest
+    @EnumSource(VectorStorage.class)
+    void should_return_same_matches_as_without_index(VectorStorage vectorStorage) {
+        should_return_same_matches_as_without_index(InMemoryEmbeddingStore.<TextSegment>builder()
+                .vectorStorage(vectorStorage)
+                .indexedMetadataKeys(asList("tenant", "rank", "score", "owner", "missing"))
+                .build());
+    }
+
+    @Test
+    void should_return_same_matches_as_without_index_with_hnsw_index() {
+        should_return_same_matches_as_without_index(InMemoryEmbeddingStore.<TextSegment>builder()
+                .hnswIndex(HnswIndexConfig.builder().efSearch(3_000).build())
+                .indexedMetadataKeys(asList("tenant", "rank", "score", "owner", "missing"))
+                .build());
+    }
+
+    private static void should_return_same_matches_as_without_index(InMemoryEmbeddingStore<TextSegment> indexedStore) {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            ids.add(String.valueOf(i));
+            embeddings.add(randomEmbedding(random));
+            Metadata metadata = new Metadata()
+                    .put("tenant", "tenant-" + i % 7)
+                    .put("score", (i % 8) / 8f)
+                    .put("owner", UUIDS.get(i % 3));
+            if (i % 2 == 0) {
+                metadata.put("rank", i % 100);
+            } else {
+                metadata.put("rank", (double) (i % 100));
+            }
+            segments.add(i % 500 == 0 ? null : TextSegment.from("text " + i, metadata));
+        }
+        store.addAll(ids, embeddings, segments);
+        indexedStore.addAll(ids, embeddings, segments);
+
+        // removing most entries compacts the indexes
+        List<String> removedIds = new ArrayList<>(ids.subList(0, 2_000));
+        store.removeAll(removedIds);
+        indexedStore.removeAll(removedIds);
+        store.removeAll(metadataKey("tenant").isEqualTo("tenant-5"));
+        indexedStore.removeAll(metadataKey("tenant").isEqualTo("tenant-5"));
+
+        // then
+        for (Filter filter : FILTERS) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding(random))
+                    .filter(filter)
+                    .maxResults(20)
+                    .build();
+
+            assertThat(indexedStore.search(request).matches())
+                    .as(filter.toString())
+                    .isEqualTo(store.search(request).matches());
+        }
+    }
+
+    @Test
+    void should_fall_back_to_testing_every_entry_on_type_mismatch() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .indexedMetadataKeys(asList("tenant"))
+                .build();
+        store.add(randomEmbedding(new Random(1)), TextSegment.from("a", new Metadata().put("tenant", 1)));
+        store.add(randomEmbedding(new Random(2)), TextSegment.from("b", new Metadata().put("tenant", "b")));
+
+        // then
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(new Random(3)))
+                .filter(metadataKey("tenant").isEqualTo("b"))
+                .build();
+        assertThatThrownBy(() -> store.search(request))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Type mismatch");
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[8];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
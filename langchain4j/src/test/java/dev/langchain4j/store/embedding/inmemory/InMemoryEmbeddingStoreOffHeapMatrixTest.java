@@ -0,0 +1,128 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class InMemoryEmbeddingStoreOffHeapMatrixTest extends EmbeddingStoreWithFilteringIT {
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.<TextSegment>builder()
+            .vectorStorage(VectorStorage.OFF_HEAP_MATRIX)
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Test
+    void should_return_same_results_as_per_entry_storage_across_pages_and_removals() {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> perEntryStore = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> matrixStore = InMemoryEmbeddingStore.<TextSegment>builder()
+                .vectorStorage(VectorStorage.OFF_HEAP_MATRIX)
+                .build();
+
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            ids.add(String.valueOf(i));
+            embeddings.add(randomEmbedding(random, 7));
+            segments.add(TextSegment.from(String.valueOf(i), Metadata.from("parity", String.valueOf(i % 2))));
+        }
+        perEntryStore.addAll(ids, embeddings, segments);
+        matrixStore.addAll(ids, embeddings, segments);
+
+        List<String> removedIds = ids.subList(0, 2_000);
+        perEntryStore.removeAll(removedIds);
+        matrixStore.removeAll(removedIds);
+
+        // when
+        Embedding queryEmbedding = randomEmbedding(random, 7);
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(queryEmbedding)
+                .maxResults(1_000)
+                .build();
+        List<EmbeddingMatch<TextSegment>> expected = perEntryStore.search(request).matches();
+        List<EmbeddingMatch<TextSegment>> actual = matrixStore.search(request).matches();
+
+        // then
+        assertThat(actual).hasSize(1_000);
+        assertThat(actual.stream().map(EmbeddingMatch::embeddingId).collect(toList()))
+                .isEqualTo(expected.stream().map(EmbeddingMatch::embeddingId).collect(toList()));
+        for (EmbeddingMatch<TextSegment> match : actual) {
+            double expectedScore = RelevanceScore.fromCosineSimilarity(
+                    CosineSimilarity.between(match.embedding(), queryEmbedding));
+            assertThat(match.score()).isCloseTo(expectedScore, within(1e-6));
+        }
+    }
+
+    @Test
+    void should_serialize_matrix_store_to_json() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> matrixStore = InMemoryEmbeddingStore.<TextSegment>builder()
+                .vectorStorage(VectorStorage.OFF_HEAP_MATRIX)
+                .build();
+        TextSegment segment = TextSegment.from("first", Metadata.from("key", "value"));
+        Embedding embedding = embeddingModel.embed(segment).content();
+        matrixStore.add("1", embedding, segment);
+
+        // when
+        InMemoryEmbeddingStore<TextSegment> deserialized = InMemoryEmbeddingStore.fromJson(matrixStore.serializeToJson());
+
+        // then
+        assertThat(deserialized.entries).containsExactly(new InMemoryEmbeddingStore.Entry<>("1", embedding, segment));
+    }
+
+    @Test
+    void should_not_allow_hnsw_index_with_matrix_storage() {
+
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.builder()
+                .vectorStorage(VectorStorage.HEAP_MATRIX)
+                .hnswIndex(HnswIndexConfig.defaultConfig())
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Embedding randomEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
@@ -0,0 +1,110 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryEmbeddingStoreParallelSearchTest extends EmbeddingStoreWithFilteringIT {
+
+    static ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.<TextSegment>builder()
+            .parallelSearchThreshold(1)
+            .searchExecutor(executor)
+            .searchParallelism(4)
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @AfterAll
+    static void afterAll() {
+        executor.shutdown();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = VectorStorage.class, names = {"PER_ENTRY", "HEAP_MATRIX"})
+    void should_return_same_results_as_sequential_search(VectorStorage vectorStorage) {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> sequentialStore = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> parallelStore = InMemoryEmbeddingStore.<TextSegment>builder()
+                .vectorStorage(vectorStorage)
+                .parallelSearchThreshold(100)
+                .searchExecutor(executor)
+                .searchParallelism(5)
+                .build();
+
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 2_003; i++) {
+            ids.add(String.valueOf(i));
+            embeddings.add(randomEmbedding(random, 16));
+            segments.add(TextSegment.from(String.valueOf(i), Metadata.from("parity", String.valueOf(i % 2))));
+        }
+        sequentialStore.addAll(ids, embeddings, segments);
+        parallelStore.addAll(ids, embeddings, segments);
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random, 16))
+                .filter(metadataKey("parity").isEqualTo("1"))
+                .maxResults(50)
+                .minScore(0.5)
+                .build();
+
+        // when
+        List<EmbeddingMatch<TextSegment>> expected = sequentialStore.search(request).matches();
+        List<EmbeddingMatch<TextSegment>> actual = parallelStore.search(request).matches();
+
+        // then
+        assertThat(actual).hasSize(50);
+        assertThat(ids(actual)).isEqualTo(ids(expected));
+    }
+
+    private static Embedding randomEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    private static List<String> ids(List<EmbeddingMatch<TextSegment>> matches) {
+        return matches.stream().map(EmbeddingMatch::embeddingId).collect(toList());
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
@@ -0,0 +1,152 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static java.util.Collections.nCopies;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryEmbeddingStoreQuantizationTest extends EmbeddingStoreWithFilteringIT {
+
+    @TempDir
+    static Path directory;
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.<TextSegment>builder()
+            .quantization(QuantizationConfig.builder()
+                    .type(QuantizationType.INT8)
+                    .fullPrecisionDirectory(directory)
+                    .build())
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @ParameterizedTest
+    @CsvSource({
+            "INT8, HEAP_MATRIX, , 0.95",
+            "INT8, OFF_HEAP_MATRIX, , 0.95",
+            "BINARY, HEAP_MATRIX, 50, 0.8",
+            "BINARY, OFF_HEAP_MATRIX, 50, 0.8"
+    })
+    void should_find_most_of_the_exact_matches(QuantizationType type,
+                                               VectorStorage vectorStorage,
+                                               Integer oversampling,
+                                               double minRecall) {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> quantizedStore = InMemoryEmbeddingStore.<TextSegment>builder()
+                .vectorStorage(vectorStorage)
+                .quantization(QuantizationConfig.builder().type(type).oversampling(oversampling).build())
+                .build();
+
+        // vectors are added in batches of growing magnitude, so that int8 ranges have to be recalibrated
+        for (int batch = 1; batch <= 5; batch++) {
+            List<Embedding> embeddings = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                embeddings.add(randomEmbedding(random, batch));
+            }
+            List<String> ids = store.addAll(embeddings);
+            quantizedStore.addAll(ids, embeddings, nCopies(ids.size(), null));
+        }
+
+        // removing entries moves rows
+        List<String> removedIds = ids(store, randomEmbedding(random, 1), 500);
+        store.removeAll(removedIds);
+        quantizedStore.removeAll(removedIds);
+
+        // when
+        int found = 0;
+        int expected = 0;
+        for (int query = 0; query < 20; query++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding(random, 1))
+                    .maxResults(10)
+                    .build();
+            List<EmbeddingMatch<TextSegment>> exactMatches = store.search(request).matches();
+            List<EmbeddingMatch<TextSegment>> matches = quantizedStore.search(request).matches();
+
+            // then
+            assertThat(matches).hasSize(10);
+            assertThat(exactMatches).containsAll(matches.stream()
+                    .filter(match -> exactMatches.stream().anyMatch(exact -> exact.embeddingId().equals(match.embeddingId())))
+                    .collect(toList()));
+
+            Set<String> exactIds = new HashSet<>();
+            exactMatches.forEach(match -> exactIds.add(match.embeddingId()));
+            found += (int) matches.stream().filter(match -> exactIds.contains(match.embeddingId())).count();
+            expected += exactMatches.size();
+        }
+
+        assertThat((double) found / expected).isGreaterThanOrEqualTo(minRecall);
+    }
+
+    @Test
+    void should_reject_quantization_with_per_entry_vector_storage() {
+
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.builder()
+                .vectorStorage(VectorStorage.PER_ENTRY)
+                .quantization(QuantizationConfig.builder().type(QuantizationType.BINARY).build())
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.builder()
+                .vectorStorage(VectorStorage.HEAP_MATRIX)
+                .quantization(QuantizationConfig.builder()
+                        .type(QuantizationType.INT8)
+                        .fullPrecisionDirectory(directory)
+                        .build())
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> ids(InMemoryEmbeddingStore<TextSegment> store, Embedding query, int maxResults) {
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(query)
+                .maxResults(maxResults)
+                .build();
+        return store.search(request).matches().stream().map(EmbeddingMatch::embeddingId).collect(toList());
+    }
+
+    private static Embedding randomEmbedding(Random random, double scale) {
+        float[] vector = new float[256];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) (random.nextGaussian() * scale);
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
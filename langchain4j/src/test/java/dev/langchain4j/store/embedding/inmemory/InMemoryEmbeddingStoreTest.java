@@ -15,7 +15,6 @@ import org.junit.jupiter.api.io.TempDir;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -39,7 +38,7 @@ class InMemoryEmbeddingStoreTest extends EmbeddingStoreWithFilteringIT {
 
         assertThat(deserializedEmbeddingStore.entries)
                 .isEqualTo(originalEmbeddingStore.entries)
-                .isInstanceOf(CopyOnWriteArrayList.class);
+                .isInstanceOf(ChunkedEntries.class);
     }
 
     @Test
@@ -68,7 +67,7 @@ class InMemoryEmbeddingStoreTest extends EmbeddingStoreWithFilteringIT {
             assertThat(deserializedEmbeddingStore.entries)
                     .isEqualTo(originalEmbeddingStore.entries)
                     .hasSameHashCodeAs(originalEmbeddingStore.entries);
-            assertThat(deserializedEmbeddingStore.entries).isInstanceOf(CopyOnWriteArrayList.class);
+            assertThat(deserializedEmbeddingStore.entries).isInstanceOf(ChunkedEntries.class);
         }
         {
             originalEmbeddingStore.serializeToFile(filePath.toString());
@@ -76,7 +75,7 @@ class InMemoryEmbeddingStoreTest extends EmbeddingStoreWithFilteringIT {
 
             assertThat(deserializedEmbeddingStore.entries)
                     .isEqualTo(originalEmbeddingStore.entries)
-                    .isInstanceOf(CopyOnWriteArrayList.class);
+                    .isInstanceOf(ChunkedEntries.class);
         }
     }
 
@@ -0,0 +1,311 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests if {@link InMemoryEmbeddingStore} works correctly when it is recovered from its write-ahead log
+ * before every verification.
+ */
+class InMemoryEmbeddingStoreWriteAheadLogTest extends EmbeddingStoreWithFilteringIT {
+
+    @TempDir
+    Path directory;
+
+    InMemoryEmbeddingStore<TextSegment> embeddingStore;
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @AfterEach
+    void closeStore() {
+        if (embeddingStore != null) {
+            embeddingStore.close();
+        }
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        if (embeddingStore != null) {
+            embeddingStore.close();
+        }
+        embeddingStore = open(directory, VectorStorage.PER_ENTRY, null);
+        return embeddingStore;
+    }
+
+    @ParameterizedTest
+    @EnumSource(VectorStorage.class)
+    void should_recover_from_snapshot_and_log(VectorStorage vectorStorage) {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> store = open(directory, vectorStorage, 10_000L);
+        InMemoryEmbeddingStore<TextSegment> expected = new InMemoryEmbeddingStore<>();
+        for (int i = 0; i < 200; i++) {
+            Embedding embedding = randomEmbedding(random);
+            TextSegment segment = TextSegment.from("text " + i, new Metadata().put("index", i));
+            store.add(String.valueOf(i), embedding, segment);
+            expected.add(String.valueOf(i), embedding, segment);
+        }
+        store.removeAll(List.of("3", "5", "7"));
+        expected.removeAll(List.of("3", "5", "7"));
+        store.removeAll(metadataKey("index").isGreaterThan(150));
+        expected.removeAll(metadataKey("index").isGreaterThan(150));
+        store.close();
+
+        // then
+        assertThat(snapshots()).hasSize(1);
+
+        // when
+        InMemoryEmbeddingStore<TextSegment> recovered = open(directory, vectorStorage, 10_000L);
+
+        // then
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random))
+                .maxResults(1_000)
+                .build();
+        assertThat(recovered.search(request).matches()).isEqualTo(expected.search(request).matches());
+        recovered.close();
+    }
+
+    @Test
+    void should_recover_after_removing_all() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = open(directory, VectorStorage.PER_ENTRY, null);
+        store.add(randomEmbedding(new Random(1)));
+        store.removeAll();
+        String id = store.add(randomEmbedding(new Random(2)));
+        store.close();
+
+        // when
+        InMemoryEmbeddingStore<TextSegment> recovered = open(directory, VectorStorage.PER_ENTRY, null);
+
+        // then
+        assertThat(ids(recovered)).containsExactly(id);
+        recovered.close();
+    }
+
+    @Test
+    void should_replay_removal_by_filter_without_removing_entries_with_same_id() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = open(directory, VectorStorage.PER_ENTRY, null);
+        store.add("duplicate", randomEmbedding(new Random(1)), TextSegment.from("a", new Metadata().put("keep", 0)));
+        store.add("duplicate", randomEmbedding(new Random(2)), TextSegment.from("b", new Metadata().put("keep", 1)));
+        store.removeAll(metadataKey("keep").isEqualTo(0));
+        store.close();
+
+        // when
+        InMemoryEmbeddingStore<TextSegment> recovered = open(directory, VectorStorage.PER_ENTRY, null);
+
+        // then
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(new Random(0)))
+                .maxResults(10)
+                .build();
+        assertThat(recovered.search(request).matches())
+                .extracting(match -> match.embedded().text())
+                .containsExactly("b");
+        recovered.close();
+    }
+
+    @Test
+    void should_ignore_torn_record_at_the_end_of_the_log() throws IOException {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> store = open(directory, VectorStorage.PER_ENTRY, null);
+        String first = store.add(randomEmbedding(random));
+        store.add(randomEmbedding(random));
+        store.close();
+
+        Path log = directory.resolve("log-0.log");
+        try (FileChannel channel = FileChannel.open(log, WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        // when
+        InMemoryEmbeddingStore<TextSegment> recovered = open(directory, VectorStorage.PER_ENTRY, null);
+        String third = recovered.add(randomEmbedding(random));
+        recovered.close();
+
+        // then
+        InMemoryEmbeddingStore<TextSegment> recoveredAgain = open(directory, VectorStorage.PER_ENTRY, null);
+        assertThat(ids(recoveredAgain)).containsExactlyInAnyOrder(first, third);
+        recoveredAgain.close();
+    }
+
+    @Test
+    void should_log_concurrent_additions() throws Exception {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = open(directory, VectorStorage.PER_ENTRY, null);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<String>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            Random random = new Random(i);
+            futures.add(executor.submit(() -> store.add(randomEmbedding(random))));
+        }
+        List<String> ids = new ArrayList<>();
+        for (Future<String> future : futures) {
+            ids.add(future.get());
+        }
+        executor.shutdown();
+        store.close();
+
+        // then
+        InMemoryEmbeddingStore<TextSegment> recovered = open(directory, VectorStorage.PER_ENTRY, null);
+        assertThat(ids(recovered)).containsExactlyInAnyOrderElementsOf(ids);
+        recovered.close();
+    }
+
+    @Test
+    void should_reject_unsupported_embedded_objects_without_changing_the_store() {
+
+        // given
+        InMemoryEmbeddingStore<Object> store = InMemoryEmbeddingStore.builder()
+                .writeAheadLog(WriteAheadLogConfig.builder().directory(directory).build())
+                .build();
+
+        // then
+        assertThatThrownBy(() -> store.add(randomEmbedding(new Random(1)), new Object()))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThat(store.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(new Random(2)))
+                .build()).matches()).isEmpty();
+        store.close();
+    }
+
+    @Test
+    void should_reject_mutations_after_close_without_changing_the_store() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = open(directory, VectorStorage.PER_ENTRY, null);
+        String id = store.add(randomEmbedding(new Random(1)), TextSegment.from("a", new Metadata().put("key", 1)));
+        store.close();
+
+        // then
+        assertThatThrownBy(() -> store.add(randomEmbedding(new Random(2))))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("The write-ahead log is closed");
+        assertThatThrownBy(() -> store.removeAll(List.of(id)))
+                .isExactlyInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> store.removeAll(metadataKey("key").isEqualTo(1)))
+                .isExactlyInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(store::removeAll)
+                .isExactlyInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(store::compact)
+                .isExactlyInstanceOf(IllegalStateException.class);
+        assertThat(ids(store)).containsExactly(id);
+
+        InMemoryEmbeddingStore<TextSegment> recovered = open(directory, VectorStorage.PER_ENTRY, null);
+        assertThat(ids(recovered)).containsExactly(id);
+        recovered.close();
+    }
+
+    @Test
+    void should_not_log_embeddings_that_cannot_be_indexed() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .hnswIndex(HnswIndexConfig.defaultConfig())
+                .writeAheadLog(WriteAheadLogConfig.builder().directory(directory).build())
+                .build();
+        String id = store.add(randomEmbedding(new Random(1)));
+
+        // when
+        assertThatThrownBy(() -> store.add(Embedding.from(new float[] {1, 2, 3})))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        store.close();
+
+        // then
+        InMemoryEmbeddingStore<TextSegment> recovered = open(directory, VectorStorage.PER_ENTRY, null);
+        assertThat(ids(recovered)).containsExactly(id);
+        recovered.close();
+    }
+
+    @Test
+    void should_fail_to_compact_without_write_ahead_log() {
+
+        assertThatThrownBy(() -> new InMemoryEmbeddingStore<TextSegment>().compact())
+                .isExactlyInstanceOf(IllegalStateException.class);
+    }
+
+    private static InMemoryEmbeddingStore<TextSegment> open(Path directory,
+                                                            VectorStorage vectorStorage,
+                                                            Long compactionThreshold) {
+        return InMemoryEmbeddingStore.<TextSegment>builder()
+                .vectorStorage(vectorStorage)
+                .writeAheadLog(WriteAheadLogConfig.builder()
+                        .directory(directory)
+                        .compactionThreshold(compactionThreshold)
+                        .build())
+                .build();
+    }
+
+    private List<Path> snapshots() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".bin")).collect(toList());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<String> ids(InMemoryEmbeddingStore<TextSegment> store) {
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(new Random(0)))
+                .maxResults(1_000)
+                .build();
+        return store.search(request).matches().stream().map(EmbeddingMatch::embeddingId).collect(toList());
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[8];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}